@@ -0,0 +1,134 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.allocationpolicies;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.allocationpolicies.*;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A benchmark for the placement of VMs by each {@link VmAllocationPolicy} implementation
+ * into Datacenters with thousands of Hosts.
+ * Hosts are half full, so that policies which search for the best or worst Host
+ * have to check every one of them.
+ * Each benchmark operation allocates a Host for a batch of VMs and
+ * then de-allocates them, so that the Datacenter gets back to its initial state.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class VmAllocationPolicyBenchmark {
+    private static final int HOST_PES = 8;
+    private static final int VMS = 100;
+
+    @Param({"1000", "10000", "100000"})
+    private int hosts;
+
+    @Param({"BestFit", "FirstFit", "RoundRobin", "Simple", "WorstFit"})
+    private String policy;
+
+    private VmAllocationPolicy allocationPolicy;
+    private List<Vm> vmList;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.ERROR);
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>(hosts);
+        for (int i = 0; i < hosts; i++) {
+            hostList.add(createHost());
+        }
+
+        allocationPolicy = newAllocationPolicy();
+        new DatacenterSimple(simulation, hostList, allocationPolicy);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        //Fills half of every Host
+        for (final Host host : hostList) {
+            allocationPolicy.allocateHostForVm(createVm(broker, HOST_PES / 2), host);
+        }
+
+        vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(createVm(broker, 1 + i % 2));
+        }
+    }
+
+    private VmAllocationPolicy newAllocationPolicy() {
+        switch (policy) {
+            case "BestFit": return new VmAllocationPolicyBestFit();
+            case "FirstFit": return new VmAllocationPolicyFirstFit();
+            case "RoundRobin": return new VmAllocationPolicyRoundRobin();
+            case "Simple": return new VmAllocationPolicySimple();
+            case "WorstFit": return new VmAllocationPolicyWorstFit();
+            default: throw new IllegalArgumentException("Unknown VmAllocationPolicy: " + policy);
+        }
+    }
+
+    private Host createHost() {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        return new HostSimple(16384, 100000, 1000000, peList);
+    }
+
+    private Vm createVm(final DatacenterBroker broker, final int pes) {
+        final Vm vm = new VmSimple(1000, pes).setRam(512).setBw(1000).setSize(1000);
+        vm.setBroker(broker);
+        return vm;
+    }
+
+    @Benchmark
+    public int testAllocateAndDeallocateHostForVms() {
+        int allocated = 0;
+        for (final Vm vm : vmList) {
+            if (allocationPolicy.allocateHostForVm(vm)) {
+                allocated++;
+            }
+        }
+
+        for (final Vm vm : vmList) {
+            allocationPolicy.deallocateHostForVm(vm);
+        }
+
+        return allocated;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.benchmarks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares benchmark results against a baseline, showing the change in the score
+ * and in the memory allocated by operation for each benchmark.
+ * Both files must be in the JSON format generated by JMH using the GC profiler, such as:
+ * {@code java -jar cloudsim-plus-benchmarks-uber.jar -prof gc -rf json -rff results.json}.
+ *
+ * <p>A benchmark is reported as a regression when its allocation by operation
+ * ({@code gc.alloc.rate.norm}) gets worse than the baseline by more than a given threshold (10% by default).
+ * The program exits with status 1 if any regression is found,
+ * so that it can be used to check changes in a build.
+ * The allocation by operation usually doesn't depend on the machine running the benchmarks,
+ * but scores do. That is why scores are just compared when the {@value #SCORES_OPTION} option is given,
+ * which must be used only when both files were generated in the same machine.
+ * Even so, a score is just reported as a regression when its error interval doesn't overlap
+ * the baseline one, since the difference could be just noise otherwise.</p>
+ *
+ * <p>Usage: {@code BaselineComparison [--scores] baseline.json results.json [threshold]}</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @see Run
+ */
+public final class BaselineComparison {
+    private static final double DEFAULT_THRESHOLD = 0.1;
+
+    /**
+     * The command line option to compare scores besides the allocation by operation.
+     */
+    private static final String SCORES_OPTION = "--scores";
+
+    /**
+     * The name of the metric collected by the JMH GC profiler
+     * with the number of bytes allocated by operation.
+     */
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    /**
+     * An allocation difference (in bytes by operation) which is ignored,
+     * since benchmarks that allocate almost nothing have a large relative variation.
+     */
+    private static final double ALLOCATION_TOLERANCE = 64;
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private BaselineComparison(){}
+
+    public static void main(String[] args) throws IOException {
+        final boolean compareScores = args.length > 0 && SCORES_OPTION.equals(args[0]);
+        if (compareScores) {
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison [" + SCORES_OPTION + "] baseline.json results.json [threshold]");
+            System.exit(2);
+        }
+
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        final Map<String, Result> baseline = read(Paths.get(args[0]));
+        final Map<String, Result> current = read(Paths.get(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-100s %14s %14s %9s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change", "Baseline B/op", "Current B/op", "Change");
+        for (final Map.Entry<String, Result> entry : current.entrySet()) {
+            final Result result = entry.getValue();
+            final Result base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-100s %14s %14.3f %9s (not in the baseline)%n", entry.getKey(), "-", result.score, "-");
+                continue;
+            }
+
+            final boolean regression =
+                (compareScores && result.isSlowerThan(base, threshold)) || result.allocatesMoreThan(base, threshold);
+            if (regression) {
+                regressions++;
+            }
+
+            System.out.printf(
+                "%-100s %14.3f %14.3f %8.1f%% %14.0f %14.0f %8.1f%% %s%n",
+                entry.getKey(), base.score, result.score, change(base.score, result.score),
+                base.allocation, result.allocation, change(base.allocation, result.allocation),
+                regression ? "REGRESSION" : "");
+        }
+
+        System.out.printf(
+            "%n%d regressions found (threshold: %.0f%%, compared: %s)%n",
+            regressions, threshold * 100, compareScores ? "scores and B/op" : "B/op");
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static double change(final double baseline, final double current) {
+        return baseline == 0 ? 0 : (current - baseline) / baseline * 100;
+    }
+
+    /**
+     * Reads a JMH results file in JSON format.
+     * @param file the path of the file to read
+     * @return a map where each key is the benchmark name followed by its parameters
+     *         and each value is the benchmark result
+     * @throws IOException when the file cannot be read
+     */
+    private static Map<String, Result> read(final Path file) throws IOException {
+        final Map<String, Result> results = new TreeMap<>();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            for (final JsonElement element : new JsonParser().parse(reader).getAsJsonArray()) {
+                final JsonObject benchmark = element.getAsJsonObject();
+                results.put(key(benchmark), new Result(benchmark));
+            }
+        }
+
+        return results;
+    }
+
+    private static String key(final JsonObject benchmark) {
+        final StringBuilder key = new StringBuilder(benchmark.get("benchmark").getAsString());
+        final JsonObject params = benchmark.getAsJsonObject("params");
+        if (params != null) {
+            final Map<String, String> sortedParams = new TreeMap<>();
+            params.entrySet().forEach(param -> sortedParams.put(param.getKey(), param.getValue().getAsString()));
+            key.append(sortedParams);
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * The result of a benchmark.
+     */
+    private static final class Result {
+        private final boolean higherIsBetter;
+        private final double score;
+
+        /**
+         * The half-width of the score confidence interval, or 0 if it's unknown
+         * (when there are too few iterations to compute it).
+         */
+        private final double scoreError;
+
+        /**
+         * The number of bytes allocated by operation, or 0 if the GC profiler wasn't used.
+         */
+        private final double allocation;
+
+        private Result(final JsonObject benchmark) {
+            this.higherIsBetter = "thrpt".equals(benchmark.get("mode").getAsString());
+            final JsonObject primaryMetric = benchmark.getAsJsonObject("primaryMetric");
+            this.score = primaryMetric.get("score").getAsDouble();
+            final double scoreError = primaryMetric.get("scoreError").getAsDouble();
+            this.scoreError = Double.isNaN(scoreError) ? 0 : scoreError;
+
+            double allocation = 0;
+            final JsonObject secondaryMetrics = benchmark.getAsJsonObject("secondaryMetrics");
+            if (secondaryMetrics != null) {
+                for (final Map.Entry<String, JsonElement> metric : secondaryMetrics.entrySet()) {
+                    if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                        allocation = metric.getValue().getAsJsonObject().get("score").getAsDouble();
+                    }
+                }
+            }
+
+            this.allocation = allocation;
+        }
+
+        /**
+         * Checks if this result is slower than a baseline one by more than a threshold,
+         * and the error intervals of both results don't overlap.
+         */
+        private boolean isSlowerThan(final Result baseline, final double threshold) {
+            return higherIsBetter ?
+                       score < baseline.score * (1 - threshold) && score + scoreError < baseline.score - baseline.scoreError :
+                       score > baseline.score * (1 + threshold) && score - scoreError > baseline.score + baseline.scoreError;
+        }
+
+        private boolean allocatesMoreThan(final Result baseline, final double threshold) {
+            return allocation - baseline.allocation > ALLOCATION_TOLERANCE &&
+                   allocation > baseline.allocation * (1 + threshold);
+        }
+    }
+}
@@ -23,6 +23,8 @@
  */
 package org.cloudsimplus.benchmarks;
 
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -37,6 +39,9 @@ import java.util.concurrent.TimeUnit;
  *
  * To run the benchmarks, clean and build the main project,
  * then, clean and build this project. Finally, run this class.
+ * The memory allocated by each benchmark is reported using the JMH GC profiler
+ * and the results are saved into the {@link #RESULTS_FILE},
+ * which can be compared against a baseline using {@link BaselineComparison}.
  *
  * @author Manoel Campos da Silva Filho
  * @see <a href="http://tutorials.jenkov.com/java-performance/jmh.html">JMH - Java Micro-benchmark Harness Tutorial</a>
@@ -48,6 +53,11 @@ public final class Run {
      */
     private static final String TEST_CLASSES_REGEX = "org.cloudsimplus.";
 
+    /**
+     * The file where the results are saved in JSON format.
+     */
+    private static final String RESULTS_FILE = "target/benchmark-results.json";
+
     /**
      * A private constructor to avoid class instantiation.
      */
@@ -64,6 +74,9 @@ public final class Run {
                 //.measurementTime(TimeValue.milliseconds(100))
                 .threads(1)
                 .verbosity(VerboseMode.NORMAL)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULTS_FILE)
                 .build();
 
         new Runner(options).run();
@@ -0,0 +1,101 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.events.EventPool;
+import org.cloudbus.cloudsim.core.events.EventPoolSimple;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * A benchmark for sending and processing simulation events
+ * with and without an {@link EventPool}.
+ * A set of entities exchange messages until a given number of events is processed.
+ * The allocation rate can be checked by running the benchmark with the GC profiler, such as:
+ * {@code java -jar cloudsim-plus-benchmarks.jar EventPoolBenchmark -prof gc}.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class EventPoolBenchmark {
+    private static final int ENTITIES = 100;
+    private static final int EVENTS_BY_ENTITY = 1000;
+    private static final int MESSAGE = 1;
+
+    @Param({"false", "true"})
+    private boolean pooling;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.ERROR);
+    }
+
+    @Benchmark
+    public double testSendAndProcessEvents() {
+        final CloudSim simulation = new CloudSim();
+        if (pooling) {
+            simulation.setEventPool(new EventPoolSimple());
+        }
+
+        final MessageEntity[] entities = new MessageEntity[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) {
+            entities[i] = new MessageEntity(simulation);
+        }
+
+        for (int i = 0; i < ENTITIES; i++) {
+            entities[i].peer = entities[(i + 1) % ENTITIES];
+        }
+
+        return simulation.start();
+    }
+
+    /**
+     * An entity that sends a message to its peer every time it receives one.
+     */
+    private static final class MessageEntity extends CloudSimEntity {
+        private MessageEntity peer;
+        private int receivedMessages;
+
+        private MessageEntity(final CloudSim simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startInternal() {
+            schedule(peer, 1, MESSAGE);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() == MESSAGE && ++receivedMessages < EVENTS_BY_ENTITY) {
+                schedule(peer, 1, MESSAGE);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.FutureQueue;
+import org.cloudbus.cloudsim.core.events.PredicateType;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A set of benchmarks for the {@link FutureQueue}, which keeps the events to be processed by a {@link CloudSim}
+ * simulation ordered by time.
+ * It inserts events with random times into the queue, then either polls all of them in order
+ * or cancels them by source entity and tag, as switches do for every packet they receive.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class EventQueueBenchmark {
+    private static final int ENTITIES = 10;
+    private static final int TAGS = 10;
+    private static final double MAX_DELAY = 1000;
+
+    @Param({"1000", "100000"})
+    private int events;
+
+    private CloudSim simulation;
+    private List<IdleEntity> entityList;
+    private List<SimEvent> eventList;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.ERROR);
+        simulation = new CloudSim();
+        entityList = new ArrayList<>(ENTITIES);
+        for (int i = 0; i < ENTITIES; i++) {
+            entityList.add(new IdleEntity(simulation));
+        }
+
+        final Random random = new Random(events);
+        eventList = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            final IdleEntity src = entityList.get(i % ENTITIES);
+            final IdleEntity dest = entityList.get(random.nextInt(ENTITIES));
+            eventList.add(new CloudSimEvent(random.nextDouble() * MAX_DELAY, src, dest, random.nextInt(TAGS), null));
+        }
+    }
+
+    /**
+     * Inserts all events into an empty queue, then polls them in time order.
+     */
+    @Benchmark
+    public double testInsertAndPoll() {
+        final FutureQueue queue = new FutureQueue();
+        for (final SimEvent evt : eventList) {
+            queue.addEvent(evt);
+        }
+
+        double time = 0;
+        while (!queue.isEmpty()) {
+            final SimEvent evt = queue.first();
+            queue.remove(evt);
+            time = evt.getTime();
+        }
+
+        return time;
+    }
+
+    /**
+     * Sends all events to the simulation, then cancels them by source entity and tag.
+     */
+    @Benchmark
+    public long testSendAndCancelAll() {
+        for (final SimEvent evt : eventList) {
+            simulation.send(evt);
+        }
+
+        for (int tag = 0; tag < TAGS; tag++) {
+            final PredicateType predicate = new PredicateType(tag);
+            for (final IdleEntity entity : entityList) {
+                simulation.cancelAll(entity, predicate);
+            }
+        }
+
+        return simulation.getNumberOfFutureEvents(evt -> true);
+    }
+
+    /**
+     * An entity that just ignores the events it receives.
+     */
+    private static final class IdleEntity extends CloudSimEntity {
+        private IdleEntity(final CloudSim simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startInternal() {/**/}
+
+        @Override
+        public void processEvent(final SimEvent evt) {/**/}
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.datacenters;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A benchmark for the periodic update of Cloudlets processing performed by a {@link DatacenterSimple}
+ * with a given number of Hosts, VMs by Host and Cloudlets by VM.
+ * The simulation is started in synchronous mode and run until all Cloudlets are executing.
+ * Then, each benchmark operation advances the simulation by one scheduling interval,
+ * which makes the Datacenter update the processing of every Host, VM and Cloudlet once.
+ * Cloudlets are long enough to never finish during the benchmark.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class DatacenterUpdateProcessingBenchmark {
+    private static final double SCHEDULING_INTERVAL = 1;
+    private static final int PE_MIPS = 1000;
+    private static final int VM_PES = 2;
+    private static final long CLOUDLET_LENGTH = 1_000_000_000_000L;
+
+    @Param({"100", "1000"})
+    private int hosts;
+
+    @Param({"2", "8"})
+    private int vmsByHost;
+
+    @Param({"1", "10"})
+    private int cloudletsByVm;
+
+    private CloudSim simulation;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.ERROR);
+        simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>(hosts);
+        for (int i = 0; i < hosts; i++) {
+            hostList.add(createHost());
+        }
+
+        new DatacenterSimple(simulation, hostList).setSchedulingInterval(SCHEDULING_INTERVAL);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final int vms = hosts * vmsByHost;
+        final List<Vm> vmList = new ArrayList<>(vms);
+        for (int i = 0; i < vms; i++) {
+            vmList.add(new VmSimple(PE_MIPS, VM_PES).setRam(512).setBw(1000).setSize(10000));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(vms * cloudletsByVm);
+        for (int i = 0; i < vms * cloudletsByVm; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(CLOUDLET_LENGTH, 1);
+            cloudlet.setUtilizationModelRam(new UtilizationModelDynamic(0.05));
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.startSync();
+        runUntil(SCHEDULING_INTERVAL);
+    }
+
+    /**
+     * Runs the simulation until a given time.
+     * @param time the time to run the simulation until
+     * @return the simulation clock
+     */
+    private double runUntil(final double time) {
+        while (simulation.isRunning() && simulation.clock() < time) {
+            simulation.runFor(time - simulation.clock());
+        }
+
+        return simulation.clock();
+    }
+
+    private Host createHost() {
+        final List<Pe> peList = new ArrayList<>(vmsByHost * VM_PES);
+        for (int i = 0; i < vmsByHost * VM_PES; i++) {
+            peList.add(new PeSimple(PE_MIPS));
+        }
+
+        return new HostSimple(vmsByHost * 1024L, vmsByHost * 10000L, vmsByHost * 100000L, peList);
+    }
+
+    @Benchmark
+    public double testUpdateCloudletProcessing() {
+        return runUntil(simulation.clock() + SCHEDULING_INTERVAL);
+    }
+}
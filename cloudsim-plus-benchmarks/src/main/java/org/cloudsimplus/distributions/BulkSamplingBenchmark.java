@@ -0,0 +1,100 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.distributions;
+
+import org.cloudbus.cloudsim.distributions.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * A set of benchmarks comparing the generation of numbers one by one using the default PRNG
+ * against the bulk generation using streams from a {@link RandomStreams}.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class BulkSamplingBenchmark {
+    private static final int SAMPLES = 10_000;
+
+    private final double[] out = new double[SAMPLES];
+    private ContinuousDistribution defaultExponential;
+    private ContinuousDistribution defaultUniform;
+    private ContinuousDistribution defaultNormal;
+    private ContinuousDistribution streamExponential;
+    private ContinuousDistribution streamUniform;
+    private ContinuousDistribution streamNormal;
+
+    @Setup
+    public void doSetup() {
+        defaultExponential = new ExponentialDistr(10, 1);
+        defaultUniform = new UniformDistr(0, 100, 1);
+        defaultNormal = new NormalDistr(50, 10, 1);
+
+        final RandomStreams streams = new RandomStreams(1);
+        streamExponential = streams.exponential("exponential", 10);
+        streamUniform = streams.uniform("uniform", 0, 100);
+        streamNormal = streams.normal("normal", 50, 10);
+    }
+
+    @Benchmark
+    public double[] testDefaultExponentialSequential() {
+        return sequential(defaultExponential);
+    }
+
+    @Benchmark
+    public double[] testStreamExponentialBulk() {
+        streamExponential.sample(out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] testDefaultUniformSequential() {
+        return sequential(defaultUniform);
+    }
+
+    @Benchmark
+    public double[] testStreamUniformBulk() {
+        streamUniform.sample(out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] testDefaultNormalSequential() {
+        return sequential(defaultNormal);
+    }
+
+    @Benchmark
+    public double[] testStreamNormalBulk() {
+        streamNormal.sample(out);
+        return out;
+    }
+
+    private double[] sequential(final ContinuousDistribution distribution) {
+        for (int i = 0; i < SAMPLES; i++) {
+            out[i] = distribution.sample();
+        }
+
+        return out;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.distributions;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.cloudbus.cloudsim.distributions.StatisticalDistribution;
+import org.cloudbus.cloudsim.distributions.ZipfDistr;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * A set of benchmarks comparing the {@link ZipfDistr} samplers
+ * (rejection-inversion and alias table) against the former sampler,
+ * which walked the harmonic series term by term for every sample.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class ZipfSamplingBenchmark {
+    private static final double SHAPE = 1.1;
+
+    @Param({"1000", "65536"})
+    private int population;
+
+    private ZipfDistr rejectionInversion;
+    private ZipfDistr aliasTable;
+    private RandomGenerator rng;
+    private double legacyDen;
+
+    @Setup
+    public void doSetup() {
+        rejectionInversion = new ZipfDistr(SHAPE, population, 1);
+        aliasTable = new ZipfDistr(SHAPE, population, 1).setAliasTableEnabled(true);
+        rng = StatisticalDistribution.newDefaultGen(1);
+        for (int i = 1; i <= population; i++) {
+            legacyDen += 1 / Math.pow(i, SHAPE);
+        }
+    }
+
+    @Benchmark
+    public double testLegacySample() {
+        final double variate = rng.nextDouble();
+        double num = 1;
+        double nextNum = 1 + 1 / Math.pow(2, SHAPE);
+        double i = 3;
+
+        while (variate > nextNum / legacyDen) {
+            num = nextNum;
+            nextNum += 1 / Math.pow(i, SHAPE);
+            i++;
+        }
+
+        return num / legacyDen;
+    }
+
+    @Benchmark
+    public double testRejectionInversionSample() {
+        return rejectionInversion.sample();
+    }
+
+    @Benchmark
+    public double testAliasTableSample() {
+        return aliasTable.sample();
+    }
+
+    /**
+     * Creates a distribution for a population of 10 million ranks,
+     * which was infeasible with the former sampler.
+     */
+    @Benchmark
+    public double testLargePopulationCreateAndSample() {
+        return new ZipfDistr(SHAPE, 10_000_000, 1).sample();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.network;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletExecutionTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletReceiveTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletSendTask;
+import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.network.switches.AggregateSwitch;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.network.NetworkVm;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A benchmark for forwarding packets between {@link NetworkCloudlet}s through the switches of a {@link NetworkDatacenter}.
+ * The network has an {@link AggregateSwitch} connecting some {@link EdgeSwitch}es,
+ * each one connecting {@link EdgeSwitch#PORTS} Hosts with one VM.
+ * Every Cloudlet sends packets to a Cloudlet in a Host connected to the next Edge Switch,
+ * so that all packets are forwarded by 3 switches.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class PacketForwardingBenchmark {
+    private static final int EDGE_SWITCHES = 4;
+    private static final int HOSTS = EDGE_SWITCHES * EdgeSwitch.PORTS;
+    private static final int HOST_PES = 4;
+    private static final int TASK_LENGTH = 1000;
+    private static final long TASK_RAM = 100;
+    private static final long PACKET_BYTES = 1000;
+
+    @Param({"10", "100"})
+    private int packetsByCloudlet;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.ERROR);
+    }
+
+    @Benchmark
+    public double testSendPacketsThroughSwitches() {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            hostList.add(new NetworkHost(4096, 100000, 1000000, peList));
+        }
+
+        final NetworkDatacenter datacenter = new NetworkDatacenter(simulation, hostList, new VmAllocationPolicySimple());
+        datacenter.setSchedulingInterval(5);
+        createNetwork(simulation, datacenter);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<NetworkVm> vmList = new ArrayList<>(HOSTS);
+        final List<NetworkCloudlet> cloudletList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final NetworkVm vm = new NetworkVm(i, 1000, HOST_PES);
+            vm.setRam(1024).setBw(10000).setSize(10000);
+            vmList.add(vm);
+
+            final NetworkCloudlet cloudlet = new NetworkCloudlet(i, TASK_LENGTH, HOST_PES);
+            cloudlet.setVm(vm);
+            cloudletList.add(cloudlet);
+        }
+
+        for (int i = 0; i < HOSTS; i++) {
+            final NetworkCloudlet source = cloudletList.get((i + HOSTS - EdgeSwitch.PORTS) % HOSTS);
+            final NetworkCloudlet destination = cloudletList.get((i + EdgeSwitch.PORTS) % HOSTS);
+            addTasks(cloudletList.get(i), source, destination);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        return simulation.start();
+    }
+
+    /**
+     * Creates an Aggregate Switch connecting all Edge Switches,
+     * then connects each Host to an Edge Switch.
+     */
+    private void createNetwork(final CloudSim simulation, final NetworkDatacenter datacenter) {
+        final AggregateSwitch aggregateSwitch = new AggregateSwitch(simulation, datacenter);
+        datacenter.addSwitch(aggregateSwitch);
+
+        final List<EdgeSwitch> edgeSwitches = new ArrayList<>(EDGE_SWITCHES);
+        for (int i = 0; i < EDGE_SWITCHES; i++) {
+            final EdgeSwitch edgeSwitch = new EdgeSwitch(simulation, datacenter);
+            edgeSwitch.getUplinkSwitches().add(aggregateSwitch);
+            aggregateSwitch.getDownlinkSwitches().add(edgeSwitch);
+            datacenter.addSwitch(edgeSwitch);
+            edgeSwitches.add(edgeSwitch);
+        }
+
+        final List<NetworkHost> hostList = datacenter.getHostList();
+        for (int i = 0; i < hostList.size(); i++) {
+            edgeSwitches.get(i / EdgeSwitch.PORTS).connectHost(hostList.get(i));
+        }
+    }
+
+    /**
+     * Adds to a Cloudlet an execution task, a task to send packets to a destination Cloudlet
+     * and a task to receive the packets from a source Cloudlet.
+     */
+    private void addTasks(final NetworkCloudlet cloudlet, final NetworkCloudlet source, final NetworkCloudlet destination) {
+        final CloudletExecutionTask execTask = new CloudletExecutionTask(cloudlet.getTasks().size(), TASK_LENGTH);
+        execTask.setMemory(TASK_RAM);
+        cloudlet.addTask(execTask);
+
+        final CloudletSendTask sendTask = new CloudletSendTask(cloudlet.getTasks().size());
+        sendTask.setMemory(TASK_RAM);
+        cloudlet.addTask(sendTask);
+        for (int i = 0; i < packetsByCloudlet; i++) {
+            sendTask.addPacket(destination, PACKET_BYTES);
+        }
+
+        final CloudletReceiveTask receiveTask = new CloudletReceiveTask(cloudlet.getTasks().size(), source.getVm());
+        receiveTask.setMemory(TASK_RAM);
+        receiveTask.setExpectedPacketsToReceive(packetsByCloudlet);
+        cloudlet.addTask(receiveTask);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.provisioners;
+
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudbus.cloudsim.vms.VmSlotIndex;
+import org.cloudbus.cloudsim.vms.VmSlotLongMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of benchmarks for the allocation tables kept by the resource provisioners of a Host,
+ * comparing a {@link HashMap} with boxed values against a {@link VmSlotLongMap},
+ * which stores values into a primitive array indexed by the VM slot.
+ * It mimics the PE provisioners of a 128-PE Host with 100 VMs,
+ * where the allocation of every VM is read and updated for every PE.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class AllocationTableBenchmark {
+    private static final int PES = 128;
+    private static final int VMS = 100;
+
+    private List<Vm> vmList;
+    private List<Map<Vm, Long>> hashTables;
+    private List<VmSlotLongMap> slotTables;
+    private List<Pe> peList;
+
+    @Setup
+    public void doSetup() {
+        vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(i, 1000, 1));
+        }
+
+        final VmSlotIndex index = new VmSlotIndex();
+        hashTables = new ArrayList<>(PES);
+        slotTables = new ArrayList<>(PES);
+        for (int i = 0; i < PES; i++) {
+            final Map<Vm, Long> hashTable = new HashMap<>();
+            final VmSlotLongMap slotTable = new VmSlotLongMap(index);
+            for (final Vm vm : vmList) {
+                hashTable.put(vm, 10L);
+                slotTable.putLong(vm, 10);
+            }
+
+            hashTables.add(hashTable);
+            slotTables.add(slotTable);
+        }
+
+        peList = new ArrayList<>(PES);
+        for (int i = 0; i < PES; i++) {
+            peList.add(new PeSimple(100000));
+        }
+
+        //Creating the Host makes its PE provisioners share the Host VM slot index
+        new HostSimple(100000, 100000, 100000, peList);
+    }
+
+    @Benchmark
+    public long testHashMapUpdate() {
+        long sum = 0;
+        for (final Map<Vm, Long> table : hashTables) {
+            for (final Vm vm : vmList) {
+                final long allocated = table.getOrDefault(vm, 0L);
+                table.put(vm, allocated + 1);
+                sum += allocated;
+            }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long testSlotTableUpdate() {
+        long sum = 0;
+        for (final VmSlotLongMap table : slotTables) {
+            for (final Vm vm : vmList) {
+                final long allocated = table.getLong(vm);
+                table.putLong(vm, allocated + 1);
+                sum += allocated;
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Allocates and de-allocates MIPS from every PE of a Host to every VM,
+     * using the {@link org.cloudbus.cloudsim.provisioners.PeProvisioner}s sharing the Host VM slot index.
+     */
+    @Benchmark
+    public long testPeProvisionersAllocate() {
+        long sum = 0;
+        for (final Pe pe : peList) {
+            for (final Vm vm : vmList) {
+                pe.getPeProvisioner().allocateResourceForVm(vm, 100);
+                sum += pe.getPeProvisioner().getAllocatedResourceForVm(vm);
+            }
+        }
+
+        for (final Pe pe : peList) {
+            pe.getPeProvisioner().deallocateResourceForAllVms();
+        }
+
+        return sum;
+    }
+}
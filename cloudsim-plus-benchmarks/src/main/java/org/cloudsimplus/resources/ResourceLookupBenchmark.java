@@ -0,0 +1,147 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.resources;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
+import org.cloudbus.cloudsim.resources.*;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of benchmarks for getting a machine {@link Resource} from its class,
+ * as performed when provisioning resources to VMs
+ * and when updating VM resource utilization at every simulation tick.
+ * The benchmarks compare the lookup using {@link ResourceSlots} (used by {@link VmSimple} and {@link HostSimple})
+ * with the stream-based lookup over the machine resource list.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class ResourceLookupBenchmark {
+    private static final int VMS = 1000;
+
+    private List<Vm> vmList;
+    private ResourceProvisioner ramProvisioner;
+
+    @Setup
+    public void doSetup() {
+        final List<Pe> peList = new ArrayList<>();
+        peList.add(new PeSimple(1000));
+        final Host host = new HostSimple(VMS * 10, VMS * 10, 100000, peList);
+        ramProvisioner = host.getRamProvisioner();
+
+        vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(i, 1000, 1).setRam(10).setBw(10));
+        }
+    }
+
+    /**
+     * Gets a VM resource using the stream-based lookup
+     * that loops through the resource list for every call.
+     */
+    private static ResourceManageable streamLookup(final Vm vm, final Class<? extends ResourceManageable> resourceClass) {
+        return vm.getResources()
+                 .stream()
+                 .filter(resource -> resource.isSubClassOf(resourceClass))
+                 .findFirst()
+                 .orElse(ResourceManageable.NULL);
+    }
+
+    @Benchmark
+    public long testSlotsLookupRamAndBw() {
+        long sum = 0;
+        for (final Vm vm : vmList) {
+            sum += vm.getResource(Ram.class).getCapacity() + vm.getResource(Bandwidth.class).getCapacity();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long testStreamLookupRamAndBw() {
+        long sum = 0;
+        for (final Vm vm : vmList) {
+            sum += streamLookup(vm, Ram.class).getCapacity() + streamLookup(vm, Bandwidth.class).getCapacity();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Mimics the per-tick update of VM RAM and BW utilization,
+     * where each resource is looked up, fully de-allocated and allocated again.
+     */
+    @Benchmark
+    public long testSlotsUpdateVmResourceUtilization() {
+        long sum = 0;
+        for (final Vm vm : vmList) {
+            sum += reallocate(vm.getResource(Ram.class)) + reallocate(vm.getResource(Bandwidth.class));
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long testStreamUpdateVmResourceUtilization() {
+        long sum = 0;
+        for (final Vm vm : vmList) {
+            sum += reallocate(streamLookup(vm, Ram.class)) + reallocate(streamLookup(vm, Bandwidth.class));
+        }
+
+        return sum;
+    }
+
+    private static long reallocate(final ResourceManageable resource) {
+        resource.deallocateAllResources();
+        resource.allocateResource(resource.getCapacity() / 2);
+        return resource.getAllocatedResource();
+    }
+
+    /**
+     * Allocates and de-allocates the Host RAM for every VM,
+     * which requires getting the RAM resource of each VM.
+     */
+    @Benchmark
+    public long testProvisionerAllocateRam() {
+        long sum = 0;
+        for (final Vm vm : vmList) {
+            ramProvisioner.allocateResourceForVm(vm, vm.getRam().getCapacity());
+            sum += ramProvisioner.getAllocatedResourceForVm(vm);
+        }
+
+        for (final Vm vm : vmList) {
+            ramProvisioner.deallocateResourceForVm(vm);
+        }
+
+        return sum;
+    }
+}
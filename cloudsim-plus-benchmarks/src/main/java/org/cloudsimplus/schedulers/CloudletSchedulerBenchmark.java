@@ -0,0 +1,113 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.schedulers;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.*;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A benchmark running the same workload with each {@link CloudletScheduler} implementation,
+ * so that their costs can be compared.
+ * All Cloudlets are submitted at once to the VMs of a single Host,
+ * with different lengths and number of PEs, and the simulation runs until all of them finish.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @see CloudletSchedulerTimeSharedBenchmark
+ * @see CloudletSchedulerSpaceSharedBenchmark
+ * @see CloudletSchedulerCompletelyFairBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class CloudletSchedulerBenchmark {
+    private static final int VMS = 4;
+    private static final int VM_PES = 4;
+    private static final int PE_MIPS = 10000;
+
+    @Param({"CompletelyFair", "ProcessorSharing", "SpaceShared", "TimeShared"})
+    private String scheduler;
+
+    @Param({"100", "1000"})
+    private int cloudlets;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.ERROR);
+    }
+
+    private CloudletScheduler newCloudletScheduler() {
+        switch (scheduler) {
+            case "CompletelyFair": return new CloudletSchedulerCompletelyFair();
+            case "ProcessorSharing": return new CloudletSchedulerProcessorSharing();
+            case "SpaceShared": return new CloudletSchedulerSpaceShared();
+            case "TimeShared": return new CloudletSchedulerTimeShared();
+            default: throw new IllegalArgumentException("Unknown CloudletScheduler: " + scheduler);
+        }
+    }
+
+    @Benchmark
+    public double testSimulation() {
+        final CloudSim simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>(VMS * VM_PES);
+        for (int i = 0; i < VMS * VM_PES; i++) {
+            peList.add(new PeSimple(PE_MIPS));
+        }
+
+        final List<Host> hostList = List.of(new HostSimple(16384, 100000, 1000000, peList));
+        new DatacenterSimple(simulation, hostList);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            final Vm vm = new VmSimple(PE_MIPS, VM_PES).setRam(2048).setBw(10000);
+            vm.setCloudletScheduler(newCloudletScheduler());
+            vmList.add(vm);
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(cloudlets);
+        for (int i = 0; i < cloudlets; i++) {
+            cloudletList.add(new CloudletSimple(10000 + i % 100 * 1000L, 1 + i % 2));
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        return simulation.start();
+    }
+}
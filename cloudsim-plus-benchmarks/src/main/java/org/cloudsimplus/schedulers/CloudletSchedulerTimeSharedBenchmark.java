@@ -0,0 +1,97 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.schedulers;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A benchmark for a {@link CloudletSchedulerTimeShared} running thousands of Cloudlets at once.
+ * All Cloudlets are submitted to a single VM and have different lengths,
+ * so that just a few of them finish at each processing update,
+ * while all the remaining ones keep running.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class CloudletSchedulerTimeSharedBenchmark {
+    private static final int VM_PES = 8;
+
+    /**
+     * The MIPS capacity of each PE, which is high enough so that
+     * every Cloudlet executes at least 1 MI between processing updates.
+     */
+    private static final int PE_MIPS = 10000;
+
+    @Param({"1000", "2000"})
+    private int cloudlets;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.ERROR);
+    }
+
+    @Benchmark
+    public double testSimulationWithManyRunningCloudlets() {
+        final CloudSim simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>(VM_PES);
+        for (int i = 0; i < VM_PES; i++) {
+            peList.add(new PeSimple(PE_MIPS));
+        }
+
+        final List<Host> hostList = List.of(new HostSimple(16384, 100000, 1000000, peList));
+        new DatacenterSimple(simulation, hostList);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final Vm vm = new VmSimple(PE_MIPS, VM_PES).setRam(4096).setBw(10000);
+        vm.setCloudletScheduler(new CloudletSchedulerTimeShared());
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(cloudlets);
+        for (int i = 0; i < cloudlets; i++) {
+            cloudletList.add(new CloudletSimple(1000 + i * 10L, 1));
+        }
+
+        broker.submitVm(vm);
+        broker.submitCloudletList(cloudletList);
+        return simulation.start();
+    }
+}
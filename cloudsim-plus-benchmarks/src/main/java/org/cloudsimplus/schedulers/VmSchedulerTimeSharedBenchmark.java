@@ -0,0 +1,101 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.schedulers;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A benchmark for the reallocation of Host PEs performed by a {@link VmSchedulerTimeShared}
+ * when the PEs of a VM are de-allocated and allocated again,
+ * such as when a VM is vertically scaled.
+ * Since every allocation redistributes the Host PEs among all VMs,
+ * the cost grows with the number of VMs in the Host.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class VmSchedulerTimeSharedBenchmark {
+    private static final int HOST_PES = 64;
+    private static final int PE_MIPS = 1000;
+
+    @Param({"16", "64"})
+    private int vms;
+
+    private VmScheduler vmScheduler;
+    private List<Vm> vmList;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.ERROR);
+        final CloudSim simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(PE_MIPS));
+        }
+
+        vmScheduler = new VmSchedulerTimeShared();
+        final Host host = new HostSimple(1000000, 1000000, 1000000, peList).setVmScheduler(vmScheduler);
+        final VmAllocationPolicy allocationPolicy = new VmAllocationPolicySimple();
+        new DatacenterSimple(simulation, List.of(host), allocationPolicy);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        vmList = new ArrayList<>(vms);
+        for (int i = 0; i < vms; i++) {
+            final Vm vm = new VmSimple(PE_MIPS, HOST_PES / vms).setRam(512).setBw(1000).setSize(1000);
+            vm.setBroker(broker);
+            allocationPolicy.allocateHostForVm(vm, host);
+            vmList.add(vm);
+        }
+    }
+
+    @Benchmark
+    public double testReallocatePesForEveryVm() {
+        for (final Vm vm : vmList) {
+            vmScheduler.deallocatePesFromVm(vm);
+            vmScheduler.allocatePesForVm(vm);
+        }
+
+        return vmScheduler.getTotalAvailableMips();
+    }
+}
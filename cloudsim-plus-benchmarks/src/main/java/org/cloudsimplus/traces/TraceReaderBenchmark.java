@@ -0,0 +1,149 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.traces;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.util.SwfWorkloadFileReader;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudsimplus.traces.google.GoogleMachineEventsTraceReader;
+import org.cloudsimplus.traces.google.GoogleTaskEventsTraceReader;
+import org.cloudsimplus.traces.google.MachineEvent;
+import org.cloudsimplus.traces.google.TaskEvent;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A set of benchmarks for reading workload trace files
+ * in the <a href="https://www.cs.huji.ac.il/labs/parallel/workload/swf.html">Standard Workload Format (SWF)</a>
+ * and in the format of the <a href="https://github.com/google/cluster-data/blob/master/ClusterData2011_2.md">Google Cluster Data</a>
+ * "machine events" and "task events" tables.
+ * Since trace files are large and are not shipped with the benchmarks,
+ * files with a given number of lines and random values are generated before the benchmarks start.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class TraceReaderBenchmark {
+    private static final int MIPS = 1000;
+    private static final int USERS = 10;
+
+    @Param({"10000", "100000"})
+    private int lines;
+
+    private Path swfFile;
+    private Path machineEventsFile;
+    private Path taskEventsFile;
+
+    @Setup
+    public void doSetup() throws IOException {
+        Log.setLevel(Level.ERROR);
+        final Random random = new Random(lines);
+
+        swfFile = Files.createTempFile("workload", ".swf");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(swfFile))) {
+            writer.println("; A synthetic SWF trace");
+            for (int i = 1; i <= lines; i++) {
+                final int procs = 1 + random.nextInt(8);
+                final int runTime = 1 + random.nextInt(3600);
+                writer.printf(
+                    "%d %d %d %d %d -1 -1 %d %d -1 1 %d 1 -1 1 -1 -1 -1%n",
+                    i, i * 10, random.nextInt(100), runTime, procs, procs, runTime * 2, 1 + random.nextInt(USERS));
+            }
+        }
+
+        machineEventsFile = Files.createTempFile("machine_events", ".csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(machineEventsFile))) {
+            for (int i = 0; i < lines; i++) {
+                writer.printf(Locale.ROOT, "0,%d,0,platform%d,%.2f,%.4f%n", i, i % 3, 0.25 * (1 + random.nextInt(4)), random.nextDouble());
+            }
+        }
+
+        taskEventsFile = Files.createTempFile("task_events", ".csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(taskEventsFile))) {
+            for (int i = 0; i < lines; i++) {
+                writer.printf(
+                    Locale.ROOT, "%d,,%d,%d,,0,user%d,%d,%d,%.4f,%.4f,%.4f,0%n",
+                    i * 1_000_000L, i / 10, i % 10, random.nextInt(USERS), random.nextInt(4), random.nextInt(12),
+                    random.nextDouble() * 0.1, random.nextDouble() * 0.1, random.nextDouble() * 0.01);
+            }
+        }
+    }
+
+    @TearDown
+    public void doTearDown() throws IOException {
+        Files.deleteIfExists(swfFile);
+        Files.deleteIfExists(machineEventsFile);
+        Files.deleteIfExists(taskEventsFile);
+    }
+
+    @Benchmark
+    public List<Cloudlet> testSwfWorkloadFileReader() throws IOException {
+        return new SwfWorkloadFileReader(swfFile.toString(), MIPS).generateWorkload();
+    }
+
+    @Benchmark
+    public Set<Host> testGoogleMachineEventsTraceReader() throws IOException {
+        final GoogleMachineEventsTraceReader reader = new GoogleMachineEventsTraceReader(machineEventsFile.toString(), this::createHost);
+        reader.setDatacenterForLaterHosts(new DatacenterSimple(new CloudSim(), new ArrayList<>()));
+        return reader.process();
+    }
+
+    @Benchmark
+    public Set<Cloudlet> testGoogleTaskEventsTraceReader() throws IOException {
+        return new GoogleTaskEventsTraceReader(new CloudSim(), taskEventsFile.toString(), this::createCloudlet).process();
+    }
+
+    private Host createHost(final MachineEvent event) {
+        final List<Pe> peList = new ArrayList<>(event.getCpuCores());
+        for (int i = 0; i < event.getCpuCores(); i++) {
+            peList.add(new PeSimple(MIPS));
+        }
+
+        return new HostSimple(event.getRam(), 100000, 1000000, peList);
+    }
+
+    private Cloudlet createCloudlet(final TaskEvent event) {
+        final Cloudlet cloudlet = new CloudletSimple(10000, Math.max(1, event.actualCpuCores(8)));
+        return cloudlet.setUtilizationModelRam(new UtilizationModelDynamic());
+    }
+}
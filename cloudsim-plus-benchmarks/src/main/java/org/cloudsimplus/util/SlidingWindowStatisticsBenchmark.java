@@ -0,0 +1,134 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.util;
+
+import org.cloudbus.cloudsim.util.MathUtil;
+import org.cloudbus.cloudsim.util.SlidingWindowStatistics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+
+/**
+ * A set of benchmarks comparing the computation of the statistics used by dynamic-threshold
+ * VM allocation policies (MAD and IQR) for every Host of a large datacenter,
+ * when a new CPU utilization sample arrives for each Host, using:
+ * - {@link MathUtil} methods, that copy and sort the whole utilization history of every Host;
+ * - a {@link SlidingWindowStatistics} per Host, that is incrementally updated.
+ *
+ * The robust local regression used by the LR policy isn't benchmarked,
+ * since it can't be incrementally updated and it's computed by {@link MathUtil} in both cases.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class SlidingWindowStatisticsBenchmark {
+    private static final int HOSTS = 10_000;
+
+    @Param({"12", "30", "100"})
+    private int windowSize;
+
+    /** The last {@link #windowSize} utilization samples of each Host, as circular buffers. */
+    private double[][] histories;
+    private SlidingWindowStatistics[] windows;
+    /** The index where the next sample will be stored inside every Host history. */
+    private int head;
+    private Random random;
+
+    @Setup(Level.Iteration)
+    public void doSetup() {
+        random = new Random(1);
+        head = 0;
+        histories = new double[HOSTS][windowSize];
+        windows = new SlidingWindowStatistics[HOSTS];
+        for (int i = 0; i < HOSTS; i++) {
+            windows[i] = new SlidingWindowStatistics(windowSize);
+            for (int j = 0; j < windowSize; j++) {
+                final double utilization = random.nextDouble();
+                histories[i][j] = utilization;
+                windows[i].add(utilization);
+            }
+        }
+    }
+
+    @Benchmark
+    public double testMathUtilMad() {
+        double sum = 0;
+        for (final double[] history : histories) {
+            sum += MathUtil.mad(addSample(history));
+        }
+
+        head = (head + 1) % windowSize;
+        return sum;
+    }
+
+    @Benchmark
+    public double testSlidingWindowMad() {
+        double sum = 0;
+        for (final SlidingWindowStatistics window : windows) {
+            window.add(random.nextDouble());
+            sum += window.getMad();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public double testMathUtilIqr() {
+        double sum = 0;
+        for (final double[] history : histories) {
+            sum += MathUtil.iqr(addSample(history));
+        }
+
+        head = (head + 1) % windowSize;
+        return sum;
+    }
+
+    @Benchmark
+    public double testSlidingWindowIqr() {
+        double sum = 0;
+        for (final SlidingWindowStatistics window : windows) {
+            window.add(random.nextDouble());
+            sum += window.getIqr();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Adds a new utilization sample to a Host history
+     * and gets a copy of that history in chronological order,
+     * as it's required to compute statistics using {@link MathUtil}.
+     * @param history the Host history to add a sample to
+     * @return a copy of the history
+     */
+    private double[] addSample(final double[] history) {
+        history[head] = random.nextDouble();
+        final int oldest = (head + 1) % windowSize;
+        final double[] copy = new double[windowSize];
+        System.arraycopy(history, oldest, copy, 0, windowSize - oldest);
+        System.arraycopy(history, 0, copy, windowSize - oldest, oldest);
+        return copy;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.utilizationmodels;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A benchmark for updating the utilization of {@link UtilizationModelDynamic} objects
+ * having an update function, which is called every time the utilization is requested for a different time.
+ * Each benchmark runs for functions set by {@link UtilizationModelDynamic#setUtilizationUpdateFunction(Function)},
+ * which receive a new copy of the model at every call,
+ * and by {@link UtilizationModelDynamic#setUtilizationViewUpdateFunction(ToDoubleFunction)},
+ * which receive a reused read-only view.
+ * It also runs a simulation where all Cloudlets use such objects for CPU, RAM and BW,
+ * so that these functions are called for every Cloudlet at every processing update.
+ * The allocation rate can be checked by running the benchmark with the GC profiler, such as:
+ * {@code java -jar cloudsim-plus-benchmarks.jar UtilizationModelDynamicBenchmark -prof gc}.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class UtilizationModelDynamicBenchmark {
+    private static final int HOSTS = 10;
+    private static final int HOST_PES = 8;
+    private static final int VMS = 20;
+    private static final int CLOUDLETS = 400;
+    private static final double SCHEDULING_INTERVAL = 1;
+    private static final int MODELS = 1000;
+
+    /**
+     * Indicates if the update function receives a reused read-only view of the model,
+     * instead of a new copy of it.
+     */
+    @Param({"false", "true"})
+    private boolean view;
+
+    private UtilizationModelDynamic[] models;
+    private double time;
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.ERROR);
+        models = new UtilizationModelDynamic[MODELS];
+        for (int i = 0; i < MODELS; i++) {
+            models[i] = newUtilizationModel(0.1);
+        }
+    }
+
+    @Benchmark
+    public double testUpdateUtilization() {
+        time++;
+        double sum = 0;
+        for (final UtilizationModelDynamic model : models) {
+            sum += model.getUtilization(time);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public double testSimulationWithDynamicUtilization() {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            hostList.add(new HostSimple(16384, 100000, 1000000, peList));
+        }
+
+        new DatacenterSimple(simulation, hostList).setSchedulingInterval(SCHEDULING_INTERVAL);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(1000, HOST_PES / 2).setRam(4096).setBw(10000));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(10000 + i * 100L, 1);
+            cloudlet.setUtilizationModelCpu(newUtilizationModel(0.5))
+                    .setUtilizationModelRam(newUtilizationModel(0.01))
+                    .setUtilizationModelBw(newUtilizationModel(0.01));
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        return simulation.start();
+    }
+
+    private UtilizationModelDynamic newUtilizationModel(final double initialUtilization) {
+        final UtilizationModelDynamic model = new UtilizationModelDynamic(initialUtilization);
+        if (view) {
+            return model.setUtilizationViewUpdateFunction(um -> um.getUtilization() + um.getTimeSpan() * 0.001);
+        }
+
+        return model.setUtilizationUpdateFunction(um -> um.getUtilization() + um.getTimeSpan() * 0.001);
+    }
+}
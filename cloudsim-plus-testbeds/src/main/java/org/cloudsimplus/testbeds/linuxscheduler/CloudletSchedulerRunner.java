@@ -48,23 +48,56 @@ abstract class CloudletSchedulerRunner<T extends CloudletSchedulerExperiment> ex
     public static final String CLOUDLETS_NUMBER = "Cloudlets Number";
     private ContinuousDistribution cloudletsNumberPrng;
 
+    /**
+     * @see #getScale()
+     */
+    private final int scale;
+
     /**
      * Instantiates a runner and sets all parameters required to run the
      * experiments. Such parameters are shared among all runners that extends
      * this class.
      */
     CloudletSchedulerRunner() {
+        this(1);
+    }
+
+    /**
+     * Instantiates a runner and sets all parameters required to run the
+     * experiments, multiplying the number of Cloudlets by a given scale.
+     *
+     * @param scale the number of times the number of Cloudlets of each experiment is multiplied
+     * @see #getScale()
+     */
+    CloudletSchedulerRunner(final int scale) {
         super(1475098589732L, 1200);
+        if(scale < 1){
+            throw new IllegalArgumentException("Scale must be at least 1.");
+        }
+
         this.setVerbose(true);
-        cloudletsNumberPrng = new UniformDistr(VM_PES / 2, VM_PES + 1, getBaseSeed());
+        this.scale = scale;
+        cloudletsNumberPrng = new UniformDistr(VM_PES / 2 * scale, (VM_PES + 1) * scale, getBaseSeed());
+    }
+
+    /**
+     * Gets the scale from the command line arguments given to a runner,
+     * which is the first argument (if any).
+     *
+     * @param args the command line arguments
+     * @return the scale or 1 if no argument was given
+     * @see #getScale()
+     */
+    static int parseScale(final String[] args) {
+        return args.length > 0 ? Integer.parseInt(args[0]) : 1;
     }
 
     @Override
     protected void printSimulationParameters() {
         System.out.printf("%n----------------------------------%s----------------------------------%n", getClass().getSimpleName());
         System.out.printf("Hosts:           %5d | PEs:               %2d | VMs: %d | PEs: %d%n", HOSTS, HOST_PES, VMS, VM_PES);
-        System.out.printf("Experiment Runs: %5d | Max Cloudlets PES: %2d%n",
-                getSimulationRuns(), (MAX_CLOUDLET_PES - 1));
+        System.out.printf("Experiment Runs: %5d | Max Cloudlets PES: %2d | Scale: %d%n",
+                getSimulationRuns(), (MAX_CLOUDLET_PES - 1), scale);
 
     }
 
@@ -108,4 +141,13 @@ abstract class CloudletSchedulerRunner<T extends CloudletSchedulerExperiment> ex
     public ContinuousDistribution getCloudletsNumberPrng() {
         return cloudletsNumberPrng;
     }
+
+    /**
+     * Gets the number of times the number of Cloudlets of each experiment is multiplied,
+     * so that the schedulers can be assessed with longer runqueues
+     * (while the number of VM PEs doesn't change).
+     */
+    public int getScale() {
+        return scale;
+    }
 }
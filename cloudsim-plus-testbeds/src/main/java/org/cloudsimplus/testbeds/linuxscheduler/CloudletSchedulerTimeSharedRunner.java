@@ -34,10 +34,15 @@ class CloudletSchedulerTimeSharedRunner extends CloudletSchedulerRunner<Cloudlet
     /**
      * Starts the execution of the experiments
      * the number of times defines in {@link #getSimulationRuns()}.
-     * @param args command line arguments
+     * @param args command line arguments, where the first one (if given)
+     *             is the {@link #getScale() scale} of the experiments
      */
     public static void main(String[] args) {
-        new CloudletSchedulerTimeSharedRunner().run();
+        new CloudletSchedulerTimeSharedRunner(parseScale(args)).run();
+    }
+
+    private CloudletSchedulerTimeSharedRunner(final int scale) {
+        super(scale);
     }
 
     @Override
@@ -38,10 +38,15 @@ class CompletelyFairSchedulerRunner extends CloudletSchedulerRunner<CompletelyFa
     /**
      * Starts the execution of the experiments
      * the number of times defines in {@link #getSimulationRuns()}.
-     * @param args command line arguments
+     * @param args command line arguments, where the first one (if given)
+     *             is the {@link #getScale() scale} of the experiments
      */
     public static void main(String[] args) {
-        new CompletelyFairSchedulerRunner().run();
+        new CompletelyFairSchedulerRunner(parseScale(args)).run();
+    }
+
+    private CompletelyFairSchedulerRunner(final int scale) {
+        super(scale);
     }
 
     @Override
@@ -31,7 +31,9 @@
  * <p>The package provides two {@link org.cloudsimplus.testbeds.ExperimentRunner},
  * one for each of the experiments. Each runner has a main method
  * that allows to start a specific testbed. A testbed is a set of experiments executed
- * a given number of times defined by the runner class.</p>
+ * a given number of times defined by the runner class.
+ * An integer can be given as command line argument to multiply the number of Cloudlets
+ * of each experiment (such as 10 to run the experiments at 10 times their regular scale).</p>
  *
  * @author Manoel Campos da Silva Filho
  */
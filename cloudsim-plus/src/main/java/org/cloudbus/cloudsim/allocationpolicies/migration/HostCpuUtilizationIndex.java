@@ -0,0 +1,226 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.allocationpolicies.migration;
+
+import org.cloudbus.cloudsim.hosts.Host;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the Hosts used by a {@link VmAllocationPolicyMigrationAbstract} sorted by their CPU utilization,
+ * so that overloaded and underloaded Hosts are found without checking and sorting every Host
+ * at each VM consolidation round.
+ *
+ * <p>A Host is marked as changed when it updates the processing of its VMs
+ * or when a VM is placed into or removed from it.
+ * Just the changed Hosts are re-indexed, when the index is queried,
+ * so that their CPU utilization is read at the same time it was before.
+ * That costs O(log n) for each changed Host, where n is the number of indexed Hosts.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+final class HostCpuUtilizationIndex {
+    private static final Comparator<Entry> COMPARATOR =
+        Comparator.comparingDouble((Entry entry) -> entry.utilization)
+                  .thenComparingLong(entry -> entry.hostId)
+                  .thenComparingLong(entry -> entry.sequence);
+
+    /**
+     * A map where each key is an indexed Host and each value is its index entry.
+     */
+    private final Map<Host, Entry> entries;
+
+    /**
+     * The entries of Hosts that have changed since the index was last queried.
+     */
+    private final Set<Entry> changedEntries;
+
+    /**
+     * All indexed Hosts, sorted by their CPU utilization.
+     */
+    private final NavigableSet<Entry> entriesByUtilization;
+
+    /**
+     * The indexed Hosts whose requested CPU percentage is lower than the
+     * {@link #underUtilizationThreshold}, sorted by their CPU utilization.
+     */
+    private final NavigableSet<Entry> underloadedEntries;
+
+    /**
+     * The CPU percentage a Host requests below which it's underloaded.
+     */
+    private double underUtilizationThreshold;
+
+    /**
+     * The sequence number for the next indexed Host,
+     * which keeps the entries unique even if Hosts have the same id.
+     */
+    private long nextSequence;
+
+    /**
+     * Creates an index with no Host.
+     * @param underUtilizationThreshold the CPU percentage a Host requests below which it's underloaded
+     */
+    HostCpuUtilizationIndex(final double underUtilizationThreshold) {
+        this.entries = new HashMap<>();
+        this.changedEntries = new HashSet<>();
+        this.entriesByUtilization = new TreeSet<>(COMPARATOR);
+        this.underloadedEntries = new TreeSet<>(COMPARATOR);
+        this.underUtilizationThreshold = underUtilizationThreshold;
+    }
+
+    /**
+     * Adds a Host to the index if it isn't there yet,
+     * which will be marked as changed every time it updates the processing of its VMs.
+     * If the Host is already in the index, it's just marked as changed.
+     * @param host the Host to add
+     */
+    void add(final Host host) {
+        final Entry entry = entries.get(host);
+        if(entry != null) {
+            changedEntries.add(entry);
+            return;
+        }
+
+        final Entry newEntry = new Entry(host, nextSequence++);
+        entries.put(host, newEntry);
+        changedEntries.add(newEntry);
+        host.addOnUpdateProcessingListener(info -> changedEntries.add(newEntry));
+    }
+
+    /**
+     * Marks a Host as changed, so that it will be re-indexed
+     * when the index is queried, if the Host is in the index.
+     * @param host the Host that has changed
+     */
+    void changed(final Host host) {
+        final Entry entry = entries.get(host);
+        if(entry != null) {
+            changedEntries.add(entry);
+        }
+    }
+
+    /**
+     * Re-indexes the changed Hosts according to their current CPU utilization and requested MIPS.
+     */
+    private void update() {
+        for (final Entry entry : changedEntries) {
+            final double utilization = entry.host.getCpuPercentUtilization();
+            final double requested = entry.host.getCpuPercentRequested();
+            if(entry.indexed && entry.utilization == utilization && entry.requested == requested) {
+                continue;
+            }
+
+            remove(entry);
+            entry.utilization = utilization;
+            entry.requested = requested;
+            insert(entry);
+        }
+
+        changedEntries.clear();
+    }
+
+    private void remove(final Entry entry) {
+        entriesByUtilization.remove(entry);
+        underloadedEntries.remove(entry);
+    }
+
+    private void insert(final Entry entry) {
+        entry.indexed = true;
+        entriesByUtilization.add(entry);
+        if(entry.requested < underUtilizationThreshold) {
+            underloadedEntries.add(entry);
+        }
+    }
+
+    /**
+     * Sets the CPU percentage a Host requests below which it's underloaded,
+     * re-building the set of underloaded Hosts.
+     * @param underUtilizationThreshold the new under utilization threshold
+     */
+    void setUnderUtilizationThreshold(final double underUtilizationThreshold) {
+        this.underUtilizationThreshold = underUtilizationThreshold;
+        underloadedEntries.clear();
+        for (final Entry entry : entriesByUtilization) {
+            if(entry.requested < underUtilizationThreshold) {
+                underloadedEntries.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Gets the indexed Hosts whose CPU utilization is greater than a given value,
+     * from the least to the most used one.
+     * @param utilization the CPU utilization percentage (in scale from 0 to 1) the Hosts must be above of
+     * @return a Stream of the Hosts above the given utilization
+     */
+    Stream<Host> getHostsAbove(final double utilization) {
+        update();
+        //The lowest possible entry having the next representable utilization above the given one
+        final Entry bound = new Entry(Host.NULL, Long.MIN_VALUE);
+        bound.hostId = Long.MIN_VALUE;
+        bound.utilization = Math.nextUp(utilization);
+        return entriesByUtilization.tailSet(bound, true).stream().map(entry -> entry.host);
+    }
+
+    /**
+     * Gets the indexed Hosts whose requested CPU percentage is lower than the under utilization threshold,
+     * from the least to the most used one (according to their CPU utilization).
+     * @return a Stream of the underloaded Hosts
+     */
+    Stream<Host> getUnderloadedHosts() {
+        update();
+        return underloadedEntries.stream().map(entry -> entry.host);
+    }
+
+    /**
+     * The CPU utilization and requested percentage of a Host when it was last indexed.
+     * Such values must just be changed while the entry is not in any set.
+     */
+    private static final class Entry {
+        private final Host host;
+        private final long sequence;
+
+        /**
+         * The Host id when it was added to the index,
+         * so that the entry order doesn't change if the id is changed.
+         */
+        private long hostId;
+        private double utilization;
+        private double requested;
+
+        /**
+         * Indicates if the entry was already inserted into the index.
+         */
+        private boolean indexed;
+
+        private Entry(final Host host, final long sequence) {
+            this.host = host;
+            this.hostId = host.getId();
+            this.sequence = sequence;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Comparator.comparingDouble;
+import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
@@ -69,6 +70,12 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     /** @see #areHostsOverloaded() */
     private boolean hostsOverloaded;
 
+    /**
+     * The Hosts which have received VMs from this policy,
+     * sorted by their CPU utilization to find the overloaded and underloaded ones.
+     */
+    private final HostCpuUtilizationIndex hostIndex;
+
     /**
      * Creates a VmAllocationPolicy.
      * It uses a {@link #DEF_UNDER_UTILIZATION_THRESHOLD default under utilization threshold}.
@@ -96,6 +103,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         super(findHostForVmFunction);
         this.underUtilizationThreshold = DEF_UNDER_UTILIZATION_THRESHOLD;
         this.savedAllocation = new HashMap<>();
+        this.hostIndex = new HostCpuUtilizationIndex(underUtilizationThreshold);
         setVmSelectionPolicy(vmSelectionPolicy);
     }
 
@@ -147,17 +155,20 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         // overloaded + underloaded hosts
         final Set<Host> ignoredTargetHosts = getIgnoredHosts(overloadedHosts, switchedOffHosts);
 
-        final int numberOfHosts = getHostList().size();
+        /*
+        The underloaded Hosts are computed just once, instead of scanning
+        all Hosts again after each one is processed.
+        Hosts receiving VMs are never underloaded ones and
+        are added to the ignored Hosts, so the utilization
+        of the remaining candidates doesn't change inside the loop.
+        */
+        final Queue<Host> underloadedHosts = getUnderloadedHosts(ignoredSourceHosts);
 
         this.hostsUnderloaded = false;
-        while (true) {
-            if (numberOfHosts == ignoredSourceHosts.size()) {
-                break;
-            }
-
-            final Host underloadedHost = getUnderloadedHost(ignoredSourceHosts);
-            if (underloadedHost == Host.NULL) {
-                break;
+        while (!underloadedHosts.isEmpty()) {
+            final Host underloadedHost = underloadedHosts.poll();
+            if (ignoredSourceHosts.contains(underloadedHost)) {
+                continue;
             }
             this.hostsUnderloaded = true;
 
@@ -297,6 +308,45 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         return getHostCpuPercentRequested(host) < getUnderUtilizationThreshold();
     }
 
+    /**
+     * Gets the over utilization threshold when it's the same for every Host,
+     * so that overloaded Hosts can be found just by their CPU utilization.
+     * This implementation returns {@link Double#NaN} to indicate
+     * each Host may have its own {@link #getOverUtilizationThreshold(Host) threshold}.
+     *
+     * @return the over utilization threshold shared by all Hosts
+     *         or {@link Double#NaN} if each Host may have a different one
+     */
+    protected double getStaticOverUtilizationThreshold() {
+        return Double.NaN;
+    }
+
+    /**
+     * {@inheritDoc}
+     * It also starts tracking the CPU utilization of the Host
+     * to find if it's overloaded or underloaded.
+     *
+     * @param vm {@inheritDoc}
+     * @param host {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean allocateHostForVm(final Vm vm, final Host host) {
+        if(super.allocateHostForVm(vm, host)){
+            hostIndex.add(host);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void deallocateHostForVm(final Vm vm) {
+        final Host host = vm.getHost();
+        super.deallocateHostForVm(vm);
+        hostIndex.changed(host);
+    }
+
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
         final Set<Host> excludedHosts = new HashSet<>();
@@ -539,52 +589,53 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      * because the VMs to be migrated to move the Host from
      * the overload state already are in migration.
      *
+     * <p>If the {@link #getStaticOverUtilizationThreshold() over utilization threshold is the same for every Host},
+     * just the Hosts above it are checked, which are got from an index sorted by CPU utilization.
+     * Otherwise, all Hosts are checked, since each one has its own threshold.</p>
+     *
      * @return the over utilized hosts
      */
     private Set<Host> getOverloadedHosts() {
-        return this.getHostList().stream()
+        final double staticThreshold = getStaticOverUtilizationThreshold();
+        final Stream<Host> candidateHosts =
+            Double.isNaN(staticThreshold) ? this.getHostList().stream() : hostIndex.getHostsAbove(staticThreshold);
+
+        return candidateHosts
             .filter(this::isHostOverloaded)
             .filter(host -> host.getVmsMigratingOut().isEmpty())
             .collect(toSet());
     }
 
     /**
-     * Gets the most underloaded Host.
+     * Gets the underloaded Hosts, sorted from the most to the least underloaded one
+     * (the ones with the same CPU utilization are sorted by id).
      * If a Host is underloaded but it has VMs migrating in,
-     * then it's not included in the returned List
+     * then it's not included in the returned queue
      * because the VMs to be migrated to move the Host from
      * the underload state already are in migration to it.
      * Likewise, if all VMs are migrating out, nothing has to be
      * done anymore. It just has to wait the VMs to finish
      * the migration.
      *
-     * @param excludedHosts the Hosts that have to be ignored when looking for the under utilized Host
-     * @return the most under utilized host or {@link Host#NULL} if no Host is found
+     * <p>The underloaded Hosts are got already sorted from an index
+     * that is updated just when the utilization of some Host changes,
+     * instead of checking and sorting all Hosts at every call.</p>
+     *
+     * @param excludedHosts the Hosts that have to be ignored when looking for the under utilized Hosts
+     * @return a queue of under utilized Hosts, where the head is the most under utilized one
      */
-    private Host getUnderloadedHost(final Set<? extends Host> excludedHosts) {
-        return this.getHostList().stream()
+    private Queue<Host> getUnderloadedHosts(final Set<? extends Host> excludedHosts) {
+        return hostIndex.getUnderloadedHosts()
             .filter(host -> !excludedHosts.contains(host))
             .filter(Host::isActive)
             .filter(this::isHostUnderloaded)
             .filter(host -> host.getVmsMigratingIn().isEmpty())
             .filter(this::notAllVmsAreMigratingOut)
-            .min(comparingDouble(Host::getCpuPercentUtilization))
-            .orElse(Host.NULL);
+            .collect(toCollection(ArrayDeque::new));
     }
 
     private double getHostCpuPercentRequested(final Host host) {
-        return getHostTotalRequestedMips(host) / host.getTotalMipsCapacity();
-    }
-
-    /**
-     * Gets the total MIPS that is currently being used by all VMs inside the Host.
-     * @param host
-     * @return
-     */
-    private double getHostTotalRequestedMips(final Host host) {
-        return host.getVmList().stream()
-            .mapToDouble(Vm::getCurrentRequestedTotalMips)
-            .sum();
+        return host.getCpuPercentRequested();
     }
 
     /**
@@ -736,6 +787,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         }
 
         this.underUtilizationThreshold = underUtilizationThreshold;
+        hostIndex.setUnderUtilizationThreshold(underUtilizationThreshold);
     }
 
     @Override
@@ -2,13 +2,24 @@ package org.cloudbus.cloudsim.allocationpolicies.migration;
 
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicy;
+import org.cloudbus.cloudsim.util.SlidingWindowStatistics;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * An abstract class that is the base for implementation of VM allocation policies which use
  * a dynamic over utilization threshold.
  *
+ * <p>The CPU utilization history of each Host is kept into a {@link SlidingWindowStatistics}
+ * with the last {@link #getUtilizationWindowSize()} utilization samples,
+ * which is fed as the Host processes its VMs.
+ * This way, statistics such as the MAD and IQR are updated incrementally,
+ * instead of being computed from the entire history at every evaluation.</p>
+ *
  * @author Manoel Campos da Silva Filho
  */
 public abstract class VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit extends VmAllocationPolicyMigrationAbstract
@@ -24,6 +35,24 @@ public abstract class VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit e
      */
     private VmAllocationPolicyMigration fallbackVmAllocationPolicy;
 
+    /**
+     * The default number of CPU utilization samples of each Host
+     * used to compute the dynamic over utilization threshold.
+     */
+    public static final int DEF_UTILIZATION_WINDOW_SIZE = 12;
+
+    /**
+     * @see #getUtilizationWindowSize()
+     */
+    private final int utilizationWindowSize;
+
+    /**
+     * A map where each key is a Host and each value is the
+     * sliding window with the last CPU utilization samples of that Host.
+     * @see #getHostUtilizationWindow(Host)
+     */
+    private final Map<Host, SlidingWindowStatistics> utilizationWindows;
+
     /**
      * Creates a VmAllocationPolicyMigrationDynamicUpperThreshold
      * with a {@link #getSafetyParameter() safety parameter} equals to 0
@@ -47,10 +76,35 @@ public abstract class VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit e
         final VmSelectionPolicy vmSelectionPolicy,
         final double safetyParameter,
         final VmAllocationPolicyMigration fallbackVmAllocationPolicy)
+    {
+        this(vmSelectionPolicy, safetyParameter, fallbackVmAllocationPolicy, DEF_UTILIZATION_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a VmAllocationPolicyMigrationDynamicUpperThreshold.
+     *
+     * @param vmSelectionPolicy          the policy that defines how VMs are selected for migration
+     * @param safetyParameter            the safety parameter
+     * @param fallbackVmAllocationPolicy the fallback VM allocation policy to be used when
+     * the over utilization host detection doesn't have data to be computed
+     * @param utilizationWindowSize      the number of CPU utilization samples of each Host
+     *                                   used to compute the dynamic over utilization threshold
+     */
+    public VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit(
+        final VmSelectionPolicy vmSelectionPolicy,
+        final double safetyParameter,
+        final VmAllocationPolicyMigration fallbackVmAllocationPolicy,
+        final int utilizationWindowSize)
     {
         super(vmSelectionPolicy);
+        if(utilizationWindowSize <= 0){
+            throw new IllegalArgumentException("The utilization window size must be greater than zero.");
+        }
+
         setSafetyParameter(safetyParameter);
         setFallbackVmAllocationPolicy(fallbackVmAllocationPolicy);
+        this.utilizationWindowSize = utilizationWindowSize;
+        this.utilizationWindows = new HashMap<>();
     }
 
     /**
@@ -115,4 +169,79 @@ public abstract class VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit e
     public VmAllocationPolicyMigration getFallbackVmAllocationPolicy() {
         return fallbackVmAllocationPolicy;
     }
+
+    /**
+     * Gets the number of CPU utilization samples of each Host
+     * used to compute the dynamic over utilization threshold.
+     * @return
+     */
+    public int getUtilizationWindowSize() {
+        return utilizationWindowSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     * It also starts collecting the CPU utilization samples of the Host
+     * if the VM is the first one allocated to it.
+     *
+     * @param vm {@inheritDoc}
+     * @param host {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean allocateHostForVm(final Vm vm, final Host host) {
+        if(super.allocateHostForVm(vm, host)){
+            getHostUtilizationWindow(host);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the sliding window with the last {@link #getUtilizationWindowSize()} CPU utilization
+     * samples (in scale from 0 to 1) of a given Host.
+     * The window is created when a VM is allocated to that Host for the first time
+     * (or when it's requested, if no VM was allocated to the Host yet).
+     * Since then, one sample is collected each time the Host
+     * updates the processing of its VMs, at most once for every
+     * {@link org.cloudbus.cloudsim.datacenters.Datacenter#getSchedulingInterval() scheduling interval}.
+     *
+     * @param host the Host to get the utilization window
+     * @return the Host utilization window
+     */
+    protected SlidingWindowStatistics getHostUtilizationWindow(final Host host) {
+        return utilizationWindows.computeIfAbsent(host, this::createHostUtilizationWindow);
+    }
+
+    private SlidingWindowStatistics createHostUtilizationWindow(final Host host) {
+        final HostUtilizationWindow window = new HostUtilizationWindow(utilizationWindowSize);
+        host.addOnUpdateProcessingListener(window::collect);
+        return window;
+    }
+
+    /**
+     * A {@link SlidingWindowStatistics} that collects a Host CPU utilization sample
+     * whenever the simulation clock reaches a new scheduling interval boundary
+     * since the previous sample. If the Datacenter has no scheduling interval,
+     * the boundaries are every simulation second.
+     */
+    private static final class HostUtilizationWindow extends SlidingWindowStatistics {
+        private double previousInterval = -1;
+
+        private HostUtilizationWindow(final int capacity) {
+            super(capacity);
+        }
+
+        private void collect(final HostUpdatesVmsProcessingEventInfo info) {
+            final double schedulingInterval = info.getHost().getDatacenter().getSchedulingInterval();
+            final double interval = Math.floor(info.getTime() / (schedulingInterval > 0 ? schedulingInterval : 1));
+            if(interval <= previousInterval){
+                return;
+            }
+
+            add(info.getHost().getCpuPercentUtilization());
+            previousInterval = interval;
+        }
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Title:        CloudSim Toolkit
+ * Description:  CloudSim (Cloud Simulation) Toolkit for Modeling and Simulation of Clouds
+ * Licence:      GPL - http://www.gnu.org/copyleft/gpl.html
+ *
+ * Copyright (c) 2009-2012, The University of Melbourne, Australia
+ */
+package org.cloudbus.cloudsim.allocationpolicies.migration;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicy;
+import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudbus.cloudsim.util.MathUtil;
+import org.cloudbus.cloudsim.util.SlidingWindowStatistics;
+
+/**
+ * A VM allocation policy that uses a
+ * <a href="https://en.wikipedia.org/wiki/Local_regression">Local Regression (LR)</a>
+ * over the Host CPU utilization history to predict the Host utilization
+ * after the time required to migrate its VMs.
+ * A Host is considered overloaded when such a predicted utilization,
+ * multiplied by the {@link #getSafetyParameter() safety parameter}, exceeds 100%.
+ * <b>It's a First Fit policy which selects the first Host found with most efficient power usage to place a given VM.</b>
+ *
+ * <p>The prediction uses the robust local regression from
+ * {@link MathUtil#getRobustLoessParameterEstimates(double...)} over the
+ * {@link #getUtilizationWindowSize() utilization window}, instead of the whole Host history.
+ * Since the robust regression re-weights every sample by its residual,
+ * it can't be incrementally updated and costs O(w) for a window of size w.</p>
+ *
+ * <p>If you are using any algorithms, policies or workload included in the power package please cite
+ * the following paper:
+ * <ul>
+ * <li><a href="https://doi.org/10.1002/cpe.1867">Anton Beloglazov, and Rajkumar Buyya, "Optimal Online Deterministic Algorithms and Adaptive
+ * Heuristics for Energy and Performance Efficient Dynamic Consolidation of Virtual Machines in
+ * Cloud Data Centers", Concurrency and Computation: Practice and Experience (CCPE), Volume 24,
+ * Issue 13, Pages: 1397-1420, John Wiley and Sons, Ltd, New York, USA, 2012</a></li>
+ * </ul>
+ * </p>
+ *
+ * @author Anton Beloglazov
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public class VmAllocationPolicyMigrationLocalRegression extends VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit {
+
+    /**
+     * Creates a VmAllocationPolicyMigrationLocalRegression
+     * with a {@link #getSafetyParameter() safety parameter} equals to 0
+     * and no {@link #getFallbackVmAllocationPolicy() fallback policy}.
+     *
+     * @param vmSelectionPolicy the policy that defines how VMs are selected for migration
+     */
+    public VmAllocationPolicyMigrationLocalRegression(final VmSelectionPolicy vmSelectionPolicy) {
+        super(vmSelectionPolicy);
+    }
+
+    /**
+     * Creates a VmAllocationPolicyMigrationLocalRegression.
+     *
+     * @param vmSelectionPolicy          the policy that defines how VMs are selected for migration
+     * @param safetyParameter            the safety parameter
+     * @param fallbackVmAllocationPolicy the fallback VM allocation policy to be used when
+     * the over utilization host detection doesn't have data to be computed
+     */
+    public VmAllocationPolicyMigrationLocalRegression(
+        final VmSelectionPolicy vmSelectionPolicy,
+        final double safetyParameter,
+        final VmAllocationPolicyMigration fallbackVmAllocationPolicy)
+    {
+        super(vmSelectionPolicy, safetyParameter, fallbackVmAllocationPolicy);
+    }
+
+    /**
+     * Creates a VmAllocationPolicyMigrationLocalRegression.
+     *
+     * @param vmSelectionPolicy          the policy that defines how VMs are selected for migration
+     * @param safetyParameter            the safety parameter
+     * @param fallbackVmAllocationPolicy the fallback VM allocation policy to be used when
+     * the over utilization host detection doesn't have data to be computed
+     * @param utilizationWindowSize      the number of CPU utilization samples of each Host
+     *                                   used to compute the regression
+     */
+    public VmAllocationPolicyMigrationLocalRegression(
+        final VmSelectionPolicy vmSelectionPolicy,
+        final double safetyParameter,
+        final VmAllocationPolicyMigration fallbackVmAllocationPolicy,
+        final int utilizationWindowSize)
+    {
+        super(vmSelectionPolicy, safetyParameter, fallbackVmAllocationPolicy, utilizationWindowSize);
+    }
+
+    /**
+     * Gets a dynamically computed Host over utilization threshold such that
+     * the current Host CPU utilization exceeds the threshold when the predicted
+     * utilization, multiplied by the {@link #getSafetyParameter() safety parameter}, exceeds 100%.
+     * A safety parameter equal to 0 doesn't affect the predicted utilization.
+     *
+     * @param host {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double getOverUtilizationThreshold(final Host host) {
+        try {
+            final double safetyParameter = getSafetyParameter() == 0 ? 1 : getSafetyParameter();
+            final double predictedIncrease = computeHostUtilizationMeasure(host) - host.getCpuPercentUtilization();
+            return 1 / safetyParameter - predictedIncrease;
+        } catch (IllegalStateException e) {
+            return Double.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Predicts the Host CPU utilization after the time required to migrate its VMs,
+     * using a robust local regression over the Host utilization window.
+     *
+     * @param host the host
+     * @return the predicted host CPU utilization percentage
+     * @throws IllegalStateException when there is not enough Host history to compute the regression
+     */
+    @Override
+    public double computeHostUtilizationMeasure(final Host host) throws IllegalStateException {
+        final SlidingWindowStatistics window = getHostUtilizationWindow(host);
+        if (!window.isFull()) {
+            throw new IllegalStateException("There is not enough Host history to compute Host utilization regression");
+        }
+
+        final double schedulingInterval = getDatacenter().getSchedulingInterval();
+        final double migrationIntervals =
+            Math.ceil(getMaxVmMigrationTime(host) / (schedulingInterval > 0 ? schedulingInterval : 1));
+        final double[] estimates = MathUtil.getRobustLoessParameterEstimates(window.getValues());
+        return estimates[0] + estimates[1] * (window.size() + migrationIntervals);
+    }
+
+    /**
+     * Gets the maximum time to migrate any VM currently placed into a given Host,
+     * using the share of the Host bandwidth reserved for VM migration.
+     *
+     * @param host the Host to get the maximum VM migration time
+     * @return the maximum migration time (in seconds)
+     */
+    private double getMaxVmMigrationTime(final Host host) {
+        final double migrationBw =
+            Conversion.bitesToBytes(host.getBw().getCapacity() * getDatacenter().getBandwidthPercentForMigration());
+        return host.getVmList().stream()
+                   .mapToDouble(vm -> vm.getRam().getCapacity() / migrationBw)
+                   .max()
+                   .orElse(0);
+    }
+}
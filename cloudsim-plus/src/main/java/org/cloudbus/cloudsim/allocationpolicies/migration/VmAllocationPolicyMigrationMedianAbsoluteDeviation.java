@@ -0,0 +1,99 @@
+/*
+ * Title:        CloudSim Toolkit
+ * Description:  CloudSim (Cloud Simulation) Toolkit for Modeling and Simulation of Clouds
+ * Licence:      GPL - http://www.gnu.org/copyleft/gpl.html
+ *
+ * Copyright (c) 2009-2012, The University of Melbourne, Australia
+ */
+package org.cloudbus.cloudsim.allocationpolicies.migration;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicy;
+import org.cloudbus.cloudsim.util.SlidingWindowStatistics;
+
+/**
+ * A VM allocation policy that uses the
+ * <a href="https://en.wikipedia.org/wiki/Median_absolute_deviation">Median Absolute Deviation (MAD)</a>
+ * of the Host CPU utilization history to compute
+ * a dynamic over utilization threshold.
+ * <b>It's a First Fit policy which selects the first Host found with most efficient power usage to place a given VM.</b>
+ *
+ * <p>If you are using any algorithms, policies or workload included in the power package please cite
+ * the following paper:
+ * <ul>
+ * <li><a href="https://doi.org/10.1002/cpe.1867">Anton Beloglazov, and Rajkumar Buyya, "Optimal Online Deterministic Algorithms and Adaptive
+ * Heuristics for Energy and Performance Efficient Dynamic Consolidation of Virtual Machines in
+ * Cloud Data Centers", Concurrency and Computation: Practice and Experience (CCPE), Volume 24,
+ * Issue 13, Pages: 1397-1420, John Wiley and Sons, Ltd, New York, USA, 2012</a></li>
+ * </ul>
+ * </p>
+ *
+ * @author Anton Beloglazov
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public class VmAllocationPolicyMigrationMedianAbsoluteDeviation extends VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit {
+
+    /**
+     * Creates a VmAllocationPolicyMigrationMedianAbsoluteDeviation
+     * with a {@link #getSafetyParameter() safety parameter} equals to 0
+     * and no {@link #getFallbackVmAllocationPolicy() fallback policy}.
+     *
+     * @param vmSelectionPolicy the policy that defines how VMs are selected for migration
+     */
+    public VmAllocationPolicyMigrationMedianAbsoluteDeviation(final VmSelectionPolicy vmSelectionPolicy) {
+        super(vmSelectionPolicy);
+    }
+
+    /**
+     * Creates a VmAllocationPolicyMigrationMedianAbsoluteDeviation.
+     *
+     * @param vmSelectionPolicy          the policy that defines how VMs are selected for migration
+     * @param safetyParameter            the safety parameter
+     * @param fallbackVmAllocationPolicy the fallback VM allocation policy to be used when
+     * the over utilization host detection doesn't have data to be computed
+     */
+    public VmAllocationPolicyMigrationMedianAbsoluteDeviation(
+        final VmSelectionPolicy vmSelectionPolicy,
+        final double safetyParameter,
+        final VmAllocationPolicyMigration fallbackVmAllocationPolicy)
+    {
+        super(vmSelectionPolicy, safetyParameter, fallbackVmAllocationPolicy);
+    }
+
+    /**
+     * Creates a VmAllocationPolicyMigrationMedianAbsoluteDeviation.
+     *
+     * @param vmSelectionPolicy          the policy that defines how VMs are selected for migration
+     * @param safetyParameter            the safety parameter
+     * @param fallbackVmAllocationPolicy the fallback VM allocation policy to be used when
+     * the over utilization host detection doesn't have data to be computed
+     * @param utilizationWindowSize      the number of CPU utilization samples of each Host
+     *                                   used to compute the MAD
+     */
+    public VmAllocationPolicyMigrationMedianAbsoluteDeviation(
+        final VmSelectionPolicy vmSelectionPolicy,
+        final double safetyParameter,
+        final VmAllocationPolicyMigration fallbackVmAllocationPolicy,
+        final int utilizationWindowSize)
+    {
+        super(vmSelectionPolicy, safetyParameter, fallbackVmAllocationPolicy, utilizationWindowSize);
+    }
+
+    /**
+     * Computes the host utilization MAD used for generating the host over utilization threshold.
+     *
+     * @param host the host
+     * @return the host CPU utilization percentage MAD
+     * @throws IllegalStateException when there is not enough Host history to compute the MAD
+     */
+    @Override
+    public double computeHostUtilizationMeasure(final Host host) throws IllegalStateException {
+        final SlidingWindowStatistics window = getHostUtilizationWindow(host);
+        if (!window.isFull()) {
+            throw new IllegalStateException("There is not enough Host history to compute Host utilization MAD");
+        }
+
+        return window.getMad();
+    }
+}
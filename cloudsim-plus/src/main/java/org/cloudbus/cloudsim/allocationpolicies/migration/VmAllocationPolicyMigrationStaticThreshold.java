@@ -117,4 +117,17 @@ public class VmAllocationPolicyMigrationStaticThreshold extends VmAllocationPoli
         return overUtilizationThreshold;
     }
 
+    /**
+     * {@inheritDoc}
+     * Sub-classes that compute a different {@link #getOverUtilizationThreshold(Host) threshold}
+     * for each Host (or that change how {@link #isHostOverloaded(Host)} works)
+     * must override this method to return {@link Double#NaN}.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected double getStaticOverUtilizationThreshold() {
+        return overUtilizationThreshold;
+    }
+
 }
@@ -0,0 +1,116 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+
+import java.util.AbstractList;
+
+/**
+ * A list of Cloudlets stored as a circular buffer that keeps just the last Cloudlets added,
+ * according to a {@link CloudletRetentionPolicy}.
+ * When the list is full, adding a Cloudlet evicts the oldest one in constant time.
+ * It also counts every Cloudlet ever added, independently of how many are kept.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+final class CloudletRetentionList extends AbstractList<Cloudlet> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Cloudlet[] elements;
+
+    /** The index inside {@link #elements} of the oldest Cloudlet. */
+    private int head;
+
+    private int size;
+
+    /** @see #getAddedCount() */
+    private long addedCount;
+
+    private CloudletRetentionPolicy policy;
+
+    CloudletRetentionList() {
+        this.elements = new Cloudlet[INITIAL_CAPACITY];
+        this.policy = CloudletRetentionPolicy.KEEP_ALL;
+    }
+
+    /**
+     * Sets the policy defining how many Cloudlets are kept,
+     * evicting the oldest ones if the list has more Cloudlets than allowed.
+     * @param policy the policy to set
+     */
+    void setPolicy(final CloudletRetentionPolicy policy) {
+        this.policy = policy;
+        while (size > policy.getLimit()) {
+            removeOldest();
+        }
+    }
+
+    /**
+     * Gets the total number of Cloudlets added to the list,
+     * including the ones not kept anymore.
+     * @return
+     */
+    long getAddedCount() {
+        return addedCount;
+    }
+
+    @Override
+    public boolean add(final Cloudlet cloudlet) {
+        addedCount++;
+        final int limit = policy.getLimit();
+        if (limit == 0) {
+            return true;
+        }
+
+        if (size == limit) {
+            removeOldest();
+        } else if (size == elements.length) {
+            grow();
+        }
+
+        elements[(head + size) % elements.length] = cloudlet;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    private void removeOldest() {
+        elements[head] = null;
+        head = (head + 1) % elements.length;
+        size--;
+        modCount++;
+    }
+
+    private void grow() {
+        final int capacity = (int) Math.min((long) policy.getLimit(), elements.length * 2L);
+        final Cloudlet[] grown = new Cloudlet[capacity];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[(head + i) % elements.length];
+        }
+
+        elements = grown;
+        head = 0;
+    }
+
+    @Override
+    public Cloudlet get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return elements[(head + index) % elements.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        elements = new Cloudlet[INITIAL_CAPACITY];
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+}
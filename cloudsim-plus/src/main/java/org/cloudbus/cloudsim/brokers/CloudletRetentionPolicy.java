@@ -0,0 +1,69 @@
+package org.cloudbus.cloudsim.brokers;
+
+/**
+ * Defines how many Cloudlets a {@link DatacenterBroker} keeps inside its
+ * {@link DatacenterBroker#getCloudletCreatedList() created} and
+ * {@link DatacenterBroker#getCloudletFinishedList() finished} Cloudlet lists.
+ *
+ * <p>By default, every Cloudlet is kept for the whole simulation execution ({@link #KEEP_ALL}).
+ * For simulations with a huge number of Cloudlets (such as long trace replays),
+ * keeping every Cloudlet may exhaust the memory. In such cases, a policy
+ * such as {@link #KEEP_NONE} or {@link #keepLast(int)} can be used,
+ * while finished Cloudlets can be aggregated or stored as soon as they finish
+ * by a {@link DatacenterBroker#addCloudletFinishedConsumer(java.util.function.Consumer) consumer}.
+ * The {@link DatacenterBroker#getCloudletCreatedCount() number of created}
+ * and {@link DatacenterBroker#getCloudletFinishedCount() finished Cloudlets}
+ * is available independently of the policy.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ * @see DatacenterBroker#setCloudletRetentionPolicy(CloudletRetentionPolicy)
+ */
+public final class CloudletRetentionPolicy {
+    /**
+     * A policy that keeps every Cloudlet into the broker lists.
+     */
+    public static final CloudletRetentionPolicy KEEP_ALL = new CloudletRetentionPolicy(Integer.MAX_VALUE);
+
+    /**
+     * A policy that doesn't keep any Cloudlet into the broker lists.
+     */
+    public static final CloudletRetentionPolicy KEEP_NONE = new CloudletRetentionPolicy(0);
+
+    /** @see #getLimit() */
+    private final int limit;
+
+    private CloudletRetentionPolicy(final int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a policy that keeps just the last N Cloudlets added to each broker list.
+     * @param limit the maximum number of Cloudlets to keep into each list
+     * @return the new policy
+     */
+    public static CloudletRetentionPolicy keepLast(final int limit) {
+        if(limit < 0){
+            throw new IllegalArgumentException("The number of Cloudlets to keep cannot be negative.");
+        }
+
+        return limit == 0 ? KEEP_NONE : new CloudletRetentionPolicy(limit);
+    }
+
+    /**
+     * Gets the maximum number of Cloudlets kept into each broker list.
+     * @return
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        if(limit == Integer.MAX_VALUE) {
+            return "KEEP_ALL";
+        }
+
+        return limit == 0 ? "KEEP_NONE" : "KEEP_LAST_" + limit;
+    }
+}
@@ -7,6 +7,7 @@
 package org.cloudbus.cloudsim.brokers;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.SimEntity;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
@@ -20,6 +21,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -78,12 +80,59 @@ public interface DatacenterBroker extends SimEntity {
     /**
      * Gets a <b>copy</b> of the list of cloudlets that have finished executing,
      * to avoid the original list to be changed.
+     * The list has just the Cloudlets kept according to the {@link #getCloudletRetentionPolicy()}.
      *
      * @param <T> the class of Cloudlets inside the list
      * @return the list of finished cloudlets
+     * @see #getCloudletFinishedCount()
      */
     <T extends Cloudlet> List<T> getCloudletFinishedList();
 
+    /**
+     * Gets the number of Cloudlets created inside some VM,
+     * independently of how many of them are kept into the {@link #getCloudletCreatedList()}.
+     * @return the total number of created Cloudlets
+     */
+    long getCloudletCreatedCount();
+
+    /**
+     * Gets the number of Cloudlets that have finished executing,
+     * independently of how many of them are kept into the {@link #getCloudletFinishedList()}.
+     * @return the total number of finished Cloudlets
+     */
+    long getCloudletFinishedCount();
+
+    /**
+     * Gets the policy that defines how many Cloudlets are kept into the
+     * {@link #getCloudletCreatedList() created} and {@link #getCloudletFinishedList() finished} lists.
+     * @return the Cloudlet retention policy
+     */
+    CloudletRetentionPolicy getCloudletRetentionPolicy();
+
+    /**
+     * Sets the policy that defines how many Cloudlets are kept into the
+     * {@link #getCloudletCreatedList() created} and {@link #getCloudletFinishedList() finished} lists.
+     * Cloudlets exceeding the limit of the given policy are immediately removed from such lists.
+     * Unless the policy is {@link CloudletRetentionPolicy#KEEP_ALL}, finished Cloudlets
+     * are also removed from the {@link #getCloudletSubmittedList() submitted list}.
+     *
+     * @param policy the Cloudlet retention policy to set
+     * @return this broker
+     * @see #addCloudletFinishedConsumer(Consumer)
+     */
+    DatacenterBroker setCloudletRetentionPolicy(CloudletRetentionPolicy policy);
+
+    /**
+     * Adds a {@link Consumer} that receives each Cloudlet once, when it finishes and returns to the broker,
+     * independently of the {@link #getCloudletRetentionPolicy()}.
+     * It enables finished Cloudlets to be aggregated or stored as they finish,
+     * without keeping all of them in memory.
+     *
+     * @param consumer the consumer to add
+     * @return this broker
+     */
+    DatacenterBroker addCloudletFinishedConsumer(Consumer<Cloudlet> consumer);
+
     /**
      * Gets a VM from the waiting list.
      * @param index the index of the VM to get
@@ -130,6 +179,19 @@ public interface DatacenterBroker extends SimEntity {
      */
     DatacenterBroker requestIdleVmDestruction(Vm vm);
 
+    /**
+     * Notifies the broker that a VM started or stopped being idle,
+     * that is, its {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler} execution list
+     * became non-empty or empty.
+     * It's called by the VM's CloudletScheduler so that the broker can track idle VMs
+     * without looping through all running VMs.
+     * The default implementation does nothing, for brokers that don't track idle VMs.
+     *
+     * @param vm the VM whose idleness changed
+     * @see #requestIdleVmDestruction(Vm)
+     */
+    default void updateVmIdleness(final Vm vm) {/**/}
+
     /**
      * Requests the broker shutdown if it's idle.
     */
@@ -343,7 +405,9 @@ public interface DatacenterBroker extends SimEntity {
 
     /**
      * Gets a <b>read-only</b> list of cloudlets created inside some Vm.
+     * The list has just the Cloudlets kept according to the {@link #getCloudletRetentionPolicy()}.
      * @return the list of created Cloudlets
+     * @see #getCloudletCreatedCount()
      */
     List<Cloudlet> getCloudletCreatedList();
 
@@ -423,6 +487,14 @@ public interface DatacenterBroker extends SimEntity {
      */
     DatacenterBroker setVmDestructionDelayFunction(Function<Vm, Double> function);
 
+    /**
+     * Gets the list of Cloudlets submitted to the broker.
+     * If the {@link #getCloudletRetentionPolicy()} isn't {@link CloudletRetentionPolicy#KEEP_ALL},
+     * finished Cloudlets are removed from this list after they return to the broker,
+     * so that the list has just the Cloudlets that may still be executed.
+     *
+     * @return the list of submitted Cloudlets
+     */
     List<Cloudlet> getCloudletSubmittedList();
 
     /**
@@ -470,4 +542,29 @@ public interface DatacenterBroker extends SimEntity {
      * @return
      */
     DatacenterBroker setShutdownWhenIdle(boolean shutdownWhenIdle);
+
+    /**
+     * Checks if the broker sends VM creation and Cloudlet submission requests in batches.
+     * @return true if batch requests are enabled, false otherwise
+     * @see #setBatchRequestsEnabled(boolean)
+     */
+    boolean isBatchRequestsEnabled();
+
+    /**
+     * Enables or disables the submission of VM creation and Cloudlet submission requests in batches.
+     * When enabled, instead of sending one event for each VM or Cloudlet,
+     * the broker sends a single {@link CloudSimTags#VM_CREATE_BATCH_ACK} or
+     * {@link CloudSimTags#CLOUDLET_SUBMIT_BATCH} event
+     * to each Datacenter, for all VMs or Cloudlets having the same submission delay.
+     * This way, the Datacenter may place the whole batch of VMs in a single allocation pass
+     * and reply with a single ack, reducing the number of events in large scale simulations.
+     * Listeners registered for individual VMs and Cloudlets are notified just as
+     * when batch requests are disabled.
+     *
+     * <p>Batch requests are disabled by default.</p>
+     *
+     * @param enabled true to enable batch requests, false to disable
+     * @return
+     */
+    DatacenterBroker setBatchRequestsEnabled(boolean enabled);
 }
@@ -27,6 +27,7 @@ import org.cloudsimplus.traces.google.GoogleTaskEventsTraceReader;
 
 import java.util.*;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
@@ -89,7 +90,24 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     private final List<Vm> vmWaitingList;
 
     /** @see #getVmExecList() */
-    private final List<Vm> vmExecList;
+    private final VmExecList vmExecList;
+
+    /**
+     * The VMs from the {@link #vmExecList} that don't have any Cloudlet in execution,
+     * where each key is the order the VM was added to such a list.
+     * This way, idle VMs are checked for destruction without looping through all running VMs
+     * and in the same order they are in that list.
+     * @see #updateVmIdleness(Vm)
+     */
+    private final NavigableMap<Long, Vm> idleVms;
+
+    /**
+     * A map where each key is a VM that has an event scheduled to check if it's idle enough to be destroyed,
+     * and each value is the time of such an event.
+     * It enables scheduling at most one verification for each idle period of a VM.
+     * @see #isVmIdlenessVerificationRequired(VmSimple)
+     */
+    private final Map<Vm, Double> vmIdlenessVerificationTimes;
 
     /** @see #getVmCreatedList() */
     private final List<Vm> vmCreatedList;
@@ -100,11 +118,24 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     /** @see #getCloudletSubmittedList() */
     private final List<Cloudlet> cloudletSubmittedList;
 
+    /**
+     * Number of Cloudlets returned to the broker since finished Cloudlets were last
+     * removed from the {@link #getCloudletSubmittedList()}.
+     * @see #dropFinishedCloudletsFromSubmittedList()
+     */
+    private int cloudletsReturnedSinceSubmittedListCleanup;
+
     /** @see #getCloudletFinishedList() */
-    private final List<Cloudlet> cloudletsFinishedList;
+    private final CloudletRetentionList cloudletsFinishedList;
 
     /** @see #getCloudletCreatedList() () */
-    private final List<Cloudlet> cloudletsCreatedList;
+    private final CloudletRetentionList cloudletsCreatedList;
+
+    /** @see #getCloudletRetentionPolicy() */
+    private CloudletRetentionPolicy cloudletRetentionPolicy;
+
+    /** @see #addCloudletFinishedConsumer(Consumer) */
+    private final List<Consumer<Cloudlet>> cloudletFinishedConsumers;
 
     /**
      * Checks if the last time checked, there were waiting cloudlets or not.
@@ -148,6 +179,21 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     /** @see #isShutdownWhenIdle()  */
     private boolean shutdownWhenIdle;
 
+    /** @see #isBatchRequestsEnabled() */
+    private boolean batchRequestsEnabled;
+
+    /**
+     * VMs waiting to be sent to each Datacenter in a single {@link CloudSimTags#VM_CREATE_BATCH_ACK} event,
+     * grouped by submission delay, when {@link #isBatchRequestsEnabled() batch requests are enabled}.
+     */
+    private final Map<Datacenter, Map<Double, List<Vm>>> vmCreationBatches;
+
+    /**
+     * Cloudlets waiting to be sent to each Datacenter in a single {@link CloudSimTags#CLOUDLET_SUBMIT_BATCH} event,
+     * grouped by submission delay, when {@link #isBatchRequestsEnabled() batch requests are enabled}.
+     */
+    private final Map<Datacenter, Map<Double, List<Cloudlet>>> cloudletSubmissionBatches;
+
     /**
      * Creates a DatacenterBroker giving a specific name.
      * Subclasses usually should provide this constructor and
@@ -175,12 +221,18 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.retryFailedVms = true;
         this.vmFailedList = new ArrayList<>();
         this.vmWaitingList = new ArrayList<>();
-        this.vmExecList = new ArrayList<>();
+        this.idleVms = new TreeMap<>();
+        this.vmIdlenessVerificationTimes = new HashMap<>();
+        this.vmExecList = new VmExecList();
         this.vmCreatedList = new ArrayList<>();
         this.cloudletWaitingList = new ArrayList<>();
-        this.cloudletsFinishedList = new ArrayList<>();
-        this.cloudletsCreatedList = new ArrayList<>();
+        this.cloudletsFinishedList = new CloudletRetentionList();
+        this.cloudletsCreatedList = new CloudletRetentionList();
+        this.cloudletRetentionPolicy = CloudletRetentionPolicy.KEEP_ALL;
+        this.cloudletFinishedConsumers = new ArrayList<>();
         this.cloudletSubmittedList = new ArrayList<>();
+        this.vmCreationBatches = new LinkedHashMap<>();
+        this.cloudletSubmissionBatches = new LinkedHashMap<>();
         setDatacenterList(new TreeSet<>());
 
         setDatacenterMapper(this::defaultDatacenterMapper);
@@ -485,6 +537,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             case CloudSimTags.VM_CREATE_ACK:
                 processVmCreateResponseFromDatacenter(evt);
                 return true;
+            case CloudSimTags.VM_CREATE_BATCH_ACK:
+                processVmCreateBatchResponseFromDatacenter(evt);
+                return true;
             case CloudSimTags.VM_VERTICAL_SCALING:
                 requestVmVerticalScaling(evt);
                 return true;
@@ -628,7 +683,31 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @return true if the VM was created successfully, false otherwise
      */
     private boolean processVmCreateResponseFromDatacenter(final SimEvent evt) {
-        final Vm vm = (Vm) evt.getData();
+        return processVmCreateResponseFromDatacenter((Vm) evt.getData());
+    }
+
+    /**
+     * Process the single ack received from a Datacenter to a broker's request for
+     * creation of a batch of Vms in that Datacenter.
+     * Each Vm in the batch is processed just as if an individual
+     * {@link CloudSimTags#VM_CREATE_ACK} was received for it.
+     *
+     * @param evt a CloudSimEvent object, whose data is a List of Vms
+     */
+    private void processVmCreateBatchResponseFromDatacenter(final SimEvent evt) {
+        for (final Object vm : (List<?>) evt.getData()) {
+            processVmCreateResponseFromDatacenter((Vm) vm);
+        }
+    }
+
+    /**
+     * Process the ack received from a Datacenter to a broker's request for
+     * creation of a given Vm in that Datacenter.
+     *
+     * @param vm the Vm requested to be created
+     * @return true if the VM was created successfully, false otherwise
+     */
+    private boolean processVmCreateResponseFromDatacenter(final Vm vm) {
         vmCreationAcks++;
 
         //if the VM was successfully created in the requested Datacenter
@@ -719,6 +798,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             this.vmCreationRequests += requestVmCreation(lastSelectedDc, isFallbackDatacenter, vm);
         }
 
+        sendBatches(vmCreationBatches, CloudSimTags.VM_CREATE_BATCH_ACK);
         return lastSelectedDc != Datacenter.NULL;
     }
 
@@ -764,7 +844,17 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     private void processCloudletReturn(final SimEvent evt) {
         final Cloudlet cloudlet = (Cloudlet) evt.getData();
         cloudletsFinishedList.add(cloudlet);
+        for (final Consumer<Cloudlet> consumer : cloudletFinishedConsumers) {
+            consumer.accept(cloudlet);
+        }
+
+        cloudletsReturnedSinceSubmittedListCleanup++;
+        if(cloudletsReturnedSinceSubmittedListCleanup * 2 >= cloudletSubmittedList.size()){
+            dropFinishedCloudletsFromSubmittedList();
+        }
+
         ((VmSimple) cloudlet.getVm()).addExpectedFreePesNumber(cloudlet.getNumberOfPes());
+        onVmExpectedFreePesNumberChange(cloudlet.getVm());
         LOGGER.info("{}: {}: {} finished in {} and returned to broker.", getSimulation().clockStr(), getName(), cloudlet, cloudlet.getVm());
 
         if (cloudlet.getVm().getCloudletScheduler().isEmpty()) {
@@ -775,13 +865,36 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         requestVmDestructionAfterAllCloudletsFinished();
     }
 
+    /**
+     * Removes finished Cloudlets from the {@link #getCloudletSubmittedList()}
+     * when the {@link #getCloudletRetentionPolicy()} isn't {@link CloudletRetentionPolicy#KEEP_ALL},
+     * so that the broker doesn't keep a reference to every Cloudlet ever submitted.
+     * Since it's called just after half of the Cloudlets in the list have returned,
+     * the cost of removal is amortized among returned Cloudlets.
+     */
+    private void dropFinishedCloudletsFromSubmittedList() {
+        cloudletsReturnedSinceSubmittedListCleanup = 0;
+        if(cloudletRetentionPolicy != CloudletRetentionPolicy.KEEP_ALL) {
+            cloudletSubmittedList.removeIf(Cloudlet::isFinished);
+        }
+    }
+
     /**
      * Request the destruction of VMs after all running cloudlets have finished and returned to the broker.
      * If there is no waiting Cloudlet, request all VMs to be destroyed.
      */
     private void requestVmDestructionAfterAllCloudletsFinished() {
-        for (int i = vmExecList.size() - 1; i >= 0; i--) {
-            requestIdleVmDestruction(vmExecList.get(i));
+        if(isFinished()) {
+            for (int i = vmExecList.size() - 1; i >= 0; i--) {
+                requestIdleVmDestruction(vmExecList.get(i));
+            }
+        } else {
+            /*A VM with some Cloudlet in execution is neither destroyed nor has its idleness verified,
+            * while the broker cannot be shutdown when there are running VMs.
+            * This way, just idle VMs are requested to be destroyed.*/
+            for (final Vm vm : new ArrayList<>(idleVms.descendingMap().values())) {
+                requestIdleVmDestruction(vm);
+            }
         }
 
 
@@ -812,10 +925,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             }
 
             if(isVmIdlenessVerificationRequired((VmSimple)vm)) {
-                getSimulation().send(
-                    new CloudSimEvent(vmDestructionDelayFunction.apply(vm),
-                        vm.getHost().getDatacenter(),
-                        CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING));
+                requestVmIdlenessVerification(vm, delay);
                 return this;
             }
         }
@@ -882,6 +992,41 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return false;
     }
 
+    /**
+     * Sends an event to verify if a VM is idle enough to be destroyed after a given delay,
+     * unless a verification is already scheduled for a later time in the current VM idle period.
+     * @param vm the VM to verify
+     * @param delay the delay to verify the VM idleness
+     */
+    private void requestVmIdlenessVerification(final Vm vm, final double delay) {
+        final double clock = getSimulation().clock();
+        if(vmIdlenessVerificationTimes.getOrDefault(vm, -1.0) > clock){
+            return;
+        }
+
+        vmIdlenessVerificationTimes.put(vm, clock + delay);
+        getSimulation().send(
+            new CloudSimEvent(delay,
+                vm.getHost().getDatacenter(),
+                CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING));
+    }
+
+    @Override
+    public void updateVmIdleness(final Vm vm) {
+        final Long order = vmExecList.getOrder(vm);
+        if(order == null){
+            return;
+        }
+
+        if(vm.getCloudletScheduler().getCloudletExecList().isEmpty()) {
+            idleVms.put(order, vm);
+            return;
+        }
+
+        idleVms.remove(order);
+        vmIdlenessVerificationTimes.remove(vm);
+    }
+
     /**
      * Checks if the broker is still alive and it's idle, so that it may be shutdown
      * @return
@@ -913,11 +1058,56 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         }
 
         logVmCreationRequest(datacenter, isFallbackDatacenter, vm);
-        send(datacenter, vm.getSubmissionDelay(), CloudSimTags.VM_CREATE_ACK, vm);
+        if(batchRequestsEnabled) {
+            addToBatch(vmCreationBatches, datacenter, vm.getSubmissionDelay(), vm);
+        } else {
+            send(datacenter, vm.getSubmissionDelay(), CloudSimTags.VM_CREATE_ACK, vm);
+        }
+
         vm.setLastTriedDatacenter(datacenter);
         return 1;
     }
 
+    /**
+     * Adds an entity to the batch of requests to be sent to a given Datacenter
+     * with a given delay.
+     * @param batches the map of batches where the entity will be added
+     * @param datacenter the Datacenter to send the request to
+     * @param delay the delay to send the request
+     * @param entity the entity to add to the batch
+     * @param <T> the type of the entities in the batch
+     * @see #sendBatches(Map, int)
+     */
+    private <T> void addToBatch(
+        final Map<Datacenter, Map<Double, List<T>>> batches,
+        final Datacenter datacenter, final double delay, final T entity)
+    {
+        batches.computeIfAbsent(datacenter, dc -> new LinkedHashMap<>())
+               .computeIfAbsent(delay, d -> new ArrayList<>())
+               .add(entity);
+    }
+
+    /**
+     * Sends a single event for each batch of requests previously added by
+     * {@link #addToBatch(Map, Datacenter, double, Object)}, then clears the batches.
+     * @param batches the map of batches to send
+     * @param tag the tag of the events to send
+     * @param <T> the type of the entities in the batches
+     */
+    private <T> void sendBatches(final Map<Datacenter, Map<Double, List<T>>> batches, final int tag) {
+        if(batches.isEmpty()) {
+            return;
+        }
+
+        for (final Map.Entry<Datacenter, Map<Double, List<T>>> dcEntry : batches.entrySet()) {
+            for (final Map.Entry<Double, List<T>> delayEntry : dcEntry.getValue().entrySet()) {
+                send(dcEntry.getKey(), delayEntry.getKey(), tag, delayEntry.getValue());
+            }
+        }
+
+        batches.clear();
+    }
+
     private void logVmCreationRequest(final Datacenter datacenter, final boolean isFallbackDatacenter, final Vm vm) {
         final String fallbackMsg = isFallbackDatacenter ? " (due to lack of a suitable Host in previous one)" : "";
         if(vm.getSubmissionDelay() == 0)
@@ -962,19 +1152,37 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             }
 
             ((VmSimple) lastSelectedVm).removeExpectedFreePesNumber(cloudlet.getNumberOfPes());
+            onVmExpectedFreePesNumberChange(lastSelectedVm);
 
             logCloudletCreationRequest(cloudlet);
             cloudlet.setVm(lastSelectedVm);
-            send(getDatacenter(lastSelectedVm),
-                cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
-            cloudlet.setLastTriedDatacenter(getDatacenter(lastSelectedVm));
+            final Datacenter datacenter = getDatacenter(lastSelectedVm);
+            if(batchRequestsEnabled) {
+                addToBatch(cloudletSubmissionBatches, datacenter, cloudlet.getSubmissionDelay(), cloudlet);
+            } else {
+                send(datacenter, cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
+            }
+
+            cloudlet.setLastTriedDatacenter(datacenter);
             cloudletsCreatedList.add(cloudlet);
             it.remove();
         }
 
+        sendBatches(cloudletSubmissionBatches, CloudSimTags.CLOUDLET_SUBMIT_BATCH);
+
         allWaitingCloudletsSubmittedToVm();
     }
 
+    /**
+     * Called after the broker changes the {@link Vm#getExpectedFreePesNumber() expected free PEs}
+     * of a VM, due to a Cloudlet being mapped to it or returned from it.
+     * Subclasses which keep VMs indexed by such a number may override this method
+     * to update that index. The default implementation does nothing.
+     *
+     * @param vm the VM which had its expected free PEs changed
+     */
+    protected void onVmExpectedFreePesNumberChange(final Vm vm) {/**/}
+
     private void logPostponingCloudletExecution(final Cloudlet cloudlet) {
         final String vmMsg = cloudlet.getVm() == Vm.NULL ?
                                 "it couldn't be mapped to any VM" :
@@ -1040,6 +1248,105 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return (List<T>) vmExecList;
     }
 
+    /**
+     * A list of running VMs which keeps the order each VM was added,
+     * in order to keep the {@link #idleVms} sorted in the same order of the list.
+     * Since VMs are usually just appended or removed, that order is the same as the list order.
+     * Every structural change goes through {@link #add(int, Vm)}, {@link #set(int, Vm)}
+     * or {@link #remove(int)} (including {@code remove(Object)}, {@code removeIf}, {@code removeAll}
+     * and iterator removals, which are inherited from {@link AbstractList}),
+     * so that the idle VMs are always updated.
+     */
+    private final class VmExecList extends AbstractList<Vm> implements RandomAccess {
+        private final List<Vm> vms = new ArrayList<>();
+        private final Map<Vm, Long> orders = new HashMap<>();
+        private long nextOrder;
+
+        /**
+         * Gets the order a VM was added to the list.
+         * @param vm the VM to get its order
+         * @return the VM order or null if the VM is not in the list
+         */
+        private Long getOrder(final Vm vm) {
+            return orders.get(vm);
+        }
+
+        @Override
+        public Vm get(final int index) {
+            return vms.get(index);
+        }
+
+        @Override
+        public int size() {
+            return vms.size();
+        }
+
+        @Override
+        public void add(final int index, final Vm vm) {
+            vms.add(index, vm);
+            modCount++;
+            track(vm);
+        }
+
+        @Override
+        public Vm set(final int index, final Vm vm) {
+            final Vm previous = vms.set(index, vm);
+            if(previous != vm) {
+                untrack(previous);
+                track(vm);
+            }
+
+            return previous;
+        }
+
+        @Override
+        public Vm remove(final int index) {
+            final Vm vm = vms.remove(index);
+            modCount++;
+            untrack(vm);
+            return vm;
+        }
+
+        /**
+         * {@inheritDoc}
+         * Sorting doesn't change the order the VMs were added, which is used just to
+         * request idle VMs to be destroyed in a deterministic order.
+         * @param comparator {@inheritDoc}
+         */
+        @Override
+        public void sort(final Comparator<? super Vm> comparator) {
+            vms.sort(comparator);
+            modCount++;
+        }
+
+        @Override
+        public void clear() {
+            vms.clear();
+            modCount++;
+            orders.clear();
+            idleVms.clear();
+            vmIdlenessVerificationTimes.clear();
+        }
+
+        private void track(final Vm vm) {
+            final Long previousOrder = orders.put(vm, nextOrder++);
+            if(previousOrder != null){
+                idleVms.remove(previousOrder);
+            }
+
+            updateVmIdleness(vm);
+        }
+
+        private void untrack(final Vm vm) {
+            final Long order = orders.remove(vm);
+            if(order != null){
+                idleVms.remove(order);
+            }
+
+            vmIdlenessVerificationTimes.remove(vm);
+        }
+    }
+
     @Override
     public <T extends Vm> List<T> getVmWaitingList() {
         return (List<T>) vmWaitingList;
@@ -1068,6 +1375,36 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return (List<T>) new ArrayList<>(cloudletsFinishedList);
     }
 
+    @Override
+    public long getCloudletCreatedCount() {
+        return cloudletsCreatedList.getAddedCount();
+    }
+
+    @Override
+    public long getCloudletFinishedCount() {
+        return cloudletsFinishedList.getAddedCount();
+    }
+
+    @Override
+    public CloudletRetentionPolicy getCloudletRetentionPolicy() {
+        return cloudletRetentionPolicy;
+    }
+
+    @Override
+    public DatacenterBroker setCloudletRetentionPolicy(final CloudletRetentionPolicy policy) {
+        this.cloudletRetentionPolicy = requireNonNull(policy);
+        cloudletsCreatedList.setPolicy(policy);
+        cloudletsFinishedList.setPolicy(policy);
+        dropFinishedCloudletsFromSubmittedList();
+        return this;
+    }
+
+    @Override
+    public DatacenterBroker addCloudletFinishedConsumer(final Consumer<Cloudlet> consumer) {
+        cloudletFinishedConsumers.add(requireNonNull(consumer));
+        return this;
+    }
+
     /**
      * Gets a Vm at a given index from the {@link #getVmExecList() list of created VMs}.
      *
@@ -1266,4 +1603,15 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.shutdownWhenIdle = shutdownWhenIdle;
         return this;
     }
+
+    @Override
+    public boolean isBatchRequestsEnabled() {
+        return batchRequestsEnabled;
+    }
+
+    @Override
+    public DatacenterBroker setBatchRequestsEnabled(final boolean enabled) {
+        this.batchRequestsEnabled = enabled;
+        return this;
+    }
 }
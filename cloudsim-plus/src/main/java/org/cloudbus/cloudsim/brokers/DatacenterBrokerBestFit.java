@@ -4,7 +4,7 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.vms.Vm;
 
-import java.util.Comparator;
+import java.util.*;
 
 /**
  * A implementation of {@link DatacenterBroker} that uses a Best Fit
@@ -13,10 +13,32 @@ import java.util.Comparator;
  * The Broker then places the submitted Vm's at the first Datacenter found.
  * If there isn't capacity in that one, it will try the other ones.
  *
+ * <p>Created VMs are kept indexed by their {@link Vm#getExpectedFreePesNumber() expected free PEs},
+ * so that the best fit VM for a Cloudlet is found in logarithmic time,
+ * instead of traversing the whole {@link #getVmCreatedList() list of created VMs}.</p>
+ *
  * @author Humaira Abdul Salam
  * @since CloudSim Plus 4.3.8
  */
 public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
+    /**
+     * Created VMs indexed by their expected free PEs.
+     * VMs with the same number of expected free PEs are sorted by their position
+     * in the {@link #getVmCreatedList() list of created VMs}, so that ties are broken
+     * in favour of the first created VM.
+     */
+    private final NavigableMap<Long, NavigableSet<Vm>> vmsByExpectedFreePes;
+
+    /**
+     * The expected free PEs of each indexed VM at the time it was indexed,
+     * used to find the VM in the {@link #vmsByExpectedFreePes} index.
+     */
+    private final Map<Vm, Long> indexedExpectedFreePes;
+
+    /**
+     * The position of each indexed VM in the {@link #getVmCreatedList() list of created VMs}.
+     */
+    private final Map<Vm, Integer> vmPositions;
 
     /**
      * Creates a DatacenterBroker object.
@@ -25,6 +47,9 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
      */
     public DatacenterBrokerBestFit(final CloudSim simulation) {
         super(simulation);
+        this.vmsByExpectedFreePes = new TreeMap<>();
+        this.indexedExpectedFreePes = new IdentityHashMap<>();
+        this.vmPositions = new IdentityHashMap<>();
     }
 
     /**
@@ -41,11 +66,9 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        final Vm mappedVm = getVmCreatedList()
-            .stream()
-            .filter(vm -> vm.getExpectedFreePesNumber() >= cloudlet.getNumberOfPes())
-            .min(Comparator.comparingLong(Vm::getExpectedFreePesNumber))
-            .orElse(Vm.NULL);
+        indexNewlyCreatedVms();
+        final Map.Entry<Long, NavigableSet<Vm>> entry = vmsByExpectedFreePes.ceilingEntry(cloudlet.getNumberOfPes());
+        final Vm mappedVm = entry == null ? Vm.NULL : entry.getValue().first();
 
         if (mappedVm == Vm.NULL) {
             LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
@@ -58,4 +81,45 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
 
         return mappedVm;
     }
+
+    @Override
+    protected void onVmExpectedFreePesNumberChange(final Vm vm) {
+        final Long previousExpectedFreePes = indexedExpectedFreePes.get(vm);
+        if (previousExpectedFreePes == null || previousExpectedFreePes == vm.getExpectedFreePesNumber()) {
+            return;
+        }
+
+        removeFromIndex(vm, previousExpectedFreePes);
+        addToIndex(vm);
+    }
+
+    /**
+     * Adds to the index the VMs created since the last time this method was called.
+     * Since created VMs are just appended to the {@link #getVmCreatedList() list of created VMs},
+     * only the VMs after the last indexed position are added.
+     */
+    private void indexNewlyCreatedVms() {
+        final List<Vm> vmCreatedList = getVmCreatedList();
+        for (int i = vmPositions.size(); i < vmCreatedList.size(); i++) {
+            final Vm vm = vmCreatedList.get(i);
+            vmPositions.put(vm, i);
+            addToIndex(vm);
+        }
+    }
+
+    private void addToIndex(final Vm vm) {
+        final long expectedFreePes = vm.getExpectedFreePesNumber();
+        indexedExpectedFreePes.put(vm, expectedFreePes);
+        vmsByExpectedFreePes
+            .computeIfAbsent(expectedFreePes, pes -> new TreeSet<>(Comparator.comparingInt(vmPositions::get)))
+            .add(vm);
+    }
+
+    private void removeFromIndex(final Vm vm, final long expectedFreePes) {
+        final NavigableSet<Vm> vms = vmsByExpectedFreePes.get(expectedFreePes);
+        vms.remove(vm);
+        if (vms.isEmpty()) {
+            vmsByExpectedFreePes.remove(expectedFreePes);
+        }
+    }
 }
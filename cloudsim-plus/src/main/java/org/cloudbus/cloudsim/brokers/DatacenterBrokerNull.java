@@ -13,6 +13,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -52,6 +53,11 @@ final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase
     @Override public DatacenterBroker setSelectClosestDatacenter(boolean select) { return this; }
     @Override public boolean isSelectClosestDatacenter() { return false; }
     @Override public List<Cloudlet> getCloudletCreatedList() { return Collections.emptyList(); }
+    @Override public long getCloudletCreatedCount() { return 0; }
+    @Override public long getCloudletFinishedCount() { return 0; }
+    @Override public CloudletRetentionPolicy getCloudletRetentionPolicy() { return CloudletRetentionPolicy.KEEP_ALL; }
+    @Override public DatacenterBroker setCloudletRetentionPolicy(CloudletRetentionPolicy policy) { return this; }
+    @Override public DatacenterBroker addCloudletFinishedConsumer(Consumer<Cloudlet> consumer) { return this; }
     @Override public DatacenterBroker addOnVmsCreatedListener(EventListener<DatacenterBrokerEventInfo> listener) { return this; }
     @Override public DatacenterBroker removeOnVmsCreatedListener(EventListener<? extends EventInfo> listener) { return this; }
     @Override public Function<Vm, Double> getVmDestructionDelayFunction() { return vm -> 0.0; }
@@ -63,6 +69,8 @@ final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase
     @Override public void setRetryFailedVms(boolean retryFailedVms) {/**/}
     @Override public boolean isShutdownWhenIdle() { return false; }
     @Override public DatacenterBroker setShutdownWhenIdle(boolean shutdownWhenIdle) { return this; }
+    @Override public boolean isBatchRequestsEnabled() { return false; }
+    @Override public DatacenterBroker setBatchRequestsEnabled(boolean enabled) { return this; }
     @Override public DatacenterBroker setVmComparator(Comparator<Vm> comparator) { return this; }
     @Override public void setCloudletComparator(Comparator<Cloudlet> comparator) {/**/}
     @Override public DatacenterBroker submitCloudlet(Cloudlet cloudlet) { return this; }
@@ -793,6 +793,15 @@ public interface Cloudlet extends UniquelyIdentifiable, Comparable<Cloudlet>, Cu
      */
     boolean removeOnUpdateProcessingListener(EventListener<CloudletVmEventInfo> listener);
 
+    /**
+     * Checks if there is any listener to be notified every time
+     * the processing of the Cloudlet is updated.
+     *
+     * @return true if there is any listener, false otherwise
+     * @see #addOnUpdateProcessingListener(EventListener)
+     */
+    boolean hasOnUpdateProcessingListeners();
+
     /**
      * Adds a Listener object that will be notified when a cloudlet finishes
      * its execution at a given {@link Vm}.
@@ -20,6 +20,7 @@ import org.cloudsimplus.listeners.CloudletVmEventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -36,14 +37,22 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     private long jobId;
 
     /**
-     * The list of every {@link Datacenter} where the cloudlet has been executed.
-     * In case it starts and finishes executing in a single Datacenter, without
-     * being migrated, this list will have only one item.
+     * The execution information in the last {@link Datacenter} the cloudlet was assigned to,
+     * or {@link CloudletDatacenterExecution#NULL} if it wasn't assigned to any one yet.
+     * Since a Cloudlet usually starts and finishes executing in a single Datacenter,
+     * such information is kept here instead of into a list.
+     */
+    private CloudletDatacenterExecution lastDatacenterExecution;
+
+    /**
+     * The list of every previous {@link Datacenter} where the cloudlet has been executed,
+     * before the {@link #lastDatacenterExecution last one}.
+     * It's just created if the Cloudlet is assigned to more than one Datacenter.
      *
      * @TODO There isn't Cloudlet migration, so this attribute doesn't make sense.
      *       But since a lot of methods uses it, it's removal has to be carefully assessed.
      */
-    private final List<CloudletDatacenterExecution> datacenterExecutionList;
+    private List<CloudletDatacenterExecution> previousDatacenterExecutionList;
 
     /**
      * @see #getLength()
@@ -105,9 +114,14 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     /** @see #getUtilizationModelBw() */
     private UtilizationModel utilizationModelBw;
 
-    private final Set<EventListener<CloudletVmEventInfo>> onStartListeners;
-    private final Set<EventListener<CloudletVmEventInfo>> onFinishListeners;
-    private final Set<EventListener<CloudletVmEventInfo>> onUpdateProcessingListeners;
+    /*
+     * Listener sets are just created when the first listener is added,
+     * since most Cloudlets don't have any one.
+     * Until that, they refer to the shared empty set.
+     */
+    private Set<EventListener<CloudletVmEventInfo>> onStartListeners;
+    private Set<EventListener<CloudletVmEventInfo>> onFinishListeners;
+    private Set<EventListener<CloudletVmEventInfo>> onUpdateProcessingListeners;
 
     /** @see #getSubmissionDelay() */
     private double submissionDelay;
@@ -172,13 +186,8 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      * @param pesNumber number of PEs that Cloudlet will require
      */
     public CloudletAbstract(final long id, final long length, final long pesNumber) {
-        /*
-        Normally, a Cloudlet is only executed on a Datacenter without being
-        migrated to others. Hence, to reduce memory consumption, set the
-        size of this ArrayList to be less than the default one.
-        */
-        this.datacenterExecutionList = new ArrayList<>(2);
-        this.requiredFiles = new LinkedList<>();
+        //The list is just created if a file is required
+        this.requiredFiles = Collections.emptyList();
         this.setId(id);
         this.setJobId(NOT_ASSIGNED);
         this.setNumberOfPes(pesNumber);
@@ -194,9 +203,9 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         setUtilizationModelCpu(new UtilizationModelFull());
         setUtilizationModelRam(UtilizationModel.NULL);
         setUtilizationModelBw(UtilizationModel.NULL);
-        onStartListeners = new HashSet<>();
-        onFinishListeners = new HashSet<>();
-        onUpdateProcessingListeners = new HashSet<>();
+        onStartListeners = Collections.emptySet();
+        onFinishListeners = Collections.emptySet();
+        onUpdateProcessingListeners = Collections.emptySet();
     }
 
     public final Cloudlet reset() {
@@ -211,7 +220,8 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         setVm(Vm.NULL);
         setExecStartTime(0.0);
 
-        datacenterExecutionList.clear();
+        this.lastDatacenterExecution = CloudletDatacenterExecution.NULL;
+        this.previousDatacenterExecutionList = Collections.emptyList();
 
         this.setLastTriedDatacenter(Datacenter.NULL);
         return this;
@@ -235,6 +245,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public Cloudlet addOnUpdateProcessingListener(final EventListener<CloudletVmEventInfo> listener) {
+        this.onUpdateProcessingListeners = mutableListeners(onUpdateProcessingListeners);
         this.onUpdateProcessingListeners.add(requireNonNull(listener));
         return this;
     }
@@ -244,8 +255,14 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         return this.onUpdateProcessingListeners.remove(listener);
     }
 
+    @Override
+    public boolean hasOnUpdateProcessingListeners() {
+        return !onUpdateProcessingListeners.isEmpty();
+    }
+
     @Override
     public Cloudlet addOnStartListener(final EventListener<CloudletVmEventInfo> listener) {
+        this.onStartListeners = mutableListeners(onStartListeners);
         this.onStartListeners.add(requireNonNull(listener));
         return this;
     }
@@ -261,10 +278,20 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
             return this;
         }
 
+        this.onFinishListeners = mutableListeners(onFinishListeners);
         this.onFinishListeners.add(requireNonNull(listener));
         return this;
     }
 
+    /**
+     * Gets a listener set that can be changed.
+     * @param listeners the current listener set
+     * @return a new set if the given one is the shared empty set; the given set otherwise
+     */
+    private static Set<EventListener<CloudletVmEventInfo>> mutableListeners(final Set<EventListener<CloudletVmEventInfo>> listeners) {
+        return listeners == Collections.<EventListener<CloudletVmEventInfo>>emptySet() ? new HashSet<>() : listeners;
+    }
+
     @Override
     public boolean removeOnFinishListener(final EventListener<CloudletVmEventInfo> listener) {
         return onFinishListeners.remove(listener);
@@ -302,7 +329,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public double getWaitingTime() {
-        if (datacenterExecutionList.isEmpty()) {
+        if (!isAssignedToDatacenter()) {
             return 0;
         }
 
@@ -318,7 +345,13 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public Cloudlet setPriority(final int priority) {
-        this.priority = priority;
+        final Runnable priorityChange = () -> this.priority = priority;
+        if(vm == null) {
+            priorityChange.run();
+        } else {
+            vm.getCloudletScheduler().changeCloudletPriority(this, priorityChange);
+        }
+
         return this;
     }
 
@@ -343,10 +376,14 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public long getFinishedLengthSoFar() {
-        if (datacenterExecutionList.isEmpty()) {
+        if (!isAssignedToDatacenter()) {
             return 0;
         }
 
+        if(status == Status.INEXEC) {
+            vm.getCloudletScheduler().updateCloudletFinishedLength(this);
+        }
+
         if(getLength() > 0) {
             return Math.min(getLastExecutionInDatacenterInfo().getFinishedSoFar(), absLength());
         }
@@ -361,7 +398,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean isFinished() {
-        if (datacenterExecutionList.isEmpty()) {
+        if (!isAssignedToDatacenter()) {
             return false;
         }
 
@@ -374,7 +411,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean addFinishedLengthSoFar(final long partialFinishedMI) {
-        if (partialFinishedMI < 0.0 || datacenterExecutionList.isEmpty()) {
+        if (partialFinishedMI < 0.0 || !isAssignedToDatacenter()) {
             return false;
         }
 
@@ -414,16 +451,25 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     private void notifyListenersIfCloudletIsFinished() {
         if (isFinished()) {
             onFinishListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, this)));
-            onFinishListeners.clear();
+            onFinishListeners = Collections.emptySet();
         }
     }
 
     private CloudletDatacenterExecution getLastExecutionInDatacenterInfo() {
-        if (datacenterExecutionList.isEmpty()) {
-            return CloudletDatacenterExecution.NULL;
+        return lastDatacenterExecution;
+    }
+
+    /**
+     * Gets the execution information in every Datacenter the cloudlet was assigned to,
+     * in the order it was assigned to them.
+     * @return
+     */
+    private Stream<CloudletDatacenterExecution> getDatacenterExecutions() {
+        if (!isAssignedToDatacenter()) {
+            return Stream.empty();
         }
 
-        return datacenterExecutionList.get(datacenterExecutionList.size() - 1);
+        return Stream.concat(previousDatacenterExecutionList.stream(), Stream.of(lastDatacenterExecution));
     }
 
     @Override
@@ -452,7 +498,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean setWallClockTime(final double wallTime, final double actualCpuTime) {
-        if (wallTime < 0.0 || actualCpuTime < 0.0 || datacenterExecutionList.isEmpty()) {
+        if (wallTime < 0.0 || actualCpuTime < 0.0 || !isAssignedToDatacenter()) {
             return false;
         }
 
@@ -555,7 +601,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      * or {@link CloudletDatacenterExecution#NULL} if the Cloudlet has never been executed there
      */
     private CloudletDatacenterExecution getDatacenterInfo(final long datacenterId) {
-        return datacenterExecutionList.stream()
+        return getDatacenterExecutions()
             .filter(info -> info.getDatacenter().getId() == datacenterId)
             .findFirst().orElse(CloudletDatacenterExecution.NULL);
     }
@@ -635,14 +681,24 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      * @return
      */
     private double getTotalCpuCostForAllDatacenters() {
-        return datacenterExecutionList
-                .stream()
+        return getDatacenterExecutions()
                 .mapToDouble(dcInfo -> dcInfo.getActualCpuTime() * dcInfo.getCostPerSec())
                 .sum();
     }
 
+    /**
+     * {@inheritDoc}
+     * Since the list is just created when a file is required,
+     * calling this method creates it, so that files can be added to the returned list.
+     *
+     * @return {@inheritDoc}
+     */
     @Override
     public List<String> getRequiredFiles() {
+        if (requiredFiles == Collections.<String>emptyList()) {
+            requiredFiles = new LinkedList<>();
+        }
+
         return requiredFiles;
     }
 
@@ -657,11 +713,11 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean addRequiredFile(final String fileName) {
-        if (getRequiredFiles().stream().anyMatch(reqFile -> reqFile.equals(fileName))) {
+        if (requiredFiles.stream().anyMatch(reqFile -> reqFile.equals(fileName))) {
             return false;
         }
 
-        requiredFiles.add(fileName);
+        getRequiredFiles().add(fileName);
         return true;
     }
 
@@ -676,7 +732,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean deleteRequiredFile(final String filename) {
-        for (int i = 0; i < getRequiredFiles().size(); i++) {
+        for (int i = 0; i < requiredFiles.size(); i++) {
             final String temp = requiredFiles.get(i);
 
             if (temp.equals(filename)) {
@@ -690,7 +746,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean requiresFiles() {
-        return !getRequiredFiles().isEmpty();
+        return !requiredFiles.isEmpty();
     }
 
     @Override
@@ -712,6 +768,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     @Override
     public final Cloudlet setUtilizationModelRam(final UtilizationModel utilizationModelRam) {
         this.utilizationModelRam = requireNonNull(utilizationModelRam);
+        vm.getCloudletScheduler().cloudletUtilizationModelChanged(this);
         return this;
     }
 
@@ -723,11 +780,21 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     @Override
     public final Cloudlet setUtilizationModelBw(final UtilizationModel utilizationModelBw) {
         this.utilizationModelBw = requireNonNull(utilizationModelBw);
+        vm.getCloudletScheduler().cloudletUtilizationModelChanged(this);
         return this;
     }
 
     @Override
     public UtilizationModel getUtilizationModel(final Class<? extends ResourceManageable> resourceClass) {
+        /*Checks the usual requested classes by identity before the more expensive isAssignableFrom calls.*/
+        if(resourceClass == Ram.class){
+            return utilizationModelRam;
+        }
+
+        if(resourceClass == Bandwidth.class){
+            return utilizationModelBw;
+        }
+
         if(resourceClass.isAssignableFrom(Ram.class)){
             return utilizationModelRam;
         }
@@ -852,8 +919,15 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         dcInfo.setDatacenter(datacenter);
         dcInfo.setCostPerSec(datacenter.getCharacteristics().getCostPerSecond());
 
-        // add into a list if moving to a new cloud Datacenter
-        datacenterExecutionList.add(dcInfo);
+        // add the previous one into a list if moving to a new cloud Datacenter
+        if (isAssignedToDatacenter()) {
+            if (previousDatacenterExecutionList.isEmpty()) {
+                previousDatacenterExecutionList = new ArrayList<>(1);
+            }
+
+            previousDatacenterExecutionList.add(lastDatacenterExecution);
+        }
+        lastDatacenterExecution = dcInfo;
 
         setLastExecutedDatacenterIdx(getLastExecutedDatacenterIdx() + 1);
 
@@ -867,7 +941,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
             return NOT_ASSIGNED;
         }
 
-        final CloudletDatacenterExecution dcInfo = datacenterExecutionList.get(lastExecutedDatacenterIdx);
+        final CloudletDatacenterExecution dcInfo = getLastExecutionInDatacenterInfo();
         dcInfo.setArrivalTime(getSimulation().clock());
 
         return dcInfo.getArrivalTime();
@@ -878,7 +952,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      * in order to run, false otherwise.
      */
     private boolean isAssignedToDatacenter() {
-        return !datacenterExecutionList.isEmpty();
+        return lastDatacenterExecution != CloudletDatacenterExecution.NULL;
     }
 
     @Override
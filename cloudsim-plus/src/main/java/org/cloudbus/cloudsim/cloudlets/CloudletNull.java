@@ -185,6 +185,7 @@ final class CloudletNull implements Cloudlet {
     @Override public boolean removeOnFinishListener(EventListener<CloudletVmEventInfo> listener) { return false; }
     @Override public Cloudlet addOnFinishListener(EventListener<CloudletVmEventInfo> listener) { return Cloudlet.NULL; }
     @Override public void notifyOnUpdateProcessingListeners(double time) {/**/}
+    @Override public boolean hasOnUpdateProcessingListeners() { return false; }
     @Override public Simulation getSimulation() {
         return Simulation.NULL;
     }
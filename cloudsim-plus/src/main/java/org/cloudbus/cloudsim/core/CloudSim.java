@@ -13,6 +13,7 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
 import org.cloudbus.cloudsim.util.TimeUtil;
 import org.cloudbus.cloudsim.util.Util;
+import org.cloudsimplus.instrumentation.MetricsRegistry;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 import org.slf4j.Logger;
@@ -20,7 +21,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -48,6 +48,16 @@ public class CloudSim implements Simulation {
      */
     private NetworkTopology networkTopology;
 
+    /**
+     * @see #getMetrics()
+     */
+    private MetricsRegistry metrics;
+
+    /**
+     * @see #getEventPool()
+     */
+    private EventPool eventPool;
+
     /**
      * The Cloud Information Service (CIS) entity.
      */
@@ -95,6 +105,12 @@ public class CloudSim implements Simulation {
      */
     private final DeferredQueue deferred;
 
+    /**
+     * The tags of events that entities periodically schedule to themselves.
+     * @see #registerPeriodicTag(int)
+     */
+    private final Set<Integer> periodicTags;
+
     /**
      * @see #clock()
      */
@@ -167,8 +183,11 @@ public class CloudSim implements Simulation {
         this.entities = new ArrayList<>();
         this.future = new FutureQueue();
         this.deferred = new DeferredQueue();
+        this.periodicTags = new HashSet<>();
         this.waitPredicates = new HashMap<>();
         this.networkTopology = NetworkTopology.NULL;
+        this.metrics = MetricsRegistry.NULL;
+        this.eventPool = EventPool.NULL;
         this.clock = 0;
         this.running = false;
         this.alreadyRunOnce = false;
@@ -588,7 +607,7 @@ public class CloudSim implements Simulation {
 
     @Override
     public void send(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        send(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        send(eventPool.acquire(SimEvent.Type.SEND, delay, src, dest, tag, data));
     }
 
     @Override
@@ -602,7 +621,7 @@ public class CloudSim implements Simulation {
 
     @Override
     public void sendFirst(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        sendFirst(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        sendFirst(eventPool.acquire(SimEvent.Type.SEND, delay, src, dest, tag, data));
     }
 
     @Override
@@ -621,30 +640,43 @@ public class CloudSim implements Simulation {
 
     @Override
     public SimEvent select(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        final SimEvent evt = findFirstDeferred(dest, predicate);
-        if(evt != SimEvent.NULL) {
-            deferred.remove(evt);
+        /*Loops through the queue using an iterator (instead of a Stream) to remove the selected event,
+        * avoiding to allocate objects and to traverse the queue twice for every event processed.*/
+        final Iterator<SimEvent> iterator = deferred.iterator();
+        while (iterator.hasNext()) {
+            final SimEvent evt = iterator.next();
+            if (isEventToDestinationEntity(evt, predicate, dest)) {
+                iterator.remove();
+                return evt;
+            }
         }
 
-        return evt;
+        return SimEvent.NULL;
     }
 
     @Override
     public SimEvent findFirstDeferred(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        return filterEventsToDestinationEntity(deferred, predicate, dest).findFirst().orElse(SimEvent.NULL);
+        final Iterator<SimEvent> iterator = deferred.iterator();
+        while (iterator.hasNext()) {
+            final SimEvent evt = iterator.next();
+            if (isEventToDestinationEntity(evt, predicate, dest)) {
+                return evt;
+            }
+        }
+
+        return SimEvent.NULL;
     }
 
     /**
-     * Gets a stream of events inside a specific queue that match a given predicate
-     * and are targeted to an specific entity.
+     * Checks if an event matches a given predicate and is targeted to an specific entity.
      *
-     * @param queue the queue to get the events from
+     * @param evt the event to check
      * @param predicate the event selection predicate
-     * @param dest Id of entity that the event has to be sent to
-     * @return a Stream of events from the queue
+     * @param dest the entity that the event has to be sent to
+     * @return true if the event matches the predicate and is targeted to the given entity, false otherwise
      */
-    private Stream<SimEvent> filterEventsToDestinationEntity(final EventQueue queue, final Predicate<SimEvent> predicate, final SimEntity dest) {
-        return filterEvents(queue, predicate.and(evt -> evt.getDestination() == dest));
+    private boolean isEventToDestinationEntity(final SimEvent evt, final Predicate<SimEvent> predicate, final SimEntity dest) {
+        return predicate.test(evt) && evt.getDestination() == dest;
     }
 
     @Override
@@ -669,17 +701,6 @@ public class CloudSim implements Simulation {
         return predicate.and(evt -> evt.getSource().equals(src));
     }
 
-    /**
-     * Gets a stream of events inside a specific queue that match a given predicate.
-     *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @return a Stream of events from the queue
-     */
-    private Stream<SimEvent> filterEvents(final EventQueue queue, final Predicate<SimEvent> predicate) {
-        return queue.stream().filter(predicate);
-    }
-
     /**
      * Processes an event.
      *
@@ -692,6 +713,10 @@ public class CloudSim implements Simulation {
 
         setClock(evt.getTime());
         processEventByType(evt);
+        if (onEventProcessingListeners.isEmpty()) {
+            return;
+        }
+
         for (final EventListener<SimEvent> listener : onEventProcessingListeners) {
             listener.update(evt);
         }
@@ -894,6 +919,26 @@ public class CloudSim implements Simulation {
         return future.stream().anyMatch(predicate);
     }
 
+    @Override
+    public long getNumberOfFutureEvents(final int tag) {
+        return future.count(tag);
+    }
+
+    @Override
+    public boolean isThereAnyFutureEvtOtherThan(final int tag) {
+        return future.isThereAnyEventOtherThan(tag);
+    }
+
+    @Override
+    public void registerPeriodicTag(final int tag) {
+        periodicTags.add(tag);
+    }
+
+    @Override
+    public boolean isThereAnyNonPeriodicFutureEvt() {
+        return future.isThereAnyEventOtherThan(periodicTags);
+    }
+
     private boolean isThereFutureEvtsAndNextOneHappensAfterTimeToPause() {
         return !future.isEmpty() && clock <= pauseAt && isNextFutureEventHappeningAfterTimeToPause();
     }
@@ -971,6 +1016,28 @@ public class CloudSim implements Simulation {
         this.networkTopology = networkTopology;
     }
 
+    @Override
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public Simulation setMetrics(final MetricsRegistry metrics) {
+        this.metrics = requireNonNull(metrics);
+        return this;
+    }
+
+    @Override
+    public EventPool getEventPool() {
+        return eventPool;
+    }
+
+    @Override
+    public Simulation setEventPool(final EventPool eventPool) {
+        this.eventPool = requireNonNull(eventPool);
+        return this;
+    }
+
     @Override
     public double getLastCloudletProcessingUpdate() {
         return lastCloudletProcessingUpdate;
@@ -9,7 +9,10 @@ package org.cloudbus.cloudsim.core;
 
 import org.apache.commons.lang3.StringUtils;
 import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.EventPool;
 import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudsimplus.instrumentation.MetricsRegistry;
+import org.cloudsimplus.instrumentation.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +57,15 @@ public abstract class CloudSimEntity implements SimEntity {
     /** @see #getShutdownTime() */
     private double shutdownTime;
 
+    /**
+     * The timer of events processed by this entity, cached to avoid building its name for every event.
+     * @see #processEventAndMeasure(SimEvent, MetricsRegistry)
+     */
+    private Timer processEventTimer;
+
+    /** The registry where the {@link #processEventTimer} was got from. */
+    private MetricsRegistry processEventTimerRegistry;
+
     /**
      * Creates a new entity.
      *
@@ -133,7 +145,7 @@ public abstract class CloudSimEntity implements SimEntity {
 
     @Override
     public boolean schedule(final SimEntity dest, final double delay, final int tag, final Object data) {
-        return schedule(new CloudSimEvent(delay, this, dest, tag, data));
+        return schedule(simulation.getEventPool().acquire(SimEvent.Type.SEND, delay, this, dest, tag, data));
     }
 
     @Override
@@ -241,7 +253,7 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param data  The data to be sent with the event.
      */
     public void scheduleFirst(final SimEntity dest, final double delay, final int tag, final Object data) {
-        final CloudSimEvent evt = new CloudSimEvent(delay, this, dest, tag, data);
+        final CloudSimEvent evt = simulation.getEventPool().acquire(SimEvent.Type.SEND, delay, this, dest, tag, data);
         if (!canSendEvent(evt)) {
             return;
         }
@@ -338,20 +350,48 @@ public abstract class CloudSimEntity implements SimEntity {
     }
 
     public void run(final double until) {
-        SimEvent evt = buffer == null ? getNextEvent(e -> e.getTime() <= until) : buffer;
+        final Predicate<SimEvent> isUntilTime = e -> e.getTime() <= until;
+        SimEvent evt = buffer == null ? getNextEvent(isUntilTime) : buffer;
 
+        final MetricsRegistry metrics = simulation.getMetrics();
+        final EventPool eventPool = simulation.getEventPool();
         while (evt != SimEvent.NULL) {
-            processEvent(evt);
+            if (metrics.isEnabled()) {
+                processEventAndMeasure(evt, metrics);
+            } else {
+                processEvent(evt);
+            }
+
+            eventPool.release(evt);
+
             if (state != State.RUNNABLE) {
                 break;
             }
 
-            evt = getNextEvent(e -> e.getTime() <= until);
+            evt = getNextEvent(isUntilTime);
         }
 
         buffer = null;
     }
 
+    /**
+     * Processes an event, counting it by tag and measuring the processing time
+     * into the simulation {@link Simulation#getMetrics() metrics registry}.
+     * @param evt the event to process
+     * @param metrics the registry to collect the metrics
+     */
+    private void processEventAndMeasure(final SimEvent evt, final MetricsRegistry metrics) {
+        if (processEventTimerRegistry != metrics) {
+            processEventTimer = metrics.timer("entity." + getName() + ".processEvent");
+            processEventTimerRegistry = metrics;
+        }
+
+        metrics.eventCounter(evt.getTag()).increment();
+        final long start = processEventTimer.start();
+        processEvent(evt);
+        processEventTimer.stop(start);
+    }
+
     /**
      * Gets a clone of the entity. This is used when independent replications
      * have been specified as an output analysis method. Clones or backups of
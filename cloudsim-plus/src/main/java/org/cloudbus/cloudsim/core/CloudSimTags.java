@@ -16,6 +16,7 @@ import org.cloudbus.cloudsim.power.models.PowerModel;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import org.cloudsimplus.autoscaling.VmScalingCoordinator;
 import org.cloudsimplus.traces.google.GoogleTaskEventsTraceReader;
 
 /**
@@ -277,7 +278,8 @@ public final class CloudSimTags {
      * Denotes a request vertical scaling of VM resources
      * such as Ram, Bandwidth or Pe.
      * When an event of this type is sent, the {@link SimEvent#getData()}
-     * must be a {@link VerticalVmScaling} object.
+     * must be a {@link VerticalVmScaling} object
+     * or a List of such objects for Vms inside the same Datacenter.
      */
     public static final int VM_VERTICAL_SCALING = BASE + 42;
 
@@ -332,6 +334,35 @@ public final class CloudSimTags {
      */
     public static final int POWER_MEASUREMENT = BASE + 70;
 
+    /**
+     * Denotes the periodic evaluation of the scaling policies of all Vms
+     * registered in a {@link VmScalingCoordinator}.
+     */
+    public static final int VM_SCALING_EVALUATION = BASE + 71;
+
+    /**
+     * Denotes a request to create a batch of VMs in a {@link Datacenter},
+     * where the {@link SimEvent#getData()} of both the request and the reply event
+     * is a {@link java.util.List} of {@link Vm} objects.
+     * The Datacenter tries to place the whole batch in a single allocation pass
+     * and acknowledges the reception of the request with a single reply event.
+     * To check if each VM was in fact created inside the requested Datacenter
+     * one has only to call {@link Vm#isCreated()}.
+     *
+     * @see #VM_CREATE_ACK
+     */
+    public static final int VM_CREATE_BATCH_ACK = BASE + 72;
+
+    /**
+     * Denotes the submission of a batch of Cloudlets to a {@link Datacenter}.
+     * This tag is normally used between a DatacenterBroker and Datacenter entity.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@link java.util.List} of {@link Cloudlet} objects.
+     *
+     * @see #CLOUDLET_SUBMIT
+     */
+    public static final int CLOUDLET_SUBMIT_BATCH = BASE + 73;
+
     /**
      * Private constructor to avoid class instantiation.
      */
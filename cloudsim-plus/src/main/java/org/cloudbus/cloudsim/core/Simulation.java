@@ -7,11 +7,13 @@
 package org.cloudbus.cloudsim.core;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.events.EventPool;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmGroup;
+import org.cloudsimplus.instrumentation.MetricsRegistry;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
@@ -424,6 +426,48 @@ public interface Simulation {
      */
     void setNetworkTopology(NetworkTopology networkTopology);
 
+    /**
+     * Gets the registry where performance metrics about the execution of this simulation are collected,
+     * such as the number of processed events and the time spent by entities and policies.
+     *
+     * @return the metrics registry or {@link MetricsRegistry#NULL} if no metric is collected (the default)
+     */
+    MetricsRegistry getMetrics();
+
+    /**
+     * Sets the registry where performance metrics about the execution of this simulation are collected.
+     * A registry is thread-safe and may be shared by multiple simulations running concurrently,
+     * in order to collect aggregated metrics.
+     *
+     * @param metrics the metrics registry to set, such as a
+     *                {@link org.cloudsimplus.instrumentation.MetricsRegistrySimple},
+     *                or {@link MetricsRegistry#NULL} to disable metrics collection
+     * @return
+     */
+    Simulation setMetrics(MetricsRegistry metrics);
+
+    /**
+     * Gets the pool that provides the events sent during this simulation.
+     *
+     * @return the event pool or {@link EventPool#NULL} if events are not recycled (the default)
+     */
+    EventPool getEventPool();
+
+    /**
+     * Sets the pool that provides the events sent during this simulation,
+     * enabling events to be recycled after they are processed, to reduce the allocation
+     * of short-lived objects.
+     *
+     * <p><b>WARNING:</b> when a pool is set, user code must not keep references to a
+     * {@link SimEvent} after the {@link SimEntity#processEvent(SimEvent)} method
+     * that received it returns. Check {@link EventPool} for details.</p>
+     *
+     * @param eventPool the event pool to set, such as a {@link org.cloudbus.cloudsim.core.events.EventPoolSimple},
+     *                  or {@link EventPool#NULL} to disable event recycling
+     * @return
+     */
+    Simulation setEventPool(EventPool eventPool);
+
     /**
      * Defines IDs for a list of {@link ChangeableId} entities that don't
      * have one already assigned. Such entities can be a {@link Cloudlet},
@@ -488,6 +532,53 @@ public interface Simulation {
      */
     boolean isThereAnyFutureEvt(Predicate<SimEvent> predicate);
 
+    /**
+     * Gets the number of events in the future queue having a given tag.
+     * Differently from {@link #getNumberOfFutureEvents(Predicate)},
+     * it takes constant time, since the number of events for each tag is kept
+     * as events are added to and removed from the queue.
+     *
+     * @param tag the tag of events to count
+     * @return the number of future events with the given tag
+     */
+    long getNumberOfFutureEvents(int tag);
+
+    /**
+     * Checks if there is any event in the future queue having a tag different from a given one,
+     * such as when a periodic entity needs to know if there are other events than its own
+     * to decide if it has to keep scheduling them.
+     * Differently from {@link #isThereAnyFutureEvt(Predicate)}, it takes constant time.
+     *
+     * @param tag the tag of events to ignore
+     * @return true if any event with a different tag is found, false otherwise
+     * @see #getNumberOfFutureEvents(int)
+     */
+    boolean isThereAnyFutureEvtOtherThan(int tag);
+
+    /**
+     * Registers the tag of events an entity periodically schedules to itself
+     * while the simulation has other events to process (such as {@link CloudSimTags#POWER_MEASUREMENT}),
+     * so that such events are ignored by {@link #isThereAnyNonPeriodicFutureEvt()}.
+     * Registering the same tag more than once has no effect.
+     *
+     * @param tag the tag of the periodic events
+     */
+    void registerPeriodicTag(int tag);
+
+    /**
+     * Checks if there is any event in the future queue other than the ones entities
+     * periodically schedule to themselves while the simulation has other events to process,
+     * which are the ones with a {@link #registerPeriodicTag(int) registered periodic tag}.
+     * Periodic entities must use it to decide if they have to keep scheduling their events.
+     * Checking just for events other than their own ones makes two periodic entities
+     * keep each other scheduling events forever.
+     * It takes time proportional just to the number of registered periodic tags.
+     *
+     * @return true if any non-periodic event is found, false otherwise
+     * @see #isThereAnyFutureEvtOtherThan(int)
+     */
+    boolean isThereAnyNonPeriodicFutureEvt();
+
     /**
      * Gets the last time (in seconds) some Cloudlet was processed in the simulation.
      */
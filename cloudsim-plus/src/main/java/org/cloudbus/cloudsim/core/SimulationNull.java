@@ -1,7 +1,9 @@
 package org.cloudbus.cloudsim.core;
 
+import org.cloudbus.cloudsim.core.events.EventPool;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
+import org.cloudsimplus.instrumentation.MetricsRegistry;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
@@ -19,6 +21,10 @@ import java.util.function.Predicate;
  */
 final class SimulationNull implements Simulation {
     @Override public boolean isThereAnyFutureEvt(Predicate<SimEvent> predicate) { return false; }
+    @Override public boolean isThereAnyFutureEvtOtherThan(int tag) { return false; }
+    @Override public void registerPeriodicTag(int tag) {/**/}
+    @Override public boolean isThereAnyNonPeriodicFutureEvt() { return false; }
+    @Override public long getNumberOfFutureEvents(int tag) { return 0; }
     @Override public boolean isTerminationTimeSet() { return false; }
     @Override public void abort() {/**/}
     @Override public void addEntity(CloudSimEntity entity) {/**/}
@@ -100,6 +106,10 @@ final class SimulationNull implements Simulation {
     @Override public void wait(CloudSimEntity src, Predicate<SimEvent> predicate) {/**/}
     @Override public NetworkTopology getNetworkTopology() { return NetworkTopology.NULL; }
     @Override public void setNetworkTopology(NetworkTopology networkTopology) {/**/}
+    @Override public MetricsRegistry getMetrics() { return MetricsRegistry.NULL; }
+    @Override public Simulation setMetrics(MetricsRegistry metrics) { return this; }
+    @Override public EventPool getEventPool() { return EventPool.NULL; }
+    @Override public Simulation setEventPool(EventPool eventPool) { return this; }
     @Override public long getNumberOfFutureEvents(Predicate<SimEvent> predicate) { return 0; }
     @Override public double getLastCloudletProcessingUpdate() { return 0; }
     @Override public void setLastCloudletProcessingUpdate(double lastCloudletProcessingUpdate) {/**/}
@@ -29,12 +29,12 @@ public final class CloudSimEvent implements SimEvent {
      */
     private Simulation simulation;
 
-    private final Type type;
+    private Type type;
 
     /**
      * The actual simulation time that this event was scheduled to (at which it should occur).
      */
-    private final double time;
+    private double time;
 
     /**
      * Time that the event was removed from the queue to start service.
@@ -51,15 +51,26 @@ public final class CloudSimEvent implements SimEvent {
      */
     private SimEntity dest;
 
-    private final int tag;
+    private int tag;
 
-    private final Object data;
+    private Object data;
 
     /**
      * @see #getSerial()
      */
     private long serial = -1;
 
+    /**
+     * Indicates if the event was created by an {@link EventPoolSimple}
+     * and then can be recycled after it is processed.
+     */
+    private boolean recyclable;
+
+    /**
+     * Indicates if the event is inside an {@link EventPoolSimple}, waiting to be reused.
+     */
+    private boolean released;
+
     /**
      * Creates a {@link Type#SEND} CloudSimEvent.
      * @param delay how many seconds after the current simulation time the event should be scheduled
@@ -159,6 +170,14 @@ public final class CloudSimEvent implements SimEvent {
         final Type type, final double delay,
         final SimEntity src, final SimEntity dest,
         final int tag, final Object data)
+    {
+        init(type, delay, src, dest, tag, data);
+    }
+
+    private void init(
+        final Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
     {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay can't be negative.");
@@ -173,6 +192,45 @@ public final class CloudSimEvent implements SimEvent {
         this.data = data;
     }
 
+    /**
+     * Reinitializes a released event to be reused, as if it was just created.
+     * @see #CloudSimEvent(Type, double, SimEntity, SimEntity, int, Object)
+     */
+    CloudSimEvent reuse(
+        final Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        init(type, delay, src, dest, tag, data);
+        this.released = false;
+        return this;
+    }
+
+    /**
+     * Marks the event as released into a pool,
+     * clearing references to other objects to avoid keeping them alive.
+     */
+    void release() {
+        this.released = true;
+        this.src = SimEntity.NULL;
+        this.dest = SimEntity.NULL;
+        this.data = null;
+        this.serial = -1;
+        this.endWaitingTime = 0;
+    }
+
+    boolean isRecyclable() {
+        return recyclable;
+    }
+
+    void setRecyclable() {
+        this.recyclable = true;
+    }
+
+    boolean isReleased() {
+        return released;
+    }
+
     @Override
     public void setSerial(final long serial) {
         this.serial = serial;
@@ -0,0 +1,58 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.Simulation;
+
+/**
+ * A pool that provides the {@link CloudSimEvent}s sent during a {@link Simulation},
+ * enabling such events to be recycled after they are processed, instead of allocating
+ * a new object for every sent event.
+ *
+ * <p>Pooling is disabled by default ({@link #NULL}).
+ * It can be enabled by calling {@code simulation.setEventPool(new EventPoolSimple())}.
+ * A pooled event is returned to the pool right after the destination entity
+ * finishes {@link SimEntity#processEvent(SimEvent) processing} it.
+ * <b>That way, when pooling is enabled, user code must not keep references to a
+ * {@link SimEvent} after its {@link SimEntity#processEvent(SimEvent)} method returns,
+ * neither send it again.</b>
+ * If an event is required after that, a copy must be created using
+ * {@link CloudSimEvent#CloudSimEvent(SimEvent)}.
+ * Events created directly by user code are never recycled.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ * @see Simulation#setEventPool(EventPool)
+ */
+public interface EventPool {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link EventPool}
+     * objects, which always creates new events and never recycles them.
+     */
+    EventPool NULL = new EventPoolNull();
+
+    /**
+     * Gets an event from the pool, or creates a new one if the pool is empty,
+     * initializing it with the given attributes.
+     *
+     * @param type the internal type of the event
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param src the source entity which is sending the message
+     * @param dest the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message, that depends on the message tag
+     * @return the event to be sent
+     * @see CloudSimEvent#CloudSimEvent(SimEvent.Type, double, SimEntity, SimEntity, int, Object)
+     */
+    CloudSimEvent acquire(SimEvent.Type type, double delay, SimEntity src, SimEntity dest, int tag, Object data);
+
+    /**
+     * Returns a processed event to the pool, so that it can be reused.
+     * This method is called by a {@link CloudSimEntity} after processing an event.
+     * Events not {@link #acquire acquired} from the pool and
+     * events already released are just ignored.
+     *
+     * @param evt the processed event
+     */
+    void release(SimEvent evt);
+}
@@ -0,0 +1,22 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+
+/**
+ * A class that implements the Null Object Design Pattern for {@link EventPool} class.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @see EventPool#NULL
+ */
+final class EventPoolNull implements EventPool {
+    @Override
+    public CloudSimEvent acquire(
+        final SimEvent.Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        return new CloudSimEvent(type, delay, src, dest, tag, data);
+    }
+
+    @Override public void release(SimEvent evt) {/**/}
+}
@@ -0,0 +1,120 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * An {@link EventPool} that keeps up to a {@link #getCapacity() maximum number}
+ * of released events to be reused.
+ * Events released when the pool is full are just discarded.
+ *
+ * <p>The pool is not thread-safe and must be used by a single {@link org.cloudbus.cloudsim.core.Simulation}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public class EventPoolSimple implements EventPool {
+    /**
+     * The default maximum number of released events kept in the pool.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final Deque<CloudSimEvent> events;
+
+    /** @see #getCapacity() */
+    private final int capacity;
+
+    /** @see #getCreatedEvents() */
+    private long createdEvents;
+
+    /** @see #getReusedEvents() */
+    private long reusedEvents;
+
+    /**
+     * Creates a pool with the {@link #DEFAULT_CAPACITY}.
+     */
+    public EventPoolSimple() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool with a given capacity.
+     * @param capacity the maximum number of released events kept in the pool
+     */
+    public EventPoolSimple(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The pool capacity must be greater than zero.");
+        }
+
+        this.capacity = capacity;
+        this.events = new ArrayDeque<>();
+    }
+
+    @Override
+    public CloudSimEvent acquire(
+        final SimEvent.Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        final CloudSimEvent evt = events.peekLast();
+        if (evt == null) {
+            final CloudSimEvent newEvt = new CloudSimEvent(type, delay, src, dest, tag, data);
+            newEvt.setRecyclable();
+            createdEvents++;
+            return newEvt;
+        }
+
+        //Reuses the event before removing it from the pool, since the reuse fails for invalid attributes
+        evt.reuse(type, delay, src, dest, tag, data);
+        events.pollLast();
+        reusedEvents++;
+        return evt;
+    }
+
+    @Override
+    public void release(final SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent)) {
+            return;
+        }
+
+        final CloudSimEvent cloudSimEvt = (CloudSimEvent) evt;
+        if (cloudSimEvt.isRecyclable() && !cloudSimEvt.isReleased() && events.size() < capacity) {
+            cloudSimEvt.release();
+            events.addLast(cloudSimEvt);
+        }
+    }
+
+    /**
+     * Gets the maximum number of released events kept in the pool.
+     * @return
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of released events currently available in the pool.
+     * @return
+     */
+    public int size() {
+        return events.size();
+    }
+
+    /**
+     * Gets the number of events created because the pool was empty.
+     * @return
+     */
+    public long getCreatedEvents() {
+        return createdEvents;
+    }
+
+    /**
+     * Gets the number of events taken from the pool instead of being created.
+     * @return
+     */
+    public long getReusedEvents() {
+        return reusedEvents;
+    }
+}
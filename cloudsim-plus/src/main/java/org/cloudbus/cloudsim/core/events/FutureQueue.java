@@ -37,13 +37,73 @@ public class FutureQueue implements EventQueue {
     /** @see #getMaxEventsNumber() */
     private long maxEventsNumber;
 
+    /**
+     * A map where each key is an event tag and each value is the number of events with such a tag
+     * inside the queue (stored in a single-element array to be updated in place).
+     * @see #count(int)
+     */
+    private final Map<Integer, long[]> tagCounts = new HashMap<>();
+
     @Override
     public void addEvent(final SimEvent newEvent) {
         newEvent.setSerial(serial++);
-        sortedSet.add(newEvent);
+        add(newEvent);
         maxEventsNumber = Math.max(maxEventsNumber, sortedSet.size());
     }
 
+    private void add(final SimEvent event) {
+        if(sortedSet.add(event)) {
+            tagCounts.computeIfAbsent(event.getTag(), tag -> new long[1])[0]++;
+        }
+    }
+
+    private void decrementTagCount(final SimEvent event) {
+        final long[] count = tagCounts.get(event.getTag());
+        if(--count[0] == 0) {
+            tagCounts.remove(event.getTag());
+        }
+    }
+
+    /**
+     * Gets the number of events inside the queue having a given tag, in constant time.
+     * @param tag the tag of events to count
+     * @return the number of events with the given tag
+     */
+    public long count(final int tag) {
+        final long[] count = tagCounts.get(tag);
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Checks if there is any event inside the queue with a tag different from the given ones,
+     * in time proportional just to the number of given tags.
+     * @param tags the distinct tags of events to ignore
+     * @return true if there is an event with a different tag, false otherwise
+     */
+    public boolean isThereAnyEventOtherThan(final int... tags) {
+        long ignoredEvents = 0;
+        for (final int tag : tags) {
+            ignoredEvents += count(tag);
+        }
+
+        return sortedSet.size() > ignoredEvents;
+    }
+
+    /**
+     * Checks if there is any event inside the queue with a tag different from the given ones,
+     * in time proportional just to the number of given tags.
+     * @param tags the distinct tags of events to ignore
+     * @return true if there is an event with a different tag, false otherwise
+     */
+    public boolean isThereAnyEventOtherThan(final Set<Integer> tags) {
+        long ignoredEvents = 0;
+        for (final int tag : tags) {
+            ignoredEvents += count(tag);
+        }
+
+        return sortedSet.size() > ignoredEvents;
+    }
+
     /**
      * Adds a new event to the head of the queue.
      *
@@ -51,7 +111,7 @@ public class FutureQueue implements EventQueue {
      */
     public void addEventFirst(final SimEvent newEvent) {
         newEvent.setSerial(0);
-        sortedSet.add(newEvent);
+        add(newEvent);
     }
 
     @Override
@@ -81,7 +141,12 @@ public class FutureQueue implements EventQueue {
      * @return true, if successful
      */
     public boolean remove(final SimEvent event) {
-        return sortedSet.remove(event);
+        if(sortedSet.remove(event)) {
+            decrementTagCount(event);
+            return true;
+        }
+
+        return false;
     }
 
     /**
@@ -91,11 +156,23 @@ public class FutureQueue implements EventQueue {
      * @return true, if successful
      */
     public boolean removeAll(final Collection<SimEvent> events) {
-        return sortedSet.removeAll(events);
+        boolean removed = false;
+        for (final SimEvent event : events) {
+            removed |= remove(event);
+        }
+
+        return removed;
     }
 
     public boolean removeIf(final Predicate<SimEvent> predicate){
-        return sortedSet.removeIf(predicate);
+        return sortedSet.removeIf(event -> {
+            if(predicate.test(event)) {
+                decrementTagCount(event);
+                return true;
+            }
+
+            return false;
+        });
     }
 
     @Override
@@ -108,6 +185,7 @@ public class FutureQueue implements EventQueue {
      */
     public void clear() {
         sortedSet.clear();
+        tagCounts.clear();
     }
 
     /** Gets an incremental number used for {@link SimEvent#getSerial()} event attribute. */
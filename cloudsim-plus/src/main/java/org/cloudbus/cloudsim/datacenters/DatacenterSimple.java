@@ -29,6 +29,7 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmSimple;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 import org.cloudsimplus.faultinjection.HostFaultInjection;
+import org.cloudsimplus.instrumentation.Timer;
 import org.cloudsimplus.listeners.DatacenterVmMigrationEventInfo;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
@@ -309,6 +310,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             case CloudSimTags.VM_CREATE_ACK:
                 processVmCreate(evt);
                 return true;
+            case CloudSimTags.VM_CREATE_BATCH_ACK:
+                processVmCreateBatch(evt);
+                return true;
             case CloudSimTags.VM_VERTICAL_SCALING:
                 requestVmVerticalScaling(evt);
                 return true;
@@ -335,11 +339,22 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     /**
      * Process a {@link CloudSimTags#VM_VERTICAL_SCALING} request, trying to scale
      * a Vm resource.
+     * The event data may be a single {@link VerticalVmScaling}
+     * or a List of them, batched by a {@link org.cloudsimplus.autoscaling.VmScalingCoordinator}.
      *
      * @param evt the received  {@link CloudSimTags#VM_VERTICAL_SCALING} event
-     * @return true if the Vm was scaled, false otherwise
+     * @return true if any Vm was scaled, false otherwise
      */
     private boolean requestVmVerticalScaling(final SimEvent evt) {
+        if(evt.getData() instanceof List){
+            boolean scaled = false;
+            for (final Object scaling : (List<?>) evt.getData()) {
+                scaled |= scaling instanceof VerticalVmScaling && vmAllocationPolicy.scaleVmVertically((VerticalVmScaling) scaling);
+            }
+
+            return scaled;
+        }
+
         if(!(evt.getData() instanceof VerticalVmScaling)){
             return false;
         }
@@ -353,6 +368,10 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             case CloudSimTags.CLOUDLET_SUBMIT:
                 processCloudletSubmit(evt, false);
                 return true;
+            // A batch of new Cloudlets arrives
+            case CloudSimTags.CLOUDLET_SUBMIT_BATCH:
+                processCloudletSubmitBatch(evt);
+                return true;
             // New Cloudlet arrives, but the sender asks for an ack
             case CloudSimTags.CLOUDLET_SUBMIT_ACK:
                 processCloudletSubmit(evt, true);
@@ -444,38 +463,88 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * acknowledge message when the event finishes to be processed
      */
     protected void processCloudletSubmit(final SimEvent evt, final boolean ack) {
-        final Cloudlet cloudlet = (Cloudlet) evt.getData();
+        final double updateInterval = submitCloudlet((Cloudlet) evt.getData(), ack);
+        if (updateInterval < Double.MAX_VALUE) {
+            send(this, updateInterval, CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+        }
+    }
+
+    /**
+     * Processes the submission of a batch of Cloudlets by a DatacenterBroker,
+     * sent through a {@link CloudSimTags#CLOUDLET_SUBMIT_BATCH} event.
+     * Each Cloudlet is submitted by {@link #submitCloudlet(Cloudlet, boolean)},
+     * just as by {@link #processCloudletSubmit(SimEvent, boolean)},
+     * but a single update of Cloudlets processing is scheduled
+     * for each distinct update interval required by Cloudlets in the batch.
+     *
+     * @param evt information about the event just happened, whose data is a List of Cloudlets
+     */
+    private void processCloudletSubmitBatch(final SimEvent evt) {
+        final Set<Double> updateIntervals = new LinkedHashSet<>();
+        for (final Object data : (List<?>) evt.getData()) {
+            final double updateInterval = submitCloudlet((Cloudlet) data, false);
+            if (updateInterval < Double.MAX_VALUE) {
+                updateIntervals.add(updateInterval);
+            }
+        }
+
+        for (final double interval : updateIntervals) {
+            send(this, interval, CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+        }
+    }
+
+    /**
+     * Submits a Cloudlet received from a DatacenterBroker to be executed inside its bind VM,
+     * either when it's submitted alone or inside a batch.
+     * Sub-classes can override it to change how every submitted Cloudlet is handled.
+     * It doesn't schedule the next update of Cloudlets processing,
+     * but returns when it has to happen, so that the caller can schedule it.
+     *
+     * @param cloudlet the cloudlet to the executed
+     * @param ack indicates if the Broker is waiting for an ACK after the Datacenter
+     * receives the cloudlet submission
+     * @return the time the next update of Cloudlets processing has to be performed
+     * (a relative delay from the current simulation time)
+     * or {@link Double#MAX_VALUE} if the Cloudlet isn't in execution and no update is required
+     */
+    protected double submitCloudlet(final Cloudlet cloudlet, final boolean ack) {
         if (cloudlet.isFinished()) {
             notifyBrokerAboutAlreadyFinishedCloudlet(cloudlet, ack);
-            return;
+            return Double.MAX_VALUE;
         }
 
         cloudlet.assignToDatacenter(this);
-        submitCloudletToVm(cloudlet, ack);
+        final double estimatedFinishTime = submitCloudletToVmScheduler(cloudlet);
+        sendCloudletSubmitAckToBroker(cloudlet, ack);
+        return isCloudletInExecution(estimatedFinishTime) ?
+                    getCloudletProcessingUpdateInterval(estimatedFinishTime) :
+                    Double.MAX_VALUE;
     }
 
     /**
-     * Submits a cloudlet to be executed inside its bind VM.
+     * Submits a cloudlet to the {@link CloudletScheduler} of its bind VM.
      *
      * @param cloudlet the cloudlet to the executed
-     * @param ack indicates if the Broker is waiting for an ACK after the Datacenter
-     * receives the cloudlet submission
+     * @return the estimated finish time of the cloudlet
+     * @see CloudletScheduler#cloudletSubmit(Cloudlet, double)
      */
-    private void submitCloudletToVm(final Cloudlet cloudlet, final boolean ack) {
+    private double submitCloudletToVmScheduler(final Cloudlet cloudlet) {
         // time to transfer cloudlet's files
-        final double fileTransferTime = getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles());
+        final double fileTransferTime =
+            cloudlet.requiresFiles() ? getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles()) : 0.0;
 
         final CloudletScheduler scheduler = cloudlet.getVm().getCloudletScheduler();
-        final double estimatedFinishTime = scheduler.cloudletSubmit(cloudlet, fileTransferTime);
-
-        // if this cloudlet is in the exec queue
-        if (estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime)) {
-            send(this,
-                getCloudletProcessingUpdateInterval(estimatedFinishTime),
-                CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
-        }
+        return scheduler.cloudletSubmit(cloudlet, fileTransferTime);
+    }
 
-        sendCloudletSubmitAckToBroker(cloudlet, ack);
+    /**
+     * Checks if a submitted cloudlet was placed into the exec queue,
+     * according to its estimated finish time.
+     * @param estimatedFinishTime the estimated finish time returned when the cloudlet was submitted
+     * @return true if the cloudlet is in execution, false otherwise
+     */
+    private boolean isCloudletInExecution(final double estimatedFinishTime) {
+        return estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime);
     }
 
     /**
@@ -572,7 +641,10 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     private boolean processVmCreate(final SimEvent evt) {
         final Vm vm = (Vm) evt.getData();
 
+        final Timer timer = getSimulation().getMetrics().timer("vmAllocationPolicy.allocateHostForVm");
+        final long start = timer.start();
         final boolean hostAllocatedForVm = vmAllocationPolicy.allocateHostForVm(vm);
+        timer.stop(start);
         if (hostAllocatedForVm) {
             vm.updateProcessing(vm.getHost().getVmScheduler().getAllocatedMips(vm));
         }
@@ -584,6 +656,42 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return hostAllocatedForVm;
     }
 
+    /**
+     * Process the event for a Broker which wants to create a batch of VMs in this
+     * Datacenter. The whole batch is given to the {@link #getVmAllocationPolicy()} in a single
+     * allocation pass and this Datacenter sends a single {@link CloudSimTags#VM_CREATE_BATCH_ACK}
+     * back to the Broker, containing the same list of VMs.
+     * The Broker then checks which VMs were created by calling {@link Vm#isCreated()}.
+     *
+     * @param evt information about the event just happened, whose data is a List of Vms
+     */
+    private void processVmCreateBatch(final SimEvent evt) {
+        final List<?> data = (List<?>) evt.getData();
+        if (data.isEmpty()) {
+            return;
+        }
+
+        final List<Vm> vmList = new ArrayList<>(data.size());
+        for (final Object vm : data) {
+            vmList.add((Vm) vm);
+        }
+
+        final Timer timer = getSimulation().getMetrics().timer("vmAllocationPolicy.allocateHostForVm");
+        final long start = timer.start();
+        final List<Vm> failedVms = vmAllocationPolicy.allocateHostForVm(vmList);
+        timer.stop(start);
+
+        final Set<Vm> failedVmSet = Collections.newSetFromMap(new IdentityHashMap<>(failedVms.size()));
+        failedVmSet.addAll(failedVms);
+        for (final Vm vm : vmList) {
+            if (!failedVmSet.contains(vm)) {
+                vm.updateProcessing(vm.getHost().getVmScheduler().getAllocatedMips(vm));
+            }
+        }
+
+        send(evt.getSource(), getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_CREATE_BATCH_ACK, vmList);
+    }
+
     /**
      * Process the event sent by a Broker, requesting the destruction of a given VM
      * created in this Datacenter. This Datacenter may send, upon
@@ -797,7 +905,10 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             return;
         }
 
+        final Timer timer = getSimulation().getMetrics().timer("vmAllocationPolicy.getOptimizedAllocationMap");
+        final long start = timer.start();
         lastMigrationMap = getVmAllocationPolicy().getOptimizedAllocationMap(getVmList());
+        timer.stop(start);
         for (final Map.Entry<Vm, Host> entry : lastMigrationMap.entrySet()) {
             requestVmMigration(entry.getKey(), entry.getValue());
         }
@@ -94,6 +94,24 @@ public class ExponentialDistr extends ExponentialDistribution implements Continu
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     * Values are generated by inversion of the cumulative distribution function,
+     * which requires a single uniform number for each value.
+     * Therefore, the generated sequence is different from the one generated by consecutive calls to
+     * {@link #sample()}, which relies on the Ahrens-Dieter algorithm
+     * implemented by {@link ExponentialDistribution}.
+     * @param out {@inheritDoc}
+     */
+    @Override
+    public void sample(final double[] out) {
+        final double mean = getMean();
+        for (int i = 0; i < out.length; i++) {
+            final double value = -mean * Math.log(1 - random.nextDouble());
+            out[i] = applyAntitheticVariates ? 1 - value : value;
+        }
+    }
+
     @Override
     public double originalSample() {
         return super.sample();
@@ -88,6 +88,21 @@ public class NormalDistr extends NormalDistribution implements ContinuousDistrib
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     * The array is filled with the same sequence generated by consecutive calls to {@link #sample()}.
+     * @param out {@inheritDoc}
+     */
+    @Override
+    public void sample(final double[] out) {
+        final double mean = getMean();
+        final double standardDeviation = getStandardDeviation();
+        for (int i = 0; i < out.length; i++) {
+            final double value = standardDeviation * random.nextGaussian() + mean;
+            out[i] = applyAntitheticVariates ? 1 - value : value;
+        }
+    }
+
     @Override
     public double originalSample() {
         return super.sample();
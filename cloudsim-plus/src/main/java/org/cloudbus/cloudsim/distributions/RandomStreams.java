@@ -0,0 +1,164 @@
+package org.cloudbus.cloudsim.distributions;
+
+/**
+ * A factory of reproducible Pseudo-Random Number Generator (PRNG) streams,
+ * which derives an independent seed for each simulation entity or distribution
+ * from a single root seed.
+ *
+ * <p>Each stream is identified by a key (such as a name like "cloudlet.length" or an entity id).
+ * The seed of a stream depends just on the root seed and the key,
+ * not on the order or the thread where streams are created.
+ * This way, experiments executed in parallel produce the same results as sequential executions,
+ * as long as each experiment uses its own {@link #substreams(long) substreams}.
+ * For instance:</p>
+ *
+ * <pre>{@code
+ * final RandomStreams streams = new RandomStreams(rootSeed).substreams(experimentIndex);
+ * final ContinuousDistribution arrivals = streams.exponential("cloudlet.arrival", 10);
+ * final ContinuousDistribution lengths = streams.uniform("cloudlet.length", 1000, 10000);
+ * }</pre>
+ *
+ * <p>Generators are {@link SplittableRandomGenerator}s,
+ * which are faster than the default generator of the distributions in this package.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public final class RandomStreams {
+    /** The 64-bit golden ratio, used to spread consecutive keys. */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** @see #getRootSeed() */
+    private final long rootSeed;
+
+    /**
+     * Creates a factory of streams derived from a given root seed.
+     * @param rootSeed the seed from which the seed of every stream is derived
+     */
+    public RandomStreams(final long rootSeed) {
+        this.rootSeed = rootSeed;
+    }
+
+    /**
+     * Gets the seed from which the seed of every stream is derived.
+     * @return
+     */
+    public long getRootSeed() {
+        return rootSeed;
+    }
+
+    /**
+     * Creates a factory of streams independent of the ones from this factory,
+     * such as the streams for a single experiment among many ones.
+     * @param key the key identifying the substreams
+     * @return a new factory whose root seed is derived from this one and the given key
+     */
+    public RandomStreams substreams(final long key) {
+        return new RandomStreams(seedFor(key));
+    }
+
+    /**
+     * Creates a factory of streams independent of the ones from this factory,
+     * such as the streams for a given simulation entity.
+     * @param key the key identifying the substreams
+     * @return a new factory whose root seed is derived from this one and the given key
+     */
+    public RandomStreams substreams(final String key) {
+        return new RandomStreams(seedFor(key));
+    }
+
+    /**
+     * Gets the seed of a stream.
+     * @param key the key identifying the stream
+     * @return the non-negative seed of the stream
+     */
+    public long seedFor(final long key) {
+        return mix(rootSeed + GOLDEN_GAMMA * (key + 1)) & Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the seed of a stream.
+     * @param key the key identifying the stream
+     * @return the non-negative seed of the stream
+     */
+    public long seedFor(final String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+
+        return seedFor(hash);
+    }
+
+    /**
+     * Creates the PRNG for a stream.
+     * @param key the key identifying the stream
+     * @return a new PRNG that always generates the same sequence for the same root seed and key
+     */
+    public SplittableRandomGenerator generator(final long key) {
+        return new SplittableRandomGenerator(seedFor(key));
+    }
+
+    /**
+     * Creates the PRNG for a stream.
+     * @param key the key identifying the stream
+     * @return a new PRNG that always generates the same sequence for the same root seed and key
+     */
+    public SplittableRandomGenerator generator(final String key) {
+        return new SplittableRandomGenerator(seedFor(key));
+    }
+
+    /**
+     * Creates a {@link UniformDistr} for a stream.
+     * @param key the key identifying the stream
+     * @param minInclusive minimum value to generate (inclusive)
+     * @param maxExclusive maximum value to generate (exclusive)
+     * @return the new distribution
+     */
+    public UniformDistr uniform(final String key, final double minInclusive, final double maxExclusive) {
+        final SplittableRandomGenerator rng = generator(key);
+        return new UniformDistr(minInclusive, maxExclusive, rng.getSeed(), rng);
+    }
+
+    /**
+     * Creates an {@link ExponentialDistr} for a stream.
+     * @param key the key identifying the stream
+     * @param mean the mean for the distribution
+     * @return the new distribution
+     */
+    public ExponentialDistr exponential(final String key, final double mean) {
+        final SplittableRandomGenerator rng = generator(key);
+        return new ExponentialDistr(mean, rng.getSeed(), rng);
+    }
+
+    /**
+     * Creates a {@link NormalDistr} for a stream.
+     * @param key the key identifying the stream
+     * @param mean the mean for the distribution
+     * @param standardDeviation the standard deviation for the distribution
+     * @return the new distribution
+     */
+    public NormalDistr normal(final String key, final double mean, final double standardDeviation) {
+        final SplittableRandomGenerator rng = generator(key);
+        return new NormalDistr(mean, standardDeviation, rng.getSeed(), rng);
+    }
+
+    /**
+     * The SplitMix64 finalizer, which maps close values to very different ones.
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    @Override
+    public String toString() {
+        return "RandomStreams{rootSeed=" + rootSeed + '}';
+    }
+}
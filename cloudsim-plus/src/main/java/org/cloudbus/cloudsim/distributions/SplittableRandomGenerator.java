@@ -0,0 +1,102 @@
+package org.cloudbus.cloudsim.distributions;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * A {@link RandomGenerator} that internally uses a {@link SplittableRandom},
+ * a very fast Pseudo-Random Number Generator (PRNG) whose state is a single long value.
+ * Since its sequence is fully defined by the seed, it can be used to reproduce
+ * simulation experiments, even when they are executed in parallel.
+ *
+ * <p>Generators for different simulation entities or distributions are usually created from a
+ * {@link RandomStreams}, which derives an independent seed for each one
+ * from a single root seed.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ * @see RandomStreams
+ */
+public final class SplittableRandomGenerator implements RandomGenerator {
+    /** @see #getSeed() */
+    private long seed;
+    private SplittableRandom random;
+
+    /**
+     * Creates a generator with a given seed.
+     * @param seed the seed to initialize the generator
+     */
+    public SplittableRandomGenerator(final long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Gets the seed used to initialize the generator.
+     * @return
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void setSeed(final int seed) {
+        setSeed((long) seed);
+    }
+
+    @Override
+    public void setSeed(final int[] seed) {
+        long combined = 0;
+        for (final int value : seed) {
+            combined = combined * 31 + value;
+        }
+
+        setSeed(combined);
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        random.nextBytes(bytes);
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(final int n) {
+        return random.nextInt(n);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public float nextFloat() {
+        return random.nextFloat();
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public double nextGaussian() {
+        return random.nextGaussian();
+    }
+}
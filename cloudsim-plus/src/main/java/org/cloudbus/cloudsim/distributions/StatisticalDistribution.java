@@ -40,6 +40,22 @@ public interface StatisticalDistribution {
         return isApplyAntitheticVariates() ? 1 - originalSample() : originalSample();
     }
 
+    /**
+     * Fills an array with new pseudo random numbers,
+     * applying the {@link #isApplyAntitheticVariates() Antithetic Variates Technique} if enabled.
+     * It's a bulk alternative to {@link #sample()} which doesn't allocate any object.
+     * Some distributions provide a specialized implementation that may generate
+     * a different sequence than consecutive calls to {@link #sample()},
+     * but still following the same distribution.
+     *
+     * @param out the array to fill with the generated numbers
+     */
+    default void sample(final double[] out) {
+        for (int i = 0; i < out.length; i++) {
+            out[i] = sample();
+        }
+    }
+
     /**
      * Gets the seed used to initialize the generator
      * @return
@@ -173,6 +173,22 @@ public class UniformDistr extends UniformRealDistribution implements ContinuousD
         return applyAntitheticVariates ? 1 - super.sample() : super.sample();
     }
 
+    /**
+     * {@inheritDoc}
+     * The array is filled with the same sequence generated by consecutive calls to {@link #sample()}.
+     * @param out {@inheritDoc}
+     */
+    @Override
+    public void sample(final double[] out) {
+        final double lower = getSupportLowerBound();
+        final double upper = getSupportUpperBound();
+        for (int i = 0; i < out.length; i++) {
+            final double u = random.nextDouble();
+            final double value = u * upper + (1 - u) * lower;
+            out[i] = applyAntitheticVariates ? 1 - value : value;
+        }
+    }
+
     @Override
     public long getSeed() {
         return seed;
@@ -14,11 +14,28 @@ import org.apache.commons.math3.random.RandomGenerator;
  * A Pseudo-Random Number Generator following the
  * <a href="http://en.wikipedia.org/wiki/Zipf's_law">Zipf</a> distribution.
  *
+ * <p>Each sample is the cumulative probability of a rank drawn from the distribution.
+ * Ranks are drawn in constant expected time, by the
+ * <a href="https://doi.org/10.1145/235025.235029">rejection-inversion</a> method
+ * of W. Hörmann and G. Derflinger, or in constant time by a
+ * <a href="https://en.wikipedia.org/wiki/Alias_method">Walker alias table</a>
+ * if {@link #setAliasTableEnabled(boolean) enabled} for a small population.
+ * The cumulative probabilities of the first {@link #MAX_EXACT_POPULATION} ranks are
+ * kept into a table, while the ones for higher ranks are computed
+ * by the Euler-Maclaurin formula for the generalized harmonic numbers.</p>
+ *
  * @author Marcos Dias de Assuncao
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 1.0
  */
 public class ZipfDistr implements DiscreteDistribution {
+    /**
+     * The maximum number of ranks whose cumulative probabilities are stored into a table,
+     * which is also the maximum population for which an {@link #setAliasTableEnabled(boolean) alias table}
+     * can be used.
+     */
+    public static final int MAX_EXACT_POPULATION = 1 << 16;
+
     /** @see #isApplyAntitheticVariates() */
     private boolean applyAntitheticVariates;
 
@@ -31,9 +48,41 @@ public class ZipfDistr implements DiscreteDistribution {
     private final double shape;
 
     /**
-     * The den.
+     * The population distribution parameter
+     */
+    private final int population;
+
+    /**
+     * The generalized harmonic number of the population,
+     * that is the sum of the inverse of each rank raised to the {@link #shape}.
+     */
+    private final double den;
+
+    /**
+     * The generalized harmonic numbers of the first ranks,
+     * where the element at index i is the number for the rank i+1.
      */
-    private double den;
+    private final double[] harmonics;
+
+    /**
+     * Probabilities for each column of the alias table, or null if the table is disabled.
+     * @see #setAliasTableEnabled(boolean)
+     */
+    private double[] aliasProbabilities;
+
+    /**
+     * The alias rank index for each column of the alias table.
+     */
+    private int[] aliases;
+
+    /** Integral of the hat function from 1.5 to the rank 1, used by the rejection-inversion method. */
+    private final double hIntegralX1;
+
+    /** Integral of the hat function up to the last rank, used by the rejection-inversion method. */
+    private final double hIntegralPopulation;
+
+    /** Squeeze constant used by the rejection-inversion method to accept a rank with no further computation. */
+    private final double squeeze;
 
     /**
      * Creates a Zipf Pseudo-Random Number Generator (RNG).
@@ -90,23 +139,135 @@ public class ZipfDistr implements DiscreteDistribution {
         this.rng = rng;
         this.shape = shape;
         this.seed = seed;
-        computeDen(shape, population);
+        this.population = population;
+        this.harmonics = computeHarmonics(Math.min(population, MAX_EXACT_POPULATION));
+        this.den = harmonic(population);
+
+        this.hIntegralX1 = hIntegral(1.5) - 1.0;
+        this.hIntegralPopulation = hIntegral(population + 0.5);
+        this.squeeze = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
     }
 
+    /**
+     * {@inheritDoc}
+     * The sample is the cumulative probability of the rank preceding a rank drawn from the distribution
+     * (or of the first rank, if the first one is drawn).
+     * @return {@inheritDoc}
+     */
     @Override
     public double sample() {
-        final double variate = rng.nextDouble();
-        double num = 1;
-        double nextNum = 1 + 1 / Math.pow(2, shape);
-        double i = 3;
-
-        while (variate > nextNum / den) {
-            num = nextNum;
-            nextNum += 1 / Math.pow(i, shape);
-            i++;
+        final int rank = aliasProbabilities == null ? sampleRankByRejectionInversion() : sampleRankByAliasTable();
+        return harmonic(Math.max(rank, 2) - 1) / den;
+    }
+
+    /**
+     * Draws a rank by the rejection-inversion method, which takes constant expected time
+     * independently of the population size.
+     * @return the rank drawn, from 1 to the population
+     */
+    private int sampleRankByRejectionInversion() {
+        while (true) {
+            final double u = hIntegralPopulation + rng.nextDouble() * (hIntegralX1 - hIntegralPopulation);
+            final double x = hIntegralInverse(u);
+            final int rank = (int) Math.max(1, Math.min(population, (long) (x + 0.5)));
+            if (rank - x <= squeeze || u >= hIntegral(rank + 0.5) - h(rank)) {
+                return rank;
+            }
         }
+    }
+
+    /**
+     * Draws a rank in constant time from the alias table.
+     * @return the rank drawn, from 1 to the population
+     */
+    private int sampleRankByAliasTable() {
+        final double u = rng.nextDouble() * population;
+        final int column = Math.min((int) u, population - 1);
+        return u - column < aliasProbabilities[column] ? column + 1 : aliases[column] + 1;
+    }
 
-        return num / den;
+    /**
+     * Checks if ranks are drawn from a Walker alias table.
+     * @return
+     * @see #setAliasTableEnabled(boolean)
+     */
+    public boolean isAliasTableEnabled() {
+        return aliasProbabilities != null;
+    }
+
+    /**
+     * Enables or disables the usage of a Walker alias table to draw ranks.
+     * The table has constant sampling time but requires memory proportional to the population,
+     * so it can just be enabled for populations up to {@link #MAX_EXACT_POPULATION}.
+     * When disabled, the rejection-inversion method is used.
+     *
+     * @param enabled true to enable the alias table, false to disable it
+     * @return this distribution
+     * @throws IllegalStateException when trying to enable the table for a population greater than {@link #MAX_EXACT_POPULATION}
+     */
+    public ZipfDistr setAliasTableEnabled(final boolean enabled) {
+        if(!enabled) {
+            aliasProbabilities = null;
+            aliases = null;
+            return this;
+        }
+
+        if(population > MAX_EXACT_POPULATION) {
+            throw new IllegalStateException(
+                "The alias table can just be enabled for a population up to " + MAX_EXACT_POPULATION);
+        }
+
+        if(aliasProbabilities == null) {
+            buildAliasTable();
+        }
+
+        return this;
+    }
+
+    /**
+     * Builds the alias table by the Vose's method.
+     */
+    private void buildAliasTable() {
+        final double[] probabilities = new double[population];
+        final int[] aliasIndexes = new int[population];
+        final double[] scaled = new double[population];
+        final int[] small = new int[population];
+        final int[] large = new int[population];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < population; i++) {
+            scaled[i] = h(i + 1) / den * population;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0) {
+            final int less = small[--smallSize];
+            final int more = large[--largeSize];
+            probabilities[less] = scaled[less];
+            aliasIndexes[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+
+        //Remaining columns have probability 1 except for rounding errors
+        while (largeSize > 0) {
+            probabilities[large[--largeSize]] = 1;
+        }
+
+        while (smallSize > 0) {
+            probabilities[small[--smallSize]] = 1;
+        }
+
+        this.aliasProbabilities = probabilities;
+        this.aliases = aliasIndexes;
     }
 
     @Override
@@ -131,15 +292,89 @@ public class ZipfDistr implements DiscreteDistribution {
     }
 
     /**
-     * Computes and stores the {@link #den}.
+     * Computes the generalized harmonic numbers of the first ranks,
+     * adding the terms in the same order they are defined.
      *
-     * @param shape the shape distribution parameter
-     * @param population the population distribution parameter
+     * @param ranks the number of ranks to compute the harmonic numbers
+     * @return an array where the element at index i is the harmonic number for the rank i+1
      */
-    private void computeDen(final double shape, final int population) {
-        this.den = 0.0;
-        for (int i = 1; i <= population; i++) {
-            this.den += 1 / Math.pow(i, shape);
+    private double[] computeHarmonics(final int ranks) {
+        final double[] values = new double[ranks];
+        double sum = 0.0;
+        for (int i = 1; i <= ranks; i++) {
+            sum += 1 / Math.pow(i, shape);
+            values[i - 1] = sum;
         }
+
+        return values;
+    }
+
+    /**
+     * Gets the generalized harmonic number for a given rank, that is,
+     * the sum of the inverse of every rank up to the given one, raised to the {@link #shape}.
+     * For ranks greater than {@link #MAX_EXACT_POPULATION}, the sum of the terms
+     * after the last stored harmonic number is computed by the Euler-Maclaurin formula.
+     *
+     * @param rank the rank to get the harmonic number
+     * @return the generalized harmonic number
+     */
+    private double harmonic(final int rank) {
+        if (rank <= harmonics.length) {
+            return harmonics[rank - 1];
+        }
+
+        final int last = harmonics.length;
+        final double logRatio = Math.log((double) rank / last);
+        final double integral = Math.pow(last, 1 - shape) * logRatio * helper2((1 - shape) * logRatio);
+        final double ends = (h(rank) - h(last)) / 2;
+        final double derivatives = shape * (h(last) / last - h(rank) / rank) / 12;
+        return harmonics[last - 1] + integral + ends + derivatives;
+    }
+
+    /**
+     * The Zipf function {@code 1/x^shape}, which is the hat function for the rejection-inversion method.
+     */
+    private double h(final double x) {
+        return Math.exp(-shape * Math.log(x));
+    }
+
+    /**
+     * The integral of the {@link #h(double)} function, such that
+     * {@code hIntegral(x) = (x^(1-shape) - 1)/(1-shape)}, computed in a numerically stable way.
+     */
+    private double hIntegral(final double x) {
+        final double logX = Math.log(x);
+        return helper2((1 - shape) * logX) * logX;
+    }
+
+    /**
+     * The inverse of the {@link #hIntegral(double)} function.
+     */
+    private double hIntegralInverse(final double x) {
+        //Limits t to avoid a NaN due to rounding errors
+        final double t = Math.max(-1, x * (1 - shape));
+        return Math.exp(helper1(t) * x);
+    }
+
+    /**
+     * Computes {@code log(1+x)/x}, including the limit value 1 for x equal to 0.
+     */
+    private static double helper1(final double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+
+        return 1 - x * (0.5 - x * (1 / 3.0 - 0.25 * x));
+    }
+
+    /**
+     * Computes {@code (exp(x)-1)/x}, including the limit value 1 for x equal to 0.
+     */
+    private static double helper2(final double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+
+        return 1 + x * 0.5 * (1 + x / 3.0 * (1 + 0.25 * x));
     }
 }
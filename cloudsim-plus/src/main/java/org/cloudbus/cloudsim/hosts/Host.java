@@ -22,6 +22,7 @@ import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.vms.HostResourceStats;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSlotIndex;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
@@ -342,6 +343,19 @@ public interface Host extends Machine, Comparable<Host>, PowerAware<PowerModelHo
      */
     VmScheduler getVmScheduler();
 
+    /**
+     * Gets the index that assigns a dense slot number to each VM using resources from this Host.
+     * It's shared by the resource provisioners and the {@link VmScheduler} of the Host,
+     * which store the amount of resources allocated to each VM into arrays indexed by such slots.
+     * The default implementation returns {@link VmSlotIndex#NULL}, which makes each
+     * of such objects use an index of its own.
+     *
+     * @return the VM slot index
+     */
+    default VmSlotIndex getVmSlotIndex() {
+        return VmSlotIndex.NULL;
+    }
+
     /**
      * Sets the policy for allocation of host PEs to VMs in order to schedule VM
      * execution. The host also sets itself to the given scheduler.
@@ -633,6 +647,26 @@ public interface Host extends Machine, Comparable<Host>, PowerAware<PowerModelHo
      */
     double getCpuMipsUtilization();
 
+    /**
+     * Gets the total MIPS currently requested by all VMs placed into the Host
+     * (including VMs migrating into it).
+     * Such a value is kept updated as VMs are placed, resized or removed,
+     * so this method has constant time complexity.
+     *
+     * @return
+     * @see #getCpuPercentRequested()
+     */
+    double getTotalRequestedMips();
+
+    /**
+     * Gets the percentage of CPU capacity (between [0 and 1])
+     * currently requested by all VMs placed into the Host.
+     *
+     * @return
+     * @see #getTotalRequestedMips()
+     */
+    double getCpuPercentRequested();
+
     /**
      * Gets the current utilization of bw (in Megabits/s).
      *
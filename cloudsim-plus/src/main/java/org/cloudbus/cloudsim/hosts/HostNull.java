@@ -10,6 +10,7 @@ import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.vms.HostResourceStats;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSlotIndex;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
@@ -90,6 +91,9 @@ final class HostNull implements Host {
     @Override public VmScheduler getVmScheduler() {
         return VmScheduler.NULL;
     }
+    @Override public VmSlotIndex getVmSlotIndex() {
+        return VmSlotIndex.NULL;
+    }
     @Override public Host setVmScheduler(VmScheduler vmScheduler) {
         return Host.NULL;
     }
@@ -160,6 +164,8 @@ final class HostNull implements Host {
     @Override public List<Pe> getFreePeList() { return Collections.emptyList(); }
     @Override public double getCpuPercentUtilization() { return 0.0; }
     @Override public double getCpuMipsUtilization() { return 0.0; }
+    @Override public double getTotalRequestedMips() { return 0.0; }
+    @Override public double getCpuPercentRequested() { return 0.0; }
     @Override public long getBwUtilization() { return 0; }
     @Override public long getRamUtilization() { return 0; }
     @Override public HostResourceStats getCpuUtilizationStats() { return new HostResourceStats(this, host -> 0.0); }
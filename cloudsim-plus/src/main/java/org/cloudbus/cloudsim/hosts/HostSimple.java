@@ -125,9 +125,11 @@ public class HostSimple implements Host {
     private Simulation simulation;
 
     /** @see #getResources() */
-    private List<ResourceManageable> resources;
+    private final ResourceSlots resourceSlots;
+
+    /** @see #getVmSlotIndex() */
+    private final VmSlotIndex vmSlotIndex = new VmSlotIndex();
 
-    private List<ResourceProvisioner> provisioners;
     private final List<Vm> vmCreatedList;
 
     /** @see #getFreePesNumber() */
@@ -254,6 +256,7 @@ public class HostSimple implements Host {
 
         this.ram = new Ram(ram);
         this.bw = new Bandwidth(bw);
+        this.resourceSlots = new ResourceSlots().setRam(this.ram).setBw(this.bw);
         this.setStorage(storage);
         this.setRamProvisioner(new ResourceProvisionerSimple());
         this.setBwProvisioner(new ResourceProvisionerSimple());
@@ -269,9 +272,7 @@ public class HostSimple implements Host {
         this.onShutdownListeners = new HashSet<>();
         this.cpuUtilizationStats = HostResourceStats.NULL;
 
-        this.resources = new ArrayList<>();
         this.vmCreatedList = new ArrayList<>();
-        this.provisioners = new ArrayList<>();
         this.vmsMigratingIn = new HashSet<>();
         this.vmsMigratingOut = new HashSet<>();
         this.powerModel = PowerModelHost.NULL;
@@ -722,6 +723,7 @@ public class HostSimple implements Host {
         checkSimulationIsRunningAndAttemptedToChangeHost("RAM");
         this.ramProvisioner = requireNonNull(ramProvisioner);
         this.ramProvisioner.setResource(ram);
+        this.ramProvisioner.setVmSlotIndex(vmSlotIndex);
         return this;
     }
 
@@ -741,6 +743,7 @@ public class HostSimple implements Host {
         checkSimulationIsRunningAndAttemptedToChangeHost("BW");
         this.bwProvisioner = requireNonNull(bwProvisioner);
         this.bwProvisioner.setResource(bw);
+        this.bwProvisioner.setVmSlotIndex(vmSlotIndex);
         return this;
     }
 
@@ -749,6 +752,11 @@ public class HostSimple implements Host {
         return vmScheduler;
     }
 
+    @Override
+    public VmSlotIndex getVmSlotIndex() {
+        return vmSlotIndex;
+    }
+
     @Override
     public final Host setVmScheduler(final VmScheduler vmScheduler) {
         this.vmScheduler = requireNonNull(vmScheduler);
@@ -849,6 +857,10 @@ public class HostSimple implements Host {
             pe.setId(++peId);
         }
 
+        for(final Pe pe: peList){
+            pe.getPeProvisioner().setVmSlotIndex(vmSlotIndex);
+        }
+
         failedPesNumber = 0;
         setPeStatus(peList, Pe.Status.FREE);
         freePesNumber = peList.size();
@@ -1096,25 +1108,23 @@ public class HostSimple implements Host {
     }
 
     @Override
-    public List<ResourceManageable> getResources() {
-        if(simulation.isRunning() && resources.isEmpty()){
-            resources = Arrays.asList(ramProvisioner.getResource(), bwProvisioner.getResource());
-        }
+    public ResourceManageable getResource(final Class<? extends ResourceManageable> resourceClass) {
+        return resourceSlots.get(resourceClass);
+    }
 
-        return Collections.unmodifiableList(resources);
+    @Override
+    public List<ResourceManageable> getResources() {
+        return resourceSlots.asList();
     }
 
     @Override
     public ResourceProvisioner getProvisioner(final Class<? extends ResourceManageable> resourceClass) {
-        if(simulation.isRunning() && provisioners.isEmpty()){
-            provisioners = Arrays.asList(ramProvisioner, bwProvisioner);
+        final ResourceManageable resource = resourceSlots.get(resourceClass);
+        if(resource == ram){
+            return ramProvisioner;
         }
 
-        return provisioners
-            .stream()
-            .filter(provisioner -> provisioner.getResource().isSubClassOf(resourceClass))
-            .findFirst()
-            .orElse(ResourceProvisioner.NULL);
+        return resource == bw ? bwProvisioner : ResourceProvisioner.NULL;
     }
 
     @Override
@@ -1156,6 +1166,16 @@ public class HostSimple implements Host {
         return vmList.stream().mapToDouble(Vm::getTotalCpuMipsUtilization).sum();
     }
 
+    @Override
+    public double getTotalRequestedMips() {
+        return vmScheduler.getTotalRequestedMips();
+    }
+
+    @Override
+    public double getCpuPercentRequested() {
+        return getTotalRequestedMips() / getTotalMipsCapacity();
+    }
+
     @Override
     public long getRamUtilization() {
         return ramProvisioner.getTotalAllocatedResource();
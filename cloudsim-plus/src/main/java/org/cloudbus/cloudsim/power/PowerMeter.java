@@ -71,6 +71,7 @@ public class PowerMeter extends CloudSimEntity {
 
     @Override
     protected void startInternal() {
+        getSimulation().registerPeriodicTag(POWER_MEASUREMENT);
         schedule(POWER_MEASUREMENT);
     }
 
@@ -107,11 +108,12 @@ public class PowerMeter extends CloudSimEntity {
     }
 
     /**
-     * Just re-schedule measurements if there are other events to be processed.
+     * Just re-schedule measurements if there are other events to be processed,
+     * ignoring the ones other periodic entities schedule.
      * Otherwise, the simulation has finished and no more measurements should be scheduled.
      */
     private void scheduleMeasurement() {
-        if (getSimulation().isThereAnyFutureEvt(evt -> evt.getTag() != POWER_MEASUREMENT)) {
+        if (getSimulation().isThereAnyNonPeriodicFutureEvt()) {
             schedule(measurementInterval, POWER_MEASUREMENT);
         }
     }
@@ -10,7 +10,9 @@ package org.cloudbus.cloudsim.provisioners;
 
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.*;
+import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSlotIndex;
 
 /**
  * An interface that represents the provisioning policy used by a {@link Host}
@@ -128,6 +130,19 @@ public interface ResourceProvisioner {
      */
     void setResource(ResourceManageable resource);
 
+    /**
+     * Sets the index used to assign a slot to each VM inside the provisioner allocation table.
+     * Such an index is usually shared by all provisioners and the {@link VmScheduler}
+     * of a Host, so that a VM has the same slot in all these tables.
+     * The allocations already made are moved to the slots assigned by the new index.
+     * The default implementation does nothing, for provisioners that don't store
+     * allocations into slot-indexed tables.
+     *
+     * @param slotIndex the index to assign a slot to each VM
+     * @see Host#getVmSlotIndex()
+     */
+    default void setVmSlotIndex(VmSlotIndex slotIndex) {/**/}
+
     /**
      * Gets the total capacity of the physical resource from the Host that the provisioner manages.
      *
@@ -11,8 +11,9 @@ package org.cloudbus.cloudsim.provisioners;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSlotIndex;
+import org.cloudbus.cloudsim.vms.VmSlotLongMap;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -32,8 +33,12 @@ public abstract class ResourceProvisionerAbstract implements ResourceProvisioner
      */
     private ResourceManageable resource;
 
-    /** @see #getResourceAllocationMap()  */
-    private final Map<Vm, Long> resourceAllocationMap;
+    /**
+     * The amount of resource allocated to each VM,
+     * stored into a primitive array indexed by the VM slot.
+     * @see #getResourceAllocationMap()
+     */
+    private final VmSlotLongMap resourceAllocationMap;
 
     /**
      * @see #getResourceClass()
@@ -55,12 +60,12 @@ public abstract class ResourceProvisionerAbstract implements ResourceProvisioner
      */
     public ResourceProvisionerAbstract(final ResourceManageable resource) {
         this.setResource(resource);
-        this.resourceAllocationMap = new HashMap<>();
+        this.resourceAllocationMap = new VmSlotLongMap(new VmSlotIndex());
     }
 
     @Override
     public long getAllocatedResourceForVm(final Vm vm) {
-        return resourceAllocationMap.getOrDefault(vm, 0L);
+        return resourceAllocationMap.getLong(vm);
     }
 
     @Override
@@ -91,6 +96,11 @@ public abstract class ResourceProvisionerAbstract implements ResourceProvisioner
         this.resourceClass = resource.getClass();
     }
 
+    @Override
+    public void setVmSlotIndex(final VmSlotIndex slotIndex) {
+        resourceAllocationMap.setSlotIndex(slotIndex);
+    }
+
     /**
      * Gets the class of the resource that this provisioner manages.
      * @return the resource class
@@ -102,12 +112,24 @@ public abstract class ResourceProvisionerAbstract implements ResourceProvisioner
     /**
      * Gets the VM resource allocation map, where each key is a VM and each value
      * is the amount of resource allocated to that VM.
+     * It's a view of the allocation table, whose values are stored into a primitive array
+     * indexed by the slot of each VM.
      * @return the resource allocation Map
+     * @see #getAllocationTable()
      */
     protected Map<Vm, Long> getResourceAllocationMap() {
         return resourceAllocationMap;
     }
 
+    /**
+     * Gets the VM resource allocation table, which enables getting and setting
+     * the amount of resource allocated to each VM without boxing values.
+     * @return the resource allocation table
+     */
+    protected VmSlotLongMap getAllocationTable() {
+        return resourceAllocationMap;
+    }
+
     @Override
     public long getCapacity() {
         return resource.getCapacity();
@@ -125,6 +147,6 @@ public abstract class ResourceProvisionerAbstract implements ResourceProvisioner
 
     @Override
     public boolean isResourceAllocatedToVm(Vm vm) {
-        return resourceAllocationMap.keySet().contains(vm);
+        return resourceAllocationMap.containsKey(vm);
     }
 }
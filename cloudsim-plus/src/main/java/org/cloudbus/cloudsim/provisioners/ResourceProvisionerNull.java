@@ -2,6 +2,7 @@ package org.cloudbus.cloudsim.provisioners;
 
 import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSlotIndex;
 
 /**
  * A class that implements the Null Object Design Pattern for
@@ -31,6 +32,7 @@ class ResourceProvisionerNull implements ResourceProvisioner {
         return ResourceManageable.NULL;
     }
     @Override public void setResource(ResourceManageable resource) {/**/}
+    @Override public void setVmSlotIndex(VmSlotIndex slotIndex) {/**/}
     @Override public long getCapacity() { return 0; }
     @Override public long getAvailableResource() { return 0; }
     @Override public boolean isResourceAllocatedToVm(Vm vm) { return false; }
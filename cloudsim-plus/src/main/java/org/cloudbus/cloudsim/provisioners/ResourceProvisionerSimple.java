@@ -58,8 +58,9 @@ public class ResourceProvisionerSimple extends ResourceProvisionerAbstract {
         /* Stores the resource allocation before changing the current allocation,
          * this line, this line must be placed here and not at the end
          * where it's in fact used.*/
-        final long prevVmResourceAllocation = vm.getResource(getResourceClass()).getAllocatedResource();
-        if (getResourceAllocationMap().containsKey(vm)) {
+        final ResourceManageable vmResource = vm.getResource(getResourceClass());
+        final long prevVmResourceAllocation = vmResource.getAllocatedResource();
+        if (getAllocationTable().containsKey(vm)) {
             //De-allocates any amount of the resource assigned to the Vm in order to allocate a new capacity
             deallocateResourceForVm(vm);
         }
@@ -70,14 +71,14 @@ public class ResourceProvisionerSimple extends ResourceProvisionerAbstract {
         This way, if the resource is not found inside the VM
         and it is a Pe, it's OK (as it is expected)
         */
-        if(!getResource().isSubClassOf(Pe.class) && !vm.getResource(getResourceClass()).setCapacity(newTotalVmResourceCapacity)){
+        if(!getResource().isSubClassOf(Pe.class) && !vmResource.setCapacity(newTotalVmResourceCapacity)){
             return false;
         }
 
         //Allocates the requested resource from the physical resource
         getResource().allocateResource(newTotalVmResourceCapacity);
-        getResourceAllocationMap().put(vm, newTotalVmResourceCapacity);
-        vm.getResource(getResourceClass()).setAllocatedResource(prevVmResourceAllocation);
+        getAllocationTable().putLong(vm, newTotalVmResourceCapacity);
+        vmResource.setAllocatedResource(prevVmResourceAllocation);
         return true;
     }
 
@@ -89,15 +90,15 @@ public class ResourceProvisionerSimple extends ResourceProvisionerAbstract {
     @Override
     public boolean deallocateResourceForVm(final Vm vm) {
         final long amountFreed = deallocateResourceForVmAndSetAllocationMapEntryToZero(vm);
-        getResourceAllocationMap().remove(vm);
+        getAllocationTable().remove(vm);
         return amountFreed > 0;
     }
 
     @Override
     protected long deallocateResourceForVmAndSetAllocationMapEntryToZero(final Vm vm) {
-        if (getResourceAllocationMap().containsKey(vm)) {
-            final long vmAllocatedResource = getResourceAllocationMap().get(vm);
-            getResourceAllocationMap().put(vm, 0L);
+        if (getAllocationTable().containsKey(vm)) {
+            final long vmAllocatedResource = getAllocationTable().getLong(vm);
+            getAllocationTable().putLong(vm, 0);
             //De-allocates the virtual resource the VM was using
             vm.deallocateResource(getResourceClass());
 
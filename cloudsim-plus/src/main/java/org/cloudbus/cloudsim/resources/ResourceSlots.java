@@ -0,0 +1,205 @@
+package org.cloudbus.cloudsim.resources;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the resources of a machine (such as a Host or VM) into fixed typed slots
+ * for {@link Ram}, {@link Bandwidth}, {@link Storage} and {@link Processor},
+ * plus an extension map for custom resource types.
+ * It enables a {@link Resourceful} machine to resolve a resource from its class in constant time,
+ * without looping through a resource list and calling {@link Class#isAssignableFrom(Class)}
+ * for each lookup.
+ *
+ * <p>Since the resource classes above are final, a request for any one of these classes
+ * is resolved directly from the corresponding slot.
+ * Requests for other classes (such as a super type like {@link ResourceManageable})
+ * are resolved by checking each resource in the order defined by {@link #asList()}
+ * (the same order a {@link Resourceful#getResource(Class)} would),
+ * and the result is cached until any slot is changed.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public final class ResourceSlots {
+    /** @see #getRam() */
+    private ResourceManageable ram;
+
+    /** @see #getBw() */
+    private ResourceManageable bw;
+
+    /** @see #getStorage() */
+    private ResourceManageable storage;
+
+    /** @see #getProcessor() */
+    private ResourceManageable processor;
+
+    /**
+     * A map of custom resources, where each key is the class of the resource.
+     * @see #addCustomResource(ResourceManageable)
+     */
+    private final Map<Class<? extends ResourceManageable>, ResourceManageable> customResources;
+
+    /**
+     * A cache of resources resolved for classes that are not the exact class of a slot,
+     * where each key is the requested class.
+     */
+    private final Map<Class<? extends ResourceManageable>, ResourceManageable> resolvedResources;
+
+    /** @see #asList() */
+    private List<ResourceManageable> resourceList;
+
+    /**
+     * Creates an empty ResourceSlots, where every slot has a {@link ResourceManageable#NULL} resource.
+     */
+    public ResourceSlots() {
+        this.ram = ResourceManageable.NULL;
+        this.bw = ResourceManageable.NULL;
+        this.storage = ResourceManageable.NULL;
+        this.processor = ResourceManageable.NULL;
+        this.customResources = new HashMap<>();
+        this.resolvedResources = new HashMap<>();
+    }
+
+    /**
+     * Gets the resource corresponding to a given class.
+     *
+     * @param resourceClass the class of resource to get
+     * @return the resource corresponding to the given class
+     *         or {@link ResourceManageable#NULL} if there is no such a resource
+     * @see Resourceful#getResource(Class)
+     */
+    public ResourceManageable get(final Class<? extends ResourceManageable> resourceClass) {
+        if (resourceClass == Ram.class) {
+            return ram;
+        }
+
+        if (resourceClass == Bandwidth.class) {
+            return bw;
+        }
+
+        if (resourceClass == Storage.class) {
+            return storage;
+        }
+
+        if (resourceClass == Processor.class) {
+            return processor;
+        }
+
+        final ResourceManageable resource = resolvedResources.get(resourceClass);
+        return resource == null ? resolve(resourceClass) : resource;
+    }
+
+    private ResourceManageable resolve(final Class<? extends ResourceManageable> resourceClass) {
+        ResourceManageable resolved = ResourceManageable.NULL;
+        for (final ResourceManageable resource : asList()) {
+            if (resource.isSubClassOf(resourceClass)) {
+                resolved = resource;
+                break;
+            }
+        }
+
+        resolvedResources.put(resourceClass, resolved);
+        return resolved;
+    }
+
+    /**
+     * Gets a <b>read-only</b> list of resources inside the slots,
+     * ordered as {@link Ram}, {@link Bandwidth}, {@link Storage}, {@link Processor}
+     * and then the custom resources.
+     * Empty slots are not included.
+     *
+     * @return a read-only list of resources
+     */
+    public List<ResourceManageable> asList() {
+        if (resourceList == null) {
+            final List<ResourceManageable> list = new ArrayList<>(4 + customResources.size());
+            addIfNotNull(list, ram);
+            addIfNotNull(list, bw);
+            addIfNotNull(list, storage);
+            addIfNotNull(list, processor);
+            list.addAll(customResources.values());
+            resourceList = Collections.unmodifiableList(list);
+        }
+
+        return resourceList;
+    }
+
+    private static void addIfNotNull(final List<ResourceManageable> list, final ResourceManageable resource) {
+        if (resource != ResourceManageable.NULL) {
+            list.add(resource);
+        }
+    }
+
+    /**
+     * Clears cached resource lookups, after a slot is changed.
+     */
+    private void invalidate() {
+        resolvedResources.clear();
+        resourceList = null;
+    }
+
+    public ResourceManageable getRam() {
+        return ram;
+    }
+
+    public ResourceSlots setRam(final Ram ram) {
+        this.ram = Objects.requireNonNull(ram);
+        invalidate();
+        return this;
+    }
+
+    public ResourceManageable getBw() {
+        return bw;
+    }
+
+    public ResourceSlots setBw(final Bandwidth bw) {
+        this.bw = Objects.requireNonNull(bw);
+        invalidate();
+        return this;
+    }
+
+    public ResourceManageable getStorage() {
+        return storage;
+    }
+
+    public ResourceSlots setStorage(final Storage storage) {
+        this.storage = Objects.requireNonNull(storage);
+        invalidate();
+        return this;
+    }
+
+    public ResourceManageable getProcessor() {
+        return processor;
+    }
+
+    public ResourceSlots setProcessor(final Processor processor) {
+        this.processor = Objects.requireNonNull(processor);
+        invalidate();
+        return this;
+    }
+
+    /**
+     * Adds a custom resource whose class is not one of the typed slots,
+     * replacing any previous custom resource of the same class.
+     *
+     * @param resource the custom resource to add
+     * @return this ResourceSlots
+     */
+    public ResourceSlots addCustomResource(final ResourceManageable resource) {
+        final Class<? extends ResourceManageable> resourceClass = Objects.requireNonNull(resource).getClass();
+        if (resourceClass == Ram.class || resourceClass == Bandwidth.class ||
+            resourceClass == Storage.class || resourceClass == Processor.class)
+        {
+            throw new IllegalArgumentException(resourceClass.getSimpleName() + " must be set into its own slot.");
+        }
+
+        customResources.put(resourceClass, resource);
+        invalidate();
+        return this;
+    }
+}
@@ -42,6 +42,9 @@ public interface Resourceful {
     /**
      * Gets a given {@link AbstractMachine} {@link Resource}, such as {@link Ram} or {@link Bandwidth},
      * from the List of machine resources.
+     * This default implementation loops through the {@link #getResources() resources List}.
+     * Machines such as Hosts and VMs keep their resources into {@link ResourceSlots}
+     * to resolve them in constant time.
      *
      * @param resourceClass the class of resource to get
      * @return the {@link Resource} corresponding to the given class
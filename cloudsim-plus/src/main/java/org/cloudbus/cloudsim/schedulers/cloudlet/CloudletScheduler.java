@@ -14,6 +14,7 @@ import org.cloudbus.cloudsim.network.VmPacket;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.CloudletTaskScheduler;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.CloudletResourceAllocationFailEventInfo;
 import org.cloudsimplus.listeners.EventListener;
@@ -230,6 +231,37 @@ public interface CloudletScheduler extends Serializable {
      */
     double updateProcessing(double currentTime, MipsShare mipsShare);
 
+    /**
+     * Updates the length a running Cloudlet has executed so far,
+     * for schedulers that don't compute it at every {@link #updateProcessing(double, MipsShare) processing update}.
+     * It's called by the Cloudlet before its executed length is read.
+     * The default implementation does nothing, for schedulers that compute
+     * the executed length of running Cloudlets at every processing update.
+     *
+     * <p><b>This method is used just internally and must not be called directly.</b></p>
+     *
+     * @param cloudlet the running Cloudlet to update
+     * @see Cloudlet#getFinishedLengthSoFar()
+     */
+    default void updateCloudletFinishedLength(final Cloudlet cloudlet) {/**/}
+
+    /**
+     * Changes the priority of a Cloudlet,
+     * keeping the order of waiting Cloudlets when it depends on their priorities.
+     * It's called by the Cloudlet when its priority is set.
+     * The default implementation just changes the priority,
+     * for schedulers where the order of waiting Cloudlets doesn't depend on it.
+     *
+     * <p><b>This method is used just internally and must not be called directly.</b></p>
+     *
+     * @param cloudlet the Cloudlet to change its priority
+     * @param priorityChange a {@link Runnable} that actually changes the priority of the Cloudlet
+     * @see Cloudlet#setPriority(int)
+     */
+    default void changeCloudletPriority(final Cloudlet cloudlet, final Runnable priorityChange) {
+        priorityChange.run();
+    }
+
     /**
      * Gets the Vm that uses the scheduler.
      * @return
@@ -268,6 +300,16 @@ public interface CloudletScheduler extends Serializable {
      */
 	void addCloudletToReturnedList(Cloudlet cloudlet);
 
+    /**
+     * Notifies the scheduler that the RAM or BW {@link UtilizationModel} of a given Cloudlet
+     * was changed, so that the amount of such resources used by running Cloudlets
+     * is computed again at the next processing update.
+     * The default implementation does nothing, for schedulers that don't cache
+     * the amount of such resources used by running Cloudlets.
+     * @param cloudlet the Cloudlet which had a utilization model changed
+     */
+    default void cloudletUtilizationModelChanged(final Cloudlet cloudlet) {/**/}
+
     /**
      * Clears the internal state of the scheduler
      */
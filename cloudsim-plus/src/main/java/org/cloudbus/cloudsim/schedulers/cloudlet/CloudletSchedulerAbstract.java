@@ -80,9 +80,26 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     private final List<CloudletExecution> cloudletExecList;
     /**
      * @see #getCloudletWaitingList()
+     * @see CloudletWaitingList
      */
     private final List<CloudletExecution> cloudletWaitingList;
 
+    /**
+     * The total number of PEs of all Cloudlets in the {@link #getCloudletExecList() execution list},
+     * or a negative value if it must be computed again.
+     * @see #totalPesOfAllExecCloudlets()
+     */
+    private long execPes;
+
+    /**
+     * Indicates if the last {@link #updateCloudletsProcessing(double)} has checked
+     * every Cloudlet in the {@link #getCloudletExecList() execution list} and found none finished,
+     * so that {@link #addCloudletsToFinishedList()} doesn't need to scan that list.
+     * It's cleared when a Cloudlet is added to the execution list, since it may be already finished
+     * (such as when the same Cloudlet is submitted more than once).
+     */
+    private boolean noFinishedExecCloudlets;
+
     /**
      * @see #getVm()
      */
@@ -98,6 +115,18 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     private final List<EventListener<CloudletResourceAllocationFailEventInfo>> resourceAllocationFailListeners;
 
+    /**
+     * The amount of VM RAM allocated to running Cloudlets at the last processing update.
+     * @see #updateVmResourceAbsoluteUtilization(Class, ResourceAllocation)
+     */
+    private final ResourceAllocation ramAllocation;
+
+    /**
+     * The amount of VM BW allocated to running Cloudlets at the last processing update.
+     * @see #updateVmResourceAbsoluteUtilization(Class, ResourceAllocation)
+     */
+    private final ResourceAllocation bwAllocation;
+
     /**
      * Creates a new CloudletScheduler object.
      */
@@ -108,11 +137,14 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cloudletPausedList = new ArrayList<>();
         cloudletFinishedList = new ArrayList<>();
         cloudletFailedList = new ArrayList<>();
-        cloudletWaitingList = new ArrayList<>();
+        cloudletWaitingList = new CloudletWaitingList();
+        execPes = -1;
         cloudletReturnedList = new HashSet<>();
         currentMipsShare = new MipsShare();
         taskScheduler = CloudletTaskScheduler.NULL;
         resourceAllocationFailListeners = new ArrayList<>();
+        ramAllocation = new ResourceAllocation();
+        bwAllocation = new ResourceAllocation();
     }
 
     @Override
@@ -194,12 +226,20 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     /**
      * Gets the total number of PEs of all cloudlets currently executing in this processor.
+     * Since this method is called for every running Cloudlet at every processing update,
+     * the value is just computed again after the execution list changes or
+     * at the beginning of a processing update (as the number of PEs of
+     * a running Cloudlet may be changed).
      * @return
      */
-    private long totalPesOfAllExecCloudlets() {
-        return cloudletExecList.stream()
-            .map(CloudletExecution::getCloudlet)
-            .mapToLong(Cloudlet::getNumberOfPes).sum();
+    protected long totalPesOfAllExecCloudlets() {
+        if(execPes < 0) {
+            execPes = cloudletExecList.stream()
+                .map(CloudletExecution::getCloudlet)
+                .mapToLong(Cloudlet::getNumberOfPes).sum();
+        }
+
+        return execPes;
     }
 
     private double getTotalMipsShare(){
@@ -299,7 +339,13 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cle.setStatus(Cloudlet.Status.INEXEC);
         cle.setLastProcessingTime(getVm().getSimulation().clock());
         cloudletExecList.add(cle);
+        execPes = -1;
+        noFinishedExecCloudlets = false;
+        invalidateVmResourcesAllocation();
         addUsedPes(cle.getNumberOfPes());
+        if(cloudletExecList.size() == 1) {
+            vm.getBroker().updateVmIdleness(vm);
+        }
     }
 
     @Override
@@ -386,6 +432,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public boolean cloudletPause(final Cloudlet cloudlet) {
+        invalidateVmResourcesAllocation();
         if (changeStatusOfCloudletIntoList(cloudletExecList, cloudlet, this::changeInExecToPaused)) {
             return true;
         }
@@ -419,6 +466,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @return the stopped cloudlet or {@link Cloudlet#NULL} if not found
      */
     private Cloudlet stopCloudlet(final Cloudlet cloudlet, final Status stopStatus) {
+        invalidateVmResourcesAllocation();
         //Removes finished cloudlets from the list without changing its status
         boolean found = changeStatusOfCloudletIntoList(cloudletFinishedList, cloudlet, cle -> {});
         if (found) {
@@ -492,7 +540,15 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         final Consumer<CloudletExecution> cloudletStatusUpdaterConsumer)
     {
         final Function<CloudletExecution, Cloudlet> removeCloudletAndUpdateStatus = cle -> {
-            cloudletList.remove(cle);
+            if (cloudletList == cloudletWaitingList) {
+                removeCloudletFromWaitingList(cle);
+            } else if(cloudletList.remove(cle) && cloudletList == cloudletExecList) {
+                execPes = -1;
+                invalidateVmResourcesAllocation();
+                if(cloudletExecList.isEmpty()) {
+                    vm.getBroker().updateVmIdleness(vm);
+                }
+            }
             cloudletStatusUpdaterConsumer.accept(cle);
             return cle.getCloudlet();
         };
@@ -512,8 +568,8 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         }
 
         double nextSimulationDelay = updateCloudletsProcessing(currentTime);
-        updateVmResourceAbsoluteUtilization(Ram.class);
-        updateVmResourceAbsoluteUtilization(Bandwidth.class);
+        updateVmResourceAbsoluteUtilization(Ram.class, ramAllocation);
+        updateVmResourceAbsoluteUtilization(Bandwidth.class, bwAllocation);
         nextSimulationDelay = Math.min(nextSimulationDelay, moveNextCloudletsFromWaitingToExecList(currentTime));
         addCloudletsToFinishedList();
 
@@ -533,9 +589,11 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
-    private double updateCloudletsProcessing(final double currentTime) {
+    protected double updateCloudletsProcessing(final double currentTime) {
         double nextCloudletFinishTime = Double.MAX_VALUE;
         long usedPes = 0;
+        boolean anyCloudletFinished = false;
+        execPes = -1;
         /* Uses an indexed for to avoid ConcurrentModificationException,
          * e.g., in cases when Cloudlet is cancelled during simulation execution. */
         for (int i = 0; i < cloudletExecList.size(); i++) {
@@ -543,8 +601,11 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             updateCloudletProcessingAndPacketsDispatch(cle, currentTime);
             nextCloudletFinishTime = Math.min(nextCloudletFinishTime, cloudletEstimatedFinishTime(cle, currentTime));
             usedPes += cle.getCloudlet().getNumberOfPes();
+            anyCloudletFinished = anyCloudletFinished || cle.getCloudlet().isFinished();
         }
 
+        noFinishedExecCloudlets = !anyCloudletFinished;
+
         ((VmSimple) vm).setFreePesNumber(vm.getNumberOfPes() - usedPes);
 
         return nextCloudletFinishTime;
@@ -558,7 +619,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @param cle         The cloudlet to be its processing updated
      * @param currentTime current simulation time
      */
-    private void updateCloudletProcessingAndPacketsDispatch(final CloudletExecution cle, final double currentTime) {
+    protected void updateCloudletProcessingAndPacketsDispatch(final CloudletExecution cle, final double currentTime) {
         long partialFinishedMI = 0;
         if (taskScheduler.isTimeToUpdateCloudletProcessing(cle.getCloudlet())) {
             partialFinishedMI = updateCloudletProcessing(cle, currentTime);
@@ -592,16 +653,32 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * If a Cloudlet requests more resources than is available, just the available
      * amount is allocated to it.</p>
      *
+     * <p>If all running Cloudlets have a {@link UtilizationModel#isTimeInvariant() time-invariant}
+     * utilization model for the resource and all their requests were fulfilled,
+     * the allocated amount is kept until a Cloudlet starts or stops running
+     * or has its utilization model changed.</p>
+     *
      * @param resourceClass the kind of resource to updates its utilization (usually {@link Ram} or {@link Bandwidth}).
+     * @param allocation the amount of the resource allocated at the last update
      */
-    private void updateVmResourceAbsoluteUtilization(final Class<? extends ResourceManageable> resourceClass) {
+    private void updateVmResourceAbsoluteUtilization(
+        final Class<? extends ResourceManageable> resourceClass,
+        final ResourceAllocation allocation)
+    {
         final ResourceManageable resource = vm.getResource(resourceClass);
+        if(allocation.isValid(resource)){
+            return;
+        }
+
         resource.deallocateAllResources();
+        boolean timeInvariant = true;
         for (final CloudletExecution cle : cloudletExecList) {
             final Cloudlet cloudlet = cle.getCloudlet();
-            final long requested = (long) getCloudletResourceAbsoluteUtilization(cloudlet, resourceClass);
+            final long requested = (long) getCloudletResourceAbsoluteUtilization(cloudlet, resourceClass, resource);
             final long available = resource.getAvailableResource();
+            timeInvariant = timeInvariant && cloudlet.getUtilizationModel(resourceClass).isTimeInvariant();
             if(requested > available){
+                timeInvariant = false;
                 final String msg =
                         available > 0 ?
                         String.format("just %d was available and allocated to it.", available):
@@ -615,6 +692,22 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             }
             resource.allocateResource(Math.min(requested, available));
         }
+
+        allocation.update(resource, timeInvariant);
+    }
+
+    /**
+     * Indicates the amount of RAM and BW used by running Cloudlets must be computed again
+     * at the next processing update.
+     */
+    private void invalidateVmResourcesAllocation() {
+        ramAllocation.invalidate();
+        bwAllocation.invalidate();
+    }
+
+    @Override
+    public void cloudletUtilizationModelChanged(final Cloudlet cloudlet) {
+        invalidateVmResourcesAllocation();
     }
 
     private void updateOnResourceAllocationFailListeners(
@@ -647,10 +740,14 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      *
      * @param cloudlet the Cloudlet to get the absolute value of RAM utilization
      * @param resourceClass the kind of resource to get its utilization (usually {@link Ram} or {@link Bandwidth}).
+     * @param vmResource the VM resource corresponding to the given class
      * @return the current utilization of the requested Cloudlet's resource in absolute value
      */
-    private double getCloudletResourceAbsoluteUtilization(final Cloudlet cloudlet, Class<? extends ResourceManageable> resourceClass) {
-        final ResourceManageable vmResource = vm.getResource(resourceClass);
+    private double getCloudletResourceAbsoluteUtilization(
+        final Cloudlet cloudlet,
+        final Class<? extends ResourceManageable> resourceClass,
+        final ResourceManageable vmResource)
+    {
         final UtilizationModel um = cloudlet.getUtilizationModel(resourceClass);
         return um.getUnit() == Unit.ABSOLUTE ?
                 Math.min(um.getUtilization(), vmResource.getCapacity()) :
@@ -729,11 +826,20 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * Removes finished cloudlets from the
      * {@link #getCloudletExecList() list of cloudlets to execute}
      * and adds them to finished list.
+     * The list is just scanned when the last {@link #updateCloudletsProcessing(double)}
+     * found some finished Cloudlet or new Cloudlets were added to the execution list since then.
+     * Sub-classes that track when Cloudlets finish can override this method
+     * to add such Cloudlets without scanning the list, as the {@link CloudletSchedulerProcessorSharing} does.
      *
      * @return the number of finished cloudlets removed from the
      * {@link #getCloudletExecList() execution list}
      */
-    private int addCloudletsToFinishedList() {
+    protected int addCloudletsToFinishedList() {
+        if(noFinishedExecCloudlets) {
+            noFinishedExecCloudlets = false;
+            return 0;
+        }
+
         final List<CloudletExecution> finishedCloudlets
             = cloudletExecList.stream()
             .filter(cle -> cle.getCloudlet().isFinished())
@@ -746,7 +852,13 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return finishedCloudlets.size();
     }
 
-    private void addCloudletToFinishedList(final CloudletExecution cle) {
+    /**
+     * Sets the finish time of a Cloudlet, adds it to the finished list
+     * and removes it from the {@link #getCloudletExecList() execution list}.
+     *
+     * @param cle the finished Cloudlet
+     */
+    protected void addCloudletToFinishedList(final CloudletExecution cle) {
         setCloudletFinishTimeAndAddToFinishedList(cle);
         removeCloudletFromExecList(cle);
     }
@@ -759,7 +871,18 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
         removeUsedPes(cle.getNumberOfPes());
-        return cloudletExecList.remove(cle) ? cle : CloudletExecution.NULL;
+        if(!cloudletExecList.remove(cle)) {
+            return CloudletExecution.NULL;
+        }
+
+        execPes = -1;
+        invalidateVmResourcesAllocation();
+
+        if(cloudletExecList.isEmpty()) {
+            vm.getBroker().updateVmIdleness(vm);
+        }
+
+        return cle;
     }
 
     /**
@@ -871,11 +994,25 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     protected CloudletExecution addWaitingCloudletToExecList(final CloudletExecution cle) {
         /*If the Cloudlet is not found in the waiting List, there is no problem.
         * Just add it to the exec List.*/
-        cloudletWaitingList.remove(cle);
+        removeCloudletFromWaitingList(cle);
         addCloudletToExecList(cle);
         return cle;
     }
 
+    /**
+     * Removes a Cloudlet from the waiting list.
+     * Every removal from such a list is performed by this method,
+     * so that subclasses keeping additional data about waiting Cloudlets
+     * can update it.
+     *
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was in the waiting list, false otherwise
+     * @see #addCloudletToWaitingList(CloudletExecution)
+     */
+    protected boolean removeCloudletFromWaitingList(final CloudletExecution cle) {
+        return cloudletWaitingList.remove(cle);
+    }
+
     @Override
     public Vm getVm() {
         return vm;
@@ -889,6 +1026,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         }
 
         this.vm = vm;
+        invalidateVmResourcesAllocation();
     }
 
     /**
@@ -1114,7 +1252,39 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public void clear() {
+        invalidateVmResourcesAllocation();
         this.cloudletWaitingList.clear();
-        this.cloudletExecList.clear();
+        this.execPes = -1;
+        if(!cloudletExecList.isEmpty()) {
+            this.cloudletExecList.clear();
+            vm.getBroker().updateVmIdleness(vm);
+        }
+    }
+
+    /**
+     * The amount of a VM resource allocated to running Cloudlets at the last processing update,
+     * which can be kept while all these Cloudlets have
+     * {@link UtilizationModel#isTimeInvariant() time-invariant} utilization models
+     * and the VM resource isn't changed elsewhere.
+     */
+    private static final class ResourceAllocation {
+        /**
+         * The allocated amount or a negative value if it must be computed again.
+         */
+        private long allocated = -1;
+        private long capacity;
+
+        private boolean isValid(final ResourceManageable resource) {
+            return allocated >= 0 && resource.getCapacity() == capacity && resource.getAllocatedResource() == allocated;
+        }
+
+        private void update(final ResourceManageable resource, final boolean timeInvariant) {
+            this.allocated = timeInvariant ? resource.getAllocatedResource() : -1;
+            this.capacity = resource.getCapacity();
+        }
+
+        private void invalidate() {
+            this.allocated = -1;
+        }
     }
 }
@@ -30,11 +30,7 @@ import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.util.MathUtil;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.function.Predicate;
-
-import static java.util.stream.Collectors.toList;
+import java.util.*;
 
 /**
  * A simplified implementation of the <a href="https://en.wikipedia.org/wiki/Completely_Fair_Scheduler">Completely Fair Scheduler (CFS)</a>
@@ -65,6 +61,14 @@ import static java.util.stream.Collectors.toList;
  *     room for other process to run.
  *     The CFS scheduler uses a dynamic defined timeslice.
  *     </li>
+ *     <li>Keeps waiting Cloudlets (the runqueue) into Red-Black trees (TreeSets), as in real implementations of CFS,
+ *     sorted increasingly based on their virtual runtime (vruntime or VRT)
+ *     (placing the Cloudlets that have run the least at the top of the tree).
+ *     Cloudlets having the same virtual runtime are sorted by priority, id and the order they were
+ *     added to the runqueue, so that the sorting value of each Cloudlet is unique.
+ *     Since a Cloudlet can only run if there are enough free PEs, there is one tree for
+ *     each number of PEs required by waiting Cloudlets (see {@link CloudletWaitingQueue}).
+ *     </li>
  * </ul>
  *
  * And it currently <b>DOES NOT</b> implement the following features:
@@ -87,14 +91,6 @@ import static java.util.stream.Collectors.toList;
  *     (application execution is simulated just computing the amount of instructions
  *     that can be run), it doesn't matter which PEs are "running" the application.
  *     </li>
- *	   <li>It doesn't use a Red-Black tree (such as the TreeSet), as in real implementations of CFS,
- *	   to sort waiting Cloudlets (runqueue list) increasingly, based on their virtual runtime (vruntime or VRT)
- *	   (placing the Cloudlets that have run the least at the top of the tree).
- *	   Furthermore, the use of such a data structure added some complexity to the implementation.
- *	   Since different Cloudlets may have the same virtual runtime, this introduced some issues when adding or
- *	   removing elements in a structure such as the TreeSet, that requires
- *	   each value (the virtual runtime in this case) used to sort the Set to be unique.
- *	   </li>
  * </ul>
  * </p>
  *
@@ -134,6 +130,42 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	 */
 	private int latency = 3;
 
+    /**
+     * The runqueue, which indexes the Cloudlets in the waiting list by their virtual runtime.
+     * @see #waitingCloudletsComparator(CloudletExecution, CloudletExecution)
+     */
+    private final CloudletWaitingQueue runqueue;
+
+    /**
+     * Maps each Cloudlet in the execution list to its {@link RunningEntry}.
+     */
+    private final Map<Cloudlet, RunningEntry> runningEntries;
+
+    /**
+     * The time-slices of Cloudlets in the execution list,
+     * mapped to the number of Cloudlets having each time-slice.
+     */
+    private final NavigableMap<Double, Integer> runningTimeSlices;
+
+    /**
+     * @see #getWeightSumOfRunningCloudlets()
+     */
+    private double runningWeightSum;
+
+    /**
+     * Cloudlets in the execution list whose virtual runtime reached their time-slice
+     * at the last processing update.
+     */
+    private final List<CloudletExecution> expiredCloudlets;
+
+    public CloudletSchedulerCompletelyFair() {
+        super();
+        this.runqueue = new CloudletWaitingQueue(this::waitingCloudletsComparator);
+        this.runningEntries = new IdentityHashMap<>();
+        this.runningTimeSlices = new TreeMap<>();
+        this.expiredCloudlets = new ArrayList<>();
+    }
+
     /**
      * A comparator used to increasingly sort Cloudlets into the waiting list
      * based on their virtual runtime (vruntime or VRT). By this way, the Cloudlets in the beginning
@@ -230,7 +262,7 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      */
     @Override
     public List<CloudletExecution> getCloudletWaitingList() {
-        return super.getCloudletWaitingList();
+        return runqueue.asList();
     }
 
     /**
@@ -243,8 +275,26 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      */
     @Override
     protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
-        sortCloudletWaitingList(this::waitingCloudletsComparator);
-        return super.findSuitableWaitingCloudlet();
+        return runqueue.findFirst(getVm().getProcessor().getAvailableResource());
+    }
+
+    @Override
+    protected void addCloudletToWaitingList(final CloudletExecution cle) {
+        super.addCloudletToWaitingList(cle);
+        runqueue.add(cle);
+    }
+
+    @Override
+    protected boolean removeCloudletFromWaitingList(final CloudletExecution cle) {
+        runqueue.remove(cle);
+        return super.removeCloudletFromWaitingList(cle);
+    }
+
+    @Override
+    public boolean cloudletReady(final Cloudlet cloudlet) {
+        final boolean ready = super.cloudletReady(cloudlet);
+        runqueue.ready(cloudlet);
+        return ready;
     }
 
 	/**
@@ -293,13 +343,11 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	}
 
 	/**
-	 * Gets the weight sum of all cloudlets in the executing list.
+	 * Gets the weight sum of all cloudlets in the executing list,
+	 * which is updated as Cloudlets are added to or removed from such a list.
 	 */
 	private double getWeightSumOfRunningCloudlets() {
-		return getCloudletExecList()
-            .stream()
-            .mapToDouble(this::getCloudletWeight)
-            .sum();
+		return runningWeightSum;
 	}
 
 	/**
@@ -357,6 +405,19 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         return super.cloudletSubmitInternal(cle, fileTransferTime);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Since the priority is used to sort waiting Cloudlets,
+     * a waiting Cloudlet is re-inserted into the {@link #getCloudletWaitingList() waiting list}
+     * according to its new priority.</p>
+     * @param cloudlet {@inheritDoc}
+     * @param priorityChange {@inheritDoc}
+     */
+    @Override
+    public void changeCloudletPriority(final Cloudlet cloudlet, final Runnable priorityChange) {
+        runqueue.update(cloudlet, priorityChange);
+    }
+
     /**
      * {@inheritDoc}
      * @param currentTime {@inheritDoc}
@@ -367,9 +428,15 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
     @Override
     public double updateProcessing(final double currentTime, final MipsShare mipsShare) {
         super.updateProcessing(currentTime, mipsShare);
-        return getCloudletExecList().stream()
-                .mapToDouble(CloudletExecution::getTimeSlice)
-                .min().orElse(Double.MAX_VALUE);
+        if(!runningTimeSlices.isEmpty()) {
+            return runningTimeSlices.firstKey();
+        }
+
+        /* If all running Cloudlets have just finished, their PEs were released
+         * after waiting Cloudlets were checked. Another update is required
+         * to run the waiting ones that fit into the VM, otherwise they will wait forever. */
+        final boolean anyWaitingCloudletFits = runqueue.findFirst(getVm().getNumberOfPes()).isPresent();
+        return anyWaitingCloudletFits ? getVm().getSimulation().getMinTimeBetweenEvents() : Double.MAX_VALUE;
     }
 
     @Override
@@ -386,7 +453,10 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         final double cloudletTimeSpan = currentTime - cle.getLastProcessingTime();
         final long partialFinishedMI = super.updateCloudletProcessing(cle, currentTime);
 
-        cle.addVirtualRuntime(cloudletTimeSpan);
+        if(cle.addVirtualRuntime(cloudletTimeSpan) >= cle.getTimeSlice()) {
+            expiredCloudlets.add(cle);
+        }
+
         return partialFinishedMI;
     }
 
@@ -493,7 +563,7 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         is reset so that they can compete with other waiting Cloudlets to use
         the processor again.*/
         for(final CloudletExecution c: preemptedCloudlets) {
-            c.setVirtualRuntime(computeCloudletInitialVirtualRuntime(c));
+            runqueue.update(c.getCloudlet(), () -> c.setVirtualRuntime(computeCloudletInitialVirtualRuntime(c)));
         }
 
         return nextCloudletFinishTime;
@@ -503,6 +573,8 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * Checks which Cloudlets in the execution list have an expired virtual
      * runtime (that have reached the execution time slice) and
      * preempts its execution, moving them to the waiting list.
+     * Such Cloudlets are collected while their processing is updated,
+     * instead of checking the entire execution list again.
      *
      * @return The list of preempted Cloudlets, that were removed from the execution list
      * and must have their virtual runtime (VRT) reset after the next cloudlets are put into
@@ -510,16 +582,91 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      *
      */
     private List<CloudletExecution> preemptExecCloudletsWithExpiredVRuntimeAndMoveToWaitingList() {
-        final Predicate<CloudletExecution> vrtReachedTimeSlice = cle -> cle.getVirtualRuntime() >= cle.getTimeSlice();
-        final List<CloudletExecution> expiredVrtCloudlets =
-            getCloudletExecList()
-                .stream()
-                .filter(vrtReachedTimeSlice)
-                .collect(toList());
+        final List<CloudletExecution> expiredVrtCloudlets = new ArrayList<>(expiredCloudlets.size());
+        for (final CloudletExecution cle : expiredCloudlets) {
+            if (runningEntries.containsKey(cle.getCloudlet()) && cle.getVirtualRuntime() >= cle.getTimeSlice()) {
+                expiredVrtCloudlets.add(cle);
+            }
+        }
 
+        expiredCloudlets.clear();
         expiredVrtCloudlets.forEach(cle -> addCloudletToWaitingList(removeCloudletFromExecList(cle)));
         return expiredVrtCloudlets;
     }
 
+    @Override
+    protected void addCloudletToExecList(final CloudletExecution cle) {
+        super.addCloudletToExecList(cle);
+        final RunningEntry entry = new RunningEntry(getCloudletWeight(cle), cle.getTimeSlice());
+        if(runningEntries.put(cle.getCloudlet(), entry) == null) {
+            runningWeightSum += entry.weight;
+            runningTimeSlices.merge(entry.timeSlice, 1, Integer::sum);
+        }
+    }
+
+    @Override
+    protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
+        removeRunningEntry(cle.getCloudlet());
+        return super.removeCloudletFromExecList(cle);
+    }
+
+    @Override
+    public boolean cloudletPause(final Cloudlet cloudlet) {
+        removeRunningEntry(cloudlet);
+        return super.cloudletPause(cloudlet);
+    }
+
+    @Override
+    public Cloudlet cloudletCancel(final Cloudlet cloudlet) {
+        removeRunningEntry(cloudlet);
+        return super.cloudletCancel(cloudlet);
+    }
+
+    @Override
+    public Cloudlet cloudletFail(final Cloudlet cloudlet) {
+        removeRunningEntry(cloudlet);
+        return super.cloudletFail(cloudlet);
+    }
+
+    /**
+     * Removes the {@link RunningEntry} of a Cloudlet which is leaving the execution list,
+     * updating the weight sum and time-slices of running Cloudlets.
+     * @param cloudlet the Cloudlet leaving the execution list
+     */
+    private void removeRunningEntry(final Cloudlet cloudlet) {
+        final RunningEntry entry = runningEntries.remove(cloudlet);
+        if (entry == null) {
+            return;
+        }
+
+        /* Avoids accumulating floating-point errors from adding and subtracting weights. */
+        runningWeightSum = runningEntries.isEmpty() ? 0 : runningWeightSum - entry.weight;
+        runningTimeSlices.computeIfPresent(entry.timeSlice, (timeSlice, count) -> count == 1 ? null : count - 1);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        runqueue.clear();
+        runningEntries.clear();
+        runningTimeSlices.clear();
+        expiredCloudlets.clear();
+        runningWeightSum = 0;
+    }
+
+    /**
+     * The weight and time-slice of a Cloudlet when it was added to the execution list,
+     * which are subtracted from the totals of running Cloudlets when it leaves that list,
+     * even if its priority is changed while running.
+     */
+    private static final class RunningEntry {
+        private final double weight;
+        private final double timeSlice;
+
+        private RunningEntry(final double weight, final double timeSlice) {
+            this.weight = weight;
+            this.timeSlice = timeSlice;
+        }
+    }
 }
 
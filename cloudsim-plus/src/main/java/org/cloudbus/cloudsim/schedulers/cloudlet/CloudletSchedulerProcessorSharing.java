@@ -0,0 +1,414 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.VmSimple;
+
+import java.util.*;
+
+/**
+ * A {@link CloudletSchedulerTimeShared} that computes the progress of Cloudlets
+ * using a virtual time, as in processor-sharing queues.
+ * Since all Cloudlets executing in a time-shared scheduler get the same
+ * amount of MIPS, instead of updating the executed length of every Cloudlet
+ * at every processing update, this scheduler just advances a single virtual time
+ * (the amount of MI each Cloudlet has executed so far)
+ * and keeps the Cloudlets into a priority queue ordered by the virtual time
+ * at which each one will finish (its finish tag).
+ * This way, an update just needs to remove the Cloudlets whose finish tag was reached,
+ * which is performed in O(log n) for each arriving, finishing or leaving Cloudlet,
+ * instead of O(n) for each update.
+ *
+ * <p>The executed length of a Cloudlet is computed from the virtual time when it's read
+ * by {@link Cloudlet#getFinishedLengthSoFar()}, when the Cloudlet finishes
+ * or when it is paused, canceled or failed.
+ * Cloudlets having {@link Cloudlet#addOnUpdateProcessingListener(org.cloudsimplus.listeners.EventListener) onUpdateProcessing}
+ * listeners when they start running are updated at every processing update,
+ * so that such listeners are notified as in the {@link CloudletSchedulerTimeShared}.
+ * </p>
+ *
+ * <p>Only Cloudlets having a positive length, a {@link UtilizationModelFull}
+ * for CPU, no files to transfer and no onUpdateProcessing listeners are managed by the virtual time.
+ * The remaining ones (and all Cloudlets if a {@link CloudletTaskScheduler} is set)
+ * are updated at every processing update, as performed by the {@link CloudletSchedulerTimeShared}.
+ * Changing the number of PEs of a running Cloudlet is not supported.
+ * </p>
+ *
+ * <p>The finish times of Cloudlets are the same as the ones computed by
+ * the {@link CloudletSchedulerTimeShared}, except that such a scheduler truncates
+ * the MI executed by a Cloudlet at every update. That may require an additional update
+ * to finish a Cloudlet, delaying its finish time in
+ * {@link org.cloudbus.cloudsim.core.Simulation#getMinTimeBetweenEvents()}
+ * and slightly changing the MIPS shared with other Cloudlets.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public class CloudletSchedulerProcessorSharing extends CloudletSchedulerTimeShared {
+    /**
+     * The maximum difference (in MI) between the virtual time and the finish tag
+     * of a Cloudlet to consider it finished, due to floating-point errors.
+     */
+    private static final double FINISH_TAG_TOLERANCE = 0.000001;
+
+    /**
+     * The number of MI executed so far by any Cloudlet that was running
+     * since the first processing update.
+     */
+    private double virtualTime;
+
+    /**
+     * The sequence number of the next Cloudlet added to the execution list,
+     * used to keep the order Cloudlets are added to that list.
+     */
+    private long nextSequence;
+
+    /**
+     * Maps each Cloudlet in the execution list to its {@link Entry}.
+     */
+    private final Map<Cloudlet, Entry> entries;
+
+    /**
+     * Cloudlets managed by the virtual time, ordered by their finish tags.
+     */
+    private final NavigableSet<Entry> finishTags;
+
+    /**
+     * Cloudlets managed by the virtual time that were added to the execution list
+     * after the last processing update and so don't have their finish tags computed yet.
+     */
+    private final List<Entry> arrivedEntries;
+
+    /**
+     * Cloudlets that are updated at every processing update, in the order they were
+     * added to the execution list.
+     */
+    private final Set<Entry> eagerEntries;
+
+    /**
+     * Cloudlets that have finished at the last processing update.
+     */
+    private final List<Entry> finishedEntries;
+
+    public CloudletSchedulerProcessorSharing() {
+        super();
+        this.entries = new IdentityHashMap<>();
+        this.finishTags = new TreeSet<>(Comparator.comparingDouble(Entry::getFinishTag).thenComparingLong(Entry::getSequence));
+        this.arrivedEntries = new ArrayList<>();
+        this.eagerEntries = new LinkedHashSet<>();
+        this.finishedEntries = new ArrayList<>();
+    }
+
+    @Override
+    protected void addCloudletToExecList(final CloudletExecution cle) {
+        super.addCloudletToExecList(cle);
+        final Entry entry = new Entry(cle, nextSequence++);
+        entries.put(cle.getCloudlet(), entry);
+        if (isManagedByVirtualTime(cle)) {
+            entry.location = Location.ARRIVED;
+            arrivedEntries.add(entry);
+        } else {
+            entry.location = Location.EAGER;
+            eagerEntries.add(entry);
+        }
+    }
+
+    @Override
+    protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
+        removeEntry(cle.getCloudlet());
+        return super.removeCloudletFromExecList(cle);
+    }
+
+    /**
+     * Checks if the processing of a Cloudlet can be computed using the virtual time,
+     * which requires the Cloudlet to use all the MIPS it receives
+     * since the moment it is added to the execution list
+     * and to not have listeners to be notified at every processing update.
+     * @param cle the Cloudlet to check
+     * @return true if the Cloudlet processing can be computed from the virtual time, false otherwise
+     */
+    private boolean isManagedByVirtualTime(final CloudletExecution cle) {
+        final Cloudlet cloudlet = cle.getCloudlet();
+        final UtilizationModel cpuModel = cloudlet.getUtilizationModelCpu();
+        return !isThereTaskScheduler() &&
+               cloudlet.getLength() > 0 && cle.getFileTransferTime() == 0 &&
+               cpuModel instanceof UtilizationModelFull && cpuModel.getUnit() == UtilizationModel.Unit.PERCENTAGE &&
+               !cloudlet.hasOnUpdateProcessingListeners();
+    }
+
+    @Override
+    protected double updateCloudletsProcessing(final double currentTime) {
+        if (isThereTaskScheduler()) {
+            return super.updateCloudletsProcessing(currentTime);
+        }
+
+        final double mips = getAvailableMipsByPe();
+        virtualTime += mips * (currentTime - getPreviousTime());
+        computeFinishTagsOfArrivedCloudlets(currentTime, mips);
+
+        final List<Entry> finishedByVirtualTime = new ArrayList<>();
+        while (!finishTags.isEmpty() && finishTags.first().finishTag - virtualTime <= FINISH_TAG_TOLERANCE) {
+            final Entry entry = finishTags.pollFirst();
+            entry.location = Location.NONE;
+            finishedByVirtualTime.add(entry);
+        }
+        finishedByVirtualTime.sort(Comparator.comparingLong(Entry::getSequence));
+
+        /* Cloudlets are processed in the order they were added to the execution list
+         * (as in the CloudletSchedulerTimeShared), so that events such as
+         * the return of finished Cloudlets to the broker are sent in the same order.*/
+        double nextCloudletFinishTime = Double.MAX_VALUE;
+        int i = 0;
+        for (final Entry entry : eagerEntries) {
+            for (; i < finishedByVirtualTime.size() && finishedByVirtualTime.get(i).sequence < entry.sequence; i++) {
+                finishCloudletByVirtualTime(finishedByVirtualTime.get(i), mips);
+            }
+
+            updateCloudletProcessingAndPacketsDispatch(entry.cle, currentTime);
+            nextCloudletFinishTime = Math.min(nextCloudletFinishTime, cloudletEstimatedFinishTime(entry.cle, currentTime));
+            if (entry.cle.getCloudlet().isFinished()) {
+                finishedEntries.add(entry);
+            }
+        }
+
+        for (; i < finishedByVirtualTime.size(); i++) {
+            finishCloudletByVirtualTime(finishedByVirtualTime.get(i), mips);
+        }
+
+        ((VmSimple) getVm()).setFreePesNumber(getVm().getNumberOfPes() - totalPesOfAllExecCloudlets());
+        return Math.min(nextCloudletFinishTime, nextFinishTimeByVirtualTime(mips, !finishedByVirtualTime.isEmpty()));
+    }
+
+    /**
+     * Computes the finish tags for the Cloudlets added to the execution list after the last update.
+     * The start tag of such Cloudlets considers they have received the current
+     * MIPS since they were added, as performed by the {@link CloudletSchedulerTimeShared}.
+     *
+     * @param currentTime current simulation time
+     * @param mips the current MIPS available for each Cloudlet
+     */
+    private void computeFinishTagsOfArrivedCloudlets(final double currentTime, final double mips) {
+        for (final Entry entry : arrivedEntries) {
+            final Cloudlet cloudlet = entry.cle.getCloudlet();
+            entry.startTag = virtualTime - mips * (currentTime - entry.cle.getLastProcessingTime());
+            entry.length = cloudlet.getLength() - cloudlet.getFinishedLengthSoFar();
+            entry.finishTag = entry.startTag + entry.length;
+            entry.location = Location.FINISH_TAGS;
+            finishTags.add(entry);
+        }
+
+        arrivedEntries.clear();
+    }
+
+    /**
+     * Sets the executed length of a Cloudlet whose finish tag was reached by the virtual time.
+     * @param entry the entry of the finished Cloudlet
+     * @param mips the current MIPS available for each Cloudlet
+     */
+    private void finishCloudletByVirtualTime(final Entry entry, final double mips) {
+        entry.cle.setLastAllocatedMips(mips);
+        entry.cle.updateProcessing((entry.length - entry.executedLength) * (double) Conversion.MILLION);
+        finishedEntries.add(entry);
+    }
+
+    /**
+     * Gets the estimated time for the next Cloudlet managed by the virtual time to finish.
+     * @param mips the current MIPS available for each Cloudlet
+     * @param anyCloudletFinished if any Cloudlet has just finished, which requires another update
+     *                            after the minimum time between events to compute the processing
+     *                            of the remaining Cloudlets with the MIPS released
+     *                            (as performed by the {@link CloudletSchedulerTimeShared})
+     * @return the estimated finish time (which is a relative delay from the current simulation time)
+     */
+    private double nextFinishTimeByVirtualTime(final double mips, final boolean anyCloudletFinished) {
+        final double minTimeBetweenEvents = getVm().getSimulation().getMinTimeBetweenEvents();
+        final double nextFinishTime = anyCloudletFinished ? minTimeBetweenEvents : Double.MAX_VALUE;
+        if (finishTags.isEmpty() || mips <= 0) {
+            return nextFinishTime;
+        }
+
+        final long remainingLength = (long) (finishTags.first().finishTag - virtualTime);
+        return Math.min(nextFinishTime, Math.max(remainingLength / mips, minTimeBetweenEvents));
+    }
+
+    @Override
+    protected int addCloudletsToFinishedList() {
+        if (isThereTaskScheduler()) {
+            return super.addCloudletsToFinishedList();
+        }
+
+        //Entries were added in the order of the execution list
+        final int finishedCloudlets = finishedEntries.size();
+        for (final Entry entry : finishedEntries) {
+            addCloudletToFinishedList(entry.cle);
+        }
+
+        finishedEntries.clear();
+        return finishedCloudlets;
+    }
+
+    @Override
+    public boolean cloudletPause(final Cloudlet cloudlet) {
+        removeEntry(cloudlet);
+        return super.cloudletPause(cloudlet);
+    }
+
+    @Override
+    public Cloudlet cloudletCancel(final Cloudlet cloudlet) {
+        removeEntry(cloudlet);
+        return super.cloudletCancel(cloudlet);
+    }
+
+    @Override
+    public Cloudlet cloudletFail(final Cloudlet cloudlet) {
+        removeEntry(cloudlet);
+        return super.cloudletFail(cloudlet);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>If the processing of the Cloudlet is computed from the virtual time,
+     * sets the length it has executed up to the last processing update.</p>
+     * @param cloudlet {@inheritDoc}
+     */
+    @Override
+    public void updateCloudletFinishedLength(final Cloudlet cloudlet) {
+        final Entry entry = entries.get(cloudlet);
+        if (entry != null && entry.location == Location.FINISH_TAGS) {
+            updateExecutedLength(entry);
+        }
+    }
+
+    /**
+     * Adds to a Cloudlet managed by the virtual time the length it has executed
+     * since the last time such a length was set, up to the last processing update.
+     * @param entry the entry of the Cloudlet to update
+     */
+    private void updateExecutedLength(final Entry entry) {
+        final long executedLength = (long) Math.min(virtualTime - entry.startTag, entry.length);
+        if (executedLength <= entry.executedLength) {
+            return;
+        }
+
+        final long partialLength = executedLength - entry.executedLength;
+        /* Sets the executed length before updating the Cloudlet,
+         * since it calls this scheduler back when reading its finished length. */
+        entry.executedLength = executedLength;
+        entry.cle.updateProcessing(partialLength * (double) Conversion.MILLION);
+    }
+
+    /**
+     * Removes the entry of a Cloudlet which is leaving the execution list,
+     * setting the length it has executed up to the last processing update
+     * if its processing is computed from the virtual time.
+     * @param cloudlet the Cloudlet leaving the execution list
+     */
+    private void removeEntry(final Cloudlet cloudlet) {
+        final Entry entry = entries.remove(cloudlet);
+        if (entry == null) {
+            return;
+        }
+
+        switch (entry.location) {
+            case EAGER: eagerEntries.remove(entry); break;
+            case ARRIVED: arrivedEntries.remove(entry); break;
+            case FINISH_TAGS:
+                finishTags.remove(entry);
+                updateExecutedLength(entry);
+                break;
+            default: break;
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        entries.clear();
+        finishTags.clear();
+        arrivedEntries.clear();
+        eagerEntries.clear();
+        finishedEntries.clear();
+    }
+
+    /**
+     * Where the {@link Entry} of a Cloudlet in the execution list is stored.
+     */
+    private enum Location {
+        /** @see #eagerEntries */
+        EAGER,
+        /** @see #arrivedEntries */
+        ARRIVED,
+        /** @see #finishTags */
+        FINISH_TAGS,
+        /** The Cloudlet has finished and its entry is just waiting to be removed. */
+        NONE
+    }
+
+    /**
+     * Keeps the data of a Cloudlet in the {@link #getCloudletExecList() execution list}
+     * required to compute its processing.
+     */
+    private static final class Entry {
+        private final CloudletExecution cle;
+
+        /** @see #getSequence() */
+        private final long sequence;
+
+        private Location location;
+
+        /** The virtual time when the Cloudlet started executing its remaining {@link #length}. */
+        private double startTag;
+
+        /** The virtual time when the Cloudlet will finish. */
+        private double finishTag;
+
+        /** The length (in MI) the Cloudlet had to execute at its {@link #startTag}. */
+        private long length;
+
+        /** The part of the {@link #length} already added to the executed length of the Cloudlet. */
+        private long executedLength;
+
+        private Entry(final CloudletExecution cle, final long sequence) {
+            this.cle = cle;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Gets the order the Cloudlet was added to the execution list.
+         * @return
+         */
+        private long getSequence() {
+            return sequence;
+        }
+
+        private double getFinishTag() {
+            return finishTag;
+        }
+    }
+}
@@ -11,6 +11,8 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
 import org.cloudbus.cloudsim.resources.Pe;
 
+import java.util.Optional;
+
 /**
  * CloudletSchedulerSpaceShared implements a policy of scheduling performed by a
  * virtual machine to run its {@link Cloudlet Cloudlets}. It considers there
@@ -24,12 +26,30 @@ import org.cloudbus.cloudsim.resources.Pe;
  * order. If actual priorities are defined for Cloudlets, they are just ignored
  * by the scheduler.</b></p>
  *
+ * <p>Waiting Cloudlets are indexed by the number of required PEs,
+ * each group kept in the order Cloudlets were added to the waiting list.
+ * This way, the first waiting Cloudlet that fits into the free PEs
+ * is found by just checking the first Cloudlet of each group requiring
+ * no more PEs than the free ones, instead of scanning the whole waiting list.
+ * {@link Cloudlet.Status#FROZEN Frozen} Cloudlets are kept apart
+ * until they are {@link #cloudletReady(Cloudlet) ready} to run.</p>
+ *
  * @author Rodrigo N. Calheiros
  * @author Anton Beloglazov
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 1.0
  */
 public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
+    /**
+     * An index for the Cloudlets in the waiting list,
+     * sorted by the order they were added to that list.
+     */
+    private final CloudletWaitingQueue waitingQueue;
+
+    public CloudletSchedulerSpaceShared() {
+        super();
+        this.waitingQueue = new CloudletWaitingQueue();
+    }
 
     @Override
     public double cloudletResume(Cloudlet cloudlet) {
@@ -89,4 +109,51 @@ public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
     protected boolean canExecuteCloudletInternal(final CloudletExecution cloudlet) {
         return isThereEnoughFreePesForCloudlet(cloudlet);
     }
+
+    @Override
+    protected void addCloudletToWaitingList(final CloudletExecution cle) {
+        super.addCloudletToWaitingList(cle);
+        waitingQueue.add(cle);
+    }
+
+    @Override
+    protected boolean removeCloudletFromWaitingList(final CloudletExecution cle) {
+        waitingQueue.remove(cle);
+        return super.removeCloudletFromWaitingList(cle);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>If the Cloudlet was frozen into the waiting list,
+     * it keeps its position into such a list.</p>
+     *
+     * @param cloudlet {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean cloudletReady(final Cloudlet cloudlet) {
+        final boolean ready = super.cloudletReady(cloudlet);
+        waitingQueue.ready(cloudlet);
+        return ready;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Instead of scanning the waiting list, it just checks the first Cloudlet
+     * of each group of waiting Cloudlets requiring no more PEs than the free ones,
+     * selecting the one added first to the waiting list.</p>
+     *
+     * @return {@inheritDoc}
+     * @see CloudletWaitingQueue
+     */
+    @Override
+    protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
+        return waitingQueue.findFirst(getVm().getProcessor().getAvailableResource());
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        waitingQueue.clear();
+    }
 }
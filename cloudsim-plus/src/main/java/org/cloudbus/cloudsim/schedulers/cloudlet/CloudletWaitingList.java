@@ -0,0 +1,275 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.util.*;
+
+/**
+ * The list of Cloudlets waiting to run in a {@link CloudletScheduler},
+ * which keeps the order Cloudlets are added and removes any of them in constant time,
+ * instead of the linear time of an {@link ArrayList}
+ * (that has to find the Cloudlet and shift the next ones).
+ * That way, moving Cloudlets from a long waiting list to the execution list
+ * doesn't depend on the number of waiting Cloudlets.
+ *
+ * <p>It's a doubly linked list where each node is indexed by the {@link CloudletExecution}
+ * it stores. A given {@link CloudletExecution} object can be into the list just once.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+final class CloudletWaitingList extends AbstractSequentialList<CloudletExecution> {
+    /**
+     * A sentinel node whose next node is the first one in the list
+     * and whose previous node is the last one.
+     */
+    private final Node head;
+
+    /**
+     * Maps each Cloudlet in the list to the node storing it.
+     */
+    private final Map<CloudletExecution, Node> nodes;
+
+    CloudletWaitingList() {
+        super();
+        this.head = new Node(CloudletExecution.NULL);
+        this.head.next = head;
+        this.head.previous = head;
+        this.nodes = new IdentityHashMap<>();
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Adds a Cloudlet to the end of the list, if it isn't into the list yet.
+     * @param cle the Cloudlet to add
+     * @return true if the Cloudlet was added, false if it was already into the list
+     */
+    @Override
+    public boolean add(final CloudletExecution cle) {
+        if(nodes.containsKey(Objects.requireNonNull(cle))){
+            return false;
+        }
+
+        final Node node = new Node(cle);
+        node.linkBefore(head);
+        nodes.put(cle, node);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object obj) {
+        final Node node = nodes.get(obj);
+        if(node == null) {
+            //The object may be a different CloudletExecution instance for the same Cloudlet
+            return super.remove(obj);
+        }
+
+        removeNode(node);
+        return true;
+    }
+
+    @Override
+    public boolean contains(final Object obj) {
+        return nodes.containsKey(obj) || super.contains(obj);
+    }
+
+    @Override
+    public void clear() {
+        head.next = head;
+        head.previous = head;
+        nodes.clear();
+        modCount++;
+    }
+
+    @Override
+    public void sort(final Comparator<? super CloudletExecution> comparator) {
+        final List<Node> sortedNodes = new ArrayList<>(nodes.size());
+        for (Node node = head.next; node != head; node = node.next) {
+            sortedNodes.add(node);
+        }
+
+        sortedNodes.sort((node1, node2) -> comparator.compare(node1.cle, node2.cle));
+        head.next = head;
+        head.previous = head;
+        sortedNodes.forEach(node -> node.linkBefore(head));
+        modCount++;
+    }
+
+    @Override
+    public ListIterator<CloudletExecution> listIterator(final int index) {
+        if(index < 0 || index > size()){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        return new NodeIterator(index);
+    }
+
+    private void removeNode(final Node node) {
+        node.unlink();
+        nodes.remove(node.cle);
+        modCount++;
+    }
+
+    /**
+     * A node of the list, storing a Cloudlet.
+     */
+    private static final class Node {
+        private final CloudletExecution cle;
+        private Node previous;
+        private Node next;
+
+        private Node(final CloudletExecution cle) {
+            this.cle = cle;
+        }
+
+        /**
+         * Links this node just before a given one.
+         * @param successor the node to be the next one
+         */
+        private void linkBefore(final Node successor) {
+            this.next = successor;
+            this.previous = successor.previous;
+            successor.previous.next = this;
+            successor.previous = this;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+        }
+    }
+
+    /**
+     * Iterates over the list nodes, enabling to remove the last returned Cloudlet.
+     * Changing or adding Cloudlets through the iterator is not supported.
+     */
+    private final class NodeIterator implements ListIterator<CloudletExecution> {
+        private Node next;
+        private int nextIndex;
+        private Node lastReturned;
+        private int expectedModCount = modCount;
+
+        private NodeIterator(final int index) {
+            /* Walks from the closest end of the list. */
+            if (index <= size() / 2) {
+                next = head.next;
+                for (nextIndex = 0; nextIndex < index; nextIndex++) {
+                    next = next.next;
+                }
+            } else {
+                next = head;
+                for (nextIndex = size(); nextIndex > index; nextIndex--) {
+                    next = next.previous;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != head;
+        }
+
+        @Override
+        public CloudletExecution next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.cle;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return next.previous != head;
+        }
+
+        @Override
+        public CloudletExecution previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            next = next.previous;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.cle;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            if (next == lastReturned) {
+                next = lastReturned.next;
+            } else {
+                nextIndex--;
+            }
+
+            removeNode(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(final CloudletExecution cle) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(final CloudletExecution cle) {
+            throw new UnsupportedOperationException();
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
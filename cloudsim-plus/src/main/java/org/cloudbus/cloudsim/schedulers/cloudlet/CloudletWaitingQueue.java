@@ -0,0 +1,396 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet.Status;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An index for the Cloudlets into the waiting list of a {@link CloudletScheduler},
+ * used to find the next Cloudlet to run without scanning the whole list.
+ * Waiting Cloudlets are grouped by the number of required PEs,
+ * each group sorted according to a given {@link Comparator}
+ * and then by the order Cloudlets were added to the queue.
+ * The first Cloudlet of each group is kept in a segment tree
+ * sorted by the number of required PEs,
+ * where each node stores the first Cloudlet among its children.
+ * This way, the first waiting Cloudlet that fits into the free PEs
+ * is found in O(log P), where P is the number of distinct numbers of PEs
+ * required by Cloudlets that have been added to the queue.
+ *
+ * <p>{@link Status#FROZEN Frozen} Cloudlets are kept apart
+ * until they are {@link #ready(Cloudlet) ready} to run.
+ * The attributes used by the {@link Comparator} must not be changed
+ * while a Cloudlet is in the queue, unless it's performed by {@link #update(Cloudlet, Runnable)},
+ * so that the Cloudlet is re-inserted according to the new values.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+final class CloudletWaitingQueue {
+    /**
+     * The sequence number of the next Cloudlet added to the queue,
+     * used to keep the order Cloudlets are added.
+     */
+    private long nextSequence;
+
+    /**
+     * Sorts {@link Entry entries} using the comparator given to the constructor
+     * and then by the order they were added to the queue.
+     */
+    private final Comparator<Entry> comparator;
+
+    /**
+     * Maps each Cloudlet in the queue to its {@link Entry}.
+     */
+    private final Map<Cloudlet, Entry> entries;
+
+    /**
+     * Cloudlets that can be executed, grouped by the number of required PEs.
+     */
+    private final Map<Long, NavigableSet<Entry>> entriesByPes;
+
+    /**
+     * The distinct numbers of PEs required by Cloudlets that have been added to the queue,
+     * in ascending order. Each value is the position of a leaf in the {@link #headsTree}.
+     * Values are kept after their groups get empty, so that the tree is just
+     * rebuilt when a Cloudlet requires a number of PEs not seen before.
+     */
+    private long[] pesValues;
+
+    /**
+     * A segment tree where the leaf for each {@link #pesValues value}
+     * stores the first Cloudlet of the group requiring such a number of PEs (or null if the group is empty)
+     * and each internal node stores the first Cloudlet among its children.
+     * Node 1 is the root, the children of node n are 2n and 2n+1
+     * and the leaves start at {@link #firstLeaf}.
+     */
+    private Entry[] headsTree;
+
+    /**
+     * The index of the first leaf inside the {@link #headsTree}.
+     */
+    private int firstLeaf;
+
+    /**
+     * Cloudlets that cannot be executed until they are {@link #ready(Cloudlet) ready},
+     * such as the {@link Status#FROZEN} ones.
+     */
+    private final Set<Entry> frozenEntries;
+
+    /**
+     * The Cloudlets in the queue, in the order they will be selected to run,
+     * or null if it must be built again because the queue has changed.
+     * @see #asList()
+     */
+    private List<CloudletExecution> list;
+
+    /**
+     * Creates a queue where Cloudlets are sorted by the order they are added.
+     */
+    CloudletWaitingQueue() {
+        this((cle1, cle2) -> 0);
+    }
+
+    /**
+     * Creates a queue where Cloudlets are sorted by a given {@link Comparator}.
+     * @param comparator the {@link Comparator} to sort Cloudlets
+     */
+    CloudletWaitingQueue(final Comparator<CloudletExecution> comparator) {
+        final Comparator<Entry> cloudletComparator = (e1, e2) -> comparator.compare(e1.cle, e2.cle);
+        this.comparator = cloudletComparator.thenComparingLong(entry -> entry.sequence);
+        this.entries = new IdentityHashMap<>();
+        this.entriesByPes = new HashMap<>();
+        this.frozenEntries = new HashSet<>();
+        this.pesValues = new long[0];
+        this.headsTree = new Entry[0];
+    }
+
+    /**
+     * Adds a Cloudlet to the end of the queue.
+     * @param cle the Cloudlet to add
+     */
+    void add(final CloudletExecution cle) {
+        if(cle == CloudletExecution.NULL || entries.containsKey(cle.getCloudlet())){
+            return;
+        }
+
+        final Entry entry = new Entry(cle, nextSequence++);
+        entries.put(cle.getCloudlet(), entry);
+        list = null;
+        if(isFrozen(cle)) {
+            frozenEntries.add(entry);
+        } else {
+            addToPesGroup(entry);
+        }
+    }
+
+    /**
+     * Removes a Cloudlet from the queue.
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was in the queue, false otherwise
+     */
+    boolean remove(final CloudletExecution cle) {
+        final Entry entry = entries.remove(cle.getCloudlet());
+        if(entry == null) {
+            return false;
+        }
+
+        list = null;
+        if(!frozenEntries.remove(entry)) {
+            removeFromPesGroup(entry);
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a Cloudlet is in the queue.
+     * @param cle the Cloudlet to check
+     * @return true if the Cloudlet is in the queue, false otherwise
+     */
+    boolean contains(final CloudletExecution cle) {
+        return entries.containsKey(cle.getCloudlet());
+    }
+
+    /**
+     * Changes attributes of a Cloudlet that are used to sort it,
+     * re-inserting it into the queue (if it's there) according to the new values.
+     * The Cloudlet keeps the order it was added to the queue.
+     * @param cloudlet the Cloudlet to change
+     * @param change a {@link Runnable} that changes the Cloudlet
+     */
+    void update(final Cloudlet cloudlet, final Runnable change) {
+        final Entry entry = entries.get(cloudlet);
+        if(entry == null) {
+            change.run();
+            return;
+        }
+
+        list = null;
+        if(frozenEntries.contains(entry)) {
+            change.run();
+            return;
+        }
+
+        removeFromPesGroup(entry);
+        change.run();
+        addToPesGroup(entry);
+    }
+
+    /**
+     * Notifies that a Cloudlet is ready to run,
+     * so that it can be selected to run if it was frozen.
+     * The Cloudlet keeps its position into the queue.
+     * @param cloudlet the ready Cloudlet
+     */
+    void ready(final Cloudlet cloudlet) {
+        final Entry entry = entries.get(cloudlet);
+        if(entry != null && !isFrozen(entry.cle) && frozenEntries.remove(entry)) {
+            addToPesGroup(entry);
+        }
+    }
+
+    /**
+     * Finds the first Cloudlet in the queue requiring no more than a given number of PEs.
+     * Cloudlets that cannot be executed anymore, due to a status change after
+     * they were added to the queue, are frozen until they are {@link #ready(Cloudlet) ready}.
+     *
+     * @param freePes the number of free PEs
+     * @return an {@link Optional} containing the found Cloudlet or an empty Optional otherwise
+     */
+    Optional<CloudletExecution> findFirst(final long freePes) {
+        Entry first = findFirstEntry(freePes);
+        while (first != null && isFrozen(first.cle)) {
+            removeFromPesGroup(first);
+            frozenEntries.add(first);
+            first = findFirstEntry(freePes);
+        }
+
+        return first == null ? Optional.empty() : Optional.of(first.cle);
+    }
+
+    /**
+     * Finds the first Cloudlet among the groups requiring no more than a given number of PEs,
+     * by querying the {@link #headsTree} leaves for such groups.
+     * @param freePes the number of free PEs
+     * @return the first Cloudlet found or null if there is none
+     */
+    private Entry findFirstEntry(final long freePes) {
+        final int index = Arrays.binarySearch(pesValues, freePes);
+        final int fittingGroups = index < 0 ? -index - 1 : index + 1;
+
+        Entry first = null;
+        int left = firstLeaf;
+        int right = firstLeaf + fittingGroups;
+        while (left < right) {
+            if ((left & 1) == 1) {
+                first = min(first, headsTree[left++]);
+            }
+
+            if ((right & 1) == 1) {
+                first = min(first, headsTree[--right]);
+            }
+
+            left >>= 1;
+            right >>= 1;
+        }
+
+        return first;
+    }
+
+    private Entry min(final Entry entry1, final Entry entry2) {
+        if(entry1 == null) {
+            return entry2;
+        }
+
+        if(entry2 == null) {
+            return entry1;
+        }
+
+        return comparator.compare(entry1, entry2) <= 0 ? entry1 : entry2;
+    }
+
+    /**
+     * Gets a read-only list of all Cloudlets in the queue, in the order they will be selected to run
+     * (if there are enough free PEs).
+     * The list is just built again after the queue changes.
+     * @return the list of Cloudlets in the queue
+     */
+    List<CloudletExecution> asList() {
+        if(list == null) {
+            list = entries.values()
+                          .stream()
+                          .sorted(comparator)
+                          .map(entry -> entry.cle)
+                          .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        }
+
+        return list;
+    }
+
+    /**
+     * Removes all Cloudlets from the queue.
+     */
+    void clear() {
+        list = null;
+        entries.clear();
+        entriesByPes.clear();
+        frozenEntries.clear();
+        Arrays.fill(headsTree, null);
+    }
+
+    private void addToPesGroup(final Entry entry) {
+        final NavigableSet<Entry> group = entriesByPes.computeIfAbsent(entry.pes, pes -> new TreeSet<>(comparator));
+        group.add(entry);
+        updateGroupHead(entry.pes, group.first());
+    }
+
+    private void removeFromPesGroup(final Entry entry) {
+        final NavigableSet<Entry> group = entriesByPes.get(entry.pes);
+        if(group == null) {
+            return;
+        }
+
+        group.remove(entry);
+        if(group.isEmpty()) {
+            entriesByPes.remove(entry.pes);
+            updateGroupHead(entry.pes, null);
+        } else {
+            updateGroupHead(entry.pes, group.first());
+        }
+    }
+
+    /**
+     * Stores the first Cloudlet of a group into the {@link #headsTree} leaf for the group,
+     * updating the leaf ancestors in O(log P).
+     * @param pes the number of PEs required by the Cloudlets in the group
+     * @param head the first Cloudlet of the group or null if the group is empty
+     */
+    private void updateGroupHead(final long pes, final Entry head) {
+        final int index = Arrays.binarySearch(pesValues, pes);
+        if(index < 0) {
+            addPesValue(pes, -index - 1);
+            return;
+        }
+
+        int node = firstLeaf + index;
+        headsTree[node] = head;
+        for (node >>= 1; node > 0; node >>= 1) {
+            headsTree[node] = min(headsTree[2 * node], headsTree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Adds a number of PEs not required by any Cloudlet before,
+     * rebuilding the {@link #headsTree} from the current groups.
+     * @param pes the number of PEs to add
+     * @param position the position to insert the value into the {@link #pesValues}
+     */
+    private void addPesValue(final long pes, final int position) {
+        final long[] values = new long[pesValues.length + 1];
+        System.arraycopy(pesValues, 0, values, 0, position);
+        values[position] = pes;
+        System.arraycopy(pesValues, position, values, position + 1, pesValues.length - position);
+        pesValues = values;
+
+        firstLeaf = Integer.highestOneBit(values.length) << (Integer.bitCount(values.length) == 1 ? 0 : 1);
+        headsTree = new Entry[2 * firstLeaf];
+        for (int i = 0; i < values.length; i++) {
+            final NavigableSet<Entry> group = entriesByPes.get(values[i]);
+            headsTree[firstLeaf + i] = group == null ? null : group.first();
+        }
+
+        for (int node = firstLeaf - 1; node > 0; node--) {
+            headsTree[node] = min(headsTree[2 * node], headsTree[2 * node + 1]);
+        }
+    }
+
+    private static boolean isFrozen(final CloudletExecution cle) {
+        return cle.getCloudlet().getStatus() == Status.FROZEN;
+    }
+
+    /**
+     * A Cloudlet in the queue,
+     * storing the number of PEs used to group it,
+     * even if the number of PEs of the Cloudlet is changed while waiting.
+     */
+    private static final class Entry {
+        private final CloudletExecution cle;
+        private final long sequence;
+        private final long pes;
+
+        private Entry(final CloudletExecution cle, final long sequence) {
+            this.cle = cle;
+            this.sequence = sequence;
+            this.pes = cle.getNumberOfPes();
+        }
+    }
+}
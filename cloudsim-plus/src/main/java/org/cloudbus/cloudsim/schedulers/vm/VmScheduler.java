@@ -120,6 +120,16 @@ public interface VmScheduler {
      */
     MipsShare getRequestedMips(Vm vm);
 
+    /**
+     * Gets the total MIPS requested by all VMs using this scheduler
+     * (including the ones migrating into the Host).
+     * The value is updated incrementally as VMs request or release PEs,
+     * so calling this method has constant time complexity.
+     *
+     * @return
+     */
+    double getTotalRequestedMips();
+
     /**
      * Checks if the PM using this scheduler has enough MIPS capacity
      * to host a given VM.
@@ -11,8 +11,9 @@ import org.cloudbus.cloudsim.hosts.HostSimple;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.schedulers.MipsShare;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSlotMap;
+import org.cloudsimplus.instrumentation.Timer;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,9 +37,16 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
     public static final double DEFAULT_VM_MIGRATION_CPU_OVERHEAD = 0.1;
 
     /**
+     * The MIPS requested by each VM, stored into an array indexed by the
+     * {@link Host#getVmSlotIndex() VM slot}.
      * @see #getRequestedMipsMap()
      */
-    private final Map<Vm, MipsShare> requestedMipsMap;
+    private VmSlotMap<MipsShare> requestedMipsMap;
+
+    /**
+     * @see #getTotalRequestedMips()
+     */
+    private double totalRequestedMips;
 
     /**
      * @see #getHost()
@@ -46,9 +54,11 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
     private Host host;
 
     /**
+     * The MIPS allocated to each VM, stored into an array indexed by the
+     * {@link Host#getVmSlotIndex() VM slot}.
      * @see #getAllocatedMipsMap()
      */
-    private Map<Vm, MipsShare> allocatedMipsMap;
+    private VmSlotMap<MipsShare> allocatedMipsMap;
 
     /**
      * @see #getVmMigrationCpuOverhead()
@@ -67,7 +77,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
 
         setHost(Host.NULL);
         this.vmMigrationCpuOverhead = vmMigrationCpuOverhead;
-        this.requestedMipsMap = new HashMap<>();
+        this.requestedMipsMap = new VmSlotMap<>(host.getVmSlotIndex());
     }
 
     @Override
@@ -105,15 +115,62 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
             host.removeVmMigratingOut(vm);
         }
 
-        requestedMipsMap.put(vm, new MipsShare(requestedMips));
-        if(allocatePesForVmInternal(vm, requestedMips)) {
+        final Timer timer = host.getSimulation().getMetrics().timer("vmScheduler.allocatePesForVm");
+        final long start = timer.start();
+        final MipsShare previousRequestedMips = putRequestedMips(vm, new MipsShare(requestedMips));
+        final boolean allocated = allocatePesForVmInternal(vm, requestedMips);
+        timer.stop(start);
+        if(allocated) {
             updateStatusOfHostPesUsedByVm(vm, getHost().getFreePeList(), Pe.Status.BUSY);
             return true;
         }
 
+        //The VM wasn't placed, so it must not be accounted into the requested MIPS
+        if(previousRequestedMips == null)
+            removeRequestedMips(vm);
+        else putRequestedMips(vm, previousRequestedMips);
         return false;
     }
 
+    /**
+     * Stores the MIPS requested by a VM,
+     * updating the {@link #getTotalRequestedMips() total requested MIPS}.
+     * @param vm the VM requesting MIPS
+     * @param requestedMips the MIPS requested by the VM
+     * @return the previous MIPS requested by the VM or null if there wasn't any
+     */
+    private MipsShare putRequestedMips(final Vm vm, final MipsShare requestedMips) {
+        final MipsShare previous = requestedMipsMap.put(vm, requestedMips);
+        totalRequestedMips += requestedMips.totalMips() - (previous == null ? 0 : previous.totalMips());
+        return previous;
+    }
+
+    /**
+     * Removes the MIPS requested by a VM,
+     * updating the {@link #getTotalRequestedMips() total requested MIPS}.
+     * @param vm the VM to remove its requested MIPS
+     */
+    private void removeRequestedMips(final Vm vm) {
+        final MipsShare previous = requestedMipsMap.remove(vm);
+        if(previous != null) {
+            totalRequestedMips -= previous.totalMips();
+        }
+
+        if(requestedMipsMap.isEmpty()){
+            //Avoids accumulating floating-point errors
+            totalRequestedMips = 0;
+        }
+    }
+
+    /**
+     * Removes the MIPS requested by all VMs,
+     * resetting the {@link #getTotalRequestedMips() total requested MIPS}.
+     */
+    protected void clearRequestedMipsMap() {
+        requestedMipsMap.clear();
+        totalRequestedMips = 0;
+    }
+
     /**
      * Based on the number of PEs required by a given VM, sets the status of the same
      * number of physical PEs in its Host to a given status.
@@ -157,6 +214,10 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
         }
 
         deallocatePesFromVmInternal(vm, pesToRemove);
+        if(!allocatedMipsMap.containsKey(vm)) {
+            //All VM PEs were released, so it doesn't request MIPS from this scheduler anymore
+            removeRequestedMips(vm);
+        }
         updateHostUsedPesToFree();
     }
 
@@ -191,9 +252,16 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
             return 0;
         }
 
+        final double previousTotalMips = mipsShare.totalMips();
         final long removedPes = mipsShare.remove(Math.min(vm.getNumberOfPes(), pesToRemove));
+        if(map == requestedMipsMap){
+            totalRequestedMips -= previousTotalMips - mipsShare.totalMips();
+        }
+
         if(mipsShare.isEmpty()){
-            map.remove(vm);
+            if(map == requestedMipsMap)
+                removeRequestedMips(vm);
+            else map.remove(vm);
         }
 
         return removedPes;
@@ -204,6 +272,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
     @Override
     public void deallocatePesForAllVms() {
         allocatedMipsMap.clear();
+        clearRequestedMipsMap();
         getWorkingPeList().forEach(pe -> pe.getPeProvisioner().deallocateResourceForAllVms());
     }
 
@@ -271,6 +340,9 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      * is a list where each element is the MIPS capacity of each VM {@link Pe}
      * and the list size is the number of PEs.
      *
+     * <p><b>The map must not be directly changed</b>, otherwise the
+     * {@link #getTotalRequestedMips() total requested MIPS} will be inconsistent.</p>
+     *
      * @return the requested MIPS map
      */
     protected Map<Vm, MipsShare> getRequestedMipsMap() {
@@ -282,6 +354,11 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
         return requestedMipsMap.getOrDefault(vm, new MipsShare());
     }
 
+    @Override
+    public double getTotalRequestedMips() {
+        return totalRequestedMips;
+    }
+
     /**
      * Gets a map of MIPS allocated to each VM, were each key is a VM and each value is the
      * List of currently allocated MIPS from the respective physical PEs which
@@ -412,7 +489,16 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
         }
 
         this.host = host;
-        allocatedMipsMap = new HashMap<>();
+        if(allocatedMipsMap != null) {
+            //Releases the slots of VMs in the previous Host index
+            allocatedMipsMap.clear();
+        }
+
+        allocatedMipsMap = new VmSlotMap<>(host.getVmSlotIndex());
+        if(requestedMipsMap != null) {
+            requestedMipsMap.setSlotIndex(host.getVmSlotIndex());
+        }
+
         return this;
     }
 
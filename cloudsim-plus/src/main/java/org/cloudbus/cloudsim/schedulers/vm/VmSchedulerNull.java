@@ -23,6 +23,7 @@ final class VmSchedulerNull implements VmScheduler {
         return 0.0;
     }
     @Override public MipsShare getRequestedMips(Vm vm) { return MipsShare.NULL; }
+    @Override public double getTotalRequestedMips() { return 0; }
     @Override public double getTotalAllocatedMipsForVm(Vm vm) {
         return 0.0;
     }
@@ -332,13 +332,4 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
         updatePesAllocationForAllVms();
     }
 
-    /**
-     * Releases PEs allocated to all the VMs.
-     */
-    @Override
-    public void deallocatePesForAllVms() {
-        super.deallocatePesForAllVms();
-        getRequestedMipsMap().clear();
-    }
-
 }
@@ -8,25 +8,31 @@
 
 package org.cloudbus.cloudsim.util;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Measurement of execution times of CloudSim's methods.
+ * Start times are kept in a thread-safe map, measured at nanosecond resolution.
  *
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 3.0
+ * @deprecated since start times are shared by every simulation in the JVM,
+ * concurrent measurements using the same name overwrite each other.
+ * Use a {@link org.cloudsimplus.instrumentation.Timer} from the
+ * {@link org.cloudbus.cloudsim.core.Simulation#getMetrics() simulation metrics registry} instead.
  */
+@Deprecated
 public final class ExecutionTimeMeasurer {
 
     /**
      * A map of execution start times where each key
      * represents the name of the method/process and each key is the
-     * time the method/process started (in milliseconds).
+     * time the method/process started (in nanoseconds, as returned by {@link System#nanoTime()}).
      * Usually, this name is the method/process name, making
      * it easy to identify the execution start times into the map.
      */
-    private static final Map<String, Long> EXECUTION_START_TIMES = new HashMap<>();
+    private static final Map<String, Long> EXECUTION_START_TIMES = new ConcurrentHashMap<>();
 
     /**
      * A private constructor to avoid class instantiation.
@@ -42,7 +48,7 @@ public final class ExecutionTimeMeasurer {
      * @see #getExecutionStartTimes()
      */
     public static void start(final String name) {
-        EXECUTION_START_TIMES.put(name, System.currentTimeMillis());
+        EXECUTION_START_TIMES.put(name, System.nanoTime());
     }
 
     /**
@@ -53,7 +59,7 @@ public final class ExecutionTimeMeasurer {
      * @see #getExecutionStartTimes()
      */
     public static double end(final String name) {
-        return (System.currentTimeMillis() - EXECUTION_START_TIMES.remove(name)) / 1000.0;
+        return (System.nanoTime() - EXECUTION_START_TIMES.remove(name)) / 1_000_000_000.0;
     }
 
     /**
@@ -0,0 +1,238 @@
+package org.cloudbus.cloudsim.util;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the last {@link #getCapacity() w} values of a series (such as the CPU utilization history of a Host)
+ * and incrementally maintains robust statistics over such a sliding window,
+ * namely the median, the <a href="https://en.wikipedia.org/wiki/Median_absolute_deviation">Median Absolute Deviation (MAD)</a>,
+ * and the <a href="https://en.wikipedia.org/wiki/Interquartile_range">Inter-quartile Range (IQR)</a>.
+ *
+ * <p>Values are stored in a circular buffer (in arrival order) and in an array kept sorted
+ * when a value is added or evicted.
+ * Adding a value requires just binary searches and a bounded array shift,
+ * avoiding to copy and sort the whole history every time a statistic is requested,
+ * as done by {@link MathUtil#mad(double...)} and {@link MathUtil#iqr(double...)}.
+ * The median and IQR are then read in O(1) and the MAD is selected
+ * in O(log w) from the two sorted halves around the median.</p>
+ *
+ * <p>All statistics return the same values computed by the equivalent {@link MathUtil} methods
+ * for the values currently inside the window.
+ * The robust local regression is not included, since it re-weights every value
+ * by its residual and can't be incrementally updated: it has to be computed in O(w)
+ * from the {@link #getValues() window values}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ * @see MathUtil
+ */
+public class SlidingWindowStatistics {
+    /** The values inside the window, in the order they were added, stored as a circular buffer. */
+    private final double[] values;
+
+    /** The values inside the window, sorted in ascending order. */
+    private final double[] sorted;
+
+    /** The index inside {@link #values} of the oldest value in the window. */
+    private int head;
+
+    /** @see #size() */
+    private int size;
+
+    /**
+     * Creates a sliding window statistics.
+     * @param capacity the maximum number of values kept in the window
+     */
+    public SlidingWindowStatistics(final int capacity) {
+        if(capacity <= 0){
+            throw new IllegalArgumentException("The window capacity must be greater than zero.");
+        }
+
+        this.values = new double[capacity];
+        this.sorted = new double[capacity];
+    }
+
+    /**
+     * Adds a value to the window, evicting the oldest one if the window {@link #isFull() is full}.
+     * @param value the value to add
+     */
+    public void add(final double value) {
+        if(isFull()){
+            evictOldest();
+        }
+
+        values[(head + size) % values.length] = value;
+        final int index = insertionIndex(value);
+        System.arraycopy(sorted, index, sorted, index + 1, size - index);
+        sorted[index] = value;
+        size++;
+    }
+
+    private void evictOldest() {
+        final double oldest = values[head];
+        head = (head + 1) % values.length;
+
+        final int index = Arrays.binarySearch(sorted, 0, size, oldest);
+        System.arraycopy(sorted, index + 1, sorted, index, size - index - 1);
+        size--;
+    }
+
+    private int insertionIndex(final double value) {
+        final int index = Arrays.binarySearch(sorted, 0, size, value);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Gets the maximum number of values kept in the window.
+     * @return
+     */
+    public int getCapacity() {
+        return values.length;
+    }
+
+    /**
+     * Gets the number of values currently inside the window.
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the window has no values.
+     * @return
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the number of values inside the window has reached its {@link #getCapacity() capacity},
+     * so that adding a new value evicts the oldest one.
+     * @return
+     */
+    public boolean isFull() {
+        return size == values.length;
+    }
+
+    /**
+     * Gets a copy of the values inside the window, from the oldest to the newest one.
+     * @return
+     */
+    public double[] getValues() {
+        final double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = values[(head + i) % values.length];
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the median of the values inside the window.
+     * @return the median or {@link Double#NaN} if the window is empty
+     * @see MathUtil#median(double...)
+     */
+    public double getMedian() {
+        if(isEmpty()){
+            return Double.NaN;
+        }
+
+        return middle(sorted[(size - 1) / 2], sorted[size / 2]);
+    }
+
+    /**
+     * Gets the <a href="https://en.wikipedia.org/wiki/Median_absolute_deviation">Median Absolute Deviation (MAD)</a>
+     * of the values inside the window.
+     * @return the MAD or 0 if the window is empty
+     * @see MathUtil#mad(double...)
+     */
+    public double getMad() {
+        if(isEmpty()){
+            return 0;
+        }
+
+        /*The absolute deviations of values lower than the median
+        * increase when walking the sorted array backwards from the median,
+        * while the deviations of the other values increase walking forward.
+        * The median of all deviations is selected from these two sorted sequences,
+        * without building and sorting a deviations array.*/
+        final double median = getMedian();
+        final int split = insertionIndex(median);
+        return middle(
+            deviation((size - 1) / 2, median, split),
+            deviation(size / 2, median, split));
+    }
+
+    /**
+     * Gets the k-th smallest absolute deviation from the median
+     * by a binary search over how many deviations are taken from
+     * the values at the left of the median.
+     *
+     * @param k the 0-based order of the deviation to get
+     * @param median the median of the window
+     * @param split an index in the {@link #sorted} array where values before it are not greater than the median
+     *              and values from it on are not lower than the median
+     * @return the k-th smallest deviation
+     */
+    private double deviation(final int k, final double median, final int split) {
+        final int leftSize = split;
+        final int rightSize = size - split;
+        int low = Math.max(0, k + 1 - rightSize);
+        int high = Math.min(k + 1, leftSize);
+        while (low < high) {
+            final int left = (low + high) >>> 1;
+            final int right = k + 1 - left;
+            if (rightDeviation(right - 1, median, split) > leftDeviation(left, median, split)) {
+                low = left + 1;
+            } else {
+                high = left;
+            }
+        }
+
+        final int right = k + 1 - low;
+        final double leftMax = low > 0 ? leftDeviation(low - 1, median, split) : Double.NEGATIVE_INFINITY;
+        final double rightMax = right > 0 ? rightDeviation(right - 1, median, split) : Double.NEGATIVE_INFINITY;
+        return Math.max(leftMax, rightMax);
+    }
+
+    private double leftDeviation(final int i, final double median, final int split) {
+        return median - sorted[split - 1 - i];
+    }
+
+    private double rightDeviation(final int i, final double median, final int split) {
+        return sorted[split + i] - median;
+    }
+
+    /**
+     * Computes the middle point between two consecutive order statistics
+     * the same way the median is computed by {@link MathUtil#median(double...)}.
+     */
+    private static double middle(final double lower, final double upper) {
+        return lower + 0.5 * (upper - lower);
+    }
+
+    /**
+     * Gets the <a href="https://en.wikipedia.org/wiki/Interquartile_range">Inter-quartile Range (IQR)</a>
+     * of the values inside the window.
+     * @return the IQR or 0 if the window is empty
+     * @see MathUtil#iqr(double...)
+     */
+    public double getIqr() {
+        if(isEmpty()){
+            return 0;
+        }
+
+        final int quartile1 = (int) Math.round(0.25 * (size + 1)) - 1;
+        final int quartile3 = Math.min((int) Math.round(0.75 * (size + 1)) - 1, size - 1);
+        return sorted[quartile3] - sorted[quartile1];
+    }
+}
@@ -94,6 +94,20 @@ public interface UtilizationModel {
      */
     double getUtilization();
 
+    /**
+     * Checks if this model always returns the same utilization, independent of the time.
+     * A {@link CloudletScheduler} uses that to avoid requesting the utilization
+     * of the RAM and BW of running Cloudlets at every processing update,
+     * computing it only when Cloudlets start or finish running.
+     * The value returned for a given instance must never change.
+     * By default, models are considered time-variant.
+     *
+     * @return true if the utilization never changes along the time, false otherwise
+     */
+    default boolean isTimeInvariant() {
+        return false;
+    }
+
     /**
      * Checks if the resource utilization requested by a Cloudlet is allowed to exceed 100% or not.
      * <p><b>WARNING:</b> This attribute is just considered when the {@link #getUnit()}
@@ -23,10 +23,12 @@
  */
 package org.cloudbus.cloudsim.utilizationmodels;
 
+import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.util.Conversion;
 
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
 /**
  * A Cloudlet {@link UtilizationModel} that allows to increase the utilization of the related resource along
@@ -38,6 +40,11 @@ import java.util.function.Function;
  * but any kind of increment as logarithmic or exponential is possible.
  * For more details, see the {@link #setUtilizationUpdateFunction(Function)}.</p>
  *
+ * <p>Since such a function receives a copy of this model every time the utilization is updated,
+ * simulations with lots of Cloudlets may use the
+ * {@link #setUtilizationViewUpdateFunction(ToDoubleFunction)} instead,
+ * whose function receives a {@link UtilizationModelDynamicView} reused for every update.</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
@@ -64,6 +71,17 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
      */
     private Function<UtilizationModelDynamic, Double> utilizationUpdateFunction;
 
+    /**
+     * @see #setUtilizationViewUpdateFunction(ToDoubleFunction)
+     */
+    private ToDoubleFunction<UtilizationModelDynamicView> utilizationViewUpdateFunction;
+
+    /**
+     * The read-only view of this model given to the {@link #utilizationViewUpdateFunction},
+     * which is created just when such a function is set.
+     */
+    private UtilizationModelDynamicView view;
+
     /**
      * The last time the utilization was updated.
      */
@@ -186,6 +204,9 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
         this.maxResourceUtilization = source.maxResourceUtilization;
         this.setSimulation(source.getSimulation());
         this.setUtilizationUpdateFunction(source.utilizationUpdateFunction);
+        if(source.utilizationViewUpdateFunction != null) {
+            this.setUtilizationViewUpdateFunction(source.utilizationViewUpdateFunction);
+        }
     }
 
     /**
@@ -208,8 +229,12 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
             since the utilizationUpdateFunction function usually will call this current one, that in turns
             calls the utilizationUpdateFunction to update the utilization progress,
             it would lead to an infinity loop.
+            A function given to setUtilizationViewUpdateFunction() gets a reused read-only view instead,
+            that provides the same protection without creating a copy at every update.
             */
-            currentUtilization = utilizationUpdateFunction.apply(new UtilizationModelDynamic(this));
+            currentUtilization = utilizationViewUpdateFunction == null ?
+                                    utilizationUpdateFunction.apply(new UtilizationModelDynamic(this)) :
+                                    utilizationViewUpdateFunction.applyAsDouble(view);
             previousUtilizationTime = time;
             if (currentUtilization <= 0) {
                 currentUtilization = 0;
@@ -298,6 +323,10 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
      * <p>Defining a geometric progression for the resource utilization is as simple as changing the plus signal
      * to a multiplication signal.</p>
      *
+     * <p>The function receives a new copy of this model every time the utilization is updated.
+     * To avoid creating such copies, use {@link #setUtilizationViewUpdateFunction(ToDoubleFunction)}.
+     * The last function set by any of these methods is the one used.</p>
+     *
      * @param utilizationUpdateFunction the utilization increment function to set, that will receive the
      *                                  UtilizationModel instance and must return the new utilization value
      *                                  based on the previous utilization.
@@ -305,6 +334,68 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
      */
     public final UtilizationModelDynamic setUtilizationUpdateFunction(final Function<UtilizationModelDynamic, Double> utilizationUpdateFunction) {
         this.utilizationUpdateFunction = Objects.requireNonNull(utilizationUpdateFunction);
+        this.utilizationViewUpdateFunction = null;
+        return this;
+    }
+
+    /**
+     * Sets the function defining how the resource utilization will be incremented or decremented along the time,
+     * just as {@link #setUtilizationUpdateFunction(Function)} does,
+     * but giving the function a {@link UtilizationModelDynamicView} of this model
+     * that is reused every time the utilization is updated, instead of a new copy of the model.
+     * The function also returns a primitive double, so that no object is created when it's called.
+     *
+     * <p>For instance, an arithmetic increment can be defined as below:</p>
+     *
+     * <p>{@code view -> view.getUtilization() + view.getTimeSpan()*0.1}</p>
+     *
+     * <p>Since the view reflects the current state of this model,
+     * the function must not keep it to be read later.
+     * The last function set by this method or {@link #setUtilizationUpdateFunction(Function)} is the one used.</p>
+     *
+     * @param utilizationViewUpdateFunction the utilization increment function to set, that will receive the
+     *                                      read-only view of this model and must return the new utilization value
+     *                                      based on the previous utilization.
+     * @return
+     */
+    public final UtilizationModelDynamic setUtilizationViewUpdateFunction(final ToDoubleFunction<UtilizationModelDynamicView> utilizationViewUpdateFunction) {
+        this.utilizationViewUpdateFunction = Objects.requireNonNull(utilizationViewUpdateFunction);
+        if(view == null) {
+            view = new View();
+        }
+
         return this;
     }
+
+    /**
+     * A read-only view that reads the current state of this model.
+     */
+    private final class View implements UtilizationModelDynamicView {
+        @Override
+        public double getUtilization() {
+            return getUnit() == Unit.ABSOLUTE || isOverCapacityRequestAllowed() ?
+                        currentUtilization :
+                        Math.min(currentUtilization, 1);
+        }
+
+        @Override
+        public double getTimeSpan() {
+            return UtilizationModelDynamic.this.getTimeSpan();
+        }
+
+        @Override
+        public double getMaxResourceUtilization() {
+            return maxResourceUtilization;
+        }
+
+        @Override
+        public Unit getUnit() {
+            return UtilizationModelDynamic.this.getUnit();
+        }
+
+        @Override
+        public Simulation getSimulation() {
+            return UtilizationModelDynamic.this.getSimulation();
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.utilizationmodels;
+
+import org.cloudbus.cloudsim.core.Simulation;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A read-only view of a {@link UtilizationModelDynamic}, given to the function
+ * set by {@link UtilizationModelDynamic#setUtilizationViewUpdateFunction(ToDoubleFunction)}
+ * to compute the new resource utilization.
+ *
+ * <p>Each {@link UtilizationModelDynamic} has a single view that is reused every time
+ * the utilization is updated, instead of creating a copy of the model for each update.
+ * The view reflects the current state of the model, so it must not be kept
+ * by the function to be read later.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public interface UtilizationModelDynamicView {
+    /**
+     * Gets the utilization of the model before the current update.
+     * Differently from {@link UtilizationModel#getUtilization()}, it doesn't call the update function again,
+     * so the function can call it without causing an infinite loop.
+     *
+     * @return the previous resource utilization, that the unit depends on the {@link #getUnit()}
+     */
+    double getUtilization();
+
+    /**
+     * Gets the time difference from the time the utilization is being requested to the
+     * last time the resource utilization was updated.
+     * @return
+     * @see UtilizationModelDynamic#getTimeSpan()
+     */
+    double getTimeSpan();
+
+    /**
+     * Gets the maximum amount of resource that will be used.
+     * @return
+     * @see UtilizationModelDynamic#getMaxResourceUtilization()
+     */
+    double getMaxResourceUtilization();
+
+    /**
+     * Gets the {@link UtilizationModel.Unit} in which the resource utilization is defined.
+     * @return
+     */
+    UtilizationModel.Unit getUnit();
+
+    /**
+     * Gets the simulation the model belongs to.
+     * @return
+     */
+    Simulation getSimulation();
+}
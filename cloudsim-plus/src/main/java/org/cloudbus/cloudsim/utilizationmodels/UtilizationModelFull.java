@@ -28,4 +28,13 @@ public class UtilizationModelFull extends UtilizationModelAbstract {
     protected final double getUtilizationInternal(final double time) {
         return 1;
     }
+
+    /**
+     * {@inheritDoc}
+     * @return always true, since the utilization is always 100%
+     */
+    @Override
+    public final boolean isTimeInvariant() {
+        return true;
+    }
 }
@@ -25,6 +25,7 @@ final class UtilizationModelNull implements UtilizationModel {
     @Override public double getUtilization() {
         return 0;
     }
+    @Override public boolean isTimeInvariant() { return true; }
     @Override public boolean isOverCapacityRequestAllowed() { return false; }
     @Override public UtilizationModel setOverCapacityRequestAllowed(boolean allow) { return this; }
 }
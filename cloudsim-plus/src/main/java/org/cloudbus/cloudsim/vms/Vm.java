@@ -73,6 +73,18 @@ public interface Vm extends AbstractMachine, UniquelyIdentifiable, Comparable<Vm
      */
     VmGroup getGroup();
 
+    /**
+     * Gets the slots assigned to this VM by the {@link VmSlotIndex} of each Host
+     * where it's using resources (usually just the Host where it's placed).
+     * The default implementation returns {@link VmSlots#NULL}, which makes each index keep
+     * the slot of the VM in a map.
+     * @return
+     * @see Host#getVmSlotIndex()
+     */
+    default VmSlots getSlots() {
+        return VmSlots.NULL;
+    }
+
     /**
      * Adds a VM state history entry.
      *
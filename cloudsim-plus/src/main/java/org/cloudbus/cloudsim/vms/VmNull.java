@@ -40,6 +40,7 @@ class VmNull implements Vm {
         return Resource.NULL;
     }
     @Override public CloudletScheduler getCloudletScheduler() { return CloudletScheduler.NULL; }
+    @Override public VmSlots getSlots() { return VmSlots.NULL; }
     @Override public long getFreePesNumber() { return 0; }
     @Override public long getExpectedFreePesNumber() { return 0; }
     @Override public long getCurrentRequestedBw() {
@@ -20,6 +20,7 @@ import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
 import org.cloudsimplus.autoscaling.HorizontalVmScaling;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 import org.cloudsimplus.autoscaling.VmScaling;
+import org.cloudsimplus.instrumentation.Timer;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.VmDatacenterEventInfo;
 import org.cloudsimplus.listeners.VmHostEventInfo;
@@ -73,7 +74,11 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
     /** @see #isCreated() */
     private boolean created;
 
-    private List<ResourceManageable> resources;
+    /** @see #getResources() */
+    private final ResourceSlots resourceSlots;
+
+    /** @see #getSlots() */
+    private final VmSlots slots = new VmSlots();
 
     /** @see #getStorage() */
     private Storage storage;
@@ -204,11 +209,12 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * @see #setDefaultStorageCapacity(long)
      */
     public VmSimple(final long id, final long mipsCapacity, final long numberOfPes) {
-        this.resources = new ArrayList<>(4);
+        this.resourceSlots = new ResourceSlots();
         setInMigration(false);
         setHost(Host.NULL);
         setCloudletScheduler(new CloudletSchedulerTimeShared());
         this.processor = new Processor(this, mipsCapacity, numberOfPes);
+        this.resourceSlots.setProcessor(processor);
         this.description = "";
         this.startTime = -1;
         this.stopTime = -1;
@@ -271,7 +277,10 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
         if (!cloudletScheduler.isEmpty()) {
             setLastBusyTime();
         }
+        final Timer timer = getSimulation().getMetrics().timer("cloudletScheduler.updateProcessing");
+        final long start = timer.start();
         final double nextSimulationDelay = cloudletScheduler.updateProcessing(currentTime, mipsShare);
+        timer.stop(start);
         notifyOnUpdateProcessingListeners();
 
         /* If the current time is some value with the decimals greater than x.0
@@ -290,7 +299,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
             return nextSimulationDelay;
         }
 
-        return nextSimulationDelay - decimals < 0 ? nextSimulationDelay : nextSimulationDelay - decimals;
+        return nextSimulationDelay - decimals <= 0 ? nextSimulationDelay : nextSimulationDelay - decimals;
     }
 
     @Override
@@ -516,6 +525,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      */
     private void setRam(final Ram ram) {
         this.ram = requireNonNull(ram);
+        resourceSlots.setRam(ram);
     }
 
     @Override
@@ -540,6 +550,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      */
     private void setBw(final Bandwidth bw) {
         this.bw = requireNonNull(bw);
+        resourceSlots.setBw(bw);
     }
 
     @Override
@@ -563,6 +574,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      */
     private void setStorage(final Storage storage) {
         this.storage = requireNonNull(storage);
+        resourceSlots.setStorage(storage);
     }
 
     @Override
@@ -601,6 +613,11 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
         return host;
     }
 
+    @Override
+    public VmSlots getSlots() {
+        return slots;
+    }
+
     @Override
     public CloudletScheduler getCloudletScheduler() {
         return cloudletScheduler;
@@ -703,12 +720,13 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
     }
 
     @Override
-    public List<ResourceManageable> getResources() {
-        if (getSimulation().isRunning() && resources.isEmpty()) {
-            resources = Arrays.asList(ram, bw, storage, processor);
-        }
+    public ResourceManageable getResource(final Class<? extends ResourceManageable> resourceClass) {
+        return resourceSlots.get(resourceClass);
+    }
 
-        return Collections.unmodifiableList(resources);
+    @Override
+    public List<ResourceManageable> getResources() {
+        return resourceSlots.asList();
     }
 
     @Override
@@ -955,7 +973,12 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
         }
 
         vmScaling.setVm(this);
-        this.addOnUpdateProcessingListener(vmScaling::requestUpScalingIfPredicateMatches);
+        /*A NULL scaling never requests scaling,
+        * so there is no need to notify it on every processing update.*/
+        if(vmScaling != HorizontalVmScaling.NULL && vmScaling != VerticalVmScaling.NULL) {
+            this.addOnUpdateProcessingListener(vmScaling::requestUpScalingIfPredicateMatches);
+        }
+
         return vmScaling;
     }
 
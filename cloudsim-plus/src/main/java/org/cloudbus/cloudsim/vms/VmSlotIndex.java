@@ -0,0 +1,188 @@
+package org.cloudbus.cloudsim.vms;
+
+import org.cloudbus.cloudsim.hosts.Host;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Assigns a dense slot number to each VM using the resources of a {@link Host},
+ * so that the allocation tables of such a Host (such as the ones
+ * kept by its resource provisioners and VM scheduler) can store
+ * the amount allocated to each VM into primitive arrays indexed by slot,
+ * instead of hash maps with boxed values.
+ *
+ * <p>The slot assigned to a VM is stored into the VM {@link Vm#getSlots() slots},
+ * so that getting it is just a lookup into an array that usually has a single entry
+ * (or two when the VM is migrating between Hosts).
+ * Each table that stores a value for a VM acquires its slot and releases it when
+ * the value is removed. The slot is freed to be reused by another VM
+ * just after it's released by every table.
+ * VMs that don't store their own slots (whose {@link Vm#getSlots()} is {@link VmSlots#NULL})
+ * have their slot kept in a map inside the index instead.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ * @see VmSlotMap
+ * @see VmSlotLongMap
+ */
+public final class VmSlotIndex {
+    /**
+     * An index that cannot assign slots, used by objects which don't share an index,
+     * such as {@link Host#NULL} and {@link Host} implementations that don't override
+     * {@link Host#getVmSlotIndex()}.
+     * A {@link VmSlotMapAbstract table} given such an index uses a private index of its own.
+     */
+    public static final VmSlotIndex NULL = new VmSlotIndex();
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** The VM assigned to each slot. */
+    private Vm[] vms;
+
+    /** The number of tables holding a value for the VM at each slot. */
+    private int[] references;
+
+    /** A stack of slots that were freed and can be reused. */
+    private int[] freeSlots;
+    private int freeSlotsCount;
+
+    /** @see #getCapacity() */
+    private int capacity;
+
+    /** @see #size() */
+    private int size;
+
+    /**
+     * The slots of VMs that don't store their own slots.
+     * It's just created when such a VM acquires a slot.
+     */
+    private Map<Vm, Integer> externalSlots;
+
+    /**
+     * Creates an empty VmSlotIndex.
+     */
+    public VmSlotIndex() {
+        this.vms = new Vm[INITIAL_CAPACITY];
+        this.references = new int[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Gets the slot assigned to a VM.
+     * @param vm the VM to get its slot
+     * @return the VM slot or -1 if no slot is assigned to the VM
+     */
+    public int slotOf(final Vm vm) {
+        final VmSlots slots = vm.getSlots();
+        if(slots == VmSlots.NULL){
+            return externalSlots == null ? -1 : externalSlots.getOrDefault(vm, -1);
+        }
+
+        return slots.get(this);
+    }
+
+    /**
+     * Gets the slot of a VM, assigning a new one if the VM doesn't have a slot yet.
+     * Each call must be paired with a call to {@link #release(Vm)}.
+     *
+     * @param vm the VM to acquire a slot for
+     * @return the VM slot
+     */
+    public int acquire(final Vm vm) {
+        if(this == NULL){
+            throw new UnsupportedOperationException("The NULL VmSlotIndex cannot assign slots.");
+        }
+
+        final int slot = slotOf(vm);
+        if(slot >= 0){
+            references[slot]++;
+            return slot;
+        }
+
+        final int newSlot = freeSlotsCount > 0 ? freeSlots[--freeSlotsCount] : capacity++;
+        if(newSlot == vms.length){
+            vms = Arrays.copyOf(vms, vms.length * 2);
+            references = Arrays.copyOf(references, references.length * 2);
+        }
+
+        vms[newSlot] = vm;
+        references[newSlot] = 1;
+        putSlot(vm, newSlot);
+        size++;
+        return newSlot;
+    }
+
+    /**
+     * Releases the slot of a VM acquired by {@link #acquire(Vm)}.
+     * The slot is freed after it's released as many times as it was acquired.
+     *
+     * @param vm the VM to release its slot
+     */
+    public void release(final Vm vm) {
+        final int slot = slotOf(vm);
+        if(slot < 0 || --references[slot] > 0){
+            return;
+        }
+
+        vms[slot] = null;
+        removeSlot(vm);
+        if(freeSlotsCount == freeSlots.length){
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+
+        freeSlots[freeSlotsCount++] = slot;
+        size--;
+    }
+
+    private void putSlot(final Vm vm, final int slot) {
+        final VmSlots slots = vm.getSlots();
+        if(slots == VmSlots.NULL){
+            if(externalSlots == null){
+                externalSlots = new IdentityHashMap<>();
+            }
+
+            externalSlots.put(vm, slot);
+            return;
+        }
+
+        slots.put(this, slot);
+    }
+
+    private void removeSlot(final Vm vm) {
+        final VmSlots slots = vm.getSlots();
+        if(slots == VmSlots.NULL){
+            externalSlots.remove(vm);
+            return;
+        }
+
+        slots.remove(this);
+    }
+
+    /**
+     * Gets the VM assigned to a given slot.
+     * @param slot the slot to get its VM
+     * @return the VM or {@link Vm#NULL} if the slot is free
+     */
+    public Vm getVm(final int slot) {
+        final Vm vm = slot >= 0 && slot < capacity ? vms[slot] : null;
+        return vm == null ? Vm.NULL : vm;
+    }
+
+    /**
+     * Gets the number of slots ever assigned, which is greater than any slot number currently in use.
+     * @return
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of VMs currently having a slot.
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,65 @@
+package org.cloudbus.cloudsim.vms;
+
+import java.util.Arrays;
+
+/**
+ * A {@link java.util.Map} where each key is a {@link Vm} and each value is a long
+ * stored into a primitive array indexed by the slot a {@link VmSlotIndex} assigns to each VM.
+ * The {@link #getLong(Vm)} and {@link #putLong(Vm, long)} methods access the values without boxing.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public final class VmSlotLongMap extends VmSlotMapAbstract<Long> {
+    private long[] values;
+
+    /**
+     * Creates a map using a given index to get the slot of each VM.
+     * @param slotIndex the index to get the slot of each VM
+     */
+    public VmSlotLongMap(final VmSlotIndex slotIndex) {
+        super(slotIndex);
+        this.values = new long[0];
+    }
+
+    /**
+     * Gets the value for a VM without boxing it.
+     * @param vm the VM to get its value
+     * @return the VM value or 0 if there is no value for the VM
+     */
+    public long getLong(final Vm vm) {
+        final int slot = slotOf(vm);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    /**
+     * Stores the value for a VM without boxing it.
+     * @param vm the VM to store its value
+     * @param value the value to store
+     */
+    public void putLong(final Vm vm, final long value) {
+        //The slot must be got before accessing the array, which may be grown
+        final int slot = slotForPut(vm);
+        values[slot] = value;
+    }
+
+    @Override
+    protected void growValues(final int newLength) {
+        values = Arrays.copyOf(values, newLength);
+    }
+
+    @Override
+    protected Long valueAt(final int slot) {
+        return values[slot];
+    }
+
+    @Override
+    protected void setValueAt(final int slot, final Long value) {
+        values[slot] = value;
+    }
+
+    @Override
+    protected void clearValue(final int slot) {
+        values[slot] = 0;
+    }
+}
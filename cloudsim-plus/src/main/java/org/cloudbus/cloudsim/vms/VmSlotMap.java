@@ -0,0 +1,45 @@
+package org.cloudbus.cloudsim.vms;
+
+import java.util.Arrays;
+
+/**
+ * A {@link java.util.Map} where each key is a {@link Vm} and the values are stored into an array
+ * indexed by the slot a {@link VmSlotIndex} assigns to each VM.
+ *
+ * @param <V> the type of the values
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public final class VmSlotMap<V> extends VmSlotMapAbstract<V> {
+    private Object[] values;
+
+    /**
+     * Creates a map using a given index to get the slot of each VM.
+     * @param slotIndex the index to get the slot of each VM
+     */
+    public VmSlotMap(final VmSlotIndex slotIndex) {
+        super(slotIndex);
+        this.values = new Object[0];
+    }
+
+    @Override
+    protected void growValues(final int newLength) {
+        values = Arrays.copyOf(values, newLength);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected V valueAt(final int slot) {
+        return (V) values[slot];
+    }
+
+    @Override
+    protected void setValueAt(final int slot, final V value) {
+        values[slot] = value;
+    }
+
+    @Override
+    protected void clearValue(final int slot) {
+        values[slot] = null;
+    }
+}
@@ -0,0 +1,310 @@
+package org.cloudbus.cloudsim.vms;
+
+import java.util.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A base class for {@link Map}s where each key is a {@link Vm}, whose values are stored into arrays
+ * indexed by the slot a {@link VmSlotIndex} assigns to each VM.
+ * Getting, adding or removing the value of a VM doesn't require hashing
+ * and the map is iterated in slot order.
+ *
+ * @param <V> the type of the values
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public abstract class VmSlotMapAbstract<V> extends AbstractMap<Vm, V> {
+    /** @see #getSlotIndex() */
+    private VmSlotIndex slotIndex;
+
+    /** Indicates if there is a value stored into each slot. */
+    private boolean[] present;
+
+    /** @see #size() */
+    private int size;
+
+    /** @see #entrySet() */
+    private Set<Entry<Vm, V>> entrySet;
+
+    /**
+     * Creates a map using a given index to get the slot of each VM.
+     * @param slotIndex the index to get the slot of each VM,
+     *                  or {@link VmSlotIndex#NULL} to use a private index
+     */
+    protected VmSlotMapAbstract(final VmSlotIndex slotIndex) {
+        this.slotIndex = ownIndexIfNull(requireNonNull(slotIndex));
+        this.present = new boolean[0];
+    }
+
+    /**
+     * Gets the index used to get the slot of each VM.
+     * @return
+     */
+    public VmSlotIndex getSlotIndex() {
+        return slotIndex;
+    }
+
+    /**
+     * Sets the index used to get the slot of each VM,
+     * moving the entries currently stored to the slots assigned by the new index.
+     * @param slotIndex the new index, or {@link VmSlotIndex#NULL} to use a private index
+     */
+    public void setSlotIndex(final VmSlotIndex slotIndex) {
+        if(this.slotIndex == requireNonNull(slotIndex)){
+            return;
+        }
+
+        final Map<Vm, V> entries = new LinkedHashMap<>(this);
+        clear();
+        this.slotIndex = ownIndexIfNull(slotIndex);
+        putAll(entries);
+    }
+
+    private static VmSlotIndex ownIndexIfNull(final VmSlotIndex slotIndex) {
+        return slotIndex == VmSlotIndex.NULL ? new VmSlotIndex() : slotIndex;
+    }
+
+    /**
+     * Gets the slot where the value of a VM is stored.
+     * @param key the VM to get its slot
+     * @return the slot or -1 if there is no value for the given VM
+     */
+    protected final int slotOf(final Object key) {
+        if(!(key instanceof Vm)){
+            return -1;
+        }
+
+        final int slot = slotIndex.slotOf((Vm)key);
+        return slot >= 0 && slot < present.length && present[slot] ? slot : -1;
+    }
+
+    /**
+     * Gets the slot to store the value of a VM, acquiring a new one if there is no value for that VM yet.
+     * @param vm the VM to get its slot
+     * @return the VM slot
+     */
+    protected final int slotForPut(final Vm vm) {
+        final int slot = slotOf(requireNonNull(vm));
+        if(slot >= 0){
+            return slot;
+        }
+
+        final int newSlot = slotIndex.acquire(vm);
+        if(newSlot >= present.length){
+            final int newLength = Math.max(newSlot + 1, Math.max(8, present.length * 2));
+            present = Arrays.copyOf(present, newLength);
+            growValues(newLength);
+        }
+
+        present[newSlot] = true;
+        size++;
+        return newSlot;
+    }
+
+    /**
+     * Removes the value stored into a slot, releasing it.
+     * @param slot the slot to remove the value from
+     */
+    protected final void removeSlot(final int slot) {
+        clearValue(slot);
+        present[slot] = false;
+        size--;
+        slotIndex.release(slotIndex.getVm(slot));
+    }
+
+    /**
+     * Grows the array of values to a given length.
+     * @param newLength the new length of the values array
+     */
+    protected abstract void growValues(int newLength);
+
+    /**
+     * Gets the value stored into a slot, boxing it if it's a primitive value.
+     * @param slot the slot to get the value
+     * @return
+     */
+    protected abstract V valueAt(int slot);
+
+    /**
+     * Stores a value into a slot.
+     * @param slot the slot to store the value
+     * @param value the value to store
+     */
+    protected abstract void setValueAt(int slot, V value);
+
+    /**
+     * Clears the value stored into a slot, to enable it to be garbage collected.
+     * @param slot the slot to clear
+     */
+    protected abstract void clearValue(int slot);
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int slot = slotOf(key);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    @Override
+    public V put(final Vm vm, final V value) {
+        requireNonNull(value);
+        final int slot = slotOf(vm);
+        final V previous = slot < 0 ? null : valueAt(slot);
+        setValueAt(slot < 0 ? slotForPut(vm) : slot, value);
+        return previous;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final int slot = slotOf(key);
+        if(slot < 0){
+            return null;
+        }
+
+        final V previous = valueAt(slot);
+        removeSlot(slot);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        for (int slot = 0; slot < present.length && size > 0; slot++) {
+            if(present[slot]){
+                removeSlot(slot);
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<Vm, V>> entrySet() {
+        if(entrySet == null){
+            entrySet = new EntrySet();
+        }
+
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<Vm, V>> {
+        @Override
+        public Iterator<Entry<Vm, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            VmSlotMapAbstract.this.clear();
+        }
+    }
+
+    /**
+     * Iterates over the map entries in slot order.
+     */
+    private final class EntryIterator implements Iterator<Entry<Vm, V>> {
+        private int next = nextPresentSlot(0);
+        private int current = -1;
+
+        private int nextPresentSlot(int slot) {
+            while (slot < present.length && !present[slot]) {
+                slot++;
+            }
+
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < present.length;
+        }
+
+        @Override
+        public Entry<Vm, V> next() {
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+
+            current = next;
+            next = nextPresentSlot(next + 1);
+            return new SlotEntry(current);
+        }
+
+        @Override
+        public void remove() {
+            if(current < 0 || !present[current]){
+                throw new IllegalStateException();
+            }
+
+            removeSlot(current);
+            current = -1;
+        }
+    }
+
+    /**
+     * An entry that reads and writes the value directly from/to its slot.
+     */
+    private final class SlotEntry implements Entry<Vm, V> {
+        private final int slot;
+        private final Vm vm;
+
+        private SlotEntry(final int slot) {
+            this.slot = slot;
+            this.vm = slotIndex.getVm(slot);
+        }
+
+        @Override
+        public Vm getKey() {
+            return vm;
+        }
+
+        @Override
+        public V getValue() {
+            return valueAt(slot);
+        }
+
+        @Override
+        public V setValue(final V value) {
+            final V previous = valueAt(slot);
+            setValueAt(slot, requireNonNull(value));
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(!(obj instanceof Entry)){
+                return false;
+            }
+
+            final Entry<?, ?> other = (Entry<?, ?>) obj;
+            return vm.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return vm.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return vm + "=" + getValue();
+        }
+    }
+}
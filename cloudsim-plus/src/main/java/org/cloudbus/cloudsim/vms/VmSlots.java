@@ -0,0 +1,78 @@
+package org.cloudbus.cloudsim.vms;
+
+import java.util.Arrays;
+
+/**
+ * Stores the slots assigned to a {@link Vm} by each {@link VmSlotIndex} it's registered in.
+ * A VM is usually registered just in the index of the Host where it's placed,
+ * or into the indexes of the source and target Hosts while it's migrating.
+ * This way, the slot lookup is a scan over a tiny array.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public final class VmSlots {
+    /**
+     * An immutable VmSlots for VMs that don't store their own slots,
+     * such as {@link Vm#NULL} and {@link Vm} implementations that don't override {@link Vm#getSlots()}.
+     * The slots of such VMs are kept by each {@link VmSlotIndex} they're registered in.
+     */
+    public static final VmSlots NULL = new VmSlots(0);
+
+    private VmSlotIndex[] indexes;
+    private int[] slots;
+    private int size;
+
+    /**
+     * Creates a VmSlots where the VM is not registered in any {@link VmSlotIndex}.
+     */
+    public VmSlots() {
+        this(2);
+    }
+
+    private VmSlots(final int capacity) {
+        this.indexes = new VmSlotIndex[capacity];
+        this.slots = new int[capacity];
+    }
+
+    /**
+     * Gets the slot assigned by a given index.
+     * @param index the index to get the assigned slot
+     * @return the assigned slot or -1 if the VM is not registered in the given index
+     */
+    int get(final VmSlotIndex index) {
+        for (int i = 0; i < size; i++) {
+            if (indexes[i] == index) {
+                return slots[i];
+            }
+        }
+
+        return -1;
+    }
+
+    void put(final VmSlotIndex index, final int slot) {
+        if (this == NULL) {
+            throw new UnsupportedOperationException("The NULL VmSlots cannot store slots.");
+        }
+
+        if (size == indexes.length) {
+            indexes = Arrays.copyOf(indexes, size * 2);
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+
+        indexes[size] = index;
+        slots[size++] = slot;
+    }
+
+    void remove(final VmSlotIndex index) {
+        for (int i = 0; i < size; i++) {
+            if (indexes[i] == index) {
+                size--;
+                indexes[i] = indexes[size];
+                slots[i] = slots[size];
+                indexes[size] = null;
+                return;
+            }
+        }
+    }
+}
@@ -111,7 +111,7 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
             timeStr, getClass().getSimpleName(), getVm(), newVm, getVm(), getVm().getId(), vmCpuUsagePercent);
         getVm().getBroker().submitVm(newVm);
 
-        cloudletCreationRequests = getVm().getBroker().getCloudletCreatedList().size();
+        cloudletCreationRequests = getVm().getBroker().getCloudletCreatedCount();
         return true;
     }
 
@@ -121,12 +121,12 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
      * @return
      */
     private boolean haveNewCloudletsArrived(){
-        return getVm().getBroker().getCloudletCreatedList().size() > cloudletCreationRequests;
+        return getVm().getBroker().getCloudletCreatedCount() > cloudletCreationRequests;
     }
 
     @Override
     public final boolean requestUpScalingIfPredicateMatches(final VmHostEventInfo evt) {
-        if(!isTimeToCheckPredicate(evt.getTime())) {
+        if(isCoordinated() || !isTimeToCheckPredicate(evt.getTime())) {
             return false;
         }
 
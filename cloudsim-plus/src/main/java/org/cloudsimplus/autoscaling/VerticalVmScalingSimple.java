@@ -158,15 +158,29 @@ public class VerticalVmScalingSimple extends VmScalingAbstract implements Vertic
 
     @Override
     public final boolean requestUpScalingIfPredicateMatches(final VmHostEventInfo evt) {
-        if(!isTimeToCheckPredicate(evt.getTime())) {
+        if(isCoordinated() || !isTimeToCheckPredicate(evt.getTime())) {
             return false;
         }
 
-        final boolean requestedScaling = (isVmUnderloaded() || isVmOverloaded()) && requestUpScaling(evt.getTime());
+        final boolean requestedScaling = isVmUnderOrOverloaded() && requestUpScaling(evt.getTime());
         setLastProcessingTime(evt.getTime());
         return requestedScaling;
     }
 
+    /**
+     * Checks if the Vm is under or overloaded,
+     * getting the resource utilization just once for both checks.
+     * The upper threshold is only computed if the Vm is not underloaded.
+     *
+     * @return true if the Vm is under or overloaded, false otherwise
+     * @see #isVmUnderloaded()
+     * @see #isVmOverloaded()
+     */
+    boolean isVmUnderOrOverloaded() {
+        final double utilization = getResource().getPercentUtilization();
+        return utilization < lowerThresholdFunction.apply(getVm()) || utilization > upperThresholdFunction.apply(getVm());
+    }
+
     @Override
     public boolean isVmUnderloaded() {
         return getResource().getPercentUtilization() < lowerThresholdFunction.apply(getVm());
@@ -38,6 +38,9 @@ public abstract class VmScalingAbstract implements VmScaling {
     private double lastProcessingTime;
     private Vm vm;
 
+    /** @see #isCoordinated() */
+    private boolean coordinated;
+
     protected VmScalingAbstract() {
         this.setVm(Vm.NULL);
     }
@@ -74,6 +77,23 @@ public abstract class VmScalingAbstract implements VmScaling {
      */
     protected abstract boolean requestUpScaling(double time);
 
+    /**
+     * Checks if this scaling is evaluated by a {@link VmScalingCoordinator},
+     * instead of by the Vm itself every time its processing is updated.
+     * @return true if the scaling is managed by a coordinator, false otherwise
+     */
+    protected boolean isCoordinated() {
+        return coordinated;
+    }
+
+    /**
+     * Sets if this scaling is evaluated by a {@link VmScalingCoordinator}.
+     * @param coordinated true to indicate the scaling is managed by a coordinator, false otherwise
+     */
+    void setCoordinated(final boolean coordinated) {
+        this.coordinated = coordinated;
+    }
+
     /**
      * Sets the last time the scheduler checked for VM overload.
      * @param lastProcessingTime the processing time to set
@@ -0,0 +1,232 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.cloudbus.cloudsim.core.CloudSimTags.VM_SCALING_EVALUATION;
+
+/**
+ * Periodically evaluates the {@link HorizontalVmScaling} and {@link VerticalVmScaling} policies
+ * of all Vms registered for a given {@link DatacenterBroker}, instead of each Vm evaluating its own
+ * policies every time its processing is updated.
+ *
+ * <p>Each registered policy is evaluated once by {@link #getScalingInterval() scaling interval},
+ * getting the Vm resource utilization just once to check if the Vm is under or overloaded.
+ * The vertical scaling requests for Vms inside the same {@link Datacenter}
+ * are then sent in a single {@link CloudSimTags#VM_VERTICAL_SCALING} event,
+ * instead of one event for every request.
+ * That reduces the per-tick cost when there is a large number of auto-scaled Vms.
+ * As for requests sent by Vms themselves, the Datacenter checks again
+ * if each Vm is still under or overloaded when the request is processed,
+ * so that the Vm is scaled according to its utilization at that time.</p>
+ *
+ * <p>Batches are sent straight to the Datacenter on behalf of the broker.
+ * When a Vm sends a request by itself, the broker just forwards it to the Datacenter of the Vm,
+ * using the same source. Since the coordinator already groups requests by Datacenter,
+ * sending them to the broker first would just add one more event for each batch.</p>
+ *
+ * <p>Using a coordinator is optional. Vms not registered into it
+ * keep evaluating their scaling policies by themselves.
+ * The scaling objects must be set to a Vm before it is {@link #register(Vm) registered}.
+ * Only {@link HorizontalVmScalingSimple} and {@link VerticalVmScalingSimple} policies are supported.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public class VmScalingCoordinator extends CloudSimEntity {
+    private final DatacenterBroker broker;
+
+    /** @see #getScalingInterval() */
+    private final double scalingInterval;
+
+    private final List<HorizontalVmScalingSimple> horizontalScalings;
+    private final List<VerticalVmScalingSimple> verticalScalings;
+
+    /**
+     * Creates a coordinator to evaluate the scaling policies of Vms from a given broker.
+     *
+     * @param broker the broker which owns the Vms to be registered
+     * @param scalingInterval the interval (in seconds) to evaluate the registered scaling policies
+     */
+    public VmScalingCoordinator(final DatacenterBroker broker, final double scalingInterval) {
+        super(Objects.requireNonNull(broker).getSimulation());
+        if(scalingInterval <= 0){
+            throw new IllegalArgumentException("Scaling interval must be greater than zero.");
+        }
+
+        this.broker = broker;
+        this.scalingInterval = scalingInterval;
+        this.horizontalScalings = new ArrayList<>();
+        this.verticalScalings = new ArrayList<>();
+    }
+
+    /**
+     * Registers the scaling policies of a list of Vms to be evaluated by this coordinator.
+     * @param vmList the list of Vms to register
+     * @return this coordinator
+     * @see #register(Vm)
+     */
+    public VmScalingCoordinator register(final List<? extends Vm> vmList) {
+        vmList.forEach(this::register);
+        return this;
+    }
+
+    /**
+     * Registers the scaling policies of a Vm to be evaluated by this coordinator.
+     * After that, the Vm doesn't evaluate such policies by itself anymore.
+     * {@link VmScaling#NULL} policies are ignored.
+     *
+     * @param vm the Vm to register
+     * @return this coordinator
+     * @throws IllegalArgumentException if a Vm scaling policy isn't a {@link HorizontalVmScalingSimple}
+     *                                  or a {@link VerticalVmScalingSimple}
+     */
+    public VmScalingCoordinator register(final Vm vm) {
+        if(vm.getHorizontalScaling() != HorizontalVmScaling.NULL) {
+            horizontalScalings.add(coordinate(vm.getHorizontalScaling(), HorizontalVmScalingSimple.class));
+        }
+
+        registerVerticalScaling(vm.getRamVerticalScaling());
+        registerVerticalScaling(vm.getBwVerticalScaling());
+        registerVerticalScaling(vm.getPeVerticalScaling());
+        return this;
+    }
+
+    private void registerVerticalScaling(final VerticalVmScaling scaling) {
+        if(scaling != VerticalVmScaling.NULL) {
+            verticalScalings.add(coordinate(scaling, VerticalVmScalingSimple.class));
+        }
+    }
+
+    private <T extends VmScalingAbstract> T coordinate(final VmScaling scaling, final Class<T> expectedClass) {
+        if(!expectedClass.isInstance(scaling)){
+            throw new IllegalArgumentException(
+                getClass().getSimpleName() + " only supports " + expectedClass.getSimpleName() +
+                " but a " + scaling.getClass().getSimpleName() + " was given.");
+        }
+
+        final T coordinated = expectedClass.cast(scaling);
+        coordinated.setCoordinated(true);
+        return coordinated;
+    }
+
+    @Override
+    protected void startInternal() {
+        getSimulation().registerPeriodicTag(VM_SCALING_EVALUATION);
+        schedule(scalingInterval, VM_SCALING_EVALUATION);
+    }
+
+    @Override
+    public void processEvent(final SimEvent evt) {
+        switch (evt.getTag()) {
+            case VM_SCALING_EVALUATION:
+                evaluateScalings();
+                scheduleEvaluation();
+                break;
+            case CloudSimTags.END_OF_SIMULATION:
+                this.shutdown();
+                break;
+            default:
+                throw new RuntimeException("Unknown Event: " + evt);
+        }
+    }
+
+    /**
+     * Evaluates all registered scaling policies,
+     * sending one batch of vertical scaling requests for each Datacenter.
+     */
+    private void evaluateScalings() {
+        final double time = getSimulation().clock();
+        final Map<Datacenter, List<VerticalVmScaling>> requestsByDatacenter = new LinkedHashMap<>();
+        for (final VerticalVmScalingSimple scaling : verticalScalings) {
+            if(isVmRunning(scaling.getVm()) && scaling.isVmUnderOrOverloaded()) {
+                final Datacenter dc = scaling.getVm().getHost().getDatacenter();
+                requestsByDatacenter.computeIfAbsent(dc, key -> new ArrayList<>()).add(scaling);
+            }
+
+            scaling.setLastProcessingTime(time);
+        }
+
+        for (final HorizontalVmScalingSimple scaling : horizontalScalings) {
+            if(isVmRunning(scaling.getVm()) && scaling.getOverloadPredicate().test(scaling.getVm())) {
+                scaling.requestUpScaling(time);
+            }
+
+            scaling.setLastProcessingTime(time);
+        }
+
+        requestsByDatacenter.forEach((dc, requests) ->
+            getSimulation().sendNow(broker, dc, CloudSimTags.VM_VERTICAL_SCALING, requests));
+    }
+
+    private boolean isVmRunning(final Vm vm) {
+        return vm.isCreated() && !vm.isFailed() && vm.getHost() != Host.NULL;
+    }
+
+    /**
+     * Just re-schedules the evaluation if there are other events to be processed,
+     * ignoring the ones other periodic entities schedule.
+     * Otherwise, the simulation has finished and no more evaluations should be scheduled.
+     */
+    private void scheduleEvaluation() {
+        if (getSimulation().isThereAnyNonPeriodicFutureEvt()) {
+            schedule(scalingInterval, VM_SCALING_EVALUATION);
+        }
+    }
+
+    /**
+     * Gets the interval (in seconds) to evaluate the registered scaling policies.
+     * @return
+     */
+    public double getScalingInterval() {
+        return scalingInterval;
+    }
+
+    /**
+     * Gets the broker which owns the registered Vms.
+     * @return
+     */
+    public DatacenterBroker getBroker() {
+        return broker;
+    }
+
+    @Override
+    public VmScalingCoordinator setName(final String name) {
+        super.setName(name);
+        return this;
+    }
+}
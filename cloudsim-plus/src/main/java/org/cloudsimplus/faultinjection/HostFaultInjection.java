@@ -46,7 +46,6 @@ import java.util.*;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -206,9 +205,26 @@ public class HostFaultInjection extends CloudSimEntity {
     private final Map<Vm, Double> vmRecoveryTimeSecsMap;
 
     /**
-     * A map to store the times (in seconds) for each Host failure.
+     * A map where each key is a broker and each value is the running sums
+     * of the {@link #vmRecoveryTimeSecsMap recovery times} of VMs belonging to such a broker.
+     * It allows computing MTTR, MTBF and availability in constant time.
      */
-    private final Map<Host, List<Double>> hostFaultsTimeSecsMap;
+    private final Map<DatacenterBroker, RecoveryTimes> recoveryTimesByBroker;
+
+    /**
+     * The running sums of the {@link #vmRecoveryTimeSecsMap recovery times} of VMs from all brokers.
+     */
+    private final RecoveryTimes recoveryTimes;
+
+    /**
+     * The time (in seconds) of the first Host failure.
+     */
+    private double firstHostFaultTimeSecs;
+
+    /**
+     * The time (in seconds) of the last Host failure.
+     */
+    private double lastHostFaultTimeSecs;
 
     /**
      * A map to store the number of failures that affected all VMs from each broker.
@@ -251,7 +267,8 @@ public class HostFaultInjection extends CloudSimEntity {
         this.faultArrivalHoursGenerator = faultArrivalHoursGenerator;
         this.random = new UniformDistr(faultArrivalHoursGenerator.getSeed()+1);
         this.vmRecoveryTimeSecsMap = new HashMap<>();
-        this.hostFaultsTimeSecsMap = new HashMap<>();
+        this.recoveryTimesByBroker = new HashMap<>();
+        this.recoveryTimes = new RecoveryTimes();
         this.faultsOfAllVmsByBroker = new HashMap<>();
         this.vmClonerMap = new HashMap<>();
         this.maxTimeToFailInHours = Double.MAX_VALUE;
@@ -259,6 +276,7 @@ public class HostFaultInjection extends CloudSimEntity {
 
     @Override
     protected void startInternal() {
+        getSimulation().registerPeriodicTag(HOST_FAILURE);
         scheduleFaultInjection();
     }
 
@@ -268,16 +286,12 @@ public class HostFaultInjection extends CloudSimEntity {
      */
     private void scheduleFaultInjection() {
         final Simulation sim = getSimulation();
-        final Predicate<SimEvent> otherEventsPredicate = evt -> evt.getTag() != HOST_FAILURE;
 
         /*
-        Just re-schedule more failures if there are other events to be processed.
-        Otherwise, the simulation has finished and no more failures should be scheduled.
-
-        The 2nd condition may be a complex operation that must be called only when necessary
-        in the short-circuit below.
+        Just re-schedule more failures if there are other events to be processed,
+        ignoring the ones other periodic entities schedule. Otherwise, the simulation has finished and no more failures should be scheduled.
         */
-        if (sim.clock() < getMaxTimeToFailInSecs() || sim.isThereAnyFutureEvt(otherEventsPredicate)) {
+        if (sim.clock() < getMaxTimeToFailInSecs() || sim.isThereAnyNonPeriodicFutureEvt()) {
             schedule(this, getTimeDelayForNextFault(), HOST_FAILURE);
         }
     }
@@ -366,7 +380,12 @@ public class HostFaultInjection extends CloudSimEntity {
      * Register the time for a Host failure.
      */
     private void registerHostFaultTime() {
-        hostFaultsTimeSecsMap.computeIfAbsent(lastFailedHost, host -> new ArrayList<>()).add(getSimulation().clock());
+        final double time = getSimulation().clock();
+        if(numberOfHostFaults == 1) {
+            firstHostFaultTimeSecs = time;
+        }
+
+        lastHostFaultTimeSecs = time;
     }
 
     /**
@@ -439,20 +458,16 @@ public class HostFaultInjection extends CloudSimEntity {
      * Affected VMs are dealt as a circular list, visiting
      * one VM at a time to remove 1 PE from it,
      * until all the failed PEs are removed.
-     *
      */
     private void cyclicallyRemoveFailedHostPesFromVms() {
-        int failedPesToRemoveFromVms = numberOfFailedPesToRemoveFromVms();
-        List<Vm> vmsWithPes = getVmsWithPEsFromFailedHost();
+        final int failedPesToRemoveFromVms = numberOfFailedPesToRemoveFromVms();
+        final List<Vm> vmsWithPes = getVmsWithPEsFromFailedHost();
         final int affectedVms = Math.min(vmsWithPes.size(), failedPesToRemoveFromVms);
 
         LOGGER.warn("\t{} VMs affected from a total of {}. {} PEs are going to be removed from them.",
                 affectedVms, lastFailedHost.getVmList().size(), failedPesToRemoveFromVms);
-        int idx = 0;
-        while (!vmsWithPes.isEmpty() && failedPesToRemoveFromVms > 0) {
-            failedPesToRemoveFromVms--;
-            idx = idx % vmsWithPes.size();
-            final Vm vm = vmsWithPes.get(idx);
+
+        cyclicallyRemovePes(vmsWithPes, failedPesToRemoveFromVms, vm -> {
             lastFailedHost.getVmScheduler().deallocatePesFromVm(vm, 1);
             vm.getCloudletScheduler().deallocatePesFromVm(1);
             //remove 1 failed PE from the VM
@@ -461,8 +476,46 @@ public class HostFaultInjection extends CloudSimEntity {
             LOGGER.warn(
                     "\tRemoving 1 PE from VM {} due to Host PE failure. New VM PEs Number: {}",
                     vm.getId(), vm.getNumberOfPes());
-            idx++;
-            vmsWithPes = getVmsWithPEsFromFailedHost();
+            return vm.getNumberOfPes() > 0;
+        });
+    }
+
+    /**
+     * Visits a list of VMs as a circular list, requesting the removal of 1 PE from
+     * one VM at a time, until a given number of PEs is removed or there is no VM with PEs left.
+     *
+     * <p>The circular list is linked by the indexes of the previous and next VMs,
+     * so that a VM left with no PEs is removed in constant time.
+     * When a VM is removed, the VM after its next one is visited,
+     * which is the VM at the next index in the list without the removed VM.</p>
+     *
+     * @param vms the VMs having PEs
+     * @param pesToRemove the number of PEs to remove
+     * @param peRemover a {@link Predicate} that removes 1 PE from a given VM
+     *                  and checks if it still has PEs
+     * @param <T> the type of the VMs
+     */
+    static <T> void cyclicallyRemovePes(final List<T> vms, int pesToRemove, final Predicate<T> peRemover) {
+        int vmsWithPesNumber = vms.size();
+        final int[] next = new int[vmsWithPesNumber];
+        final int[] previous = new int[vmsWithPesNumber];
+        for (int i = 0; i < vmsWithPesNumber; i++) {
+            next[i] = (i + 1) % vmsWithPesNumber;
+            previous[i] = (i - 1 + vmsWithPesNumber) % vmsWithPesNumber;
+        }
+
+        int idx = 0;
+        while (vmsWithPesNumber > 0 && pesToRemove > 0) {
+            pesToRemove--;
+            if(peRemover.test(vms.get(idx))) {
+                idx = next[idx];
+                continue;
+            }
+
+            vmsWithPesNumber--;
+            next[previous[idx]] = next[idx];
+            previous[next[idx]] = previous[idx];
+            idx = next[next[idx]];
         }
     }
 
@@ -532,7 +585,7 @@ public class HostFaultInjection extends CloudSimEntity {
         }
 
         if(!isVmClonerSet(broker) || getVmCloner(broker).isMaxClonesNumberReached()) {
-            vmRecoveryTimeSecsMap.put(lastVmFailedFromBroker, -getSimulation().clock());
+            putVmRecoveryTime(lastVmFailedFromBroker, -getSimulation().clock());
         }
 
         if(!isVmClonerSet(broker)) {
@@ -555,11 +608,32 @@ public class HostFaultInjection extends CloudSimEntity {
         final Vm clonedVm = entry.getKey();
         final List<Cloudlet> clonedCloudlets = entry.getValue();
         clonedVm.setSubmissionDelay(recoveryTimeSecs);
-        clonedVm.addOnHostAllocationListener(evt -> vmRecoveryTimeSecsMap.put(evt.getVm(), recoveryTimeSecs));
+        clonedVm.addOnHostAllocationListener(evt -> putVmRecoveryTime(evt.getVm(), recoveryTimeSecs));
         broker.submitVm(clonedVm);
         broker.submitCloudletList(clonedCloudlets, recoveryTimeSecs);
     }
 
+    /**
+     * Stores the recovery time of a VM into the {@link #vmRecoveryTimeSecsMap},
+     * updating the running sums of recovery times.
+     *
+     * @param vm the VM to store the recovery time
+     * @param recoveryTimeSecs the recovery time (in seconds) or the negative failure time
+     *                         if the VM failure will not be recovered
+     * @see #createVmCloneIfAllVmsDestroyed(DatacenterBroker, Vm)
+     */
+    private void putVmRecoveryTime(final Vm vm, final double recoveryTimeSecs) {
+        final RecoveryTimes brokerRecoveryTimes = recoveryTimesByBroker.computeIfAbsent(vm.getBroker(), broker -> new RecoveryTimes());
+        final Double previousTimeSecs = vmRecoveryTimeSecsMap.put(vm, recoveryTimeSecs);
+        if(previousTimeSecs != null) {
+            recoveryTimes.remove(previousTimeSecs);
+            brokerRecoveryTimes.remove(previousTimeSecs);
+        }
+
+        recoveryTimes.add(recoveryTimeSecs);
+        brokerRecoveryTimes.add(recoveryTimeSecs);
+    }
+
     /**
      * Sets a VM inside the {@link #getLastFailedHost() last failed Host} to
      * failed and use the VM and Cloudlets cloner functions to create a clone of
@@ -698,15 +772,10 @@ public class HostFaultInjection extends CloudSimEntity {
      * @return
      */
     private double totalVmsRecoveryTimeInMinutes(final DatacenterBroker broker) {
-        final Stream<Double> stream = broker == null ?
-                vmRecoveryTimeSecsMap.values().stream() :
-                vmRecoveryTimeSecsMap.entrySet().stream()
-                    .filter(entry -> broker.equals(entry.getKey().getBroker()))
-                    .map(Map.Entry::getValue);
-
-        final double recoverySeconds = stream
-                                        .map(secs -> secs >= 0 ? secs : getSimulation().clock() - Math.abs(secs))
-                                        .reduce(0.0, Double::sum);
+        final RecoveryTimes times = broker == null ?
+                                        recoveryTimes :
+                                        recoveryTimesByBroker.getOrDefault(broker, RecoveryTimes.EMPTY);
+        final double recoverySeconds = times.total(getSimulation().clock());
 
         //@TODO why is it converted to long if the method return is double?
         return (long)(recoverySeconds/60.0);
@@ -723,27 +792,13 @@ public class HostFaultInjection extends CloudSimEntity {
      * @see #meanTimeBetweenVmFaultsInMinutes()
      */
     public double meanTimeBetweenHostFaultsInMinutes() {
-        final double[] faultTimes = hostFaultsTimeSecsMap
-            .values()
-            .stream()
-            .flatMap(Collection::stream)
-            .mapToDouble(time -> time)
-            .sorted()
-            .toArray();
-
-        if(faultTimes.length == 0){
+        if(numberOfHostFaults == 0){
             return 0;
         }
 
-        //computes the differences between failure times t2 - t1
-        double sum=0;
-        double previous=faultTimes[0];
-        for(final double time: faultTimes) {
-            sum += time - previous;
-            previous = time;
-        }
-
-        final double seconds = sum/faultTimes.length;
+        /*The sum of the differences between consecutive failure times (t2 - t1)
+        * is the difference between the last and the first failure time.*/
+        final double seconds = (lastHostFaultTimeSecs - firstHostFaultTimeSecs)/numberOfHostFaults;
         return (long)(seconds/60.0);
     }
 
@@ -935,4 +990,54 @@ public class HostFaultInjection extends CloudSimEntity {
     public void setMaxTimeToFailInHours(final double maxTimeToFailInHours) {
         this.maxTimeToFailInHours = maxTimeToFailInHours;
     }
+
+    /**
+     * Running sums of VM recovery times stored into the {@link #vmRecoveryTimeSecsMap}.
+     * Recovery times are fixed, but VMs whose failures will not be recovered
+     * have a recovery time that increases with the simulation clock
+     * (see {@link #createVmCloneIfAllVmsDestroyed(DatacenterBroker, Vm)}).
+     * Therefore, the failure times of such VMs are summed separately.
+     */
+    static final class RecoveryTimes {
+        private static final RecoveryTimes EMPTY = new RecoveryTimes();
+
+        /** Sum of the recovery times (in seconds) of recovered VMs. */
+        private double recoveredSecs;
+
+        /** Sum of the failure times (in seconds) of VMs that will not be recovered. */
+        private double unrecoveredFailureTimeSecs;
+
+        /** Number of VMs that will not be recovered. */
+        private int unrecoveredVms;
+
+        void add(final double secs) {
+            if(secs >= 0) {
+                recoveredSecs += secs;
+                return;
+            }
+
+            unrecoveredFailureTimeSecs += Math.abs(secs);
+            unrecoveredVms++;
+        }
+
+        void remove(final double secs) {
+            if(secs >= 0) {
+                recoveredSecs -= secs;
+                return;
+            }
+
+            unrecoveredFailureTimeSecs -= Math.abs(secs);
+            unrecoveredVms--;
+        }
+
+        /**
+         * Gets the total recovery time (in seconds), considering that VMs which will not
+         * be recovered are recovered at the given time.
+         * @param clock the current simulation time
+         * @return
+         */
+        double total(final double clock) {
+            return recoveredSecs + unrecoveredVms * clock - unrecoveredFailureTimeSecs;
+        }
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.instrumentation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe counter inside a {@link MetricsRegistry}.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public final class Counter {
+    /**
+     * A Counter that doesn't count anything, returned by a disabled {@link MetricsRegistry}.
+     */
+    public static final Counter NULL = new Counter("", false);
+
+    private final String name;
+    private final boolean enabled;
+    private final LongAdder value;
+
+    /**
+     * Creates a Counter.
+     * @param name the counter name
+     */
+    Counter(final String name) {
+        this(name, true);
+    }
+
+    private Counter(final String name, final boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+        this.value = new LongAdder();
+    }
+
+    /**
+     * Increments the counter by one.
+     */
+    public void increment() {
+        if(enabled) {
+            value.increment();
+        }
+    }
+
+    /**
+     * Adds a given amount to the counter.
+     * @param amount the amount to add
+     */
+    public void add(final long amount) {
+        if(enabled) {
+            value.add(amount);
+        }
+    }
+
+    /**
+     * Gets the current counter value.
+     * @return
+     */
+    public long get() {
+        return value.sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name + "=" + get();
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram inside a {@link MetricsRegistry},
+ * which records non-negative long values into buckets with exponentially increasing sizes.
+ * The bucket {@code i} counts values in the interval [2<sup>i-1</sup>, 2<sup>i</sup>[,
+ * while the bucket 0 counts zeros.
+ * Recording a value is constant-time and doesn't allocate memory,
+ * so that the histogram can be used to measure the frequency of events
+ * or the duration of small operations (see {@link Timer}) without affecting them much.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public class Histogram {
+    /**
+     * A Histogram that doesn't record anything, returned by a disabled {@link MetricsRegistry}.
+     */
+    public static final Histogram NULL = new Histogram("", false);
+
+    /** The number of buckets, one for zero and one for each bit of a positive long value. */
+    private static final int BUCKETS = Long.SIZE;
+
+    private final String name;
+    private final boolean enabled;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final LongAccumulator min;
+    private final LongAccumulator max;
+    private final AtomicLongArray buckets;
+
+    /**
+     * Creates a Histogram.
+     * @param name the histogram name
+     */
+    Histogram(final String name) {
+        this(name, true);
+    }
+
+    /**
+     * Creates a Histogram.
+     * @param name the histogram name
+     * @param enabled true if the histogram records values, false if it ignores them
+     */
+    Histogram(final String name, final boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        this.max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        this.buckets = new AtomicLongArray(BUCKETS);
+    }
+
+    /**
+     * Records a value into the histogram.
+     * @param value the value to record (negative values are recorded as zero)
+     */
+    public void record(final long value) {
+        if(!enabled) {
+            return;
+        }
+
+        final long nonNegative = Math.max(value, 0);
+        count.increment();
+        sum.add(nonNegative);
+        min.accumulate(nonNegative);
+        max.accumulate(nonNegative);
+        buckets.incrementAndGet(bucketOf(nonNegative));
+    }
+
+    private static int bucketOf(final long value) {
+        return Math.min(BUCKETS - Long.numberOfLeadingZeros(value), BUCKETS - 1);
+    }
+
+    /**
+     * Checks if the histogram records values.
+     * @return true if values are recorded, false if they are ignored
+     */
+    protected final boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     * @return
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the sum of recorded values.
+     * @return
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Gets the minimum recorded value.
+     * @return the minimum value or 0 if no value was recorded
+     */
+    public long getMin() {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * Gets the maximum recorded value.
+     * @return the maximum value or 0 if no value was recorded
+     */
+    public long getMax() {
+        return getCount() == 0 ? 0 : max.get();
+    }
+
+    /**
+     * Gets the mean of recorded values.
+     * @return the mean or 0 if no value was recorded
+     */
+    public double getMean() {
+        final long total = getCount();
+        return total == 0 ? 0 : getSum() / (double) total;
+    }
+
+    /**
+     * Gets an estimation of a given percentile of the recorded values,
+     * which is the upper bound of the bucket containing such a percentile.
+     * The estimation is never lower than the actual percentile
+     * and never greater than twice it.
+     *
+     * @param percentile the percentile to get, in scale from 0 to 1
+     * @return the estimated percentile or 0 if no value was recorded
+     */
+    public long getPercentile(final double percentile) {
+        final long total = getCount();
+        if(total == 0){
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long accumulated = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            accumulated += buckets.get(i);
+            if(accumulated >= rank){
+                return Math.min(i == 0 ? 0 : (1L << i) - 1, getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Gets the number of recorded values inside each bucket.
+     * @return a new array where the element {@code i} is the number of values in the bucket {@code i}
+     */
+    public long[] getBuckets() {
+        final long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            result[i] = buckets.get(i);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: count=%d mean=%.2f min=%d max=%d", name, getCount(), getMean(), getMin(), getMax());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.instrumentation;
+
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.Simulation;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * A registry of named {@link Counter}s, {@link Histogram}s and {@link Timer}s
+ * that collects performance metrics about the execution of a {@link Simulation}.
+ * Each simulation has its own registry, which is {@link #NULL} by default
+ * so that no metric is collected (and no overhead added) unless a registry
+ * is set by {@link Simulation#setMetrics(MetricsRegistry)}.
+ * Implementations must be thread-safe, so that a registry can be shared by concurrent simulations.
+ *
+ * <p>When enabled, the simulation collects the following metrics:</p>
+ * <ul>
+ *     <li><b>events.TAG</b>: a counter of events processed by entities for each {@link CloudSimTags tag};</li>
+ *     <li><b>entity.NAME.processEvent</b>: a timer of the events processed by each entity;</li>
+ *     <li><b>vmAllocationPolicy.allocateHostForVm</b>: a timer of the placement of each VM;</li>
+ *     <li><b>vmAllocationPolicy.getOptimizedAllocationMap</b>: a timer of the VM migration decisions;</li>
+ *     <li><b>vmScheduler.allocatePesForVm</b>: a timer of the allocation of Host PEs to each VM;</li>
+ *     <li><b>cloudletScheduler.updateProcessing</b>: a timer of the processing updates of each VM.</li>
+ * </ul>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public interface MetricsRegistry {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link MetricsRegistry}
+     * objects, which doesn't collect any metric.
+     */
+    MetricsRegistry NULL = new MetricsRegistryNull();
+
+    /**
+     * Checks if this registry collects metrics.
+     * Callers may check it before computing data that is only required for the metrics.
+     * @return
+     */
+    boolean isEnabled();
+
+    /**
+     * Gets a counter, creating it if it doesn't exist yet.
+     * @param name the counter name
+     * @return the counter with the given name
+     */
+    Counter counter(String name);
+
+    /**
+     * Gets a histogram, creating it if it doesn't exist yet.
+     * @param name the histogram name
+     * @return the histogram with the given name
+     */
+    Histogram histogram(String name);
+
+    /**
+     * Gets a timer, creating it if it doesn't exist yet.
+     * @param name the timer name
+     * @return the timer with the given name
+     * @throws IllegalArgumentException if there is a regular histogram with the same name
+     */
+    Timer timer(String name);
+
+    /**
+     * Gets the counter of events processed by entities for a given tag,
+     * named as "events.TAG", where TAG is the name of the tag constant in {@link CloudSimTags}.
+     * @param tag the event tag
+     * @return the counter for the given tag
+     */
+    Counter eventCounter(int tag);
+
+    /**
+     * Gets a read-only map of all counters, sorted by name.
+     * @return
+     */
+    Map<String, Counter> getCounters();
+
+    /**
+     * Gets a read-only map of all histograms (including timers), sorted by name.
+     * @return
+     */
+    Map<String, Histogram> getHistograms();
+
+    /**
+     * Removes all metrics.
+     */
+    void clear();
+
+    /**
+     * Gets the metrics in CSV format, with one line for each metric.
+     * @return
+     */
+    String toCsv();
+
+    /**
+     * Gets the metrics in JSON format.
+     * @return
+     */
+    String toJson();
+
+    /**
+     * Writes the metrics to a CSV file.
+     * @param file the path of the file to write
+     * @see #toCsv()
+     */
+    void exportCsv(Path file);
+
+    /**
+     * Writes the metrics to a JSON file.
+     * @param file the path of the file to write
+     * @see #toJson()
+     */
+    void exportJson(Path file);
+}
@@ -0,0 +1,49 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.instrumentation;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A class that implements the Null Object Design Pattern for {@link MetricsRegistry} class.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @see MetricsRegistry#NULL
+ */
+final class MetricsRegistryNull implements MetricsRegistry {
+    @Override public boolean isEnabled() { return false; }
+    @Override public Counter counter(String name) { return Counter.NULL; }
+    @Override public Histogram histogram(String name) { return Histogram.NULL; }
+    @Override public Timer timer(String name) { return Timer.NULL; }
+    @Override public Counter eventCounter(int tag) { return Counter.NULL; }
+    @Override public Map<String, Counter> getCounters() { return Collections.emptyMap(); }
+    @Override public Map<String, Histogram> getHistograms() { return Collections.emptyMap(); }
+    @Override public void clear() {/**/}
+    @Override public String toCsv() { return ""; }
+    @Override public String toJson() { return "{}"; }
+    @Override public void exportCsv(Path file) {/**/}
+    @Override public void exportJson(Path file) {/**/}
+}
@@ -0,0 +1,216 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.instrumentation;
+
+import org.cloudbus.cloudsim.core.CloudSimTags;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe {@link MetricsRegistry} that keeps metrics in memory,
+ * enabling them to be exported at the end of a simulation.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public class MetricsRegistrySimple implements MetricsRegistry {
+    private static final String CSV_HEADER = "type,name,count,sum,min,max,mean,p50,p99";
+
+    private final ConcurrentMap<String, Counter> counters;
+    private final ConcurrentMap<String, Histogram> histograms;
+
+    /**
+     * A cache of the counters returned by {@link #eventCounter(int)},
+     * avoiding to build the counter name for every event.
+     */
+    private final ConcurrentMap<Integer, Counter> eventCounters;
+
+    /**
+     * Creates an empty MetricsRegistrySimple.
+     */
+    public MetricsRegistrySimple() {
+        this.counters = new ConcurrentHashMap<>();
+        this.histograms = new ConcurrentHashMap<>();
+        this.eventCounters = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public Counter counter(final String name) {
+        return counters.computeIfAbsent(requireNonNull(name), Counter::new);
+    }
+
+    @Override
+    public Histogram histogram(final String name) {
+        return histograms.computeIfAbsent(requireNonNull(name), Histogram::new);
+    }
+
+    @Override
+    public Timer timer(final String name) {
+        final Histogram histogram = histograms.computeIfAbsent(requireNonNull(name), Timer::new);
+        if(histogram instanceof Timer){
+            return (Timer) histogram;
+        }
+
+        throw new IllegalArgumentException("There is already a histogram named " + name + " which is not a Timer");
+    }
+
+    @Override
+    public Counter eventCounter(final int tag) {
+        return eventCounters.computeIfAbsent(tag, key -> counter("events." + TagNames.get(key)));
+    }
+
+    @Override
+    public Map<String, Counter> getCounters() {
+        return Collections.unmodifiableMap(new TreeMap<>(counters));
+    }
+
+    @Override
+    public Map<String, Histogram> getHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    @Override
+    public void clear() {
+        eventCounters.clear();
+        counters.clear();
+        histograms.clear();
+    }
+
+    @Override
+    public String toCsv() {
+        final StringBuilder csv = new StringBuilder(CSV_HEADER).append(System.lineSeparator());
+        for (final Counter counter : getCounters().values()) {
+            csv.append("counter,").append(csvValue(counter.getName())).append(',')
+               .append(counter.get()).append(",,,,,,").append(System.lineSeparator());
+        }
+
+        for (final Histogram histogram : getHistograms().values()) {
+            csv.append(typeOf(histogram)).append(',')
+               .append(csvValue(histogram.getName())).append(',')
+               .append(histogram.getCount()).append(',')
+               .append(histogram.getSum()).append(',')
+               .append(histogram.getMin()).append(',')
+               .append(histogram.getMax()).append(',')
+               .append(String.format(Locale.US, "%.2f", histogram.getMean())).append(',')
+               .append(histogram.getPercentile(0.5)).append(',')
+               .append(histogram.getPercentile(0.99)).append(System.lineSeparator());
+        }
+
+        return csv.toString();
+    }
+
+    @Override
+    public String toJson() {
+        final StringJoiner countersJson = new StringJoiner(",", "{", "}");
+        for (final Counter counter : getCounters().values()) {
+            countersJson.add(jsonString(counter.getName()) + ":" + counter.get());
+        }
+
+        final StringJoiner histogramsJson = new StringJoiner(",", "{", "}");
+        for (final Histogram histogram : getHistograms().values()) {
+            histogramsJson.add(String.format(Locale.US,
+                "%s:{\"type\":\"%s\",\"count\":%d,\"sum\":%d,\"min\":%d,\"max\":%d,\"mean\":%.2f,\"p50\":%d,\"p99\":%d}",
+                jsonString(histogram.getName()), typeOf(histogram), histogram.getCount(), histogram.getSum(),
+                histogram.getMin(), histogram.getMax(), histogram.getMean(),
+                histogram.getPercentile(0.5), histogram.getPercentile(0.99)));
+        }
+
+        return "{\"counters\":" + countersJson + ",\"histograms\":" + histogramsJson + "}";
+    }
+
+    @Override
+    public void exportCsv(final Path file) {
+        write(file, toCsv());
+    }
+
+    @Override
+    public void exportJson(final Path file) {
+        write(file, toJson());
+    }
+
+    private static void write(final Path file, final String content) {
+        try {
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String typeOf(final Histogram histogram) {
+        return histogram instanceof Timer ? "timer" : "histogram";
+    }
+
+    private static String csvValue(final String value) {
+        if(value.indexOf(',') < 0 && value.indexOf('"') < 0){
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String jsonString(final String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    /**
+     * Maps each event tag to the name of its constant in {@link CloudSimTags},
+     * which is built just when an event counter is requested for the first time.
+     */
+    private static final class TagNames {
+        private static final Map<Integer, String> NAMES = new HashMap<>();
+
+        static {
+            for (final Field field : CloudSimTags.class.getFields()) {
+                final int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && field.getType() == int.class) {
+                    try {
+                        NAMES.putIfAbsent(field.getInt(null), field.getName());
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+
+        static String get(final int tag) {
+            return NAMES.getOrDefault(tag, String.valueOf(tag));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.instrumentation;
+
+/**
+ * A {@link Histogram} of the durations (in nanoseconds) of some operation,
+ * measured using {@link System#nanoTime()}.
+ * A Timer can be shared by concurrent threads,
+ * since the start time of each measurement is kept by the caller:
+ *
+ * <pre>
+ * {@code
+ * final long start = timer.start();
+ * operation();
+ * timer.stop(start);
+ * }
+ * </pre>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public final class Timer extends Histogram {
+    /**
+     * A Timer that doesn't measure anything, returned by a disabled {@link MetricsRegistry}.
+     * Its methods don't even read the system clock.
+     */
+    public static final Timer NULL = new Timer("", false);
+
+    /**
+     * Creates a Timer.
+     * @param name the timer name
+     */
+    Timer(final String name) {
+        this(name, true);
+    }
+
+    private Timer(final String name, final boolean enabled) {
+        super(name, enabled);
+    }
+
+    /**
+     * Starts measuring the duration of an operation.
+     * @return the start time (in nanoseconds) to be given to {@link #stop(long)}
+     */
+    public long start() {
+        return isEnabled() ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Finishes measuring the duration of an operation, recording it into the Timer.
+     * @param startNanos the start time returned by {@link #start()}
+     * @return the duration of the operation (in nanoseconds)
+     */
+    public long stop(final long startNanos) {
+        if(!isEnabled()){
+            return 0;
+        }
+
+        final long duration = System.nanoTime() - startNanos;
+        record(duration);
+        return duration;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Provides classes to collect performance metrics about the execution of a
+ * {@link org.cloudbus.cloudsim.core.Simulation}, such as the number of events processed
+ * for each tag and the time spent by entities and policies.
+ * Such metrics are collected into a {@link org.cloudsimplus.instrumentation.MetricsRegistry}
+ * set to a simulation by {@link org.cloudbus.cloudsim.core.Simulation#setMetrics(org.cloudsimplus.instrumentation.MetricsRegistry)}.
+ * By default, a simulation uses the {@link org.cloudsimplus.instrumentation.MetricsRegistry#NULL}
+ * registry, which doesn't collect anything.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+package org.cloudsimplus.instrumentation;
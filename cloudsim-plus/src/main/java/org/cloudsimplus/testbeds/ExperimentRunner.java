@@ -30,11 +30,18 @@ import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.distributions.RandomStreams;
 import org.cloudbus.cloudsim.distributions.StatisticalDistribution;
 import org.cloudbus.cloudsim.distributions.UniformDistr;
 import org.cloudbus.cloudsim.util.TimeUtil;
 import org.cloudsimplus.util.Log;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalTime;
 import java.util.*;
 import java.util.function.Consumer;
@@ -50,6 +57,11 @@ import static java.util.stream.Collectors.toList;
  * statistics about the execution. The runner represents a testbed compounded of
  * a set of experiments that it runs.
  *
+ * <p>Experiments run inside the current JVM, sequentially or in parallel,
+ * unless {@link #setForkedWorkers(int, int) forked workers} are set.
+ * In such a case, each run executes in one of a pool of worker JVMs
+ * and the metric values are aggregated as they arrive.</p>
+ *
  * @param <T> the type of {@link Experiment} the runner will execute
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
@@ -119,6 +131,33 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractExp
      */
     private final Map<String, List<Double>> metricsMap;
 
+    /**
+     * A Map where each key is a metric name and each value aggregates the values of that metric
+     * as they are collected from runs executed in {@link #setForkedWorkers(int, int) forked workers}.
+     */
+    private final Map<String, MetricAggregator> metricAggregators;
+
+    /** @see #getForkedWorkers() */
+    private int forkedWorkers;
+
+    /** @see #setForkedWorkers(int, int) */
+    private int workerMaxHeapMegabytes;
+
+    /** @see #setForkedWorkers(int, int, String...) */
+    private List<String> workerArgs;
+
+    /** @see #getWorkerRunTimeoutSecs() */
+    private long workerRunTimeoutSecs;
+
+    /**
+     * The standard output used to send metric values to the {@link ExperimentWorkerPool}
+     * when the current JVM is a worker, or null otherwise.
+     */
+    private PrintStream workerOutput;
+
+    /** The index of the run being executed when the current JVM is a worker. */
+    private int workerRun;
+
     /**@see #setDescription(String) */
     private String description;
 
@@ -209,6 +248,8 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractExp
         * we need to synchronize these collections.*/
         this.seeds = parallel ? Collections.synchronizedList(new ArrayList<>()) : new ArrayList<>();
         this.metricsMap = parallel ? Collections.synchronizedMap(new TreeMap<>()) : new TreeMap<>();
+        this.metricAggregators = new TreeMap<>();
+        this.workerArgs = Collections.emptyList();
 
         if (isApplyBatchMeansMethod() || isApplyAntitheticVariatesTechnique()) {
             setSimulationRunsAndBatchesToEvenNumber();
@@ -411,8 +452,15 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractExp
         return baseSeed;
     }
 
+    /**
+     * Gets the seed of an experiment which doesn't reuse the seed from the first half of experiments.
+     * It depends just on the experiment index, so that an experiment can be created
+     * without creating the previous ones (such as inside a forked worker JVM).
+     * @param experimentIndex index of the experiment to get the seed
+     * @return
+     */
     long getSeed(final int experimentIndex) {
-        return seeds.get(experimentIndex);
+        return baseSeed + experimentIndex;
     }
 
     /**
@@ -488,6 +536,29 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractExp
             seed -> new UniformDistr(minInclusive, maxExclusive, seed));
     }
 
+    /**
+     * Gets a factory of reproducible PRNG streams for a experiment run,
+     * derived just from the {@link #getBaseSeed() base seed} and the experiment index.
+     * Since the streams don't depend on the order experiments are created or executed,
+     * results are the same when experiments run in parallel or sequentially.
+     *
+     * <p>If it is to apply the
+     * {@link #isApplyAntitheticVariatesTechnique() "Antithetic Variates Technique"},
+     * the second half of experiments get the same streams from the first half.
+     * In such a case, the {@link StatisticalDistribution#setApplyAntitheticVariates(boolean)}
+     * must be called for the distributions created in the second half of experiments.</p>
+     *
+     * @param experimentIndex index of the experiment run to get the streams
+     * @return the streams factory for the experiment
+     * @see #isToReuseSeedFromFirstHalfOfExperiments(int)
+     */
+    public RandomStreams getRandomStreams(final int experimentIndex) {
+        final int streamsIndex = isToReuseSeedFromFirstHalfOfExperiments(experimentIndex) ?
+                                    experimentIndex - halfSimulationRuns() :
+                                    experimentIndex;
+        return new RandomStreams(baseSeed).substreams(streamsIndex);
+    }
+
     public boolean isToReuseSeedFromFirstHalfOfExperiments(final int currentExperimentIndex) {
         return isApplyAntitheticVariatesTechnique() &&
                simulationRuns > 1 && currentExperimentIndex >= halfSimulationRuns();
@@ -528,11 +599,106 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractExp
     }
 
     /**
-     * Setups and starts the execution of all experiments sequentially or in {@link #parallel}.
+     * Gets the number of worker JVMs used to execute the experiments,
+     * or 0 if experiments are executed inside the current JVM.
+     * @return
+     * @see #setForkedWorkers(int, int)
+     */
+    public int getForkedWorkers() {
+        return forkedWorkers;
+    }
+
+    /**
+     * Sets a number of worker JVMs to be forked to execute the experiments, instead of
+     * executing them inside the current JVM. This way, experiments don't interfere with each other
+     * through the heap, static fields or logging configuration.
+     * Workers' main method receives no program arguments.
+     *
+     * @param workers the number of worker JVMs running at the same time or 0 to run experiments inside the current JVM
+     * @param maxHeapMegabytes the maximum heap size for each worker JVM (in megabytes) or 0 to use the JVM default
+     * @return
+     * @see #setForkedWorkers(int, int, String...)
+     */
+    public ExperimentRunner setForkedWorkers(final int workers, final int maxHeapMegabytes) {
+        return setForkedWorkers(workers, maxHeapMegabytes, new String[0]);
+    }
+
+    /**
+     * Sets a number of worker JVMs to be forked to execute the experiments, instead of
+     * executing them inside the current JVM. This way, experiments don't interfere with each other
+     * through the heap, static fields or logging configuration.
+     *
+     * <p>Each worker runs the main method declared by the runner class with the given program arguments,
+     * which must create the runner the same way and call {@link #run()}.
+     * Arguments are given to the worker as they are, so they may contain spaces.
+     * Inside a worker, the {@link #run()} method executes just the runs requested by the current JVM,
+     * which aggregates the values given to {@link #addMetricValue(String, double)} as they arrive,
+     * without keeping the values of every run.
+     * A run whose worker crashes or exceeds the {@link #setWorkerRunTimeoutSecs(long) run timeout}
+     * is executed again in a new worker with the same seed.</p>
+     *
+     * <p><b>Only the values given to {@link #addMetricValue(String, double)} come back from workers.</b>
+     * Any other data the experiments collect or store into the runner (such as fields, lists or
+     * objects such as brokers and Cloudlets) stays inside the worker JVM and is lost when it exits.</p>
+     *
+     * @param workers the number of worker JVMs running at the same time or 0 to run experiments inside the current JVM
+     * @param maxHeapMegabytes the maximum heap size for each worker JVM (in megabytes) or 0 to use the JVM default
+     * @param mainArgs the program arguments to give to the main method of each worker JVM
+     * @return
+     */
+    public ExperimentRunner setForkedWorkers(final int workers, final int maxHeapMegabytes, final String... mainArgs) {
+        if(workers < 0 || maxHeapMegabytes < 0) {
+            throw new IllegalArgumentException("The number of workers and the maximum heap size cannot be negative.");
+        }
+
+        this.forkedWorkers = workers;
+        this.workerMaxHeapMegabytes = maxHeapMegabytes;
+        this.workerArgs = Arrays.asList(mainArgs.clone());
+        return this;
+    }
+
+    /**
+     * Gets the maximum time a {@link #setForkedWorkers(int, int) forked worker} has to finish a run (in seconds),
+     * or 0 if there is no timeout.
+     * @return
+     * @see #setWorkerRunTimeoutSecs(long)
+     */
+    public long getWorkerRunTimeoutSecs() {
+        return workerRunTimeoutSecs;
+    }
+
+    /**
+     * Sets the maximum time a {@link #setForkedWorkers(int, int) forked worker} has to finish a run.
+     * A worker that doesn't finish a run in such a time is destroyed
+     * and the run is executed again in a new worker, as it's done when a worker crashes.
+     * The first run of each worker includes the JVM startup time.
+     *
+     * @param timeoutSecs the maximum time for a run (in seconds) or 0 to wait runs indefinitely
+     * @return
+     */
+    public ExperimentRunner setWorkerRunTimeoutSecs(final long timeoutSecs) {
+        if(timeoutSecs < 0) {
+            throw new IllegalArgumentException("The worker run timeout cannot be negative.");
+        }
+
+        this.workerRunTimeoutSecs = timeoutSecs;
+        return this;
+    }
+
+    /**
+     * Setups and starts the execution of all experiments sequentially, in {@link #parallel}
+     * or in {@link #setForkedWorkers(int, int) forked workers}.
      */
     @Override
     public void run() {
-        createAllExperimentsBeforeFirstRun();
+        if(ExperimentWorkerPool.isWorkerJvm()) {
+            runAsWorker();
+            return;
+        }
+
+        if(forkedWorkers == 0) {
+            createAllExperimentsBeforeFirstRun();
+        }
 
         System.out.printf(
             "Started %s for %d runs using %s (real local time: %s)%n",
@@ -542,19 +708,20 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractExp
         }
         printSimulationParameters();
 
-        Log.setLevel(Level.OFF);
-        try {
-            experimentsStartTimeSecs = Math.round(System.currentTimeMillis()/1000.0);
-            getStream(this.experiments).forEach(Experiment::run);
-            System.out.println();
-            experimentsExecutionTimeSecs = TimeUtil.elapsedSeconds(experimentsStartTimeSecs);
-        } finally {
-            Log.setLevel(Level.INFO);
+        experimentsStartTimeSecs = Math.round(System.currentTimeMillis()/1000.0);
+        if(forkedWorkers > 0) {
+            runInForkedWorkers();
+        } else {
+            /*Disables logging just for the threads running experiments,
+            * instead of changing the level of every logger for the whole application.*/
+            getStream(this.experiments).forEach(experiment -> Log.runWithLevel(Level.OFF, experiment));
         }
+        System.out.println();
+        experimentsExecutionTimeSecs = TimeUtil.elapsedSeconds(experimentsStartTimeSecs);
 
         System.out.printf(
             "%nFinal simulation results for %d metrics in %d simulation runs -------------------%n",
-            metricsMap.size(), simulationRuns);
+            metricsMap.size() + metricAggregators.size(), simulationRuns);
         if (batchesNumber > 1 && !isApplyBatchMeansMethod()) {
             System.out.println("Batch means method was not be applied because the number of simulation runs is not greater than the number of batches.");
         }
@@ -565,6 +732,47 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractExp
             simulationRuns, TimeUtil.secondsToStr(experimentsExecutionTimeSecs), LocalTime.now());
     }
 
+    private void runInForkedWorkers() {
+        System.out.printf(
+            "Running experiments in %d forked worker JVMs (max heap: %s)%n",
+            forkedWorkers, workerMaxHeapMegabytes > 0 ? workerMaxHeapMegabytes + " MB" : "JVM default");
+
+        final List<String> command = ExperimentWorkerPool.workerCommand(getClass(), workerMaxHeapMegabytes, workerArgs);
+        new ExperimentWorkerPool(command, forkedWorkers, workerRunTimeoutSecs * 1000).run(
+            simulationRuns,
+            (run, metric, value) -> metricAggregators.computeIfAbsent(metric, m -> new MetricAggregator(this)).add(run, value),
+            finishedRuns -> print(finishedRuns % 100 == 0 ? String.format(". Run #%d%n", finishedRuns) : "."));
+    }
+
+    /**
+     * Executes the runs requested by the {@link ExperimentWorkerPool} through the standard input,
+     * when the current JVM is a forked worker.
+     * The standard output is reserved to send metric values,
+     * so that anything else printed by experiments goes to the standard error.
+     * The JVM exits when there is no more runs to execute.
+     */
+    private void runAsWorker() {
+        workerOutput = System.out;
+        System.setOut(System.err);
+
+        try {
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                workerRun = Integer.parseInt(line.trim());
+                final Experiment experiment = createExperiment(workerRun);
+                experiment.setVerbose(false);
+                Log.runWithLevel(Level.OFF, experiment);
+                workerOutput.println(ExperimentWorkerPool.doneLine(workerRun));
+                workerOutput.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        System.exit(0);
+    }
+
     /** Since experiments may execute in parallel and during execution
      * they access the shared seeds list, all experiments have to
      * be created before starting execution.
@@ -579,9 +787,28 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractExp
     private void computeAndPrintFinalResults() {
         final Map<String, SummaryStatistics> statsMap = new TreeMap<>();
         metricsMap.entrySet().forEach(e -> statsMap.put(e.getKey(), computeAndPrintFinalResults(e)));
+        metricAggregators.forEach((metric, aggregator) -> statsMap.put(metric, printFinalResults(metric, aggregator)));
         buildLatexMetricsResultTable(statsMap);
     }
 
+    /**
+     * Prints final simulation results for a metric whose values were aggregated
+     * as they were collected from {@link #setForkedWorkers(int, int) forked workers}.
+     *
+     * @param metricName the name of the metric
+     * @param aggregator the aggregator of the metric values
+     * @return the {@link SummaryStatistics} for the metric
+     */
+    private SummaryStatistics printFinalResults(final String metricName, final MetricAggregator aggregator) {
+        final SummaryStatistics stats = aggregator.getStatistics();
+        System.out.printf("# %s: %.2f (%d samples from %d simulation runs)%n", metricName, stats.getMean(), stats.getN(), simulationRuns);
+        if (simulationRuns > 1) {
+            showConfidenceInterval(stats);
+        }
+
+        return stats;
+    }
+
     /**
      * Generates the latex table for metrics results.
      * @param statsMap a Map where each key is a metric name and it value is
@@ -806,12 +1033,19 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractExp
 
     /**
      * Add a value to a given metric inside the {@link #metricsMap}.
+     * If the current JVM is a {@link #setForkedWorkers(int, int) forked worker},
+     * the value is sent to the JVM that started the worker instead.
      *
      * <p>This method must be called for each metric inside the experiment finish listener.
      * The listener can be set inside the runner's {@link #createExperimentInternal(int)}.</p>
      * @see Experiment#setAfterExperimentFinish(Consumer)
      */
     protected final void addMetricValue(final String metricName, final double value){
+        if(workerOutput != null) {
+            workerOutput.println(ExperimentWorkerPool.metricLine(workerRun, metricName, value));
+            return;
+        }
+
         final List<Double> metricValues = getMetricValues(metricName);
         metricValues.add(value);
     }
@@ -0,0 +1,400 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs the simulation runs of an {@link ExperimentRunner} in a pool of forked worker JVMs,
+ * so that runs don't share the heap, static state or logging configuration
+ * and each worker has a bounded memory.
+ *
+ * <p>Each worker runs the main class of the runner with the {@link #WORKER_PROPERTY} set,
+ * which makes the {@link ExperimentRunner#run()} method execute the runs requested by the pool.
+ * The pool and workers talk through a line-based protocol:
+ * the pool writes the index of a run to the worker standard input;
+ * the worker executes it and writes to its standard output a
+ * {@code METRIC<tab>run<tab>name<tab>value} line for each metric value collected from the run,
+ * followed by a {@code DONE<tab>run} line. Other output lines are ignored.
+ * Metric values of a run are just delivered after the run is done.
+ * If a worker crashes or doesn't finish a run within the run timeout (if one is set),
+ * the worker is destroyed and its current run is executed again by a new worker, up to {@link #MAX_ATTEMPTS} times.
+ * Since the seed of a run depends just on its index, the new attempt gives the same results.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+final class ExperimentWorkerPool {
+    /**
+     * The name of the system property set for worker JVMs.
+     */
+    static final String WORKER_PROPERTY = "cloudsimplus.testbeds.worker";
+
+    /**
+     * The maximum number of times a run is executed when the worker running it crashes or times out.
+     */
+    static final int MAX_ATTEMPTS = 3;
+
+    private static final String METRIC = "METRIC";
+    private static final String DONE = "DONE";
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * A consumer of the metric values collected from simulation runs.
+     */
+    @FunctionalInterface
+    interface MetricConsumer {
+        void accept(int run, String metric, double value);
+    }
+
+    private final List<String> command;
+    private final int workers;
+
+    /**
+     * The maximum time a worker has to finish a run (in milliseconds) or 0 to wait indefinitely.
+     */
+    private final long runTimeoutMillis;
+
+    /**
+     * Destroys workers that exceed the {@link #runTimeoutMillis}, or null if no timeout is set.
+     */
+    private ScheduledExecutorService timeoutScheduler;
+    private final Queue<Integer> pendingRuns;
+    private final Map<Integer, Integer> attempts;
+    private final List<Integer> failedRuns;
+    private int finishedRuns;
+
+    /**
+     * Creates a pool of worker JVMs.
+     * @param command the command line to start a worker JVM
+     * @param workers the maximum number of workers running at the same time
+     * @param runTimeoutMillis the maximum time a worker has to finish a run (in milliseconds)
+     *                         or 0 to wait indefinitely.
+     *                         The first run of a worker includes the JVM startup time.
+     */
+    ExperimentWorkerPool(final List<String> command, final int workers, final long runTimeoutMillis) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("The number of workers must be greater than 0.");
+        }
+
+        if (runTimeoutMillis < 0) {
+            throw new IllegalArgumentException("The run timeout cannot be negative.");
+        }
+
+        this.command = new ArrayList<>(command);
+        this.workers = workers;
+        this.runTimeoutMillis = runTimeoutMillis;
+        this.pendingRuns = new ConcurrentLinkedQueue<>();
+        this.attempts = new ConcurrentHashMap<>();
+        this.failedRuns = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     * Checks if the current JVM is a worker started by a pool.
+     * @return
+     */
+    static boolean isWorkerJvm() {
+        return Boolean.getBoolean(WORKER_PROPERTY);
+    }
+
+    /**
+     * Creates the command line to start a worker JVM which runs a given main class,
+     * using the same Java executable and class path as the current JVM.
+     * Each element of the command line is given to the worker as it is,
+     * so the class path and arguments may contain spaces.
+     *
+     * @param mainClass the class declaring the main method which creates and runs the {@link ExperimentRunner}
+     * @param maxHeapMegabytes the maximum heap size for the worker JVM (in megabytes) or 0 to use the JVM default
+     * @param mainArgs the program arguments to give to the main method
+     * @return the command line
+     * @throws IllegalArgumentException when the given class doesn't declare a static main method
+     */
+    static List<String> workerCommand(final Class<?> mainClass, final int maxHeapMegabytes, final List<String> mainArgs) {
+        requireMainMethod(mainClass);
+
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (maxHeapMegabytes > 0) {
+            command.add("-Xmx" + maxHeapMegabytes + "m");
+        }
+        command.add("-D" + WORKER_PROPERTY + "=true");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.addAll(mainArgs);
+        return command;
+    }
+
+    private static void requireMainMethod(final Class<?> mainClass) {
+        try {
+            final Method main = mainClass.getDeclaredMethod("main", String[].class);
+            if (Modifier.isStatic(main.getModifiers())) {
+                return;
+            }
+        } catch (NoSuchMethodException e) {
+            //the exception below is thrown
+        }
+
+        throw new IllegalArgumentException(
+            mainClass.getName() + " must declare a static main method to run experiments in forked worker JVMs.");
+    }
+
+    /**
+     * Executes the given number of simulation runs in the worker JVMs,
+     * blocking until all of them finish.
+     *
+     * @param simulationRuns the number of runs to execute
+     * @param consumer the consumer of the metric values collected from each run.
+     *                 It's called by one worker at a time.
+     * @param onRunFinished a consumer of the number of runs finished so far,
+     *                      called each time a run finishes.
+     * @throws IllegalStateException when some run fails in all its attempts
+     */
+    void run(final int simulationRuns, final MetricConsumer consumer, final IntConsumer onRunFinished) {
+        for (int run = 0; run < simulationRuns; run++) {
+            pendingRuns.add(run);
+        }
+
+        final int poolSize = Math.min(workers, simulationRuns);
+        final ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        if (runTimeoutMillis > 0) {
+            timeoutScheduler = Executors.newSingleThreadScheduledExecutor();
+        }
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>(poolSize);
+            for (int i = 0; i < poolSize; i++) {
+                futures.add(executor.submit(() -> work(consumer, onRunFinished)));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for worker JVMs.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+            if (timeoutScheduler != null) {
+                timeoutScheduler.shutdownNow();
+            }
+        }
+
+        if (!failedRuns.isEmpty()) {
+            Collections.sort(failedRuns);
+            throw new IllegalStateException(
+                String.format("Simulation runs %s failed or timed out after %d attempts each. Check the worker JVMs error output.",
+                              failedRuns, MAX_ATTEMPTS));
+        }
+    }
+
+    /**
+     * Keeps a worker JVM executing pending runs until there is no one left,
+     * starting a new worker when the current one crashes or times out.
+     */
+    private void work(final MetricConsumer consumer, final IntConsumer onRunFinished) {
+        Worker worker = null;
+        Integer run;
+        try {
+            while ((run = pendingRuns.poll()) != null) {
+                if (worker == null) {
+                    worker = new Worker();
+                }
+
+                final List<MetricValue> metrics = worker.execute(run);
+                if (metrics == null) {
+                    worker.destroy();
+                    worker = null;
+                    retryOrFail(run);
+                    continue;
+                }
+
+                //The timeout may have expired just after the run finished
+                if (worker.isDestroyed()) {
+                    worker = null;
+                }
+
+                deliver(run, metrics, consumer, onRunFinished);
+            }
+        } finally {
+            if (worker != null) {
+                worker.finish();
+            }
+        }
+    }
+
+    private void retryOrFail(final int run) {
+        if (attempts.merge(run, 1, Integer::sum) < MAX_ATTEMPTS) {
+            pendingRuns.add(run);
+        } else {
+            failedRuns.add(run);
+        }
+    }
+
+    private synchronized void deliver(
+        final int run, final List<MetricValue> metrics,
+        final MetricConsumer consumer, final IntConsumer onRunFinished)
+    {
+        for (final MetricValue metric : metrics) {
+            consumer.accept(run, metric.name, metric.value);
+        }
+
+        onRunFinished.accept(++finishedRuns);
+    }
+
+    /**
+     * Formats the protocol line a worker outputs for a metric value collected from a run.
+     * @param run the index of the run
+     * @param metric the metric name
+     * @param value the metric value
+     * @return the protocol line
+     */
+    static String metricLine(final int run, final String metric, final double value) {
+        final String name = metric.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+        return METRIC + SEPARATOR + run + SEPARATOR + name + SEPARATOR + value;
+    }
+
+    /**
+     * Formats the protocol line a worker outputs after finishing a run.
+     * @param run the index of the run
+     * @return the protocol line
+     */
+    static String doneLine(final int run) {
+        return DONE + SEPARATOR + run;
+    }
+
+    /**
+     * A value of a metric collected from a run.
+     */
+    private static final class MetricValue {
+        private final String name;
+        private final double value;
+
+        MetricValue(final String name, final double value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A forked worker JVM.
+     */
+    private final class Worker {
+        private final Process process;
+        private final BufferedReader reader;
+        private final Writer writer;
+
+        /** @see #isDestroyed() */
+        private volatile boolean destroyed;
+
+        Worker() {
+            try {
+                process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to start a worker JVM.", e);
+            }
+
+            reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+            writer = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Requests the worker to execute a run and waits it to finish.
+         * If the run doesn't finish within the {@link #runTimeoutMillis},
+         * the worker is destroyed, making this method return.
+         * @param run the index of the run
+         * @return the list of metric values collected from the run
+         *         or null if the worker crashed or timed out
+         */
+        List<MetricValue> execute(final int run) {
+            final List<MetricValue> metrics = new ArrayList<>();
+            final String done = doneLine(run);
+            final Future<?> timeout = timeoutScheduler == null ?
+                                        null :
+                                        timeoutScheduler.schedule(this::destroy, runTimeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+                writer.write(run + System.lineSeparator());
+                writer.flush();
+
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.equals(done)) {
+                        return metrics;
+                    }
+
+                    if (line.startsWith(METRIC + SEPARATOR)) {
+                        final String[] fields = line.split(SEPARATOR);
+                        metrics.add(new MetricValue(fields[2], Double.parseDouble(fields[3])));
+                    }
+                }
+            } catch (IOException e) {
+                //the worker crashed or was destroyed
+            } finally {
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Closes the worker standard input, so that it exits after the current run,
+         * and waits it to finish.
+         */
+        void finish() {
+            try {
+                writer.close();
+                process.waitFor();
+            } catch (IOException e) {
+                destroy();
+            } catch (InterruptedException e) {
+                destroy();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void destroy() {
+            destroyed = true;
+            process.destroyForcibly();
+        }
+
+        /**
+         * Checks if the worker was destroyed, such as when a run timed out.
+         * @return
+         */
+        boolean isDestroyed() {
+            return destroyed;
+        }
+    }
+}
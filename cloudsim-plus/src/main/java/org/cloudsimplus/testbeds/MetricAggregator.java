@@ -0,0 +1,146 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+
+/**
+ * Aggregates the values of a metric as they are collected from simulation runs,
+ * in any order, without keeping the values of every run.
+ * It applies the "Batch Means Method" and the "Antithetic Variates Technique"
+ * the same way as {@link ExperimentRunner#computeFinalStatistics(java.util.List)}.
+ *
+ * <p>Runs are reduced to samples: each batch of runs is reduced to its mean and,
+ * when antithetic variates are applied, the sample from the first half is averaged with the
+ * one from the second half. A sample is added to the {@link #getStatistics() statistics}
+ * as soon as all its runs are collected, so that just the pending samples are kept.
+ * If no reduction is applied, values are added to the statistics right away.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+final class MetricAggregator {
+    private final int simulationRuns;
+
+    /** The number of runs reduced to a single sample before applying antithetic variates. */
+    private final int batchSize;
+
+    private final boolean antithetic;
+
+    /** The sum of the collected values for each sample which is not complete yet. */
+    private final double[] sums;
+
+    /** The number of collected values for each sample. */
+    private final int[] counts;
+
+    /** The number of values each sample must have to be complete. */
+    private final int valuesBySample;
+
+    private final SummaryStatistics statistics;
+
+    /**
+     * Creates an aggregator for a metric.
+     * @param simulationRuns the number of simulation runs
+     * @param batchSize the number of runs in each batch, or 1 if the "Batch Means Method" is not applied
+     * @param antithetic whether the "Antithetic Variates Technique" is applied
+     */
+    MetricAggregator(final int simulationRuns, final int batchSize, final boolean antithetic) {
+        this.simulationRuns = simulationRuns;
+        this.batchSize = batchSize;
+        this.antithetic = antithetic && simulationRuns > 1;
+        this.statistics = new SummaryStatistics();
+        this.valuesBySample = this.antithetic ? batchSize * 2 : batchSize;
+
+        final int batches = (int)Math.ceil(simulationRuns / (double) batchSize);
+        final int samples = isReduced() ? (this.antithetic ? batches / 2 : batches) : 0;
+        this.sums = new double[samples];
+        this.counts = new int[samples];
+    }
+
+    /**
+     * Creates an aggregator that reduces the values of a metric as the given runner does.
+     * @param runner the runner to get the number of runs and the variance reduction techniques from
+     */
+    MetricAggregator(final ExperimentRunner<?> runner) {
+        this(
+            runner.getSimulationRuns(),
+            runner.isApplyBatchMeansMethod() ? runner.batchSizeCeil() : 1,
+            runner.isApplyAntitheticVariatesTechnique());
+    }
+
+    private boolean isReduced() {
+        return valuesBySample > 1;
+    }
+
+    /**
+     * Adds the value of the metric collected from a simulation run.
+     * @param run the index of the simulation run
+     * @param value the metric value
+     */
+    void add(final int run, final double value) {
+        if (run < 0 || run >= simulationRuns) {
+            throw new IndexOutOfBoundsException("Invalid simulation run: " + run);
+        }
+
+        if (!isReduced()) {
+            statistics.addValue(value);
+            return;
+        }
+
+        final int sample = sampleIndex(run);
+        if (sample == sums.length) {
+            return;
+        }
+
+        sums[sample] += value;
+        if (++counts[sample] == valuesBySample) {
+            statistics.addValue(sums[sample] / valuesBySample);
+        }
+    }
+
+    /**
+     * Gets the index of the sample a run is reduced to.
+     * When antithetic variates are applied, the batch {@code b} from the second half of runs
+     * is reduced to the same sample as the batch {@code b - half} from the first half.
+     * @return the sample index or the number of samples if the run is discarded,
+     *         which happens to the last batch when the number of batches is odd
+     *         and antithetic variates are applied
+     */
+    private int sampleIndex(final int run) {
+        final int batch = run / batchSize;
+        if (!antithetic || batch < sums.length) {
+            return batch;
+        }
+
+        return Math.min(batch - sums.length, sums.length);
+    }
+
+    /**
+     * Gets the statistics for the complete samples collected so far.
+     * @return
+     */
+    SummaryStatistics getStatistics() {
+        return statistics;
+    }
+}
@@ -24,8 +24,14 @@
 package org.cloudsimplus.util;
 
 import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.util.Objects;
 
 /**
  * An utility class to enable changing logging
@@ -35,6 +41,18 @@ import org.slf4j.LoggerFactory;
  * @author Manoel Campos da Silva Filho
  */
 public final class Log {
+    /**
+     * The logging level set for the current thread by {@link #runWithLevel(Level, Runnable)},
+     * or null if the level of each logger must be used.
+     */
+    private static final ThreadLocal<Level> THREAD_LEVEL = new ThreadLocal<>();
+
+    /**
+     * Indicates if the {@link ThreadLevelFilter} was already added to the logging context.
+     * The filter is just added when a thread level is used for the first time,
+     * so that it doesn't add any overhead otherwise.
+     */
+    private static volatile boolean threadLevelFilterInstalled;
 
     /**
      * A private constructor to avoid class instantiation.
@@ -67,4 +85,60 @@ public final class Log {
         final Logger root = LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
         setLevel(root, level);
     }
+
+    /**
+     * Runs a given code using a logging {@link Level} just for the current thread,
+     * restoring the previous thread level after the code finishes.
+     * Differently from {@link #setLevel(Level)}, it doesn't change the level of loggers
+     * used by other threads, such as other simulations running concurrently.
+     *
+     * <p>The thread level can just restrict the messages to be logged,
+     * so that messages not enabled by the logger level are not logged anyway.</p>
+     *
+     * @param level the logging level to use in the current thread
+     * @param runnable the code to run
+     */
+    public static void runWithLevel(final Level level, final Runnable runnable) {
+        Objects.requireNonNull(level);
+        installThreadLevelFilter();
+        final Level previous = THREAD_LEVEL.get();
+        THREAD_LEVEL.set(level);
+        try {
+            runnable.run();
+        } finally {
+            if(previous == null)
+                THREAD_LEVEL.remove();
+            else THREAD_LEVEL.set(previous);
+        }
+    }
+
+    private static void installThreadLevelFilter() {
+        if(threadLevelFilterInstalled){
+            return;
+        }
+
+        synchronized (Log.class) {
+            if(!threadLevelFilterInstalled && LoggerFactory.getILoggerFactory() instanceof LoggerContext) {
+                final ThreadLevelFilter filter = new ThreadLevelFilter();
+                filter.start();
+                ((LoggerContext) LoggerFactory.getILoggerFactory()).addTurboFilter(filter);
+            }
+
+            threadLevelFilterInstalled = true;
+        }
+    }
+
+    /**
+     * Denies log messages whose level is lower than the level set for the current thread.
+     */
+    private static final class ThreadLevelFilter extends TurboFilter {
+        @Override
+        public FilterReply decide(
+            final Marker marker, final ch.qos.logback.classic.Logger logger, final Level level,
+            final String format, final Object[] params, final Throwable t)
+        {
+            final Level threadLevel = THREAD_LEVEL.get();
+            return threadLevel == null || level.isGreaterOrEqual(threadLevel) ? FilterReply.NEUTRAL : FilterReply.DENY;
+        }
+    }
 }
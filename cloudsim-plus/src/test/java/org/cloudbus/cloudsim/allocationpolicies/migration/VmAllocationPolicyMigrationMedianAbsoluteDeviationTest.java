@@ -0,0 +1,70 @@
+package org.cloudbus.cloudsim.allocationpolicies.migration;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicyMinimumUtilization;
+import org.cloudbus.cloudsim.util.SlidingWindowStatistics;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+class VmAllocationPolicyMigrationMedianAbsoluteDeviationTest {
+    private static final double SCHEDULING_INTERVAL = 10;
+    private static final int WINDOW_SIZE = 30;
+
+    /** A Cloudlet length that takes 100 seconds to finish in a 1000 MIPS PE. */
+    private static final long CLOUDLET_LENGTH = 100_000;
+
+    @BeforeAll
+    static void setUpClass() {
+        Log.setLevel(Level.WARN);
+    }
+
+    /**
+     * The Host processing is first updated one scheduling interval after the VM is placed,
+     * then a sample is collected for every interval up to the Cloudlet finish.
+     */
+    @Test
+    void testHostUtilizationIsSampledOnceByIntervalSinceVmAllocation() {
+        final CloudSim simulation = new CloudSim();
+        final VmAllocationPolicyMigrationMedianAbsoluteDeviation policy =
+            new VmAllocationPolicyMigrationMedianAbsoluteDeviation(
+                new VmSelectionPolicyMinimumUtilization(), 0, VmAllocationPolicyMigration.NULL, WINDOW_SIZE);
+
+        final List<Pe> peList = new ArrayList<>();
+        peList.add(new PeSimple(1000));
+        final Host host = new HostSimple(4096, 100000, 100000, peList);
+        new DatacenterSimple(simulation, singletonList(host), policy).setSchedulingInterval(SCHEDULING_INTERVAL);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = new VmSimple(1000, 1).setRam(1024).setBw(1000).setSize(1000);
+        broker.submitVmList(singletonList(vm));
+        broker.submitCloudletList(singletonList(new CloudletSimple(CLOUDLET_LENGTH, 1)));
+        simulation.start();
+
+        final SlidingWindowStatistics window = policy.getHostUtilizationWindow(host);
+        final int expectedSamples = (int) (broker.getCloudletFinishedList().get(0).getFinishTime() / SCHEDULING_INTERVAL);
+        assertEquals(expectedSamples, window.size());
+        assertEquals(1, window.getMedian());
+    }
+}
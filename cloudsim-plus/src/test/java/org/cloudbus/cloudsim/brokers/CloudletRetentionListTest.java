@@ -0,0 +1,56 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletRetentionListTest {
+    @Test
+    public void testKeepAllGrowsAndKeepsOrder() {
+        final CloudletRetentionList list = newList(CloudletRetentionPolicy.KEEP_ALL, 40);
+        assertEquals(40, list.size());
+        assertEquals(40, list.getAddedCount());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i).getId());
+        }
+    }
+
+    @Test
+    public void testKeepLastEvictsOldestCloudlets() {
+        final CloudletRetentionList list = newList(CloudletRetentionPolicy.keepLast(3), 10);
+        assertEquals(10, list.getAddedCount());
+        assertEquals(List.of(7L, 8L, 9L), list.stream().map(Cloudlet::getId).toList());
+    }
+
+    @Test
+    public void testKeepNoneJustCountsCloudlets() {
+        final CloudletRetentionList list = newList(CloudletRetentionPolicy.KEEP_NONE, 5);
+        assertTrue(list.isEmpty());
+        assertEquals(5, list.getAddedCount());
+    }
+
+    @Test
+    public void testSetPolicyTrimsKeptCloudlets() {
+        final CloudletRetentionList list = newList(CloudletRetentionPolicy.KEEP_ALL, 20);
+        list.setPolicy(CloudletRetentionPolicy.keepLast(2));
+        assertEquals(List.of(18L, 19L), list.stream().map(Cloudlet::getId).toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+    }
+
+    private static CloudletRetentionList newList(final CloudletRetentionPolicy policy, final int cloudlets) {
+        final CloudletRetentionList list = new CloudletRetentionList();
+        list.setPolicy(policy);
+        for (int i = 0; i < cloudlets; i++) {
+            list.add(new CloudletSimple(i, 1000, 1));
+        }
+
+        return list;
+    }
+}
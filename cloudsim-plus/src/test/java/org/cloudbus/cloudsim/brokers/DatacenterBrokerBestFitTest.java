@@ -0,0 +1,96 @@
+package org.cloudbus.cloudsim.brokers;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class DatacenterBrokerBestFitTest {
+    private static final int VMS = 20;
+    private static final int CLOUDLETS = 40;
+
+    /**
+     * Checks that the VM selected for each Cloudlet along the simulation
+     * is the same one a linear search over the created VMs would select,
+     * including the tie-breaking in favour of the first created VM.
+     * A second list of Cloudlets is submitted after the first ones start finishing,
+     * so that the expected free PEs of VMs increase again.
+     */
+    @Test
+    public void testIndexedMappingSelectsSameVmAsLinearSearch() {
+        Log.setLevel(Level.WARN);
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = IntStream.range(0, VMS).mapToObj(i -> createHost()).collect(toList());
+        new DatacenterSimple(simulation, hostList);
+
+        final DatacenterBrokerBestFit broker = new DatacenterBrokerBestFit(simulation);
+        final int[] mappings = {0, 0};
+        broker.setVmMapper(cloudlet -> {
+            final Vm expected = linearSearchBestFit(broker, cloudlet);
+            final Vm actual = broker.defaultVmMapper(cloudlet);
+            assertSame(expected, actual, () -> "Wrong VM selected for " + cloudlet);
+            mappings[0]++;
+            if (actual != Vm.NULL && simulation.clock() > 0) {
+                mappings[1]++;
+            }
+            return actual;
+        });
+
+        final List<Vm> vmList = IntStream.range(0, VMS).mapToObj(i -> new VmSimple(1000, i % 4 + 1)).collect(toList());
+        final List<Cloudlet> cloudletList = IntStream.range(0, CLOUDLETS).mapToObj(this::createCloudlet).collect(toList());
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.addOnClockTickListener(info -> {
+            if (info.getTime() >= 3 && broker.getCloudletSubmittedList().size() == CLOUDLETS) {
+                broker.submitCloudletList(IntStream.range(0, CLOUDLETS).mapToObj(this::createCloudlet).collect(toList()));
+            }
+        });
+        simulation.start();
+
+        assertTrue(mappings[0] >= CLOUDLETS * 2);
+        assertTrue(mappings[1] > 0, "Some Cloudlets should be mapped after previous ones finished");
+    }
+
+    private static Vm linearSearchBestFit(final DatacenterBroker broker, final Cloudlet cloudlet) {
+        return broker.getVmCreatedList()
+                     .stream()
+                     .filter(vm -> vm.getExpectedFreePesNumber() >= cloudlet.getNumberOfPes())
+                     .min(Comparator.comparingLong(Vm::getExpectedFreePesNumber))
+                     .orElse(Vm.NULL);
+    }
+
+    private Host createHost() {
+        final List<Pe> peList = IntStream.range(0, 4).mapToObj(i -> new PeSimple(1000)).collect(toList());
+        return new HostSimple(4096, 10000, 100000, peList);
+    }
+
+    /**
+     * Creates Cloudlets requiring different number of PEs and lengths,
+     * so that VMs have their expected free PEs changed at different times.
+     */
+    private Cloudlet createCloudlet(final int id) {
+        final Cloudlet cloudlet = new CloudletSimple(1000L * (id % 5 + 1), id % 3 + 1);
+        cloudlet.setUtilizationModel(new UtilizationModelFull());
+        return cloudlet;
+    }
+}
@@ -0,0 +1,107 @@
+package org.cloudbus.cloudsim.brokers;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a broker using a {@link CloudletRetentionPolicy} other than
+ * {@link CloudletRetentionPolicy#KEEP_ALL} doesn't keep references to finished Cloudlets.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+class DatacenterBrokerCloudletRetentionTest {
+    private static final int CLOUDLETS = 200;
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+
+    @BeforeAll
+    static void setUpClass() {
+        Log.setLevel(Level.WARN);
+    }
+
+    @Test
+    void testKeepNoneDropsEveryFinishedCloudlet() {
+        createScenario(CloudletRetentionPolicy.KEEP_NONE);
+        final List<Integer> submittedSizes = new ArrayList<>();
+        final List<Long> unfinishedCounts = new ArrayList<>();
+        broker.addCloudletFinishedConsumer(cloudlet -> {
+            submittedSizes.add(broker.getCloudletSubmittedList().size());
+            unfinishedCounts.add(CLOUDLETS - broker.getCloudletFinishedCount());
+        });
+        simulation.start();
+
+        assertEquals(CLOUDLETS, broker.getCloudletCreatedCount());
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedCount());
+        assertTrue(broker.getCloudletSubmittedList().isEmpty());
+        assertTrue(broker.getCloudletWaitingList().isEmpty());
+        assertTrue(broker.getCloudletCreatedList().isEmpty());
+        assertTrue(broker.getCloudletFinishedList().isEmpty());
+
+        for (int i = 0; i < submittedSizes.size(); i++) {
+            final long maxSize = 2 * unfinishedCounts.get(i) + 1;
+            assertTrue(submittedSizes.get(i) <= maxSize,
+                "The submitted list must shrink while Cloudlets finish. Size: " + submittedSizes.get(i) + " Max: " + maxSize);
+        }
+    }
+
+    @Test
+    void testKeepLastDropsFinishedCloudletsFromSubmittedList() {
+        createScenario(CloudletRetentionPolicy.keepLast(10));
+        simulation.start();
+
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedCount());
+        assertTrue(broker.getCloudletSubmittedList().isEmpty());
+        assertEquals(10, broker.getCloudletFinishedList().size());
+        assertEquals(10, broker.getCloudletCreatedList().size());
+    }
+
+    @Test
+    void testKeepAllKeepsEverySubmittedCloudlet() {
+        createScenario(CloudletRetentionPolicy.KEEP_ALL);
+        simulation.start();
+
+        assertEquals(CLOUDLETS, broker.getCloudletSubmittedList().size());
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+    }
+
+    private void createScenario(final CloudletRetentionPolicy policy) {
+        simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        final Host host = new HostSimple(8192, 100000, 100000, peList);
+        new DatacenterSimple(simulation, singletonList(host));
+
+        broker = new DatacenterBrokerSimple(simulation);
+        broker.setCloudletRetentionPolicy(policy);
+        broker.submitVmList(singletonList(new VmSimple(1000, 4).setRam(1024).setBw(1000).setSize(1000)));
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudletList.add(new CloudletSimple(1000L * (1 + i % 20), 1));
+        }
+
+        broker.submitCloudletList(cloudletList);
+    }
+}
@@ -0,0 +1,121 @@
+package org.cloudbus.cloudsim.brokers;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a VM whose last running Cloudlet is stopped before finishing
+ * becomes idle and is destroyed while other VMs are still running.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+class DatacenterBrokerVmIdlenessTest {
+    private static final double STOP_TIME = 5;
+
+    /** The time the last Cloudlet of the VM that keeps running finishes. */
+    private static final double LAST_FINISH_TIME = 20;
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private Vm stoppedVm;
+    private Vm runningVm;
+    private Cloudlet stoppedCloudlet;
+
+    @BeforeAll
+    static void setUpClass() {
+        Log.setLevel(Level.WARN);
+    }
+
+    @Test
+    void testVmWithCanceledCloudletIsDestroyedWhenIdle() {
+        assertVmWithStoppedCloudletIsDestroyed(CloudSimTags.CLOUDLET_CANCEL, Cloudlet.Status.CANCELED);
+    }
+
+    @Test
+    void testVmWithFailedCloudletIsDestroyedWhenIdle() {
+        assertVmWithStoppedCloudletIsDestroyed(CloudSimTags.CLOUDLET_FAIL, Cloudlet.Status.FAILED);
+    }
+
+    @Test
+    void testRemovingVmFromExecListByPredicate() {
+        createScenario();
+        simulation.startSync();
+        runUntil(1);
+        assertEquals(2, broker.getVmExecList().size());
+
+        assertTrue(broker.getVmExecList().removeIf(vm -> vm == stoppedVm));
+        assertEquals(singletonList(runningVm), broker.getVmExecList());
+        broker.getVmExecList().add(stoppedVm);
+        assertEquals(asList(runningVm, stoppedVm), broker.getVmExecList());
+    }
+
+    private void assertVmWithStoppedCloudletIsDestroyed(final int tag, final Cloudlet.Status expectedStatus) {
+        createScenario();
+        broker.addOnVmsCreatedListener(info -> broker.schedule(broker, STOP_TIME, tag, stoppedCloudlet));
+        simulation.start();
+
+        assertEquals(expectedStatus, stoppedCloudlet.getStatus());
+        assertTrue(stoppedVm.getStopTime() < LAST_FINISH_TIME,
+            "The VM must be destroyed before the other VM finishes. Stop time: " + stoppedVm.getStopTime());
+        assertTrue(runningVm.getStopTime() >= LAST_FINISH_TIME);
+    }
+
+    private void createScenario() {
+        simulation = new CloudSim();
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        final Host host = new HostSimple(8192, 100000, 100000, peList);
+        new DatacenterSimple(simulation, singletonList(host)).setSchedulingInterval(1);
+
+        broker = new DatacenterBrokerSimple(simulation);
+        broker.setVmDestructionDelay(0.5);
+        stoppedVm = new VmSimple(0, 1000, 1).setRam(1024).setBw(1000).setSize(1000);
+        runningVm = new VmSimple(1, 1000, 2).setRam(1024).setBw(1000).setSize(1000);
+        broker.submitVmList(asList(stoppedVm, runningVm));
+
+        stoppedCloudlet = new CloudletSimple(0, 100_000, 1);
+        final Cloudlet shortCloudlet = new CloudletSimple(1, 10_000, 1);
+        final Cloudlet longCloudlet = new CloudletSimple(2, (long) (LAST_FINISH_TIME * 1000), 1);
+        broker.submitCloudletList(asList(stoppedCloudlet, shortCloudlet, longCloudlet));
+        broker.bindCloudletToVm(stoppedCloudlet, stoppedVm);
+        broker.bindCloudletToVm(shortCloudlet, runningVm);
+        broker.bindCloudletToVm(longCloudlet, runningVm);
+    }
+
+    /**
+     * Runs the simulation (started in synchronous mode) until a given time.
+     * @param time the time to run the simulation until
+     * @return the simulation clock
+     */
+    private double runUntil(final double time) {
+        while (simulation.isRunning() && simulation.clock() < time) {
+            simulation.runFor(time - simulation.clock());
+        }
+
+        return simulation.clock();
+    }
+}
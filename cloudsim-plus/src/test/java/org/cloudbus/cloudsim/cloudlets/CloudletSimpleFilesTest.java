@@ -85,4 +85,15 @@ public class CloudletSimpleFilesTest {
         assertTrue(cloudlet.requiresFiles()); //it has required files
     }
 
+    @Test
+    public void testAddFileToRequiredFilesList() {
+        final CloudletSimple cloudlet = CloudletTestUtil.createCloudlet();
+        assertFalse(cloudlet.requiresFiles());
+
+        cloudlet.getRequiredFiles().add(FILE1);
+        assertTrue(cloudlet.requiresFiles());
+        assertEquals(List.of(FILE1), cloudlet.getRequiredFiles());
+        assertTrue(cloudlet.deleteRequiredFile(FILE1));
+    }
+
 }
@@ -79,6 +79,11 @@ public class CloudletSimpleTest {
         assertTrue(cloudlet.removeOnFinishListener(listener));
     }
 
+    @Test
+    public void testRemoveOnCloudletFinishEventListenerWhenNoneAdded() {
+        assertFalse(cloudlet.removeOnFinishListener(info -> {}));
+    }
+
     @Test
     public void testRemoveOnCloudletFinishEventListenerWhenNull() {
         cloudlet.addOnFinishListener(e->{});
@@ -194,6 +199,34 @@ public class CloudletSimpleTest {
         assertEquals(cloudletFinishedSoFar, cloudlet.getFinishedLengthSoFar());
     }
 
+    @Test
+    public void testAssignToDatacenterKeepsExecutionInfoOfPreviousDatacenters() {
+        final Datacenter dc0 = createDatacenterMock(0, 1);
+        final Datacenter dc1 = createDatacenterMock(1, 2);
+        final CloudletSimple cloudlet = CloudletTestUtil.createCloudlet();
+        final long finishedInDc0 = cloudlet.getLength() / 2;
+
+        cloudlet.assignToDatacenter(dc0);
+        cloudlet.addFinishedLengthSoFar(finishedInDc0);
+        cloudlet.assignToDatacenter(dc1);
+
+        assertEquals(1, cloudlet.getLastExecutedDatacenterIdx());
+        assertEquals(finishedInDc0, cloudlet.getFinishedLengthSoFar(dc0));
+        assertEquals(0, cloudlet.getFinishedLengthSoFar(dc1));
+        assertEquals(1, cloudlet.getCostPerSec(dc0));
+        assertEquals(2, cloudlet.getCostPerSec(dc1));
+        assertEquals(2, cloudlet.getCostPerSec());
+    }
+
+    private Datacenter createDatacenterMock(final long id, final double costPerCpuSec) {
+        return DatacenterMocker.createMock(mocker -> {
+            mocker.getId(id).anyTimes();
+            mocker.getCharacteristics().times(2);
+            mocker.getCostPerSecond(costPerCpuSec).once();
+            mocker.getCostPerBw(0).once();
+        });
+    }
+
     @Test
     public void testAddCloudletFinishedSoFarWhenValueIsLowerThanLen() {
         final CloudletSimple cloudlet = CloudletTestUtil.createCloudlet();
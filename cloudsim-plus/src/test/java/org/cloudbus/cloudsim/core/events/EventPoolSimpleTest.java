@@ -0,0 +1,65 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class EventPoolSimpleTest {
+    @Test
+    public void testReleasedEventIsReusedWithNewAttributes() {
+        final EventPoolSimple pool = new EventPoolSimple();
+        final CloudSimEvent evt = acquire(pool, 1, CloudSimTags.CLOUDLET_SUBMIT, "data");
+        pool.release(evt);
+        assertEquals(1, pool.size());
+        assertNull(evt.getData());
+
+        final CloudSimEvent reused = acquire(pool, 2, CloudSimTags.CLOUDLET_RETURN, null);
+        assertSame(evt, reused);
+        assertEquals(2, reused.getTime());
+        assertEquals(CloudSimTags.CLOUDLET_RETURN, reused.getTag());
+        assertEquals(-1, reused.getSerial());
+        assertEquals(1, pool.getCreatedEvents());
+        assertEquals(1, pool.getReusedEvents());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testReleaseIgnoresEventsNotFromPoolAndDuplicateReleases() {
+        final EventPoolSimple pool = new EventPoolSimple();
+        pool.release(new CloudSimEvent(SimEvent.Type.SEND, 0, SimEntity.NULL, SimEntity.NULL, 0, null));
+        pool.release(SimEvent.NULL);
+        assertEquals(0, pool.size());
+
+        final CloudSimEvent evt = acquire(pool, 0, CloudSimTags.CLOUDLET_SUBMIT, null);
+        pool.release(evt);
+        pool.release(evt);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void testReleaseWhenPoolIsFull() {
+        final EventPoolSimple pool = new EventPoolSimple(1);
+        final CloudSimEvent evt1 = acquire(pool, 0, CloudSimTags.CLOUDLET_SUBMIT, null);
+        final CloudSimEvent evt2 = acquire(pool, 0, CloudSimTags.CLOUDLET_SUBMIT, null);
+        pool.release(evt1);
+        pool.release(evt2);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void testInvalidEventIsKeptInThePool() {
+        final EventPoolSimple pool = new EventPoolSimple();
+        pool.release(acquire(pool, 0, CloudSimTags.CLOUDLET_SUBMIT, null));
+        assertThrows(IllegalArgumentException.class, () -> acquire(pool, -1, CloudSimTags.CLOUDLET_SUBMIT, null));
+        assertEquals(1, pool.size());
+    }
+
+    private static CloudSimEvent acquire(final EventPool pool, final double delay, final int tag, final Object data) {
+        return pool.acquire(SimEvent.Type.SEND, delay, SimEntity.NULL, SimEntity.NULL, tag, data);
+    }
+}
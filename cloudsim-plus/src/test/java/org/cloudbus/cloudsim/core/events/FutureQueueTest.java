@@ -0,0 +1,85 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class FutureQueueTest {
+    @Test
+    public void testTagCountsFollowAddedAndRemovedEvents() {
+        final FutureQueue queue = new FutureQueue();
+        final SimEvent measurement1 = newEvent(1, CloudSimTags.POWER_MEASUREMENT);
+        final SimEvent measurement2 = newEvent(2, CloudSimTags.POWER_MEASUREMENT);
+        final SimEvent submit = newEvent(3, CloudSimTags.CLOUDLET_SUBMIT);
+        queue.addEvent(measurement1);
+        queue.addEvent(measurement2);
+        assertEquals(2, queue.count(CloudSimTags.POWER_MEASUREMENT));
+        assertFalse(queue.isThereAnyEventOtherThan(CloudSimTags.POWER_MEASUREMENT));
+
+        queue.addEvent(submit);
+        assertTrue(queue.isThereAnyEventOtherThan(CloudSimTags.POWER_MEASUREMENT));
+
+        assertTrue(queue.remove(submit));
+        assertFalse(queue.remove(submit));
+        assertFalse(queue.isThereAnyEventOtherThan(CloudSimTags.POWER_MEASUREMENT));
+
+        queue.removeAll(List.of(measurement1));
+        assertEquals(1, queue.count(CloudSimTags.POWER_MEASUREMENT));
+
+        queue.removeIf(evt -> evt.getTag() == CloudSimTags.POWER_MEASUREMENT);
+        assertEquals(0, queue.count(CloudSimTags.POWER_MEASUREMENT));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testClearResetsTagCounts() {
+        final FutureQueue queue = new FutureQueue();
+        queue.addEvent(newEvent(1, CloudSimTags.CLOUDLET_SUBMIT));
+        queue.addEventFirst(newEvent(0, CloudSimTags.HOST_FAILURE));
+        assertTrue(queue.isThereAnyEventOtherThan(CloudSimTags.HOST_FAILURE));
+
+        queue.clear();
+        assertEquals(0, queue.count(CloudSimTags.CLOUDLET_SUBMIT));
+        assertFalse(queue.isThereAnyEventOtherThan(CloudSimTags.HOST_FAILURE));
+    }
+
+    @Test
+    public void testIsThereAnyEventOtherThanMultipleTags() {
+        final FutureQueue queue = new FutureQueue();
+        queue.addEvent(newEvent(1, CloudSimTags.POWER_MEASUREMENT));
+        queue.addEvent(newEvent(2, CloudSimTags.VM_SCALING_EVALUATION));
+        assertTrue(queue.isThereAnyEventOtherThan(CloudSimTags.POWER_MEASUREMENT));
+        assertTrue(queue.isThereAnyEventOtherThan(CloudSimTags.VM_SCALING_EVALUATION));
+        assertFalse(queue.isThereAnyEventOtherThan(CloudSimTags.POWER_MEASUREMENT, CloudSimTags.VM_SCALING_EVALUATION));
+
+        queue.addEvent(newEvent(3, CloudSimTags.CLOUDLET_SUBMIT));
+        assertTrue(queue.isThereAnyEventOtherThan(CloudSimTags.POWER_MEASUREMENT, CloudSimTags.VM_SCALING_EVALUATION));
+    }
+
+    @Test
+    public void testIsThereAnyEventOtherThanTagSet() {
+        final FutureQueue queue = new FutureQueue();
+        final Set<Integer> periodicTags = Set.of(CloudSimTags.POWER_MEASUREMENT, CloudSimTags.HOST_FAILURE);
+        assertFalse(queue.isThereAnyEventOtherThan(periodicTags));
+
+        queue.addEvent(newEvent(1, CloudSimTags.POWER_MEASUREMENT));
+        queue.addEvent(newEvent(2, CloudSimTags.HOST_FAILURE));
+        assertFalse(queue.isThereAnyEventOtherThan(periodicTags));
+        assertTrue(queue.isThereAnyEventOtherThan(Set.of(CloudSimTags.POWER_MEASUREMENT)));
+
+        queue.addEvent(newEvent(3, CloudSimTags.CLOUDLET_SUBMIT));
+        assertTrue(queue.isThereAnyEventOtherThan(periodicTags));
+    }
+
+    private static SimEvent newEvent(final double time, final int tag) {
+        return new CloudSimEvent(SimEvent.Type.SEND, time, SimEntity.NULL, SimEntity.NULL, tag, null);
+    }
+}
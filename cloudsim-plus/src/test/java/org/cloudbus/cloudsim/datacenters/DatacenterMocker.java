@@ -32,6 +32,10 @@ public final class DatacenterMocker {
         return mocker.datacenter;
     }
 
+    public IExpectationSetters<Long> getId(final long id) {
+        return EasyMock.expect(datacenter.getId()).andReturn(id);
+    }
+
     public IExpectationSetters<DatacenterCharacteristics> getCharacteristics() {
         return EasyMock.expect(datacenter.getCharacteristics()).andReturn(characteristics);
     }
@@ -0,0 +1,69 @@
+package org.cloudbus.cloudsim.distributions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class RandomStreamsTest {
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void testStreamsDependOnlyOnRootSeedAndKey() {
+        final RandomStreams streams = new RandomStreams(42);
+        final long arrivalSeed = streams.seedFor("cloudlet.arrival");
+
+        assertEquals(arrivalSeed, new RandomStreams(42).seedFor("cloudlet.arrival"));
+        assertNotEquals(arrivalSeed, streams.seedFor("cloudlet.length"));
+        assertNotEquals(arrivalSeed, new RandomStreams(43).seedFor("cloudlet.arrival"));
+        assertNotEquals(streams.substreams(0).getRootSeed(), streams.substreams(1).getRootSeed());
+        assertTrue(streams.seedFor(-1) >= 0);
+    }
+
+    @Test
+    public void testGeneratorsForSameKeyGenerateSameSequence() {
+        final RandomStreams streams = new RandomStreams(7).substreams("broker");
+        final SplittableRandomGenerator first = streams.generator("vm.pes");
+        final SplittableRandomGenerator second = streams.generator("vm.pes");
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first.nextDouble(), second.nextDouble());
+        }
+    }
+
+    @Test
+    public void testUniformBulkSampleMatchesSequentialSample() {
+        final RandomStreams streams = new RandomStreams(1);
+        final UniformDistr sequential = streams.uniform("u", 10, 20);
+        final double[] bulk = new double[100];
+        streams.uniform("u", 10, 20).sample(bulk);
+        for (final double value : bulk) {
+            assertEquals(sequential.sample(), value);
+        }
+    }
+
+    @Test
+    public void testNormalBulkSampleMatchesSequentialSample() {
+        final RandomStreams streams = new RandomStreams(1);
+        final NormalDistr sequential = streams.normal("n", 5, 2);
+        final double[] bulk = new double[100];
+        streams.normal("n", 5, 2).sample(bulk);
+        for (final double value : bulk) {
+            assertEquals(sequential.sample(), value);
+        }
+    }
+
+    @Test
+    public void testExponentialBulkSampleFollowsDistribution() {
+        final double mean = 3;
+        final double[] bulk = new double[SAMPLES];
+        new RandomStreams(1).exponential("e", mean).sample(bulk);
+
+        final double sampleMean = Arrays.stream(bulk).average().orElse(0);
+        assertEquals(mean, sampleMean, 0.05);
+        assertTrue(Arrays.stream(bulk).allMatch(value -> value >= 0));
+    }
+}
@@ -0,0 +1,95 @@
+package org.cloudbus.cloudsim.distributions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class ZipfDistrTest {
+    private static final int SAMPLES = 200_000;
+    private static final long SEED = 1;
+
+    @Test
+    public void testRejectionInversionFollowsDistribution() {
+        assertSampleFrequencies(new ZipfDistr(1.2, 10, SEED));
+    }
+
+    @Test
+    public void testAliasTableFollowsDistribution() {
+        final ZipfDistr zipf = new ZipfDistr(1.2, 10, SEED).setAliasTableEnabled(true);
+        assertTrue(zipf.isAliasTableEnabled());
+        assertSampleFrequencies(zipf);
+    }
+
+    @Test
+    public void testLargePopulationSampleMean() {
+        final int population = 200_000;
+        final double shape = 0.8;
+        final double[] cumulative = cumulativeProbabilities(shape, population);
+
+        double expectedMean = 0;
+        for (int rank = 1; rank <= population; rank++) {
+            final double probability = cumulative[rank] - cumulative[rank - 1];
+            expectedMean += probability * cumulative[Math.max(rank, 2) - 1];
+        }
+
+        final ZipfDistr zipf = new ZipfDistr(shape, population, SEED);
+        double mean = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            final double sample = zipf.sample();
+            assertTrue(sample > 0 && sample <= 1 + 1e-12);
+            mean += sample / SAMPLES;
+        }
+
+        assertEquals(expectedMean, mean, 0.003);
+    }
+
+    @Test
+    public void testAliasTableCannotBeEnabledForLargePopulation() {
+        final ZipfDistr zipf = new ZipfDistr(1, ZipfDistr.MAX_EXACT_POPULATION + 1, SEED);
+        assertThrows(IllegalStateException.class, () -> zipf.setAliasTableEnabled(true));
+        assertFalse(zipf.isAliasTableEnabled());
+    }
+
+    /**
+     * Checks if each sample value is the cumulative probability of a rank
+     * and the frequency of each value matches the probability of drawing the next rank.
+     */
+    private static void assertSampleFrequencies(final ZipfDistr zipf) {
+        final int population = 10;
+        final double[] cumulative = cumulativeProbabilities(1.2, population);
+        final Map<Double, Integer> frequencies = new HashMap<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            frequencies.merge(zipf.sample(), 1, Integer::sum);
+        }
+
+        for (int rank = 1; rank < population; rank++) {
+            final double expected = rank == 1 ? cumulative[2] : cumulative[rank + 1] - cumulative[rank];
+            final double actual = frequencies.getOrDefault(cumulative[rank], 0) / (double) SAMPLES;
+            assertEquals(expected, actual, 0.005, "Frequency of the cumulative probability of rank " + rank);
+        }
+    }
+
+    /**
+     * Computes the cumulative probabilities in the same way the original sampling algorithm did,
+     * where the element at index i is the probability of ranks up to i.
+     */
+    private static double[] cumulativeProbabilities(final double shape, final int population) {
+        final double[] harmonics = new double[population + 1];
+        for (int i = 1; i <= population; i++) {
+            harmonics[i] = harmonics[i - 1] + 1 / Math.pow(i, shape);
+        }
+
+        final double[] cumulative = new double[population + 1];
+        for (int i = 1; i <= population; i++) {
+            cumulative[i] = harmonics[i] / harmonics[population];
+        }
+
+        return cumulative;
+    }
+}
@@ -24,6 +24,8 @@
 package org.cloudbus.cloudsim.mocks;
 
 import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.events.EventPool;
+import org.cloudsimplus.instrumentation.MetricsRegistry;
 import org.easymock.EasyMock;
 import org.easymock.IExpectationSetters;
 
@@ -91,6 +93,8 @@ public final class CloudSimMocker {
         final CloudSimMocker mocker = new CloudSimMocker();
         consumer.accept(mocker);
         EasyMock.expect(mocker.mock.isRunning()).andReturn(true).anyTimes();
+        EasyMock.expect(mocker.mock.getMetrics()).andReturn(MetricsRegistry.NULL).anyTimes();
+        EasyMock.expect(mocker.mock.getEventPool()).andReturn(EventPool.NULL).anyTimes();
         CloudSimMocker.replay(mocker.mock);
         return mocker.mock;
     }
@@ -0,0 +1,59 @@
+package org.cloudbus.cloudsim.resources;
+
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class ResourceSlotsTest {
+    @Test
+    public void testGetResolvesSlotsByExactClass() {
+        final Ram ram = new Ram(1000);
+        final Bandwidth bw = new Bandwidth(100);
+        final Storage storage = new Storage(10000);
+        final ResourceSlots slots = new ResourceSlots().setRam(ram).setBw(bw).setStorage(storage);
+
+        assertSame(ram, slots.get(Ram.class));
+        assertSame(bw, slots.get(Bandwidth.class));
+        assertSame(storage, slots.get(Storage.class));
+        assertSame(ResourceManageable.NULL, slots.get(Processor.class));
+    }
+
+    @Test
+    public void testGetResolvesSuperTypeInListOrder() {
+        final Ram ram = new Ram(1000);
+        final ResourceSlots slots = new ResourceSlots().setBw(new Bandwidth(100));
+        assertTrue(slots.get(ResourceManageable.class) instanceof Bandwidth);
+
+        slots.setRam(ram);
+        assertSame(ram, slots.get(ResourceManageable.class));
+        assertSame(ResourceManageable.NULL, slots.get(Pe.class));
+    }
+
+    @Test
+    public void testAsListSkipsEmptySlots() {
+        final ResourceSlots slots = new ResourceSlots().setBw(new Bandwidth(100)).setRam(new Ram(1000));
+        assertEquals(2, slots.asList().size());
+        assertTrue(slots.asList().get(0) instanceof Ram);
+    }
+
+    @Test
+    public void testAddCustomResource() {
+        final PeSimple pe = new PeSimple(1000);
+        final ResourceSlots slots = new ResourceSlots().addCustomResource(pe);
+        assertSame(pe, slots.get(Pe.class));
+        assertThrows(IllegalArgumentException.class, () -> slots.addCustomResource(new Ram(1000)));
+    }
+
+    @Test
+    public void testVmResourceIsUpdatedWhenReplaced() {
+        final VmSimple vm = new VmSimple(1000, 1);
+        vm.setRam(512);
+        assertEquals(512, vm.getResource(Ram.class).getCapacity());
+        assertSame(vm.getRam(), vm.getResource(Ram.class));
+        assertSame(vm.getProcessor(), vm.getResource(Processor.class));
+    }
+}
@@ -0,0 +1,123 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletTestUtil;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletSchedulerCompletelyFairTest {
+    private static final double DELTA = 0.000001;
+
+    @Test
+    public void testTimeSliceFollowsWeightSumOfRunningCloudlets() {
+        final CloudletSchedulerCompletelyFair instance = new CloudletSchedulerCompletelyFair();
+        final CloudletExecution cle0 = createCloudletExecution(0);
+        final CloudletExecution cle1 = createCloudletExecution(1);
+        final CloudletExecution cle2 = createCloudletExecution(2);
+        final CloudletExecution cle3 = createCloudletExecution(3);
+
+        instance.addCloudletToExecList(cle0);
+        assertEquals(instance.getMinimumGranularity(), instance.computeCloudletTimeSlice(cle0), DELTA);
+
+        instance.addCloudletToExecList(cle1);
+        assertEquals(1.5, instance.computeCloudletTimeSlice(cle0), DELTA);
+
+        instance.addCloudletToExecList(cle2);
+        instance.addCloudletToExecList(cle3);
+        assertEquals(0.75, instance.computeCloudletTimeSlice(cle0), DELTA);
+
+        instance.removeCloudletFromExecList(cle1);
+        instance.removeCloudletFromExecList(cle3);
+        assertEquals(1.5, instance.computeCloudletTimeSlice(cle0), DELTA);
+    }
+
+    @Test
+    public void testWaitingListIsOrderedByVirtualRuntime() {
+        final CloudletSchedulerCompletelyFair instance = new CloudletSchedulerCompletelyFair();
+        final CloudletExecution cle0 = createCloudletExecution(0);
+        final CloudletExecution cle1 = createCloudletExecution(1);
+        final CloudletExecution cle2 = createCloudletExecution(2);
+        cle0.setVirtualRuntime(5);
+        cle1.setVirtualRuntime(1);
+        cle2.setVirtualRuntime(3);
+
+        instance.addCloudletToWaitingList(cle0);
+        instance.addCloudletToWaitingList(cle1);
+        instance.addCloudletToWaitingList(cle2);
+        assertEquals(List.of(1L, 2L, 0L), getIds(instance.getCloudletWaitingList()));
+
+        instance.removeCloudletFromWaitingList(cle2);
+        assertEquals(List.of(1L, 0L), getIds(instance.getCloudletWaitingList()));
+    }
+
+    @Test
+    public void testPriorityChangeReordersWaitingList() {
+        final CloudletSchedulerCompletelyFair instance = new CloudletSchedulerCompletelyFair();
+        final Vm vm = new VmSimple(1000, 1).setCloudletScheduler(instance);
+        final CloudletExecution cle0 = createCloudletExecution(0);
+        final CloudletExecution cle1 = createCloudletExecution(1);
+        final CloudletExecution cle2 = createCloudletExecution(2);
+        for (final CloudletExecution cle : List.of(cle0, cle1, cle2)) {
+            cle.getCloudlet().setVm(vm);
+            instance.addCloudletToWaitingList(cle);
+        }
+        assertEquals(List.of(0L, 1L, 2L), getIds(instance.getCloudletWaitingList()));
+
+        cle2.getCloudlet().setPriority(-1);
+        assertEquals(List.of(2L, 0L, 1L), getIds(instance.getCloudletWaitingList()));
+
+        instance.removeCloudletFromWaitingList(cle2);
+        assertEquals(List.of(0L, 1L), getIds(instance.getCloudletWaitingList()));
+    }
+
+    /**
+     * Checks that waiting Cloudlets are executed when all running ones finish at the same time.
+     */
+    @Test
+    public void testAllCloudletsFinishWhenThereAreMoreCloudletsThanPes() {
+        Log.setLevel(Level.WARN);
+        final CloudSim simulation = new CloudSim();
+        final List<Pe> peList = IntStream.range(0, 2).mapToObj(i -> new PeSimple(1000)).collect(toList());
+        new DatacenterSimple(simulation, List.of(new HostSimple(4096, 100000, 100000, peList)));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVmList(List.of(new VmSimple(1000, 2).setCloudletScheduler(new CloudletSchedulerCompletelyFair())));
+        final List<Cloudlet> cloudletList = IntStream.range(0, 6)
+                                                     .mapToObj(i -> new CloudletSimple(10000, 1).setUtilizationModel(new UtilizationModelFull()))
+                                                     .collect(toList());
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+
+        assertTrue(cloudletList.stream().allMatch(Cloudlet::isFinished));
+    }
+
+    private static CloudletExecution createCloudletExecution(final int id) {
+        return new CloudletExecution(CloudletTestUtil.createCloudletWithOnePe(id));
+    }
+
+    private static List<Long> getIds(final List<CloudletExecution> list) {
+        return list.stream().map(CloudletExecution::getCloudletId).collect(toList());
+    }
+}
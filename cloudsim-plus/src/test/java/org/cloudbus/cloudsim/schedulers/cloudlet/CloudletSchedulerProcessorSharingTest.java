@@ -0,0 +1,234 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the results of the {@link CloudletSchedulerProcessorSharing}
+ * with the ones of the {@link CloudletSchedulerTimeShared}.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletSchedulerProcessorSharingTest {
+    private static final int VMS = 3;
+    private static final int CLOUDLETS = 30;
+    private static final double MIN_TIME_BETWEEN_EVENTS = 0.1;
+
+    /**
+     * The {@link CloudletSchedulerTimeShared} truncates the MI executed by a Cloudlet
+     * at every update, so that it may require an additional update to finish a Cloudlet.
+     * That delays the finish time of such a Cloudlet in {@link #MIN_TIME_BETWEEN_EVENTS}
+     * and changes the MIPS shared with the other Cloudlets in the same VM.
+     * Disabling such a truncation, finish times of both schedulers are equal.
+     */
+    private static final double TIME_TOLERANCE = 0.5;
+
+    /**
+     * The maximum difference (in MI) for the length executed by a cancelled Cloudlet,
+     * due to the truncation performed by the {@link CloudletSchedulerTimeShared} at every update.
+     */
+    private static final double LENGTH_TOLERANCE = 10;
+
+    /**
+     * Checks finish times of 4 Cloudlets sharing 2 PEs.
+     * The first 2 Cloudlets finish after running at 500 MIPS
+     * and the last ones receive 1000 MIPS after that.
+     */
+    @Test
+    public void testFinishTimesOfCloudletsSharingPes() {
+        Log.setLevel(Level.WARN);
+        final CloudSim simulation = new CloudSim(MIN_TIME_BETWEEN_EVENTS);
+        new DatacenterSimple(simulation, List.of(createHost()));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVmList(List.of(new VmSimple(1000, 2).setCloudletScheduler(new CloudletSchedulerProcessorSharing())));
+        final List<Cloudlet> cloudletList = LongStream.of(1000, 1000, 3000, 3000)
+                                                      .mapToObj(length -> new CloudletSimple(length, 1).setUtilizationModel(new UtilizationModelFull()))
+                                                      .collect(toList());
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+
+        final double startTime = cloudletList.get(0).getExecStartTime();
+        final double[] expectedFinishTimes = {2, 2, 4, 4};
+        for (int i = 0; i < expectedFinishTimes.length; i++) {
+            assertEquals(startTime + expectedFinishTimes[i], cloudletList.get(i).getFinishTime(), 0.01, "Cloudlet " + i);
+            assertEquals(cloudletList.get(i).getLength(), cloudletList.get(i).getFinishedLengthSoFar());
+        }
+    }
+
+    @Test
+    public void testFinishTimesAreTheSameOfTimeSharedScheduler() {
+        final List<Cloudlet> expected = runSimulation(CloudletSchedulerTimeShared::new, false, -1);
+        final List<Cloudlet> actual = runSimulation(CloudletSchedulerProcessorSharing::new, false, -1);
+        assertSameResults(expected, actual);
+    }
+
+    @Test
+    public void testFinishTimesWithCloudletsUsingPartOfCpuAreTheSameOfTimeSharedScheduler() {
+        final List<Cloudlet> expected = runSimulation(CloudletSchedulerTimeShared::new, true, -1);
+        final List<Cloudlet> actual = runSimulation(CloudletSchedulerProcessorSharing::new, true, -1);
+        assertSameResults(expected, actual);
+    }
+
+    @Test
+    public void testCancelledCloudletHasTheSameFinishedLengthOfTimeSharedScheduler() {
+        final int cancelledCloudlet = 4;
+        final List<Cloudlet> expected = runSimulation(CloudletSchedulerTimeShared::new, false, cancelledCloudlet);
+        final List<Cloudlet> actual = runSimulation(CloudletSchedulerProcessorSharing::new, false, cancelledCloudlet);
+        assertEquals(Cloudlet.Status.CANCELED, actual.get(cancelledCloudlet).getStatus());
+        assertTrue(actual.get(cancelledCloudlet).getFinishedLengthSoFar() > 0);
+        assertSameResults(expected, actual);
+    }
+
+    @Test
+    public void testFinishedLengthOfRunningCloudletsIsTheSameOfTimeSharedScheduler() {
+        final List<Cloudlet> expected = runSimulationUntil(CloudletSchedulerTimeShared::new, 5, null);
+        final List<Cloudlet> actual = runSimulationUntil(CloudletSchedulerProcessorSharing::new, 5, null);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(Cloudlet.Status.INEXEC, actual.get(i).getStatus(), "Cloudlet " + i);
+            assertTrue(actual.get(i).getFinishedLengthSoFar() > 0, "Cloudlet " + i);
+            assertEquals(expected.get(i).getFinishedLengthSoFar(), actual.get(i).getFinishedLengthSoFar(), LENGTH_TOLERANCE, "Cloudlet " + i);
+        }
+    }
+
+    @Test
+    public void testOnUpdateProcessingListenersAreNotifiedAtEveryUpdate() {
+        final List<Long> expected = new ArrayList<>();
+        runSimulationUntil(CloudletSchedulerTimeShared::new, 100, expected);
+        final List<Long> actual = new ArrayList<>();
+        runSimulationUntil(CloudletSchedulerProcessorSharing::new, 100, actual);
+        assertTrue(expected.size() > 2);
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Runs a simulation where 4 Cloudlets share a VM with 2 PEs
+     * and the Datacenter updates their processing every second.
+     *
+     * @param schedulerSupplier creates the scheduler for the VM
+     * @param time the time to run the simulation until
+     * @param notifiedLengths a list to add the finished length of the first Cloudlet
+     *                        every time its onUpdateProcessing listeners are notified,
+     *                        or null to not add any listener
+     * @return the list of submitted Cloudlets
+     */
+    private static List<Cloudlet> runSimulationUntil(
+        final Supplier<CloudletScheduler> schedulerSupplier,
+        final double time,
+        final List<Long> notifiedLengths)
+    {
+        Log.setLevel(Level.WARN);
+        final CloudSim simulation = new CloudSim(MIN_TIME_BETWEEN_EVENTS);
+        new DatacenterSimple(simulation, List.of(createHost())).setSchedulingInterval(1);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVmList(List.of(new VmSimple(1000, 2).setCloudletScheduler(schedulerSupplier.get())));
+        final List<Cloudlet> cloudletList = IntStream.range(0, 4)
+                                                     .mapToObj(i -> new CloudletSimple(10000, 1).setUtilizationModel(new UtilizationModelFull()))
+                                                     .collect(toList());
+        broker.submitCloudletList(cloudletList);
+        if (notifiedLengths != null) {
+            cloudletList.get(0).addOnUpdateProcessingListener(info -> notifiedLengths.add(info.getCloudlet().getFinishedLengthSoFar()));
+        }
+
+        simulation.startSync();
+        while (simulation.isRunning() && simulation.clock() < time) {
+            simulation.runFor(time - simulation.clock());
+        }
+
+        return cloudletList;
+    }
+
+    private static void assertSameResults(final List<Cloudlet> expected, final List<Cloudlet> actual) {
+        for (int i = 0; i < expected.size(); i++) {
+            final Cloudlet exp = expected.get(i);
+            final Cloudlet act = actual.get(i);
+            final String msg = "Cloudlet " + i;
+            assertEquals(exp.getStatus(), act.getStatus(), msg);
+            assertEquals(exp.getFinishedLengthSoFar(), act.getFinishedLengthSoFar(), LENGTH_TOLERANCE, msg);
+            assertEquals(exp.getExecStartTime(), act.getExecStartTime(), TIME_TOLERANCE, msg);
+            assertEquals(exp.getFinishTime(), act.getFinishTime(), TIME_TOLERANCE, msg);
+        }
+    }
+
+    /**
+     * Runs a simulation where Cloudlets of different lengths and PEs
+     * arrive at different times and share VMs having fewer PEs than required by all Cloudlets.
+     *
+     * @param schedulerSupplier creates the scheduler for each VM
+     * @param partialCpuUsage if half of the Cloudlets must use just part of the CPU,
+     *                        so that the {@link CloudletSchedulerProcessorSharing} cannot
+     *                        compute their processing from the virtual time
+     * @param cancelledCloudlet the index of a Cloudlet to cancel while it's running or -1 to not cancel any
+     * @return the list of submitted Cloudlets
+     */
+    private static List<Cloudlet> runSimulation(
+        final Supplier<CloudletScheduler> schedulerSupplier,
+        final boolean partialCpuUsage,
+        final int cancelledCloudlet)
+    {
+        Log.setLevel(Level.WARN);
+        final CloudSim simulation = new CloudSim(MIN_TIME_BETWEEN_EVENTS);
+        final List<Host> hostList = IntStream.range(0, VMS).mapToObj(i -> createHost()).collect(toList());
+        new DatacenterSimple(simulation, hostList);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = IntStream.range(0, VMS)
+                                         .mapToObj(i -> new VmSimple(1000, 4).setCloudletScheduler(schedulerSupplier.get()))
+                                         .collect(toList());
+        final List<Cloudlet> cloudletList = IntStream.range(0, CLOUDLETS)
+                                                     .mapToObj(i -> createCloudlet(i, partialCpuUsage))
+                                                     .collect(toList());
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        if (cancelledCloudlet >= 0) {
+            final Cloudlet cloudlet = cloudletList.get(cancelledCloudlet);
+            simulation.addOnClockTickListener(info -> {
+                if (info.getTime() >= 5 && cloudlet.getStatus() == Cloudlet.Status.INEXEC) {
+                    cloudlet.getVm().getCloudletScheduler().cloudletCancel(cloudlet);
+                }
+            });
+        }
+
+        simulation.start();
+        return cloudletList;
+    }
+
+    private static Host createHost() {
+        final List<Pe> peList = IntStream.range(0, 4).mapToObj(i -> new PeSimple(1000)).collect(toList());
+        return new HostSimple(4096, 10000, 100000, peList);
+    }
+
+    private static Cloudlet createCloudlet(final int id, final boolean partialCpuUsage) {
+        final Cloudlet cloudlet = new CloudletSimple(1000L * (id % 7 + 1) + 333 * (id % 3), id % 3 + 1);
+        cloudlet.setUtilizationModel(new UtilizationModelFull());
+        if (partialCpuUsage && id % 2 == 0) {
+            cloudlet.setUtilizationModelCpu(new UtilizationModelDynamic(0.5));
+        }
+
+        cloudlet.setSubmissionDelay(id % 10 * 0.7);
+        return cloudlet;
+    }
+}
@@ -13,6 +13,8 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmSimple;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -424,4 +426,48 @@ public class CloudletSchedulerSpaceSharedTest {
         final double expected = 0.666;
         assertEquals(expected, instance.getRequestedCpuPercentUtilization(0), 0.001);
     }
+
+    @Test
+    public void testFindSuitableWaitingCloudletFollowsSubmissionOrderAndSkipsFrozenCloudlets() {
+        final Vm vm = new VmSimple(CloudletSchedulerSpaceSharedTestUtil.SCHEDULER_MIPS, 4);
+        final CloudletSchedulerSpaceShared instance = CloudletSchedulerSpaceSharedTestUtil.createScheduler(vm);
+        instance.cloudletSubmit(CloudletTestUtil.createCloudlet(0, 1000, 4));
+
+        final CloudletExecution cle4Pes = submitWaitingCloudlet(instance, 1, 4);
+        final CloudletExecution cle2Pes = submitWaitingCloudlet(instance, 2, 2);
+        final CloudletExecution cle1Pe = submitWaitingCloudlet(instance, 3, 1);
+        final CloudletExecution other2Pes = submitWaitingCloudlet(instance, 4, 2);
+        final Cloudlet frozenCloudlet = CloudletTestUtil.createCloudlet(5, 1000, 1);
+        frozenCloudlet.setStatus(Cloudlet.Status.FROZEN);
+        final CloudletExecution frozen = submitWaitingCloudlet(instance, frozenCloudlet);
+        assertFalse(instance.findSuitableWaitingCloudlet().isPresent());
+
+        vm.getProcessor().setAllocatedResource(0);
+        assertSame(cle4Pes, instance.findSuitableWaitingCloudlet().orElse(CloudletExecution.NULL));
+
+        vm.getProcessor().setAllocatedResource(3);
+        assertSame(cle1Pe, instance.findSuitableWaitingCloudlet().orElse(CloudletExecution.NULL));
+        instance.addWaitingCloudletToExecList(cle1Pe);
+        assertFalse(instance.findSuitableWaitingCloudlet().isPresent());
+
+        vm.getProcessor().setAllocatedResource(1);
+        assertSame(cle2Pes, instance.findSuitableWaitingCloudlet().orElse(CloudletExecution.NULL));
+        instance.addWaitingCloudletToExecList(cle2Pes);
+
+        vm.getProcessor().setAllocatedResource(3);
+        assertFalse(instance.findSuitableWaitingCloudlet().isPresent());
+        instance.cloudletReady(frozenCloudlet);
+        assertSame(frozen, instance.findSuitableWaitingCloudlet().orElse(CloudletExecution.NULL));
+        assertEquals(List.of(cle4Pes, other2Pes, frozen), instance.getCloudletWaitingList());
+    }
+
+    private CloudletExecution submitWaitingCloudlet(final CloudletSchedulerSpaceShared instance, final int id, final int pes) {
+        return submitWaitingCloudlet(instance, CloudletTestUtil.createCloudlet(id, 1000, pes));
+    }
+
+    private CloudletExecution submitWaitingCloudlet(final CloudletSchedulerSpaceShared instance, final Cloudlet cloudlet) {
+        instance.cloudletSubmit(cloudlet);
+        final List<CloudletExecution> waitingList = instance.getCloudletWaitingList();
+        return waitingList.get(waitingList.size() - 1);
+    }
 }
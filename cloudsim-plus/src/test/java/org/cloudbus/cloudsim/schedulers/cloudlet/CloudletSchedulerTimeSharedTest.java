@@ -1,16 +1,26 @@
 package org.cloudbus.cloudsim.schedulers.cloudlet;
 
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
 import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
 import org.cloudbus.cloudsim.cloudlets.CloudletTestUtil;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.resources.ResourceManageable;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.easymock.EasyMock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
 
+import static org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeSharedTestUtil.createCloudletSchedulerWithMipsList;
 import static org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeSharedTestUtil.newSchedulerWithSingleCoreRunningCloudlets;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -163,6 +173,32 @@ public class CloudletSchedulerTimeSharedTest {
         assertEquals(expResult, result);
     }
 
+    @Test
+    public void testAllocatedRamFollowsCloudletArrivalAndUtilizationModelChange() {
+        final CloudletSchedulerTimeShared instance = CloudletSchedulerTimeSharedTestUtil.newSchedulerWithRunningCloudlets(1000, 2, 1, 1);
+        final ResourceManageable ram = instance.getVm().getResource(Ram.class);
+        final Cloudlet cloudlet = instance.getCloudletList().get(0);
+        instance.getVm().setCloudletScheduler(instance);
+        cloudlet.setVm(instance.getVm());
+
+        instance.updateProcessing(0.1, instance.getCurrentMipsShare());
+        assertEquals(ram.getCapacity(), ram.getAllocatedResource());
+
+        instance.updateProcessing(0.2, instance.getCurrentMipsShare());
+        assertEquals(ram.getCapacity(), ram.getAllocatedResource());
+
+        cloudlet.setUtilizationModelRam(new UtilizationModelDynamic(0.5));
+        instance.updateProcessing(0.3, instance.getCurrentMipsShare());
+        assertEquals(ram.getCapacity() / 2, ram.getAllocatedResource());
+
+        final Cloudlet newCloudlet = CloudletTestUtil.createCloudlet(1, 1000, 1);
+        newCloudlet.setUtilizationModelRam(new UtilizationModelDynamic(0.25));
+        newCloudlet.assignToDatacenter(Datacenter.NULL);
+        instance.cloudletSubmit(newCloudlet);
+        instance.updateProcessing(0.4, instance.getCurrentMipsShare());
+        assertEquals(ram.getCapacity() * 3 / 4, ram.getAllocatedResource());
+    }
+
     @Test
     public void testGetCloudletExecListWhenEmpty() {
         final List<CloudletExecution> result = instance.getCloudletExecList();
@@ -282,6 +318,26 @@ public class CloudletSchedulerTimeSharedTest {
 
     }
 
+    @Test
+    public void testGetAvailableMipsByPeFollowsPesOfExecCloudlets() {
+        final CloudletSchedulerTimeShared instance = CloudletSchedulerTimeSharedTestUtil.createCloudletSchedulerWithMipsList(2, 1000);
+        final List<CloudletExecution> cloudlets = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final CloudletExecution cle = new CloudletExecution(CloudletTestUtil.createCloudlet(i, 10000, 1));
+            cloudlets.add(cle);
+            instance.addCloudletToExecList(cle);
+        }
+        assertEquals(500, instance.getAvailableMipsByPe());
+
+        instance.removeCloudletFromExecList(cloudlets.get(0));
+        assertEquals(2000.0/3, instance.getAvailableMipsByPe());
+
+        //The number of PEs of a running Cloudlet is considered at the next processing update
+        cloudlets.get(1).getCloudlet().setNumberOfPes(2);
+        instance.updateProcessing(0, instance.getCurrentMipsShare());
+        assertEquals(500, instance.getAvailableMipsByPe());
+    }
+
     @Test
     public void testRemoveCloudletFromExecList() {
         final CloudletExecution cle = new CloudletExecution(Cloudlet.NULL);
@@ -309,4 +365,35 @@ public class CloudletSchedulerTimeSharedTest {
         instance.addCloudletToExecList(cloudlet);
         assertEquals(list.size(), instance.getCloudletExecList().size());
     }
+
+    @Test
+    public void testCancelLastRunningCloudletNotifiesBrokerTheVmIsIdle() {
+        assertStoppingLastRunningCloudletNotifiesBrokerTheVmIsIdle(CloudletScheduler::cloudletCancel);
+    }
+
+    @Test
+    public void testFailLastRunningCloudletNotifiesBrokerTheVmIsIdle() {
+        assertStoppingLastRunningCloudletNotifiesBrokerTheVmIsIdle(CloudletScheduler::cloudletFail);
+    }
+
+    private void assertStoppingLastRunningCloudletNotifiesBrokerTheVmIsIdle(
+        final BiFunction<CloudletScheduler, Cloudlet, Cloudlet> stopFunction)
+    {
+        final CloudletSchedulerTimeShared scheduler = createCloudletSchedulerWithMipsList(1, 1000);
+        final Vm vm = scheduler.getVm();
+        final DatacenterBroker broker = EasyMock.createNiceMock(DatacenterBroker.class);
+        EasyMock.expect(broker.getSimulation()).andReturn(new CloudSim()).anyTimes();
+        //The broker must be notified when the first Cloudlet starts running and when the last one stops
+        broker.updateVmIdleness(vm);
+        EasyMock.expectLastCall().times(2);
+        EasyMock.replay(broker);
+        vm.setBroker(broker);
+
+        final Cloudlet cloudlet = CloudletTestUtil.createCloudlet(0, 1000, 1);
+        cloudlet.assignToDatacenter(Datacenter.NULL);
+        scheduler.cloudletSubmit(cloudlet);
+        assertEquals(cloudlet, stopFunction.apply(scheduler, cloudlet));
+        assertTrue(scheduler.getCloudletExecList().isEmpty());
+        EasyMock.verify(broker);
+    }
 }
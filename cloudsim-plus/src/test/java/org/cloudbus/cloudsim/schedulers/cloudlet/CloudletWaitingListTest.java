@@ -0,0 +1,99 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.cloudlets.CloudletTestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public class CloudletWaitingListTest {
+    @Test
+    public void testAddKeepsInsertionOrderAndIgnoresDuplicates() {
+        final CloudletWaitingList list = createList(3);
+        final CloudletExecution first = list.get(0);
+
+        assertFalse(list.add(first));
+        assertEquals(List.of(0L, 1L, 2L), getIds(list));
+    }
+
+    @Test
+    public void testRemoveFromTheMiddle() {
+        final CloudletWaitingList list = createList(4);
+        final CloudletExecution cle = list.get(2);
+
+        assertTrue(list.remove(cle));
+        assertFalse(list.contains(cle));
+        assertFalse(list.remove(cle));
+        assertEquals(List.of(0L, 1L, 3L), getIds(list));
+
+        list.add(cle);
+        assertEquals(List.of(0L, 1L, 3L, 2L), getIds(list));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        final CloudletWaitingList list = createList(4);
+        final Iterator<CloudletExecution> it = list.iterator();
+        while (it.hasNext()) {
+            if(it.next().getCloudletId() % 2 == 0) {
+                it.remove();
+            }
+        }
+
+        assertEquals(List.of(1L, 3L), getIds(list));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    public void testListIteratorFromTheEnd() {
+        final CloudletWaitingList list = createList(4);
+        final ListIterator<CloudletExecution> it = list.listIterator(list.size());
+
+        assertFalse(it.hasNext());
+        assertEquals(3, it.previous().getCloudletId());
+        it.remove();
+        assertEquals(2, it.previous().getCloudletId());
+        assertEquals(List.of(0L, 1L, 2L), getIds(list));
+    }
+
+    @Test
+    public void testSort() {
+        final CloudletWaitingList list = createList(4);
+        list.sort(Comparator.comparingLong(CloudletExecution::getCloudletId).reversed());
+        assertEquals(List.of(3L, 2L, 1L, 0L), getIds(list));
+
+        list.remove(list.get(1));
+        assertEquals(List.of(3L, 1L, 0L), getIds(list));
+    }
+
+    @Test
+    public void testClear() {
+        final CloudletWaitingList list = createList(3);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+    }
+
+    private static CloudletWaitingList createList(final int size) {
+        final CloudletWaitingList list = new CloudletWaitingList();
+        for (int id = 0; id < size; id++) {
+            list.add(new CloudletExecution(CloudletTestUtil.createCloudletWithOnePe(id)));
+        }
+
+        return list;
+    }
+
+    private static List<Long> getIds(final List<CloudletExecution> list) {
+        return list.stream().map(CloudletExecution::getCloudletId).collect(toList());
+    }
+}
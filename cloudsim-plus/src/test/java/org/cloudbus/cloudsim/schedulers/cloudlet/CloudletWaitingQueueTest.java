@@ -0,0 +1,79 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.cloudlets.CloudletTestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+public class CloudletWaitingQueueTest {
+    private static final Comparator<CloudletExecution> BY_PRIORITY =
+        Comparator.comparingInt(cle -> cle.getCloudlet().getPriority());
+
+    @Test
+    public void testFindFirstReturnsTheFirstCloudletThatFits() {
+        final CloudletWaitingQueue queue = new CloudletWaitingQueue(BY_PRIORITY);
+        final CloudletExecution cle4Pes = newCloudlet(0, 4, 1);
+        final CloudletExecution cle2Pes = newCloudlet(1, 2, 2);
+        final CloudletExecution cle1Pe = newCloudlet(2, 1, 3);
+        queue.add(cle4Pes);
+        queue.add(cle2Pes);
+        queue.add(cle1Pe);
+
+        assertFalse(queue.findFirst(0).isPresent());
+        assertSame(cle1Pe, queue.findFirst(1).get());
+        assertSame(cle2Pes, queue.findFirst(3).get());
+        assertSame(cle4Pes, queue.findFirst(4).get());
+
+        queue.update(cle1Pe.getCloudlet(), () -> cle1Pe.getCloudlet().setPriority(0));
+        assertSame(cle1Pe, queue.findFirst(4).get());
+
+        queue.clear();
+        assertFalse(queue.findFirst(4).isPresent());
+        queue.add(cle2Pes);
+        assertSame(cle2Pes, queue.findFirst(4).get());
+    }
+
+    @Test
+    public void testFindFirstIsEqualToScanningAllCloudlets() {
+        final Random random = new Random(1);
+        final int[] pesValues = {1, 2, 3, 5, 8, 13};
+        final CloudletWaitingQueue queue = new CloudletWaitingQueue(BY_PRIORITY);
+        /*Cloudlets in the queue, in the order they were added.*/
+        final List<CloudletExecution> added = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            final int operation = random.nextInt(10);
+            if (operation < 4 || added.isEmpty()) {
+                final int pes = pesValues[random.nextInt(pesValues.length)];
+                final CloudletExecution cle = newCloudlet(i, pes, random.nextInt(5));
+                queue.add(cle);
+                added.add(cle);
+            } else if (operation < 6) {
+                assertTrue(queue.remove(added.remove(random.nextInt(added.size()))));
+            } else if (operation < 7) {
+                final Cloudlet cloudlet = added.get(random.nextInt(added.size())).getCloudlet();
+                queue.update(cloudlet, () -> cloudlet.setPriority(random.nextInt(5)));
+            }
+
+            final long freePes = random.nextInt(15);
+            assertEquals(scan(added, freePes), queue.findFirst(freePes), "free PEs: " + freePes);
+        }
+    }
+
+    private static Optional<CloudletExecution> scan(final List<CloudletExecution> added, final long freePes) {
+        return added.stream().filter(cle -> cle.getNumberOfPes() <= freePes).min(BY_PRIORITY);
+    }
+
+    private static CloudletExecution newCloudlet(final int id, final int pes, final int priority) {
+        final Cloudlet cloudlet = CloudletTestUtil.createCloudlet(id, pes);
+        cloudlet.setPriority(priority);
+        return new CloudletExecution(cloudlet);
+    }
+}
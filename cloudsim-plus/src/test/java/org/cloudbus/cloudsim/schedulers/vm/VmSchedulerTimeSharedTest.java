@@ -185,4 +185,36 @@ public class VmSchedulerTimeSharedTest {
         final long expectedBusyPes = vm1.getNumberOfPes();
         assertEquals(expectedBusyPes, vmScheduler.getHost().getBusyPeList().size(), "Number of busy Host PEs:");
     }
+
+    @Test
+    public void testTotalRequestedMipsIsUpdatedIncrementally() {
+        final int HOST_PES = 8;
+        vmScheduler = createVmScheduler(MIPS, HOST_PES);
+        assertEquals(0, vmScheduler.getTotalRequestedMips());
+
+        vmScheduler.allocatePesForVm(vm0, new MipsShare(2, 250));
+        vmScheduler.allocatePesForVm(vm1, new MipsShare(2, 500));
+        assertEquals(1500, vmScheduler.getTotalRequestedMips());
+
+        //Requesting MIPS again for the same VM replaces its previous request
+        vmScheduler.allocatePesForVm(vm0, new MipsShare(2, 100));
+        assertEquals(1200, vmScheduler.getTotalRequestedMips());
+
+        vmScheduler.deallocatePesFromVm(vm1, 1);
+        assertEquals(700, vmScheduler.getTotalRequestedMips());
+
+        vmScheduler.deallocatePesFromVm(vm0);
+        assertEquals(500, vmScheduler.getTotalRequestedMips());
+
+        vmScheduler.deallocatePesForAllVms();
+        assertEquals(0, vmScheduler.getTotalRequestedMips());
+    }
+
+    @Test
+    public void testTotalRequestedMipsDoesNotIncludeVmsNotAllocated() {
+        vmScheduler.allocatePesForVm(vm0, new MipsShare(2, 250));
+        //The Host doesn't have enough MIPS for such a request
+        assertFalse(vmScheduler.allocatePesForVm(vm1, new MipsShare(2, MIPS * 2)));
+        assertEquals(500, vmScheduler.getTotalRequestedMips());
+    }
 }
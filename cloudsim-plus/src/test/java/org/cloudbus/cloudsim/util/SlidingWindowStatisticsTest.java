@@ -0,0 +1,60 @@
+package org.cloudbus.cloudsim.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlidingWindowStatisticsTest {
+    @Test
+    public void testWindowKeepsJustTheLastValues() {
+        final SlidingWindowStatistics window = new SlidingWindowStatistics(3);
+        assertTrue(window.isEmpty());
+        window.add(1);
+        window.add(2);
+        assertFalse(window.isFull());
+        window.add(3);
+        window.add(4);
+        assertTrue(window.isFull());
+        assertArrayEquals(new double[]{2, 3, 4}, window.getValues());
+    }
+
+    @Test
+    public void testMadAndIqrAreEqualToMathUtil() {
+        final SlidingWindowStatistics window1 = new SlidingWindowStatistics(MathUtilTest.DATA1.length);
+        for (final double value : MathUtilTest.DATA1) {
+            window1.add(value);
+        }
+        assertEquals(MathUtilTest.IQR1, window1.getIqr());
+
+        final SlidingWindowStatistics window3 = new SlidingWindowStatistics(MathUtilTest.DATA3.length);
+        for (final double value : MathUtilTest.DATA3) {
+            window3.add(value);
+        }
+        assertEquals(MathUtilTest.MAD, window3.getMad());
+    }
+
+    @Test
+    public void testStatisticsAreEqualToMathUtilWhileWindowSlides() {
+        final Random random = new Random(1);
+        for (int capacity = 1; capacity <= 20; capacity++) {
+            final SlidingWindowStatistics window = new SlidingWindowStatistics(capacity);
+            for (int i = 0; i < 5 * capacity; i++) {
+                /*Rounds some values to force repeated ones inside the window.*/
+                final double value = i % 3 == 0 ? Math.round(random.nextDouble() * 4) / 4.0 : random.nextDouble();
+                window.add(value);
+                assertStatisticsEqualToMathUtil(window);
+            }
+        }
+    }
+
+    private void assertStatisticsEqualToMathUtil(final SlidingWindowStatistics window) {
+        final double[] values = window.getValues();
+        assertEquals(MathUtil.median(values), window.getMedian());
+        assertEquals(MathUtil.mad(values), window.getMad());
+        if (values.length > 1) {
+            assertEquals(MathUtil.iqr(window.getValues()), window.getIqr());
+        }
+    }
+}
@@ -4,10 +4,15 @@ import org.cloudbus.cloudsim.util.Conversion;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.cloudbus.cloudsim.utilizationmodels.TestUtil.checkUtilization;
 import static org.cloudbus.cloudsim.utilizationmodels.TestUtil.createUtilizationModel;
 import static org.cloudbus.cloudsim.utilizationmodels.UtilizationModel.Unit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * @author Manoel Campos da Silva Filho
@@ -168,4 +173,53 @@ public class UtilizationModelDynamicTest {
             () -> Assertions.assertThrows(IllegalArgumentException.class, () -> instance.setMaxResourceUtilization(-0.1))
         );
     }
+
+    @Test
+    public void testUpdateFunctionReceivesNewReadOnlyCopyWithCurrentState() {
+        final List<UtilizationModelDynamic> receivedModels = new ArrayList<>();
+        final UtilizationModelDynamic instance = new UtilizationModelDynamic(0.1);
+        instance.setUtilizationUpdateFunction(um -> {
+            receivedModels.add(um);
+            return um.getUtilization() + um.getTimeSpan() * 0.1;
+        });
+
+        assertEquals(0.2, instance.getUtilization(1), 0.0001);
+        assertEquals(0.4, instance.getUtilization(3), 0.0001);
+        assertEquals(2, receivedModels.size());
+        assertNotSame(instance, receivedModels.get(0));
+        assertNotSame(receivedModels.get(0), receivedModels.get(1));
+        assertEquals(0.1, receivedModels.get(0).getUtilization(), 0.0001);
+        assertEquals(0.2, receivedModels.get(1).getUtilization(), 0.0001);
+    }
+
+    @Test
+    public void testViewUpdateFunctionReceivesTheSameViewWithCurrentState() {
+        final List<UtilizationModelDynamicView> receivedViews = new ArrayList<>();
+        final List<Double> receivedUtilizations = new ArrayList<>();
+        final UtilizationModelDynamic instance = new UtilizationModelDynamic(0.1);
+        instance.setUtilizationViewUpdateFunction(view -> {
+            receivedViews.add(view);
+            receivedUtilizations.add(view.getUtilization());
+            return view.getUtilization() + view.getTimeSpan() * 0.1;
+        });
+
+        assertEquals(0.2, instance.getUtilization(1), 0.0001);
+        assertEquals(0.4, instance.getUtilization(3), 0.0001);
+        assertEquals(0.4, instance.getUtilization(3), 0.0001);
+        assertEquals(2, receivedViews.size());
+        assertSame(receivedViews.get(0), receivedViews.get(1));
+        assertEquals(List.of(0.1, 0.2), receivedUtilizations);
+        assertEquals(0.4, receivedViews.get(0).getUtilization(), 0.0001);
+    }
+
+    @Test
+    public void testCopyKeepsViewUpdateFunction() {
+        final UtilizationModelDynamic source = new UtilizationModelDynamic(0.1)
+            .setUtilizationViewUpdateFunction(view -> view.getUtilization() + view.getTimeSpan() * 0.1);
+        final UtilizationModelDynamic copy = new UtilizationModelDynamic(source, 0.5);
+        assertEquals(0.6, copy.getUtilization(1), 0.0001);
+
+        source.setUtilizationUpdateFunction(um -> um.getUtilization());
+        assertEquals(0.1, source.getUtilization(1), 0.0001);
+    }
 }
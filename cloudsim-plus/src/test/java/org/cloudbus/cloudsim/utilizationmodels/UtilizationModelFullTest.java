@@ -3,6 +3,7 @@ package org.cloudbus.cloudsim.utilizationmodels;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  *
@@ -23,4 +24,8 @@ public class UtilizationModelFullTest {
         }
     }
 
+    @Test
+    public void testIsTimeInvariant() {
+        assertTrue(new UtilizationModelFull().isTimeInvariant());
+    }
 }
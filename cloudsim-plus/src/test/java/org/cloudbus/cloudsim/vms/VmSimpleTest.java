@@ -220,6 +220,22 @@ public class VmSimpleTest {
         assertEquals(expectedNextCompletionTime, actualNextCompletionTime);
     }
 
+    /**
+     * Checks that the next update isn't lost when the delay given by the scheduler
+     * is equal to the decimals of the current time (which would make the delay zero).
+     */
+    @Test
+    public void testUpdateVmProcessingWhenDelayIsEqualToCurrentTimeDecimals() {
+        final double delay = 0.25;
+        final CloudletScheduler scheduler = EasyMock.createNiceMock(CloudletScheduler.class);
+        EasyMock.expect(scheduler.updateProcessing(EasyMock.anyDouble(), EasyMock.anyObject())).andReturn(delay);
+        EasyMock.replay(scheduler);
+
+        final VmSimple vm0 = VmTestUtil.createVm(scheduler);
+        vm0.setBroker(vm.getBroker());
+        assertEquals(delay, vm0.updateProcessing(10.25, new MipsShare(1.0)));
+    }
+
     @Test
     public void testIsCreated() {
         vm.setCreated(true);
@@ -0,0 +1,112 @@
+package org.cloudbus.cloudsim.vms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class VmSlotMapTest {
+    @Test
+    public void testMapsSharingIndexAssignSameSlot() {
+        final VmSlotIndex index = new VmSlotIndex();
+        final VmSlotLongMap ram = new VmSlotLongMap(index);
+        final VmSlotMap<String> mips = new VmSlotMap<>(index);
+        final Vm vm0 = new VmSimple(0, 1000, 1);
+        final Vm vm1 = new VmSimple(1, 1000, 1);
+
+        ram.putLong(vm0, 10);
+        ram.putLong(vm1, 20);
+        mips.put(vm1, "vm1");
+        assertEquals(1, index.slotOf(vm1));
+        assertEquals(2, index.size());
+
+        ram.remove(vm1);
+        assertEquals(1, index.slotOf(vm1), "The slot must be kept while another map has a value for the VM");
+        mips.remove(vm1);
+        assertEquals(-1, index.slotOf(vm1));
+        assertEquals(1, index.size());
+        assertEquals(10, ram.getLong(vm0));
+        assertEquals(0, ram.getLong(vm1));
+    }
+
+    @Test
+    public void testFreedSlotIsReused() {
+        final VmSlotIndex index = new VmSlotIndex();
+        final VmSlotLongMap map = new VmSlotLongMap(index);
+        final Vm vm0 = new VmSimple(0, 1000, 1);
+        final Vm vm1 = new VmSimple(1, 1000, 1);
+        final Vm vm2 = new VmSimple(2, 1000, 1);
+
+        map.putLong(vm0, 1);
+        map.putLong(vm1, 2);
+        map.remove(vm0);
+        map.putLong(vm2, 3);
+        assertEquals(0, index.slotOf(vm2));
+        assertEquals(2, index.getCapacity());
+        assertEquals(Map.of(vm1, 2L, vm2, 3L), map);
+    }
+
+    @Test
+    public void testEntrySetIteratorWritesThrough() {
+        final VmSlotLongMap map = new VmSlotLongMap(new VmSlotIndex());
+        final List<Vm> vms = List.of(new VmSimple(0, 1000, 1), new VmSimple(1, 1000, 1), new VmSimple(2, 1000, 1));
+        vms.forEach(vm -> map.putLong(vm, vm.getId()));
+
+        final Iterator<Map.Entry<Vm, Long>> iterator = map.entrySet().iterator();
+        iterator.next().setValue(100L);
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(2, map.size());
+        assertEquals(100, map.getLong(vms.get(0)));
+        assertFalse(map.containsKey(vms.get(1)));
+        assertEquals(List.of(vms.get(0), vms.get(2)), List.copyOf(map.keySet()));
+    }
+
+    @Test
+    public void testSetSlotIndexMovesEntries() {
+        final VmSlotIndex previous = new VmSlotIndex();
+        final VmSlotIndex next = new VmSlotIndex();
+        final VmSlotLongMap map = new VmSlotLongMap(previous);
+        final Vm vm = new VmSimple(0, 1000, 1);
+        map.putLong(vm, 10);
+
+        map.setSlotIndex(next);
+        assertEquals(0, previous.size());
+        assertEquals(0, next.slotOf(vm));
+        assertEquals(10, map.getLong(vm));
+    }
+
+    @Test
+    public void testVmWithoutOwnSlotsIsKeptByTheIndex() {
+        final VmSlotIndex index = new VmSlotIndex();
+        final VmSlotLongMap map = new VmSlotLongMap(index);
+        map.putLong(Vm.NULL, 10);
+
+        assertSame(VmSlots.NULL, Vm.NULL.getSlots());
+        assertEquals(0, index.slotOf(Vm.NULL));
+        assertEquals(10, map.getLong(Vm.NULL));
+        assertEquals(-1, new VmSlotIndex().slotOf(Vm.NULL), "The slot of a VM without own slots must not leak to other indexes");
+
+        map.remove(Vm.NULL);
+        assertEquals(-1, index.slotOf(Vm.NULL));
+    }
+
+    @Test
+    public void testMapGivenNullIndexUsesPrivateIndex() {
+        final VmSlotLongMap map = new VmSlotLongMap(VmSlotIndex.NULL);
+        final Vm vm = new VmSimple(0, 1000, 1);
+        map.putLong(vm, 10);
+
+        assertNotSame(VmSlotIndex.NULL, map.getSlotIndex());
+        assertEquals(-1, VmSlotIndex.NULL.slotOf(vm));
+        assertEquals(10, map.getLong(vm));
+        assertThrows(UnsupportedOperationException.class, () -> VmSlotIndex.NULL.acquire(vm));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.power.PowerMeter;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Processor;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+class VmScalingCoordinatorTest {
+    private static final int VMS = 3;
+    private static final double MAX_FINISH_TIME = 10000;
+
+    @Test
+    void scalesOverloadedVmsUp() {
+        final CloudSim simulation = new CloudSim();
+        final List<Vm> vmList = createScenario(simulation);
+        simulation.start();
+
+        vmList.forEach(vm -> assertEquals(2, vm.getNumberOfPes(), vm + " number of PEs"));
+    }
+
+    /**
+     * Checks that the coordinator and a {@link PowerMeter} don't keep each other
+     * scheduling their periodic events after all Cloudlets finish.
+     */
+    @Test
+    void stopsEvaluatingWhenJustPeriodicEventsAreLeft() {
+        final CloudSim simulation = new CloudSim();
+        createScenario(simulation);
+        /* Measurements not aligned with evaluations, so that each entity
+         * finds the other one's event into the future queue when rescheduling. */
+        new PowerMeter(simulation, new ArrayList<>(simulation.getCloudInfoService().getDatacenterList()))
+            .setMeasurementInterval(0.7);
+        //Stops the simulation in case the entities keep each other running
+        simulation.addOnClockTickListener(info -> {
+            if(info.getTime() >= MAX_FINISH_TIME) {
+                simulation.terminate();
+            }
+        });
+        final double finishTime = simulation.start();
+
+        assertTrue(finishTime < 100, "Simulation finish time: " + finishTime);
+        //The CloudInformationService notifies Datacenters about the end of the simulation after it finishes
+        assertFalse(simulation.isThereAnyFutureEvt(evt -> evt.getTag() != CloudSimTags.END_OF_SIMULATION));
+    }
+
+    private static List<Vm> createScenario(final CloudSim simulation) {
+        final List<Host> hostList = new ArrayList<>();
+        hostList.add(createHost());
+        new DatacenterSimple(simulation, hostList);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final List<Vm> vmList = new ArrayList<>();
+        final List<Cloudlet> cloudletList = new ArrayList<>();
+        for (int i = 0; i < VMS; i++) {
+            final Vm vm = new VmSimple(1000, 1).setRam(512).setBw(1000).setSize(1000);
+            vm.setPeVerticalScaling(createPeScaling());
+            vmList.add(vm);
+            cloudletList.add(new CloudletSimple(10000, 1, new UtilizationModelFull()));
+        }
+
+        final VmScalingCoordinator coordinator = new VmScalingCoordinator(broker, 1).register(vmList);
+        assertEquals(broker, coordinator.getBroker());
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        return vmList;
+    }
+
+    @Test
+    void registeredScalingIsCoordinated() {
+        final DatacenterBroker broker = new DatacenterBrokerSimple(new CloudSim());
+        final Vm vm = new VmSimple(1000, 1);
+        final VerticalVmScalingSimple scaling = createPeScaling();
+        vm.setPeVerticalScaling(scaling);
+        assertFalse(scaling.isCoordinated());
+
+        new VmScalingCoordinator(broker, 1).register(vm);
+        assertTrue(scaling.isCoordinated());
+    }
+
+    @Test
+    void registerVmWithUnsupportedScaling() {
+        final CloudSim simulation = new CloudSim();
+        final VmScalingCoordinator coordinator = new VmScalingCoordinator(new DatacenterBrokerSimple(simulation), 1);
+        final Vm vm = new VmSimple(1000, 1);
+        final VerticalVmScaling scaling = EasyMock.createNiceMock(VerticalVmScaling.class);
+        EasyMock.replay(scaling);
+        vm.setRamVerticalScaling(scaling);
+        assertThrows(IllegalArgumentException.class, () -> coordinator.register(vm));
+    }
+
+    @Test
+    void invalidScalingInterval() {
+        final DatacenterBroker broker = new DatacenterBrokerSimple(new CloudSim());
+        assertThrows(IllegalArgumentException.class, () -> new VmScalingCoordinator(broker, 0));
+    }
+
+    private static VerticalVmScalingSimple createPeScaling() {
+        final VerticalVmScalingSimple scaling = new VerticalVmScalingSimple(Processor.class, 1);
+        scaling.setLowerThresholdFunction(vm -> 0.0);
+        scaling.setUpperThresholdFunction(vm -> 0.7);
+        return scaling;
+    }
+
+    private static Host createHost() {
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < VMS * 2; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        return new HostSimple(10000, 100000, 1000000, peList);
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.faultinjection;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+class HostFaultInjectionTest {
+    private static final int HOST_PES = 16;
+    private static final int[] VM_PES = {1, 2, 3, 1, 2, 1, 2, 1, 3};
+
+    /**
+     * Fault arrivals far after the end of the tests,
+     * so that just the faults the tests generate happen.
+     */
+    private static final double FAULT_ARRIVAL_HOURS = 1000;
+
+    private CloudSim simulation;
+    private DatacenterSimple datacenter;
+    private DatacenterBroker broker;
+    private HostFaultInjection fault;
+
+    @BeforeAll
+    static void setUpClass() {
+        Log.setLevel(Level.OFF);
+    }
+
+    @Test
+    void testFailedPesAreRemovedFromVmsInTheSameOrderAsRebuildingTheVmList() {
+        for (int pesToRemove = 0; pesToRemove <= HOST_PES + 1; pesToRemove++) {
+            final int[] pes = VM_PES.clone();
+            final List<Integer> vms = IntStream.range(0, pes.length).boxed().collect(toList());
+            final List<Integer> visitedVms = new ArrayList<>();
+            HostFaultInjection.cyclicallyRemovePes(vms, pesToRemove, vm -> {
+                visitedVms.add(vm);
+                return --pes[vm] > 0;
+            });
+
+            final List<Integer> expectedVisitedVms = new ArrayList<>();
+            final int[] expectedPes = removePesRebuildingVmList(VM_PES, pesToRemove, expectedVisitedVms);
+            assertEquals(expectedVisitedVms, visitedVms, "PEs to remove: " + pesToRemove);
+            assertArrayEquals(expectedPes, pes, "PEs to remove: " + pesToRemove);
+        }
+    }
+
+    /**
+     * Checks the removal order when a VM may keep its PE after a removal request,
+     * such as when the PE isn't allocated to the VM processor.
+     */
+    @Test
+    void testFailedPesRemovalOrderWhenSomeRemovalDoesNotReduceVmPes() {
+        final int pesToRemove = 12;
+        final int[] pes = VM_PES.clone();
+        final List<Integer> vms = IntStream.range(0, pes.length).boxed().collect(toList());
+        final List<Integer> visitedVms = new ArrayList<>();
+        HostFaultInjection.cyclicallyRemovePes(vms, pesToRemove, vm -> {
+            visitedVms.add(vm);
+            if(vm != 0) {
+                pes[vm]--;
+            }
+            return pes[vm] > 0;
+        });
+
+        final List<Integer> expectedVisitedVms = new ArrayList<>();
+        int remaining = pesToRemove;
+        final int[] expectedPes = VM_PES.clone();
+        List<Integer> vmsWithPes = vmsWithPes(expectedPes);
+        int idx = 0;
+        while (!vmsWithPes.isEmpty() && remaining > 0) {
+            remaining--;
+            idx = idx % vmsWithPes.size();
+            final int vm = vmsWithPes.get(idx);
+            expectedVisitedVms.add(vm);
+            if(vm != 0) {
+                expectedPes[vm]--;
+            }
+            idx++;
+            vmsWithPes = vmsWithPes(expectedPes);
+        }
+
+        assertEquals(expectedVisitedVms, visitedVms);
+        assertArrayEquals(expectedPes, pes);
+    }
+
+    /**
+     * Removes failed PEs from VMs as HostFaultInjection used to do:
+     * visiting one VM at a time in a circular list which is rebuilt
+     * with the VMs having PEs after every PE removal.
+     *
+     * @param vmPes the number of PEs of each VM
+     * @param pesToRemove the number of PEs to remove
+     * @param visitedVms a list to add the index of each visited VM
+     * @return the number of PEs of each VM after the removal
+     */
+    private static int[] removePesRebuildingVmList(final int[] vmPes, int pesToRemove, final List<Integer> visitedVms) {
+        final int[] pes = vmPes.clone();
+        List<Integer> vmsWithPes = vmsWithPes(pes);
+        int idx = 0;
+        while (!vmsWithPes.isEmpty() && pesToRemove > 0) {
+            pesToRemove--;
+            idx = idx % vmsWithPes.size();
+            visitedVms.add(vmsWithPes.get(idx));
+            pes[vmsWithPes.get(idx)]--;
+            idx++;
+            vmsWithPes = vmsWithPes(pes);
+        }
+
+        return pes;
+    }
+
+    private static List<Integer> vmsWithPes(final int[] pes) {
+        return IntStream.range(0, pes.length).filter(i -> pes[i] > 0).boxed().collect(toList());
+    }
+
+    @Test
+    void testMeanTimeBetweenHostFaultsWithoutFaults() {
+        createScenario(singletonList(HOST_PES), VM_PES);
+        runUntil(1);
+        assertEquals(0, fault.meanTimeBetweenHostFaultsInMinutes());
+    }
+
+    @Test
+    void testMeanTimeBetweenHostFaultsIsTheSameAsSummingSortedDifferences() {
+        createScenario(Arrays.asList(HOST_PES, HOST_PES, HOST_PES), VM_PES);
+        final double[] faultTimes = {600, 1500, 4200, 4260, 9000};
+        for (int i = 0; i < faultTimes.length; i++) {
+            faultTimes[i] = runUntil(faultTimes[i]);
+            fault.generateHostFault(datacenter.getHost(i % datacenter.getHostList().size()), 1);
+            assertEquals(meanTimeBetweenFaults(Arrays.copyOf(faultTimes, i + 1)), fault.meanTimeBetweenHostFaultsInMinutes());
+        }
+
+        assertEquals(faultTimes.length, fault.getNumberOfHostFaults());
+    }
+
+    /**
+     * Computes the MTBF as HostFaultInjection used to do:
+     * summing the differences between each sorted failure time and the previous one.
+     *
+     * @param faultTimes the failure times (in seconds)
+     * @return the MTBF in minutes
+     */
+    private static double meanTimeBetweenFaults(final double[] faultTimes) {
+        final double[] sorted = faultTimes.clone();
+        Arrays.sort(sorted);
+        double sum = 0;
+        double previous = sorted[0];
+        for (final double time : sorted) {
+            sum += time - previous;
+            previous = time;
+        }
+
+        return (long) (sum / sorted.length / 60.0);
+    }
+
+    @Test
+    void testRecoveryTimesSumsAreTheSameAsSummingEveryVmRecoveryTime() {
+        final HostFaultInjection.RecoveryTimes times = new HostFaultInjection.RecoveryTimes();
+        final Map<Integer, Double> recoveryTimeSecsMap = new HashMap<>();
+        final Random random = new Random(7);
+        double clock = 0;
+        for (int i = 0; i < 1000; i++) {
+            clock += random.nextInt(100);
+
+            /* Replaces the recovery time of VMs already stored sometimes
+             * and stores failure times of unrecovered VMs as negative values. */
+            final int vm = random.nextInt(50);
+            final double secs = random.nextBoolean() ? random.nextInt(3600) : -clock;
+            final Double previousSecs = recoveryTimeSecsMap.put(vm, secs);
+            if(previousSecs != null) {
+                times.remove(previousSecs);
+            }
+            times.add(secs);
+
+            assertEquals(totalRecoveryTime(recoveryTimeSecsMap, clock), times.total(clock), 1e-6);
+        }
+    }
+
+    /**
+     * Computes the total recovery time as HostFaultInjection used to do,
+     * considering that unrecovered VMs are recovered at the current time.
+     */
+    private static double totalRecoveryTime(final Map<Integer, Double> recoveryTimeSecsMap, final double clock) {
+        return recoveryTimeSecsMap.values().stream()
+                                  .map(secs -> secs >= 0 ? secs : clock - Math.abs(secs))
+                                  .reduce(0.0, Double::sum);
+    }
+
+    @Test
+    void testMeanTimeToRepairVmFaultsWhenAllVmsFail() {
+        final List<Vm> vmList = createScenario(Arrays.asList(4, 4), 2);
+        final List<Vm> clones = new ArrayList<>();
+        final VmCloner cloner = new VmClonerSimple(
+            vm -> {
+                final Vm clone = new VmSimple(1000, vm.getNumberOfPes()).setRam(512).setBw(1000).setSize(1000);
+                clones.add(clone);
+                return clone;
+            },
+            vm -> singletonList(new CloudletSimple(1_000_000, 1)));
+        fault.addVmCloner(broker, cloner);
+
+        runUntil(60);
+        fault.generateHostFault(vmList.get(0).getHost());
+        assertTrue(vmList.get(0).isFailed());
+        assertEquals(1, fault.getNumberOfFaults(broker));
+        assertEquals(1, clones.size());
+
+        final double recoveryTimeSecs = clones.get(0).getSubmissionDelay();
+        runUntil(60 + recoveryTimeSecs + 60);
+        assertTrue(clones.get(0).isCreated());
+
+        final double expectedMttr = (long) (recoveryTimeSecs / 60.0);
+        assertEquals(expectedMttr, fault.meanTimeToRepairVmFaultsInMinutes(broker));
+        assertEquals(expectedMttr, fault.meanTimeToRepairVmFaultsInMinutes());
+
+        final double expectedMtbf = simulation.clockInMinutes() - expectedMttr;
+        assertEquals(expectedMtbf, fault.meanTimeBetweenVmFaultsInMinutes(broker));
+        assertEquals(expectedMtbf / (expectedMtbf + expectedMttr), fault.availability(broker));
+    }
+
+    /**
+     * Creates a simulation with Hosts having a given number of PEs
+     * and VMs with a given number of PEs, each one running a long Cloudlet.
+     * It starts the simulation without running it.
+     *
+     * @param hostPes the number of PEs of each Host
+     * @param vmPes the number of PEs of each VM
+     * @return the list of created VMs
+     */
+    private List<Vm> createScenario(final List<Integer> hostPes, final int... vmPes) {
+        simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>();
+        for (final int pes : hostPes) {
+            final List<Pe> peList = new ArrayList<>();
+            for (int i = 0; i < pes; i++) {
+                peList.add(new PeSimple(1000));
+            }
+            hostList.add(new HostSimple(32768, 100000, 1000000, peList));
+        }
+
+        datacenter = new DatacenterSimple(simulation, hostList);
+        broker = new DatacenterBrokerSimple(simulation);
+
+        final List<Vm> vmList = new ArrayList<>();
+        final List<Cloudlet> cloudletList = new ArrayList<>();
+        for (final int pes : vmPes) {
+            final Vm vm = new VmSimple(1000, pes).setRam(512).setBw(1000).setSize(1000);
+            final Cloudlet cloudlet = new CloudletSimple(1_000_000, 1);
+            cloudlet.setVm(vm);
+            vmList.add(vm);
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+
+        fault = new HostFaultInjection(datacenter, new UniformDistr(FAULT_ARRIVAL_HOURS, FAULT_ARRIVAL_HOURS + 1));
+        simulation.startSync();
+        return vmList;
+    }
+
+    /**
+     * Runs the simulation (started in synchronous mode) until a given time.
+     * @param time the time to run the simulation until
+     * @return the simulation clock
+     */
+    private double runUntil(final double time) {
+        while (simulation.isRunning() && simulation.clock() < time) {
+            simulation.runFor(time - simulation.clock());
+        }
+
+        return simulation.clock();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.instrumentation;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class MetricsRegistrySimpleTest {
+    @Test
+    public void testHistogram() {
+        final Histogram histogram = new MetricsRegistrySimple().histogram("h");
+        histogram.record(0);
+        histogram.record(3);
+        histogram.record(5);
+        histogram.record(100);
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(108, histogram.getSum());
+        assertEquals(0, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(27, histogram.getMean());
+        assertEquals(3, histogram.getPercentile(0.5));
+        assertEquals(100, histogram.getPercentile(0.99));
+    }
+
+    @Test
+    public void testTimerNameClashWithHistogram() {
+        final MetricsRegistry metrics = new MetricsRegistrySimple();
+        assertSame(metrics.timer("t"), metrics.timer("t"));
+        metrics.histogram("h");
+        assertThrows(IllegalArgumentException.class, () -> metrics.timer("h"));
+    }
+
+    @Test
+    public void testNullRegistryCollectsNothing() {
+        final Timer timer = MetricsRegistry.NULL.timer("t");
+        timer.stop(timer.start());
+        MetricsRegistry.NULL.counter("c").increment();
+
+        assertEquals(0, timer.getCount());
+        assertEquals(0, Counter.NULL.get());
+        assertTrue(MetricsRegistry.NULL.getHistograms().isEmpty());
+    }
+
+    @Test
+    public void testExport() {
+        final MetricsRegistry metrics = new MetricsRegistrySimple();
+        metrics.eventCounter(CloudSimTags.CLOUDLET_SUBMIT).add(2);
+        metrics.histogram("a,b").record(1);
+
+        assertEquals(
+            "{\"counters\":{\"events.CLOUDLET_SUBMIT\":2},\"histograms\":{\"a,b\":{\"type\":\"histogram\"," +
+            "\"count\":1,\"sum\":1,\"min\":1,\"max\":1,\"mean\":1.00,\"p50\":1,\"p99\":1}}}",
+            metrics.toJson());
+
+        final String[] lines = metrics.toCsv().split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertEquals("counter,events.CLOUDLET_SUBMIT,2,,,,,,", lines[1]);
+        assertEquals("histogram,\"a,b\",1,1,1,1,1.00,1,1", lines[2]);
+    }
+
+    @Test
+    public void testSimulationCollectsMetrics() {
+        final CloudSim simulation = new CloudSim();
+        final MetricsRegistry metrics = new MetricsRegistrySimple();
+        simulation.setMetrics(metrics);
+
+        new DatacenterSimple(simulation, List.of(new HostSimple(10000, 10000, 10000, List.of(new PeSimple(1000)))));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 1));
+        broker.submitCloudlet(new CloudletSimple(1000, 1));
+        simulation.start();
+
+        assertEquals(1, metrics.counter("events.CLOUDLET_SUBMIT").get());
+        assertEquals(1, metrics.timer("vmAllocationPolicy.allocateHostForVm").getCount());
+        assertTrue(metrics.timer("entity." + broker.getName() + ".processEvent").getCount() > 0);
+        assertTrue(metrics.timer("cloudletScheduler.updateProcessing").getCount() > 0);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * An integration test to check that enabling
+ * {@link DatacenterBroker#setBatchRequestsEnabled(boolean) batch requests}
+ * doesn't change simulation results.
+ * The same scenario is run with batch requests disabled and enabled.
+ * The first Datacenter isn't able to place all VMs, so that
+ * the remaining ones must be created in a fallback Datacenter.
+ * Some VMs and Cloudlets are submitted with a delay, so that
+ * different batches are sent for them.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BatchRequestsIntegrationTest {
+    private static final int HOST_PES = 4;
+    private static final int VM_PES = 2;
+    private static final int VMS = 12;
+    private static final int CLOUDLETS = VMS * 2;
+    private static final long CLOUDLET_LENGTH = 10000;
+    private static final double DELAY = 5;
+
+    private SimulationResult singleRequestsResult;
+    private SimulationResult batchRequestsResult;
+
+    /**
+     * Results of a simulation run, whose lists are sorted by entity ID.
+     */
+    private static class SimulationResult {
+        private final List<String> vmPlacements = new ArrayList<>();
+        private final List<String> cloudletTimes = new ArrayList<>();
+        private int hostAllocationNotifications;
+        private int creationFailureNotifications;
+        private int cloudletFinishNotifications;
+        private int vmCreationEvents;
+        private int cloudletSubmissionEvents;
+    }
+
+    @BeforeAll
+    void setUp() {
+        Log.setLevel(Level.WARN);
+        singleRequestsResult = runSimulation(false);
+        batchRequestsResult = runSimulation(true);
+    }
+
+    @Test
+    void vmPlacementsAreTheSame() {
+        assertEquals(singleRequestsResult.vmPlacements, batchRequestsResult.vmPlacements);
+    }
+
+    @Test
+    void cloudletTimesAreTheSame() {
+        assertEquals(CLOUDLETS, batchRequestsResult.cloudletTimes.size());
+        assertEquals(singleRequestsResult.cloudletTimes, batchRequestsResult.cloudletTimes);
+    }
+
+    @Test
+    void individualListenersAreNotifiedTheSameWay() {
+        assertEquals(VMS, batchRequestsResult.hostAllocationNotifications);
+        assertEquals(singleRequestsResult.hostAllocationNotifications, batchRequestsResult.hostAllocationNotifications);
+        assertTrue(batchRequestsResult.creationFailureNotifications > 0);
+        assertEquals(singleRequestsResult.creationFailureNotifications, batchRequestsResult.creationFailureNotifications);
+        assertEquals(CLOUDLETS, batchRequestsResult.cloudletFinishNotifications);
+    }
+
+    @Test
+    void batchRequestsSendFewerEvents() {
+        assertTrue(batchRequestsResult.vmCreationEvents < singleRequestsResult.vmCreationEvents);
+        assertTrue(batchRequestsResult.cloudletSubmissionEvents < singleRequestsResult.cloudletSubmissionEvents);
+    }
+
+    private SimulationResult runSimulation(final boolean batchRequestsEnabled) {
+        final SimulationResult result = new SimulationResult();
+        final CloudSim simulation = new CloudSim();
+        simulation.addOnEventProcessingListener(evt -> countEvent(result, evt));
+
+        //The 1st Datacenter can place just half of the VMs
+        createDatacenter(simulation, VMS / 4);
+        createDatacenter(simulation, VMS);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.setBatchRequestsEnabled(batchRequestsEnabled);
+
+        final List<Vm> vmList = IntStream.range(0, VMS).mapToObj(i -> createVm(result, i)).collect(toList());
+        final List<Cloudlet> cloudletList = IntStream.range(0, CLOUDLETS).mapToObj(i -> createCloudlet(result, i)).collect(toList());
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+
+        vmList.forEach(vm -> result.vmPlacements.add(vm + " " + vm.getHost() + " " + vm.getStartTime()));
+        cloudletList.forEach(cl -> result.cloudletTimes.add(
+            String.format("%s %s %.2f %.2f", cl, cl.getVm(), cl.getExecStartTime(), cl.getFinishTime())));
+        return result;
+    }
+
+    private void countEvent(final SimulationResult result, final SimEvent evt) {
+        switch (evt.getTag()) {
+            case CloudSimTags.VM_CREATE_ACK:
+            case CloudSimTags.VM_CREATE_BATCH_ACK:
+                result.vmCreationEvents++;
+                break;
+            case CloudSimTags.CLOUDLET_SUBMIT:
+            case CloudSimTags.CLOUDLET_SUBMIT_BATCH:
+                result.cloudletSubmissionEvents++;
+                break;
+        }
+    }
+
+    private Datacenter createDatacenter(final CloudSim simulation, final int hosts) {
+        final List<Host> hostList = IntStream.range(0, hosts).mapToObj(i -> createHost()).collect(toList());
+        return new DatacenterSimple(simulation, hostList);
+    }
+
+    private Host createHost() {
+        final List<Pe> peList = IntStream.range(0, HOST_PES).mapToObj(i -> new PeSimple(1000)).collect(toList());
+        return new HostSimple(4096, 10000, 100000, peList);
+    }
+
+    /**
+     * Creates a VM where the last quarter of VMs are submitted with a delay.
+     */
+    private Vm createVm(final SimulationResult result, final int id) {
+        final Vm vm = new VmSimple(id, 1000, VM_PES);
+        vm.setRam(512).setBw(1000).setSize(10000);
+        vm.setSubmissionDelay(id >= VMS * 3 / 4 ? DELAY : 0);
+        vm.addOnHostAllocationListener(info -> result.hostAllocationNotifications++);
+        vm.addOnCreationFailureListener(info -> result.creationFailureNotifications++);
+        return vm;
+    }
+
+    /**
+     * Creates a Cloudlet with variable length, where every third Cloudlet is submitted with a delay.
+     */
+    private Cloudlet createCloudlet(final SimulationResult result, final int id) {
+        final Cloudlet cloudlet = new CloudletSimple(id, CLOUDLET_LENGTH * (id % 3 + 1), 1);
+        cloudlet.setUtilizationModel(new UtilizationModelFull()).setSizes(1024);
+        cloudlet.setSubmissionDelay(id % 3 == 0 ? DELAY : 0);
+        cloudlet.addOnFinishListener(info -> result.cloudletFinishNotifications++);
+        return cloudlet;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+class ExperimentWorkerPoolTest {
+    /**
+     * A class whose main method is run by worker JVMs.
+     */
+    private static final class MainStub {
+        public static void main(final String[] args) {/**/}
+    }
+
+    /**
+     * A worker that outputs the index of each requested run as a metric value.
+     * If a file path is given and the file doesn't exist,
+     * it creates the file and hangs on the first run.
+     */
+    static final class EchoWorker {
+        public static void main(final String[] args) throws IOException, InterruptedException {
+            if (args.length > 0 && !Files.exists(Paths.get(args[0]))) {
+                Files.createFile(Paths.get(args[0]));
+                Thread.sleep(Long.MAX_VALUE);
+            }
+
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int run = Integer.parseInt(line.trim());
+                System.out.println(ExperimentWorkerPool.metricLine(run, "run", run));
+                System.out.println(ExperimentWorkerPool.doneLine(run));
+                System.out.flush();
+            }
+        }
+    }
+
+    /**
+     * A worker that never finishes a run.
+     */
+    static final class HangingWorker {
+        public static void main(final String[] args) throws InterruptedException {
+            Thread.sleep(Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void testRunDeliversMetricValuesOfEachRun() {
+        final Map<Integer, Double> values = runPool(EchoWorker.class, 0, Collections.emptyList(), 4);
+        for (int run = 0; run < 4; run++) {
+            assertEquals(run, values.get(run));
+        }
+    }
+
+    @Test
+    void testRunExecutesAgainRunWhoseWorkerTimesOut(@TempDir final Path dir) {
+        final List<String> args = Collections.singletonList(dir.resolve("hung").toString());
+        final Map<Integer, Double> values = runPool(EchoWorker.class, 3000, args, 1);
+        assertEquals(0, values.get(0));
+    }
+
+    @Test
+    void testRunFailsWhenAllAttemptsTimeOut() {
+        final IllegalStateException ex = assertThrows(
+            IllegalStateException.class,
+            () -> runPool(HangingWorker.class, 500, Collections.emptyList(), 1));
+        assertTrue(ex.getMessage().contains("[0]"), ex.getMessage());
+    }
+
+    private static Map<Integer, Double> runPool(
+        final Class<?> workerClass, final long runTimeoutMillis,
+        final List<String> args, final int simulationRuns)
+    {
+        final List<String> command = ExperimentWorkerPool.workerCommand(workerClass, 64, args);
+        final Map<Integer, Double> values = new HashMap<>();
+        new ExperimentWorkerPool(command, 2, runTimeoutMillis)
+            .run(simulationRuns, (run, metric, value) -> values.put(run, value), finishedRuns -> {});
+        return values;
+    }
+
+    @Test
+    void testWorkerCommandKeepsArgumentsWithSpaces() {
+        final List<String> args = Arrays.asList("/tmp/dir with spaces/trace.swf", "--runs", "10");
+        final List<String> command = ExperimentWorkerPool.workerCommand(MainStub.class, 512, args);
+
+        assertEquals(args, command.subList(command.size() - args.size(), command.size()));
+        assertEquals(MainStub.class.getName(), command.get(command.size() - args.size() - 1));
+        assertTrue(command.contains("-Xmx512m"));
+        assertTrue(command.contains("-D" + ExperimentWorkerPool.WORKER_PROPERTY + "=true"));
+    }
+
+    @Test
+    void testWorkerCommandWithoutArguments() {
+        final List<String> command = ExperimentWorkerPool.workerCommand(MainStub.class, 0, Collections.emptyList());
+        assertEquals(MainStub.class.getName(), command.get(command.size() - 1));
+        assertTrue(command.stream().noneMatch(arg -> arg.startsWith("-Xmx")));
+    }
+
+    @Test
+    void testWorkerCommandRequiresMainMethod() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ExperimentWorkerPool.workerCommand(Object.class, 0, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 6.3.0
+ */
+class MetricAggregatorTest {
+    private static final double DELTA = 1e-9;
+
+    /**
+     * A runner used just to compute the final statistics of a list of values.
+     */
+    private static final class RunnerStub extends ExperimentRunner<Experiment> {
+        RunnerStub(final int simulationRuns, final int batchesNumber, final boolean antithetic) {
+            super(0, simulationRuns, batchesNumber, antithetic);
+        }
+
+        @Override
+        protected Experiment createExperimentInternal(final int i) {
+            return null;
+        }
+
+        @Override
+        protected void printSimulationParameters() {/**/}
+    }
+
+    @Test
+    void testAggregatedStatisticsWithoutVarianceReduction() {
+        assertAggregatedStatisticsAreTheSameAsFinalStatistics(10, 0, false);
+    }
+
+    @Test
+    void testAggregatedStatisticsWithBatchMeans() {
+        assertAggregatedStatisticsAreTheSameAsFinalStatistics(12, 3, false);
+    }
+
+    @Test
+    void testAggregatedStatisticsWithAntitheticVariates() {
+        assertAggregatedStatisticsAreTheSameAsFinalStatistics(12, 0, true);
+    }
+
+    @Test
+    void testAggregatedStatisticsWithBatchMeansAndAntitheticVariates() {
+        assertAggregatedStatisticsAreTheSameAsFinalStatistics(24, 4, true);
+    }
+
+    @Test
+    void testAggregatedStatisticsWithOddBatchesAndAntitheticVariates() {
+        assertAggregatedStatisticsAreTheSameAsFinalStatistics(12, 3, true);
+    }
+
+    @Test
+    void testAntitheticSamplesAreJustAddedWhenBothRunsAreCollected() {
+        final MetricAggregator aggregator = new MetricAggregator(new RunnerStub(8, 0, true));
+        aggregator.add(0, 1);
+        aggregator.add(1, 2);
+        aggregator.add(5, 4);
+        assertEquals(1, aggregator.getStatistics().getN());
+        assertEquals(3, aggregator.getStatistics().getMean(), DELTA);
+    }
+
+    /**
+     * Checks that aggregating values in any order gives the same statistics as
+     * computing them at the end from the values of all runs.
+     */
+    private void assertAggregatedStatisticsAreTheSameAsFinalStatistics(final int simulationRuns, final int batchesNumber, final boolean antithetic) {
+        final RunnerStub runner = new RunnerStub(simulationRuns, batchesNumber, antithetic);
+        final Random random = new Random(simulationRuns);
+        final List<Double> values = IntStream.range(0, runner.getSimulationRuns()).mapToObj(i -> random.nextDouble() * 100).collect(toList());
+        final SummaryStatistics expected = runner.computeFinalStatistics(values);
+
+        final List<Integer> runs = IntStream.range(0, values.size()).boxed().collect(toList());
+        Collections.shuffle(runs, random);
+        final MetricAggregator aggregator = new MetricAggregator(runner);
+        runs.forEach(run -> aggregator.add(run, values.get(run)));
+
+        final SummaryStatistics actual = aggregator.getStatistics();
+        assertEquals(expected.getN(), actual.getN());
+        assertEquals(expected.getMean(), actual.getMean(), DELTA);
+        assertEquals(expected.getStandardDeviation(), actual.getStandardDeviation(), DELTA);
+    }
+}